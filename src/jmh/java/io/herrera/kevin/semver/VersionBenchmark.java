@@ -0,0 +1,212 @@
+package io.herrera.kevin.semver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures parsing, creating, comparing, formatting, and hashing version numbers.
+ *
+ * <p>
+ * Each benchmark works through a fixed set of inputs, so that the results are not skewed by a single input being
+ * especially cheap or expensive.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class VersionBenchmark {
+
+    /**
+     * The number of inputs.
+     */
+    private static final int SIZE = 1024;
+
+    /**
+     * Version numbers without any metadata.
+     */
+    private Version[] core;
+
+    /**
+     * Strings that are not valid version numbers.
+     */
+    private String[] invalid;
+
+    /**
+     * A map keyed by version number, for measuring hashing and equality.
+     */
+    private Map<Version, Integer> map;
+
+    /**
+     * Version numbers that share the same major, minor, and patch version numbers, but not pre-release metadata.
+     *
+     * <p>
+     * Their strings are never created, so that they are formatted each time instead of read from the cache.
+     * </p>
+     */
+    private Version[] preRelease;
+
+    /**
+     * Strings that are valid version numbers.
+     */
+    private String[] valid;
+
+    /**
+     * Measures comparing version numbers without any metadata.
+     *
+     * @param blackhole Consumes the results.
+     */
+    @Benchmark
+    public void compareCore(Blackhole blackhole) {
+        for (int i = 1; i < SIZE; i++) {
+            blackhole.consume(core[i - 1].compareTo(core[i]));
+        }
+    }
+
+    /**
+     * Measures comparing version numbers that only differ in their pre-release metadata.
+     *
+     * @param blackhole Consumes the results.
+     */
+    @Benchmark
+    public void comparePreRelease(Blackhole blackhole) {
+        for (int i = 1; i < SIZE; i++) {
+            blackhole.consume(preRelease[i - 1].compareTo(preRelease[i]));
+        }
+    }
+
+    /**
+     * Measures creating version numbers from numbers.
+     *
+     * @param blackhole Consumes the results.
+     *
+     * @throws InvalidVersionException If a version number is not valid.
+     */
+    @Benchmark
+    public void constructNumeric(Blackhole blackhole) throws InvalidVersionException {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(new Version(i & 7, i & 31, i));
+        }
+    }
+
+    /**
+     * Measures looking up version numbers in a <code>HashMap</code>.
+     *
+     * @param blackhole Consumes the results.
+     */
+    @Benchmark
+    public void hashMapGet(Blackhole blackhole) {
+        for (Version version : core) {
+            blackhole.consume(map.get(version));
+        }
+    }
+
+    /**
+     * Measures adding version numbers to a <code>HashMap</code>.
+     *
+     * @return The map.
+     */
+    @Benchmark
+    public Map<Version, Integer> hashMapPut() {
+        Map<Version, Integer> created = new HashMap<>();
+
+        for (int i = 0; i < SIZE; i++) {
+            created.put(preRelease[i], i);
+        }
+
+        return created;
+    }
+
+    /**
+     * Measures rejecting strings that are not valid version numbers.
+     *
+     * @param blackhole Consumes the results.
+     */
+    @Benchmark
+    public void parseInvalid(Blackhole blackhole) {
+        for (String string : invalid) {
+            try {
+                blackhole.consume(new Version(string));
+            } catch (InvalidVersionException exception) {
+                blackhole.consume(exception);
+            }
+        }
+    }
+
+    /**
+     * Measures parsing strings that are valid version numbers.
+     *
+     * @param blackhole Consumes the results.
+     *
+     * @throws InvalidVersionException If a version number is not valid.
+     */
+    @Benchmark
+    public void parseValid(Blackhole blackhole) throws InvalidVersionException {
+        for (String string : valid) {
+            blackhole.consume(new Version(string));
+        }
+    }
+
+    /**
+     * Creates the inputs.
+     *
+     * @throws InvalidVersionException If a version number is not valid.
+     */
+    @Setup
+    public void setUp() throws InvalidVersionException {
+        Random random = new Random(42);
+        String[] malformed = {"1.2", "01.2.3", "1.2.3-", "1.2.3-beta..1", "1.2.3+", "v1.2.3", "1.2.3-01", ""};
+
+        core = new Version[SIZE];
+        invalid = new String[SIZE];
+        map = new HashMap<>();
+        preRelease = new Version[SIZE];
+        valid = new String[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            core[i] = new Version(random.nextInt(10), random.nextInt(100), random.nextInt(1000));
+            invalid[i] = malformed[i % malformed.length];
+            preRelease[i] = new Version(1, 2, 3, new String[]{
+                (random.nextBoolean() ? "alpha" : "beta"),
+                String.valueOf(random.nextInt(100)),
+                "build-" + random.nextInt(1000)
+            });
+            valid[i] = ((i % 2) == 0)
+                ? core[i].toString()
+                : new Version(1, 2, 3, preRelease[i].getPreRelease()).toString() + "+sha." + i;
+
+            map.put(core[i], i);
+        }
+    }
+
+    /**
+     * Measures formatting version numbers as strings.
+     *
+     * <p>
+     * This is what {@link Version#toString()} does the first time, since later calls only return the cached string.
+     * </p>
+     *
+     * @param blackhole Consumes the results.
+     */
+    @Benchmark
+    public void toStringBenchmark(Blackhole blackhole) {
+        for (Version version : preRelease) {
+            blackhole.consume(version.appendTo(new StringBuilder(version.formattedLength())).toString());
+        }
+    }
+}
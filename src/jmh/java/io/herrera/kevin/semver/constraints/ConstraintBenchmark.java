@@ -0,0 +1,141 @@
+package io.herrera.kevin.semver.constraints;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures applying trees of <code>And</code> and <code>Or</code> constraints of increasing width and depth.
+ *
+ * <p>
+ * Each level of the tree alternates between <code>Or</code> and <code>And</code>, and every leaf is a range of a
+ * single minor version. Each <code>Or</code> branches into subtrees, while each <code>And</code> has a single subtree
+ * and exclusions of single version numbers, which rarely fail, so that every level is evaluated most of the time.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ConstraintBenchmark {
+
+    /**
+     * The number of version numbers to apply the tree to.
+     */
+    private static final int SIZE = 1024;
+
+    /**
+     * The depth of the tree.
+     */
+    @Param({"1", "2", "3"})
+    private int depth;
+
+    /**
+     * The tree.
+     */
+    private Constraint tree;
+
+    /**
+     * The version numbers to apply the tree to.
+     */
+    private Version[] versions;
+
+    /**
+     * The number of constraints in each composite.
+     */
+    @Param({"2", "8", "32"})
+    private int width;
+
+    /**
+     * Measures applying the tree to every version number.
+     *
+     * @param blackhole Consumes the results.
+     */
+    @Benchmark
+    public void apply(Blackhole blackhole) {
+        for (Version version : versions) {
+            blackhole.consume(tree.apply(version));
+        }
+    }
+
+    /**
+     * Creates the tree and the version numbers.
+     *
+     * @throws InvalidVersionException If a version number is not valid.
+     */
+    @Setup
+    public void setUp() throws InvalidVersionException {
+        Random random = new Random(42);
+
+        tree = build(random, depth);
+        versions = new Version[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            versions[i] = randomVersion(random);
+        }
+    }
+
+    /**
+     * Builds a level of the tree.
+     *
+     * @param random The random number generator.
+     * @param level  The number of levels left to build.
+     *
+     * @return The root of the level.
+     *
+     * @throws InvalidVersionException If a version number is not valid.
+     */
+    private Constraint build(Random random, int level) throws InvalidVersionException {
+        if (level == 0) {
+            Version lower = randomVersion(random).setPatch(0);
+
+            return Constraints.and(Constraints.gte(lower), Constraints.lt(lower.incrementMinor()));
+        }
+
+        if ((level % 2) == 1) {
+            Or or = new Or();
+
+            for (int i = 0; i < width; i++) {
+                or.add(build(random, level - 1));
+            }
+
+            return or;
+        }
+
+        And and = new And().add(build(random, level - 1));
+
+        for (int i = 1; i < width; i++) {
+            and.add(Constraints.ne(randomVersion(random)));
+        }
+
+        return and;
+    }
+
+    /**
+     * Creates a random version number.
+     *
+     * @param random The random number generator.
+     *
+     * @return The version number.
+     *
+     * @throws InvalidVersionException If a version number is not valid.
+     */
+    private static Version randomVersion(Random random) throws InvalidVersionException {
+        return new Version(random.nextInt(3), random.nextInt(64), random.nextInt(10));
+    }
+}
@@ -0,0 +1,51 @@
+package io.herrera.kevin.semver.corpus;
+
+import io.herrera.kevin.semver.constraints.Constraint;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A generated corpus of version number strings and constraints.
+ */
+public final class Corpus {
+
+    /**
+     * The constraints.
+     */
+    private final List<Constraint> constraints;
+
+    /**
+     * The version number strings, some of which are not valid.
+     */
+    private final List<String> tags;
+
+    /**
+     * Sets the contents of the corpus.
+     *
+     * @param tags        The version number strings.
+     * @param constraints The constraints.
+     */
+    Corpus(String[] tags, Constraint[] constraints) {
+        this.constraints = Collections.unmodifiableList(Arrays.asList(constraints));
+        this.tags = Collections.unmodifiableList(Arrays.asList(tags));
+    }
+
+    /**
+     * Returns the constraints.
+     *
+     * @return The constraints.
+     */
+    public List<Constraint> getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Returns the version number strings.
+     *
+     * @return The strings, some of which are not valid.
+     */
+    public List<String> getTags() {
+        return tags;
+    }
+}
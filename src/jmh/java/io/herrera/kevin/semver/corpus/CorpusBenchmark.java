@@ -0,0 +1,99 @@
+package io.herrera.kevin.semver.corpus;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.sort.VersionSort;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures parsing and sorting a generated corpus, rather than a handful of simple version numbers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class CorpusBenchmark {
+
+    /**
+     * The fraction of the tags that are not valid.
+     */
+    @Param({"0.0", "0.15"})
+    private double invalidRatio;
+
+    /**
+     * The tags.
+     */
+    private String[] tags;
+
+    /**
+     * The valid tags, parsed.
+     */
+    private Version[] versions;
+
+    /**
+     * Measures parsing every tag.
+     *
+     * @param blackhole Consumes the results.
+     */
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        for (String tag : tags) {
+            try {
+                blackhole.consume(new Version(tag));
+            } catch (InvalidVersionException exception) {
+                blackhole.consume(exception);
+            }
+        }
+    }
+
+    /**
+     * Generates the corpus.
+     */
+    @Setup
+    public void setUp() {
+        Corpus corpus = new CorpusGenerator().setSize(10000).setInvalidRatio(invalidRatio).generate();
+        List<Version> parsed = new ArrayList<>();
+
+        tags = corpus.getTags().toArray(new String[0]);
+
+        for (String tag : tags) {
+            try {
+                parsed.add(new Version(tag));
+            } catch (InvalidVersionException exception) {
+                // Only the valid tags are sorted.
+            }
+        }
+
+        versions = parsed.toArray(new Version[0]);
+    }
+
+    /**
+     * Measures sorting the valid tags.
+     *
+     * @return The sorted version numbers.
+     */
+    @Benchmark
+    public Version[] sort() {
+        Version[] sorted = versions.clone();
+
+        VersionSort.sort(sorted);
+
+        return sorted;
+    }
+}
@@ -0,0 +1,374 @@
+package io.herrera.kevin.semver.corpus;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.constraints.Constraints;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates a corpus of version number strings and constraints that resembles the tags found in real registries.
+ *
+ * <p>
+ * The major, minor, and patch version numbers follow a Zipf distribution, so a few release lines are far more common
+ * than the rest, and the skew controls how steep that is. Roughly a third of the tags have pre-release metadata,
+ * ranging from a single identifier to long chains with dates and commit hashes, a fifth have build metadata, and a
+ * few use huge numeric identifiers (e.g. dates as major version numbers). A configurable fraction of the tags are not
+ * valid, using the mistakes that are most common in practice.
+ * </p>
+ *
+ * <p>
+ * The constraints are a mix of caret and tilde ranges, exact versions, exclusions, unions of ranges, and the stable
+ * and pre-release channel constraints. The same seed always generates the same corpus.
+ * </p>
+ */
+public final class CorpusGenerator {
+
+    /**
+     * Common mistakes that produce version number strings that are not valid.
+     */
+    private static final String[] INVALID = {
+        "v%d.%d.%d",
+        "%d.%d",
+        "0%d.%d.%d",
+        "%d.%d.%d-",
+        "%d.%d.%d-beta..%d",
+        "%d.%d.%d.%d",
+        "%d.%d.%d-0%d",
+        "%d.%d.%d+",
+        " %d.%d.%d",
+        "latest",
+        ""
+    };
+
+    /**
+     * The identifiers that pre-release chains start with.
+     */
+    private static final String[] PRE_RELEASE = {"alpha", "beta", "rc", "nightly", "SNAPSHOT", "dev", "preview"};
+
+    /**
+     * The number of constraints to generate.
+     */
+    private int constraints = 1000;
+
+    /**
+     * The fraction of the tags that are not valid.
+     */
+    private double invalidRatio = 0.15;
+
+    /**
+     * The seed for the random number generator.
+     */
+    private long seed = 42;
+
+    /**
+     * The number of tags to generate.
+     */
+    private int size = 100000;
+
+    /**
+     * The exponent of the Zipf distribution of the version numbers.
+     */
+    private double skew = 1.2;
+
+    /**
+     * Generates the corpus.
+     *
+     * @return The corpus.
+     */
+    public Corpus generate() {
+        Random random = new Random(seed);
+        Zipf majors = new Zipf(30, skew);
+        Zipf minors = new Zipf(60, skew);
+        Zipf patches = new Zipf(120, skew);
+        String[] tags = new String[size];
+        Constraint[] generated = new Constraint[constraints];
+
+        for (int i = 0; i < size; i++) {
+            int major = majors.next(random);
+            int minor = minors.next(random);
+            int patch = patches.next(random);
+
+            tags[i] = (random.nextDouble() < invalidRatio)
+                ? invalid(random, major, minor, patch)
+                : valid(random, major, minor, patch);
+        }
+
+        for (int i = 0; i < constraints; i++) {
+            generated[i] = constraint(random, majors.next(random), minors.next(random), patches.next(random));
+        }
+
+        return new Corpus(tags, generated);
+    }
+
+    /**
+     * Sets the number of constraints to generate.
+     *
+     * @param constraints The number of constraints.
+     *
+     * @return A fluent interface.
+     */
+    public CorpusGenerator setConstraints(int constraints) {
+        if (constraints < 0) {
+            throw new IllegalArgumentException("The number of constraints must not be negative.");
+        }
+
+        this.constraints = constraints;
+
+        return this;
+    }
+
+    /**
+     * Sets the fraction of the tags that are not valid.
+     *
+     * @param invalidRatio The fraction, from 0 (zero) to 1 (one).
+     *
+     * @return A fluent interface.
+     */
+    public CorpusGenerator setInvalidRatio(double invalidRatio) {
+        if ((invalidRatio < 0) || (invalidRatio > 1)) {
+            throw new IllegalArgumentException("The invalid ratio must be from 0 to 1.");
+        }
+
+        this.invalidRatio = invalidRatio;
+
+        return this;
+    }
+
+    /**
+     * Sets the seed for the random number generator.
+     *
+     * @param seed The seed.
+     *
+     * @return A fluent interface.
+     */
+    public CorpusGenerator setSeed(long seed) {
+        this.seed = seed;
+
+        return this;
+    }
+
+    /**
+     * Sets the number of tags to generate.
+     *
+     * @param size The number of tags.
+     *
+     * @return A fluent interface.
+     */
+    public CorpusGenerator setSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size must not be negative.");
+        }
+
+        this.size = size;
+
+        return this;
+    }
+
+    /**
+     * Sets the exponent of the Zipf distribution of the version numbers.
+     *
+     * @param skew The exponent, where 0 (zero) is uniform and larger values favor smaller version numbers.
+     *
+     * @return A fluent interface.
+     */
+    public CorpusGenerator setSkew(double skew) {
+        if (skew < 0) {
+            throw new IllegalArgumentException("The skew must not be negative.");
+        }
+
+        this.skew = skew;
+
+        return this;
+    }
+
+    /**
+     * Generates a build metadata suffix.
+     *
+     * @param random The random number generator.
+     *
+     * @return The suffix, which may be empty.
+     */
+    private static String build(Random random) {
+        switch (random.nextInt(10)) {
+            case 0:
+                return "+sha." + Long.toHexString(random.nextLong() & 0xFFFFFFFFFFFFL);
+            case 1:
+                return "+build." + random.nextInt(100000);
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Generates a constraint around a version number.
+     *
+     * @param random The random number generator.
+     * @param major  The major version number.
+     * @param minor  The minor version number.
+     * @param patch  The patch version number.
+     *
+     * @return The constraint.
+     */
+    private static Constraint constraint(Random random, int major, int minor, int patch) {
+        Version version = version(major, minor, patch);
+
+        switch (random.nextInt(10)) {
+            case 0:
+            case 1:
+            case 2:
+                return Constraints.and(Constraints.gte(version), Constraints.lt(version.incrementMajor()));
+            case 3:
+            case 4:
+                return Constraints.and(Constraints.gte(version), Constraints.lt(version.incrementMinor()));
+            case 5:
+                return Constraints.eq(version);
+            case 6:
+                return Constraints.and(
+                    Constraints.gte(version),
+                    Constraints.ne(version.incrementPatch()),
+                    Constraints.stable()
+                );
+            case 7:
+                return Constraints.or(
+                    Constraints.and(Constraints.gte(version), Constraints.lt(version.incrementMinor())),
+                    Constraints.and(
+                        Constraints.gte(version.incrementMajor()),
+                        Constraints.lt(version.incrementMajor().incrementMajor())
+                    )
+                );
+            case 8:
+                return Constraints.and(Constraints.gte(version), Constraints.channel("rc.*"));
+            default:
+                return Constraints.lt(version);
+        }
+    }
+
+    /**
+     * Generates a version number string that is not valid.
+     *
+     * @param random The random number generator.
+     * @param major  The major version number.
+     * @param minor  The minor version number.
+     * @param patch  The patch version number.
+     *
+     * @return The string.
+     */
+    private static String invalid(Random random, int major, int minor, int patch) {
+        return String.format(INVALID[random.nextInt(INVALID.length)], major, minor, patch, random.nextInt(10));
+    }
+
+    /**
+     * Generates pre-release metadata.
+     *
+     * @param random The random number generator.
+     *
+     * @return The metadata, with its leading hyphen, which may be empty.
+     */
+    private static String preRelease(Random random) {
+        if (random.nextInt(3) != 0) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder("-").append(PRE_RELEASE[random.nextInt(PRE_RELEASE.length)]);
+        int length = random.nextInt(6);
+
+        for (int i = 0; i < length; i++) {
+            builder.append('.');
+
+            switch (random.nextInt(4)) {
+                case 0:
+                    builder.append(20200101 + random.nextInt(70000));
+                    break;
+                case 1:
+                    builder.append('g').append(Integer.toHexString(random.nextInt()));
+                    break;
+                default:
+                    builder.append(random.nextInt(20));
+                    break;
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Generates a valid version number string.
+     *
+     * @param random The random number generator.
+     * @param major  The major version number.
+     * @param minor  The minor version number.
+     * @param patch  The patch version number.
+     *
+     * @return The string.
+     */
+    private static String valid(Random random, int major, int minor, int patch) {
+        long huge = (random.nextInt(50) == 0) ? (20200101 + random.nextInt(70000)) : major;
+        long last = (random.nextInt(100) == 0) ? (Integer.MAX_VALUE - random.nextInt(1000)) : patch;
+
+        return huge + "." + minor + "." + last + preRelease(random) + build(random);
+    }
+
+    /**
+     * Creates a version number without any metadata.
+     *
+     * @param major The major version number.
+     * @param minor The minor version number.
+     * @param patch The patch version number.
+     *
+     * @return The version number.
+     */
+    private static Version version(int major, int minor, int patch) {
+        try {
+            return new Version(major, minor, patch);
+        } catch (InvalidVersionException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Draws numbers from a Zipf distribution.
+     */
+    private static final class Zipf {
+
+        /**
+         * The cumulative probability of each number.
+         */
+        private final double[] cumulative;
+
+        /**
+         * Precomputes the distribution.
+         *
+         * @param size     The number of possible numbers, starting at 0 (zero).
+         * @param exponent The exponent.
+         */
+        Zipf(int size, double exponent) {
+            cumulative = new double[size];
+
+            double total = 0;
+
+            for (int i = 0; i < size; i++) {
+                total += 1 / Math.pow(i + 1, exponent);
+                cumulative[i] = total;
+            }
+
+            for (int i = 0; i < size; i++) {
+                cumulative[i] /= total;
+            }
+        }
+
+        /**
+         * Draws a number.
+         *
+         * @param random The random number generator.
+         *
+         * @return The number.
+         */
+        int next(Random random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+
+            return Math.min((index < 0) ? (-index - 1) : index, cumulative.length - 1);
+        }
+    }
+}
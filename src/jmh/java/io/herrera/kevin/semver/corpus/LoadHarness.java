@@ -0,0 +1,274 @@
+package io.herrera.kevin.semver.corpus;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.catalog.VersionIndex;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.sort.VersionSort;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pushes a generated corpus through parsing, sorting, indexing, and constraint evaluation, and reports the throughput
+ * and latency percentiles of each stage.
+ *
+ * <p>
+ * Parsing is timed for each tag. The other stages work on batches of the parsed version numbers, and are timed for
+ * each batch (sorting a batch, building an index of a batch, or applying one constraint to every version number in a
+ * batch). The throughput of every stage is in version numbers (or tags, for parsing) per second, while the latency
+ * percentiles are of what was timed, which the <code>per</code> column names. The whole corpus is pushed through once
+ * to warm up before it is measured.
+ * </p>
+ *
+ * <p>
+ * The options are <code>--size</code>, <code>--seed</code>, <code>--skew</code>, <code>--invalid</code>,
+ * <code>--constraints</code>, <code>--batch</code>, and <code>--rounds</code>, each followed by a value.
+ * </p>
+ */
+public final class LoadHarness {
+
+    /**
+     * The number of version numbers in each batch.
+     */
+    private final int batch;
+
+    /**
+     * The corpus.
+     */
+    private final Corpus corpus;
+
+    /**
+     * The number of version numbers that passed a constraint, which keeps the evaluation from being optimized away.
+     */
+    private long passed;
+
+    /**
+     * Sets the corpus.
+     *
+     * @param corpus The corpus.
+     * @param batch  The number of version numbers in each batch.
+     */
+    private LoadHarness(Corpus corpus, int batch) {
+        this.batch = batch;
+        this.corpus = corpus;
+    }
+
+    /**
+     * Runs the harness.
+     *
+     * @param args The options.
+     */
+    public static void main(String[] args) {
+        CorpusGenerator generator = new CorpusGenerator();
+        int batch = 1000;
+        int rounds = 3;
+
+        for (int i = 0; (i + 1) < args.length; i += 2) {
+            String value = args[i + 1];
+
+            switch (args[i]) {
+                case "--batch":
+                    batch = Integer.parseInt(value);
+                    break;
+                case "--constraints":
+                    generator.setConstraints(Integer.parseInt(value));
+                    break;
+                case "--invalid":
+                    generator.setInvalidRatio(Double.parseDouble(value));
+                    break;
+                case "--rounds":
+                    rounds = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    generator.setSeed(Long.parseLong(value));
+                    break;
+                case "--size":
+                    generator.setSize(Integer.parseInt(value));
+                    break;
+                case "--skew":
+                    generator.setSkew(Double.parseDouble(value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("The option \"" + args[i] + "\" is not recognized.");
+            }
+        }
+
+        LoadHarness harness = new LoadHarness(generator.generate(), batch);
+
+        harness.run(new Recorder(), new Recorder(), new Recorder(), new Recorder());
+
+        harness.passed = 0;
+
+        Recorder parse = new Recorder();
+        Recorder sort = new Recorder();
+        Recorder index = new Recorder();
+        Recorder evaluate = new Recorder();
+
+        for (int round = 0; round < rounds; round++) {
+            harness.run(parse, sort, index, evaluate);
+        }
+
+        PrintStream out = System.out;
+
+        out.printf(
+            "%-10s %12s %-6s %14s %10s %10s %10s%n",
+            "stage",
+            "samples",
+            "per",
+            "versions/s",
+            "p50 us",
+            "p99 us",
+            "p999 us"
+        );
+
+        parse.print(out, "parse", "tag");
+        sort.print(out, "sort", "batch");
+        index.print(out, "index", "batch");
+        evaluate.print(out, "evaluate", "batch");
+
+        out.printf("%d version numbers passed a constraint.%n", harness.passed);
+    }
+
+    /**
+     * Pushes the corpus through every stage once.
+     *
+     * @param parse    Records the latency of parsing each tag.
+     * @param sort     Records the latency of sorting each batch.
+     * @param index    Records the latency of indexing each batch.
+     * @param evaluate Records the latency of applying each constraint to a batch.
+     */
+    private void run(Recorder parse, Recorder sort, Recorder index, Recorder evaluate) {
+        List<Version> versions = new ArrayList<>(corpus.getTags().size());
+
+        for (String tag : corpus.getTags()) {
+            long start = System.nanoTime();
+
+            try {
+                versions.add(new Version(tag));
+            } catch (InvalidVersionException exception) {
+                // Invalid tags are expected, and are only timed.
+            }
+
+            parse.record(System.nanoTime() - start, 1);
+        }
+
+        List<Constraint> constraints = corpus.getConstraints();
+        int next = 0;
+
+        for (int from = 0; from < versions.size(); from += batch) {
+            Version[] chunk = versions.subList(from, Math.min(versions.size(), from + batch)).toArray(new Version[0]);
+            Version[] unsorted = chunk.clone();
+            long start = System.nanoTime();
+
+            VersionSort.sort(unsorted);
+
+            sort.record(System.nanoTime() - start, chunk.length);
+
+            start = System.nanoTime();
+
+            VersionIndex.of(chunk);
+
+            index.record(System.nanoTime() - start, chunk.length);
+
+            if (constraints.isEmpty()) {
+                continue;
+            }
+
+            Constraint constraint = constraints.get(next++ % constraints.size());
+
+            start = System.nanoTime();
+
+            for (Version version : chunk) {
+                if (constraint.apply(version)) {
+                    passed++;
+                }
+            }
+
+            evaluate.record(System.nanoTime() - start, chunk.length);
+        }
+    }
+
+    /**
+     * Records the latencies of a stage.
+     */
+    private static final class Recorder {
+
+        /**
+         * The number of latencies recorded.
+         */
+        private int count;
+
+        /**
+         * The latencies, in nanoseconds.
+         */
+        private long[] latencies = new long[1024];
+
+        /**
+         * The sum of the latencies, in nanoseconds.
+         */
+        private long total;
+
+        /**
+         * The number of version numbers (or tags) that were processed.
+         */
+        private long versions;
+
+        /**
+         * Prints the throughput and latency percentiles.
+         *
+         * @param out  The output stream.
+         * @param name The name of the stage.
+         * @param per  What each latency was timed for.
+         */
+        void print(PrintStream out, String name, String per) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+
+            Arrays.sort(sorted);
+
+            out.printf(
+                "%-10s %12d %-6s %14.0f %10.2f %10.2f %10.2f%n",
+                name,
+                count,
+                per,
+                (total == 0) ? 0.0 : (versions * 1e9 / total),
+                percentile(sorted, 0.5) / 1e3,
+                percentile(sorted, 0.99) / 1e3,
+                percentile(sorted, 0.999) / 1e3
+            );
+        }
+
+        /**
+         * Records a latency.
+         *
+         * @param nanos    The latency, in nanoseconds.
+         * @param versions The number of version numbers (or tags) that were processed in that time.
+         */
+        void record(long nanos, int versions) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+
+            latencies[count++] = nanos;
+            total += nanos;
+            this.versions += versions;
+        }
+
+        /**
+         * Returns a percentile of sorted latencies.
+         *
+         * @param sorted   The sorted latencies.
+         * @param fraction The percentile, as a fraction.
+         *
+         * @return The latency, in nanoseconds.
+         */
+        private static double percentile(long[] sorted, double fraction) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.herrera.kevin.semver.resolver;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.constraints.Constraints;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures resolving a random dependency graph of increasing size.
+ *
+ * <p>
+ * Each package has five versions, and each version depends on up to three of the next twenty packages, with a
+ * random lower bound. Most of the graph is reachable from the first package, which is the only requirement.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class ResolverBenchmark {
+
+    /**
+     * The number of packages.
+     */
+    @Param({"100", "1000"})
+    private int packages;
+
+    /**
+     * The requirements.
+     */
+    private Map<String, Constraint> requirements;
+
+    /**
+     * The packages.
+     */
+    private Source source;
+
+    /**
+     * Measures resolving the requirements.
+     *
+     * @return The selected versions.
+     *
+     * @throws ResolutionException If the requirements could not be resolved.
+     */
+    @Benchmark
+    public SortedMap<String, Version> resolve() throws ResolutionException {
+        return new Resolver(source).resolve(requirements);
+    }
+
+    /**
+     * Creates the graph.
+     *
+     * @throws InvalidVersionException If a version number is not valid.
+     */
+    @Setup
+    public void setUp() throws InvalidVersionException {
+        Random random = new Random(123);
+
+        requirements = Collections.singletonMap("p0", Constraints.gte("1.0.0"));
+        source = new Source();
+
+        for (int p = 0; p < packages; p++) {
+            for (int v = 0; v < 5; v++) {
+                Version version = new Version(1, v, 0);
+                Map<String, Constraint> dependencies = new HashMap<>();
+
+                for (int d = 0; (d < 3) && ((p + d + 1) < packages); d++) {
+                    int dependency = p + 1 + random.nextInt(Math.min(20, packages - p - 1));
+
+                    dependencies.put("p" + dependency, Constraints.and(
+                        Constraints.gte(new Version(1, random.nextInt(5), 0)),
+                        Constraints.lt(new Version(2, 0, 0))
+                    ));
+                }
+
+                source.add("p" + p, version, dependencies);
+            }
+        }
+    }
+
+    /**
+     * An in-memory source of packages.
+     */
+    private static final class Source implements PackageSource {
+
+        /**
+         * The dependencies of each version of each package, by name.
+         */
+        private final Map<String, SortedMap<Version, Map<String, Constraint>>> packages = new HashMap<>();
+
+        /**
+         * Adds a version of a package.
+         *
+         * @param name         The name of the package.
+         * @param version      The version.
+         * @param dependencies The dependencies of the version.
+         */
+        void add(String name, Version version, Map<String, Constraint> dependencies) {
+            packages.computeIfAbsent(name, key -> new TreeMap<>()).put(version, dependencies);
+        }
+
+        @Override
+        public Map<String, Constraint> getDependencies(String name, Version version) {
+            return packages.get(name).get(version);
+        }
+
+        @Override
+        public Collection<Version> getVersions(String name) {
+            return packages.getOrDefault(name, Collections.emptySortedMap()).keySet();
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package io.herrera.kevin.semver;
+
+import io.herrera.kevin.semver.InvalidVersionException.Component;
+import java.util.Objects;
+
+/**
+ * Validates semantic version numbers and their metadata identifiers without regular expressions.
+ *
+ * <p>
+ * Each character is looked up in a table of character classes, and the only other rules are that numbers (and numeric
+ * pre-release identifiers) cannot have leading zeros. Nothing is allocated, and a range of a larger sequence can be
+ * validated in place, either as characters or as ASCII bytes.
+ * </p>
+ */
+public final class Identifiers {
+
+    /**
+     * The character classes of the ASCII characters.
+     */
+    private static final byte[] CLASSES = new byte[128];
+
+    /**
+     * Indicates that a character is a digit.
+     */
+    private static final byte DIGIT = 1;
+
+    /**
+     * Indicates that a character is allowed in an identifier, but is not a digit (a letter or a hyphen).
+     */
+    private static final byte NON_DIGIT = 2;
+
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = DIGIT;
+        }
+
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CLASSES[c] = NON_DIGIT;
+            CLASSES[c + ('a' - 'A')] = NON_DIGIT;
+        }
+
+        CLASSES['-'] = NON_DIGIT;
+    }
+
+    private Identifiers() {
+        // Should not be instantiated.
+    }
+
+    /**
+     * Finds the component of a version number that an index is in.
+     *
+     * <p>
+     * This is meant for the index returned by {@link #findInvalid(CharSequence, int, int)}. If the index is the end of
+     * an incomplete version number, the component is the one that is missing.
+     * </p>
+     *
+     * @param chars The characters of the version number, which may not be valid.
+     * @param index The index.
+     *
+     * @return The component.
+     */
+    public static Component componentAt(CharSequence chars, int index) {
+        Objects.requireNonNull(chars, "The characters are required.");
+
+        int length = chars.length();
+        int plus = indexOf(chars, '+');
+
+        if ((plus >= 0) && (index > plus)) {
+            return Component.BUILD;
+        }
+
+        int dash = indexOf(chars, '-');
+
+        if ((dash >= 0) && (index > dash) && ((plus < 0) || (dash < plus))) {
+            return Component.PRE_RELEASE;
+        }
+
+        int dots = 0;
+
+        for (int i = 0; (i < index) && (i < length); i++) {
+            if (chars.charAt(i) == '.') {
+                dots++;
+            }
+        }
+
+        if ((index > 0) && (index == length) && (chars.charAt(index - 1) != '.')) {
+            dots++;
+        }
+
+        return (dots == 0) ? Component.MAJOR : ((dots == 1) ? Component.MINOR : Component.PATCH);
+    }
+
+    /**
+     * Finds where a range of ASCII bytes stops being a valid semantic version number.
+     *
+     * @param bytes The bytes.
+     * @param start The index of the first byte.
+     * @param end   The index after the last byte.
+     *
+     * @return The index of the first byte that makes the range invalid, or -1 if it is valid.
+     */
+    public static int findInvalid(byte[] bytes, int start, int end) {
+        Objects.requireNonNull(bytes, "The bytes are required.");
+        checkRange(start, end, bytes.length);
+
+        return findInvalidVersion(null, bytes, start, end);
+    }
+
+    /**
+     * Finds where a range of characters stops being a valid semantic version number.
+     *
+     * <p>
+     * For a number with a leading zero, an empty metadata identifier, or a numeric pre-release identifier with a
+     * leading zero, the index is that of its start. Otherwise, it is the index of the first character that is not
+     * expected, which is the end of the range if the version number is incomplete.
+     * </p>
+     *
+     * @param chars The characters.
+     * @param start The index of the first character.
+     * @param end   The index after the last character.
+     *
+     * @return The index of the first character that makes the range invalid, or -1 if it is valid.
+     */
+    public static int findInvalid(CharSequence chars, int start, int end) {
+        Objects.requireNonNull(chars, "The characters are required.");
+        checkRange(start, end, chars.length());
+
+        return findInvalidVersion(chars, null, start, end);
+    }
+
+    /**
+     * Checks if a range of ASCII bytes is valid build metadata, with identifiers separated by dots.
+     *
+     * @param bytes The bytes.
+     * @param start The index of the first byte.
+     * @param end   The index after the last byte.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    public static boolean isBuild(byte[] bytes, int start, int end) {
+        Objects.requireNonNull(bytes, "The bytes are required.");
+        checkRange(start, end, bytes.length);
+
+        return findInvalidMetadata(null, bytes, start, end, false) < 0;
+    }
+
+    /**
+     * Checks if a range of characters is valid build metadata, with identifiers separated by dots.
+     *
+     * @param chars The characters.
+     * @param start The index of the first character.
+     * @param end   The index after the last character.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    public static boolean isBuild(CharSequence chars, int start, int end) {
+        Objects.requireNonNull(chars, "The characters are required.");
+        checkRange(start, end, chars.length());
+
+        return findInvalidMetadata(chars, null, start, end, false) < 0;
+    }
+
+    /**
+     * Checks if a range of ASCII bytes is valid pre-release metadata, with identifiers separated by dots.
+     *
+     * @param bytes The bytes.
+     * @param start The index of the first byte.
+     * @param end   The index after the last byte.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    public static boolean isPreRelease(byte[] bytes, int start, int end) {
+        Objects.requireNonNull(bytes, "The bytes are required.");
+        checkRange(start, end, bytes.length);
+
+        return findInvalidMetadata(null, bytes, start, end, true) < 0;
+    }
+
+    /**
+     * Checks if a range of characters is valid pre-release metadata, with identifiers separated by dots.
+     *
+     * @param chars The characters.
+     * @param start The index of the first character.
+     * @param end   The index after the last character.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    public static boolean isPreRelease(CharSequence chars, int start, int end) {
+        Objects.requireNonNull(chars, "The characters are required.");
+        checkRange(start, end, chars.length());
+
+        return findInvalidMetadata(chars, null, start, end, true) < 0;
+    }
+
+    /**
+     * Checks if a range of ASCII bytes is a valid semantic version number.
+     *
+     * <p>
+     * The numbers are not checked for overflow.
+     * </p>
+     *
+     * @param bytes The bytes.
+     * @param start The index of the first byte.
+     * @param end   The index after the last byte.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    public static boolean isVersion(byte[] bytes, int start, int end) {
+        Objects.requireNonNull(bytes, "The bytes are required.");
+        checkRange(start, end, bytes.length);
+
+        return findInvalidVersion(null, bytes, start, end) < 0;
+    }
+
+    /**
+     * Checks if a range of characters is a valid semantic version number.
+     *
+     * <p>
+     * The numbers are not checked for overflow.
+     * </p>
+     *
+     * @param chars The characters.
+     * @param start The index of the first character.
+     * @param end   The index after the last character.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    public static boolean isVersion(CharSequence chars, int start, int end) {
+        Objects.requireNonNull(chars, "The characters are required.");
+        checkRange(start, end, chars.length());
+
+        return findInvalidVersion(chars, null, start, end) < 0;
+    }
+
+    /**
+     * Returns a character from either the characters or the bytes, whichever is given.
+     *
+     * @param chars The characters, or <code>null</code> if the bytes are given.
+     * @param bytes The ASCII bytes, or <code>null</code> if the characters are given.
+     * @param index The index of the character.
+     *
+     * @return The character.
+     */
+    private static int charAt(CharSequence chars, byte[] bytes, int index) {
+        return (bytes == null) ? chars.charAt(index) : (bytes[index] & 0xFF);
+    }
+
+    /**
+     * Requires that a range be within a sequence.
+     *
+     * @param start  The index of the first element.
+     * @param end    The index after the last element.
+     * @param length The length of the sequence.
+     */
+    private static void checkRange(int start, int end, int length) {
+        if ((start < 0) || (start > end) || (end > length)) {
+            throw new IndexOutOfBoundsException(
+                String.format("The range [%d, %d) is not within a length of %d.", start, end, length)
+            );
+        }
+    }
+
+    /**
+     * Returns the class of a character.
+     *
+     * @param c The character.
+     *
+     * @return The class, or 0 (zero) if the character is not allowed in an identifier.
+     */
+    private static int classOf(int c) {
+        return (c < CLASSES.length) ? CLASSES[c] : 0;
+    }
+
+    /**
+     * Finds where a range stops being valid metadata, with identifiers separated by dots.
+     *
+     * @param chars      The characters, or <code>null</code> if the bytes are given.
+     * @param bytes      The ASCII bytes, or <code>null</code> if the characters are given.
+     * @param start      The index of the first character.
+     * @param end        The index after the last character.
+     * @param preRelease Indicates that numeric identifiers must not have leading zeros.
+     *
+     * @return The index of the character that is not allowed or the start of the identifier that is not valid, or -1
+     *         if the range is valid.
+     */
+    private static int findInvalidMetadata(CharSequence chars, byte[] bytes, int start, int end, boolean preRelease) {
+        int identifier = start;
+        int classes = 0;
+
+        for (int i = start; i < end; i++) {
+            int c = charAt(chars, bytes, i);
+
+            if (c == '.') {
+                if (!isIdentifier(chars, bytes, identifier, i, classes, preRelease)) {
+                    return identifier;
+                }
+
+                identifier = i + 1;
+                classes = 0;
+            } else {
+                int type = classOf(c);
+
+                if (type == 0) {
+                    return i;
+                }
+
+                classes |= type;
+            }
+        }
+
+        return isIdentifier(chars, bytes, identifier, end, classes, preRelease) ? -1 : identifier;
+    }
+
+    /**
+     * Finds where a range stops being a valid semantic version number.
+     *
+     * @param chars The characters, or <code>null</code> if the bytes are given.
+     * @param bytes The ASCII bytes, or <code>null</code> if the characters are given.
+     * @param start The index of the first character.
+     * @param end   The index after the last character.
+     *
+     * @return The index where the range stops being valid, or -1 if it is valid.
+     */
+    private static int findInvalidVersion(CharSequence chars, byte[] bytes, int start, int end) {
+        int i = start;
+
+        for (int number = 0; number < 3; number++) {
+            int first = i;
+
+            while ((i < end) && (classOf(charAt(chars, bytes, i)) == DIGIT)) {
+                i++;
+            }
+
+            if ((i == first) || ((i - first > 1) && (charAt(chars, bytes, first) == '0'))) {
+                return first;
+            }
+
+            if (number < 2) {
+                if ((i == end) || (charAt(chars, bytes, i) != '.')) {
+                    return i;
+                }
+
+                i++;
+            }
+        }
+
+        if ((i < end) && (charAt(chars, bytes, i) == '-')) {
+            int metadata = ++i;
+
+            while ((i < end) && (charAt(chars, bytes, i) != '+')) {
+                i++;
+            }
+
+            int invalid = findInvalidMetadata(chars, bytes, metadata, i, true);
+
+            if (invalid >= 0) {
+                return invalid;
+            }
+        }
+
+        if ((i < end) && (charAt(chars, bytes, i) == '+')) {
+            return findInvalidMetadata(chars, bytes, i + 1, end, false);
+        }
+
+        return (i == end) ? -1 : i;
+    }
+
+    /**
+     * Finds the first occurrence of a character.
+     *
+     * @param chars The characters.
+     * @param c     The character to find.
+     *
+     * @return The index of the character, or -1 if it is not found.
+     */
+    private static int indexOf(CharSequence chars, char c) {
+        for (int i = 0; i < chars.length(); i++) {
+            if (chars.charAt(i) == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Checks if a range of allowed characters is a valid identifier.
+     *
+     * @param chars      The characters, or <code>null</code> if the bytes are given.
+     * @param bytes      The ASCII bytes, or <code>null</code> if the characters are given.
+     * @param start      The index of the first character.
+     * @param end        The index after the last character.
+     * @param classes    The classes of the characters in the range, combined.
+     * @param preRelease Indicates that numeric identifiers must not have leading zeros.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    private static boolean isIdentifier(
+        CharSequence chars,
+        byte[] bytes,
+        int start,
+        int end,
+        int classes,
+        boolean preRelease
+    ) {
+        if (start == end) {
+            return false;
+        }
+
+        return !preRelease || (classes != DIGIT) || (end - start == 1) || (charAt(chars, bytes, start) != '0');
+    }
+}
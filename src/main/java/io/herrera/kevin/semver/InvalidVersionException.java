@@ -1,14 +1,225 @@
 package io.herrera.kevin.semver;
 
+import java.util.Objects;
+
 /**
  * An exception that is thrown when a version number is not a valid semantic version number.
+ *
+ * <p>
+ * When the exception is thrown by {@link Version}, it also describes what is not valid: the {@link #getComponent()
+ * component}, the {@link #getInput() input}, and its {@link #getOffset() offset} in the string that was parsed. The
+ * message is only formatted from those when it is first requested. If the stack traces are
+ * {@link #setStackTraceEnabled(boolean) disabled}, these exceptions are also thrown without capturing one, which makes
+ * rejecting invalid input much cheaper. The stack traces are enabled unless the
+ * <code>io.herrera.kevin.semver.stackTrace</code> system property is set to <code>false</code>.
+ * </p>
  */
 public class InvalidVersionException extends VersionException {
+
+    /**
+     * Indicates that stack traces are captured for the exceptions that describe what is not valid.
+     */
+    private static volatile boolean stackTraceEnabled = !"false".equalsIgnoreCase(
+        System.getProperty("io.herrera.kevin.semver.stackTrace")
+    );
+
+    /**
+     * The component that is not valid.
+     */
+    private final Component component;
+
+    /**
+     * The text that is not valid.
+     */
+    private final String input;
+
+    /**
+     * The message, once it has been formatted.
+     */
+    private String message;
+
+    /**
+     * The index of the text that is not valid in the string that was parsed.
+     */
+    private final int offset;
+
+    /**
+     * The format of the message.
+     */
+    private final String template;
+
+    /**
+     * Sets the message, without describing what is not valid.
+     *
+     * @param message The message.
+     */
     public InvalidVersionException(String message) {
         super(message);
+
+        this.component = null;
+        this.input = null;
+        this.message = message;
+        this.offset = -1;
+        this.template = null;
     }
 
+    /**
+     * Sets the message and cause, without describing what is not valid.
+     *
+     * @param message The message.
+     * @param cause   The cause.
+     */
     public InvalidVersionException(String message, Throwable cause) {
         super(message, cause);
+
+        this.component = null;
+        this.input = null;
+        this.message = message;
+        this.offset = -1;
+        this.template = null;
+    }
+
+    /**
+     * Describes what is not valid, formatting the message only when it is requested.
+     *
+     * @param template  The format of the message, given the name of the component and the input as arguments.
+     * @param component The component that is not valid, or <code>null</code> if it is not known.
+     * @param input     The text that is not valid.
+     * @param offset    The index of the text in the string that was parsed, or -1 if nothing was parsed.
+     */
+    public InvalidVersionException(String template, Component component, String input, int offset) {
+        super(null, stackTraceEnabled);
+
+        Objects.requireNonNull(template, "The format of the message is required.");
+
+        this.component = component;
+        this.input = input;
+        this.offset = offset;
+        this.template = template;
+    }
+
+    /**
+     * Checks if stack traces are captured for the exceptions that describe what is not valid.
+     *
+     * @return Returns <code>true</code> if they are, or <code>false</code> if not.
+     */
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * Sets whether stack traces are captured for the exceptions that describe what is not valid.
+     *
+     * <p>
+     * The exceptions that are created with only a message are not affected.
+     * </p>
+     *
+     * @param enabled Indicates that stack traces are captured.
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    /**
+     * Returns the component that is not valid.
+     *
+     * @return The component, or <code>null</code> if it is not known.
+     */
+    public Component getComponent() {
+        return component;
+    }
+
+    /**
+     * Returns the text that is not valid.
+     *
+     * <p>
+     * This is the whole string if it could not be parsed, or the number or metadata identifier that is not valid.
+     * </p>
+     *
+     * @return The text, or <code>null</code> if it is not known.
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Returns the message, formatting it the first time it is requested.
+     *
+     * @return The message.
+     */
+    @Override
+    public String getMessage() {
+        String formatted = message;
+
+        if ((formatted == null) && (template != null)) {
+            formatted = String.format(template, (component == null) ? null : component.getName(), input);
+
+            message = formatted;
+        }
+
+        return formatted;
+    }
+
+    /**
+     * Returns the index of where the string that was parsed stops being valid.
+     *
+     * @return The index, or -1 if nothing was parsed.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * The components of a semantic version number.
+     */
+    public enum Component {
+
+        /**
+         * The build metadata.
+         */
+        BUILD("build"),
+
+        /**
+         * The major version number.
+         */
+        MAJOR("major"),
+
+        /**
+         * The minor version number.
+         */
+        MINOR("minor"),
+
+        /**
+         * The patch version number.
+         */
+        PATCH("patch"),
+
+        /**
+         * The pre-release metadata.
+         */
+        PRE_RELEASE("pre-release");
+
+        /**
+         * The name of the component, as used in messages.
+         */
+        private final String name;
+
+        /**
+         * Sets the name of the component.
+         *
+         * @param name The name of the component, as used in messages.
+         */
+        Component(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of the component, as used in messages.
+         *
+         * @return The name.
+         */
+        public String getName() {
+            return name;
+        }
     }
 }
@@ -1,13 +1,19 @@
 package io.herrera.kevin.semver;
 
+import io.herrera.kevin.semver.InvalidVersionException.Component;
+import io.herrera.kevin.semver.metrics.MetricsProvider;
+import io.herrera.kevin.semver.metrics.ParseFailure;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.regex.Pattern;
 import lombok.SneakyThrows;
 
 /**
  * An immutable representation of a semantic version number.
  */
-public final class Version {
+public final class Version implements Comparable<Version> {
 
     /**
      * A default version number (0.0.0) that can be used as a starting point.
@@ -19,6 +25,11 @@ public final class Version {
      */
     public static final Version SPEC;
 
+    /**
+     * The metadata of a version number without any, which is shared since it cannot be modified.
+     */
+    private static final String[] EMPTY = new String[0];
+
     /**
      * Indicates that a version has equivalent precedence.
      */
@@ -35,31 +46,18 @@ public final class Version {
     private static final int LESSER = -1;
 
     /**
-     * Validates a build metadata identifier.
-     */
-    private static final Pattern BUILD_VALIDATOR = Pattern.compile("^[0-9A-Za-z-]+$");
-
-    /**
-     * Validates a pre-release metadata identifier.
+     * The build metadata.
      */
-    private static final Pattern PRE_RELEASE_VALIDATOR = Pattern.compile("^(0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*)$");
+    private final String[] build;
 
     /**
-     * Validates a string as a semantic version number.
+     * The string representation, once it has been created.
      *
-     * This regular expression was created by David Fichtmueller. I found it on GitHub in an open issue on the official
-     * semantic versioning repository. It's not an "official" regex, but it covered every single positive and negative
-     * test I could throw at it: https://github.com/semver/semver/issues/232
-     */
-    private static final Pattern STRING_VALIDATOR = Pattern.compile(
-        "^(0|[1-9]\\d*)\\.(0|[1-9]\\d*)\\.(0|[1-9]\\d*)(-(0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*)(\\.(0|[1-9]\\d*"
-            + "|\\d*[a-zA-Z-][0-9a-zA-Z-]*))*)?(\\+[0-9a-zA-Z-]+(\\.[0-9a-zA-Z-]+)*)?$"
-    );
-
-    /**
-     * The build metadata.
+     * <p>
+     * It is created at most a few times, if several threads race to create it, since every copy is equal.
+     * </p>
      */
-    private final String[] build;
+    private String formatted;
 
     /**
      * The major version number.
@@ -100,7 +98,7 @@ public final class Version {
      * @throws InvalidVersionException If the given version information is not valid.
      */
     public Version(int major, int minor, int patch) throws InvalidVersionException {
-        this(major, minor, patch, new String[0]);
+        this(major, minor, patch, EMPTY);
     }
 
     /**
@@ -114,7 +112,7 @@ public final class Version {
      * @throws InvalidVersionException If the given version information is not valid.
      */
     public Version(int major, int minor, int patch, String[] preRelease) throws InvalidVersionException {
-        this(major, minor, patch, preRelease, new String[0]);
+        this(major, minor, patch, preRelease, EMPTY);
     }
 
     /**
@@ -130,14 +128,46 @@ public final class Version {
      */
     public Version(int major, int minor, int patch, String[] preRelease, String[] build)
         throws InvalidVersionException {
+        this(major, minor, patch, preRelease, build, true, true);
+    }
+
+    /**
+     * Sets the information for the new representation, optionally skipping the validation of the metadata.
+     *
+     * <p>
+     * The numbers are always checked, since they are cheap to check. The metadata is only matched against the
+     * patterns when it is not already known to be valid, such as when it comes from another version number.
+     * </p>
+     *
+     * @param major              The major version number.
+     * @param minor              The minor version number.
+     * @param patch              The patch version number.
+     * @param preRelease         The pre-release metadata.
+     * @param build              The build metadata.
+     * @param validatePreRelease Indicates that the pre-release metadata must be validated.
+     * @param validateBuild      Indicates that the build metadata must be validated.
+     *
+     * @throws InvalidVersionException If the given version information is not valid.
+     */
+    Version(
+        int major,
+        int minor,
+        int patch,
+        String[] preRelease,
+        String[] build,
+        boolean validatePreRelease,
+        boolean validateBuild
+    ) throws InvalidVersionException {
         Objects.requireNonNull(build, "The build metadata is required (even if empty).");
         Objects.requireNonNull(preRelease, "The pre-release metadata is required (even if empty).");
 
-        this.build = isValidIdentifiers("build", BUILD_VALIDATOR, build);
-        this.major = atLeastZero("major", major);
-        this.minor = atLeastZero("minor", minor);
-        this.patch = atLeastZero("patch", patch);
-        this.preRelease = isValidIdentifiers("pre-release", PRE_RELEASE_VALIDATOR, preRelease);
+        this.build = validateBuild ? isValidIdentifiers(Component.BUILD, build) : build;
+        this.major = atLeastZero(Component.MAJOR, major);
+        this.minor = atLeastZero(Component.MINOR, minor);
+        this.patch = atLeastZero(Component.PATCH, patch);
+        this.preRelease = validatePreRelease
+            ? isValidIdentifiers(Component.PRE_RELEASE, preRelease)
+            : preRelease;
     }
 
     /**
@@ -150,40 +180,156 @@ public final class Version {
     public Version(String string) throws InvalidVersionException {
         Objects.requireNonNull(string, "The string representation is required.");
 
-        if (!STRING_VALIDATOR.matcher(string).matches()) {
+        boolean metered = MetricsProvider.isEnabled();
+        long start = metered ? System.nanoTime() : 0;
+
+        int length = string.length();
+
+        int invalid = Identifiers.findInvalid(string, 0, length);
+
+        if (invalid >= 0) {
+            if (metered) {
+                MetricsProvider.get().parseFailed(string, ParseFailure.classify(string), System.nanoTime() - start);
+            }
+
             throw new InvalidVersionException(
-                String.format(
-                    "The string \"%s\" is not a valid semantic version number.",
-                    string
-                )
+                "The string \"%2$s\" is not a valid semantic version number.",
+                Identifiers.componentAt(string, invalid),
+                string,
+                invalid
             );
         }
 
-        String[] metadata;
+        int minorStart = string.indexOf('.') + 1;
+        int patchStart = string.indexOf('.', minorStart) + 1;
+        int plus = string.indexOf('+', patchStart);
+        int coreEnd = (plus < 0) ? length : plus;
+        int dash = string.indexOf('-', patchStart);
+
+        if ((dash < 0) || (dash > coreEnd)) {
+            dash = coreEnd;
+        }
 
-        if (string.contains("+")) {
-            metadata = string.split("\\+", 2);
-            string = metadata[0];
+        build = (plus < 0) ? EMPTY : split(string, plus + 1, length);
+        preRelease = (dash == coreEnd) ? EMPTY : split(string, dash + 1, coreEnd);
 
-            build = metadata[1].split("\\.");
-        } else {
-            build = new String[0];
+        try {
+            major = parseInt(Component.MAJOR, string, 0, minorStart - 1);
+            minor = parseInt(Component.MINOR, string, minorStart, patchStart - 1);
+            patch = parseInt(Component.PATCH, string, patchStart, dash);
+        } catch (InvalidVersionException exception) {
+            if (metered) {
+                MetricsProvider.get().parseFailed(string, ParseFailure.NUMBER_TOO_LARGE, System.nanoTime() - start);
+            }
+
+            throw exception;
         }
 
-        if (string.contains("-")) {
-            metadata = string.split("-", 2);
-            string = metadata[0];
+        formatted = string;
 
-            preRelease = metadata[1].split("\\.");
-        } else {
-            preRelease = new String[0];
+        if (metered) {
+            MetricsProvider.get().parseSucceeded(string, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Creates a version number from metadata that is already known to be valid, without validating it again.
+     *
+     * <p>
+     * This is meant for metadata that was taken from other version numbers, such as when decoding an encoding of
+     * them. Only the numbers are checked. The arrays are not copied, so they must not be changed afterwards.
+     * </p>
+     *
+     * @param major      The major version number.
+     * @param minor      The minor version number.
+     * @param patch      The patch version number.
+     * @param preRelease The valid pre-release metadata.
+     * @param build      The valid build metadata.
+     *
+     * @return The version number.
+     *
+     * @throws InvalidVersionException If a number is not valid.
+     */
+    public static Version ofValid(int major, int minor, int patch, String[] preRelease, String[] build)
+        throws InvalidVersionException {
+        return new Version(major, minor, patch, preRelease, build, false, false);
+    }
+
+    /**
+     * Appends the string representation of the version number.
+     *
+     * @param appendable The destination.
+     * @param <A>        The type of the destination.
+     *
+     * @return The destination.
+     *
+     * @throws IOException If the destination could not be appended to.
+     */
+    public <A extends Appendable> A appendTo(A appendable) throws IOException {
+        Objects.requireNonNull(appendable, "The destination is required.");
+
+        String string = formatted;
+
+        if (string != null) {
+            appendable.append(string);
+
+            return appendable;
+        }
+
+        appendNumber(appendable, major);
+        appendable.append('.');
+        appendNumber(appendable, minor);
+        appendable.append('.');
+        appendNumber(appendable, patch);
+        appendMetadata(appendable, '-', preRelease);
+        appendMetadata(appendable, '+', build);
+
+        return appendable;
+    }
+
+    /**
+     * Appends the string representation of the version number, without allocating unless the builder must grow.
+     *
+     * @param builder The destination.
+     *
+     * @return The destination.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        Objects.requireNonNull(builder, "The destination is required.");
+
+        String string = formatted;
+
+        if (string != null) {
+            return builder.append(string);
         }
 
-        String[] numbers = string.split("\\.");
+        builder.append(major).append('.').append(minor).append('.').append(patch);
+
+        if (preRelease.length > 0) {
+            builder.append('-');
+
+            for (int i = 0; i < preRelease.length; i++) {
+                if (i > 0) {
+                    builder.append('.');
+                }
+
+                builder.append(preRelease[i]);
+            }
+        }
+
+        if (build.length > 0) {
+            builder.append('+');
+
+            for (int i = 0; i < build.length; i++) {
+                if (i > 0) {
+                    builder.append('.');
+                }
 
-        major = parseInt("major", numbers[0]);
-        minor = parseInt("minor", numbers[1]);
-        patch = parseInt("patch", numbers[2]);
+                builder.append(build[i]);
+            }
+        }
+
+        return builder;
     }
 
     /**
@@ -193,7 +339,7 @@ public final class Version {
      */
     @SneakyThrows(InvalidVersionException.class)
     public Version clearBuild() {
-        return new Version(major, minor, patch, preRelease);
+        return new Version(major, minor, patch, preRelease, EMPTY, false, false);
     }
 
     /**
@@ -203,7 +349,27 @@ public final class Version {
      */
     @SneakyThrows(InvalidVersionException.class)
     public Version clearPreRelease() {
-        return new Version(major, minor, patch, new String[0], build);
+        return new Version(major, minor, patch, EMPTY, build, false, false);
+    }
+
+    /**
+     * Compares this version to the one provided to determine their precedence.
+     *
+     * <p>
+     * The build metadata is ignored, which makes the ordering consistent with {@link #equals(Object)}.
+     * </p>
+     *
+     * @param other The other version to compare.
+     *
+     * @return If this version has a greater precedence than the other, <code>1</code> (one) is returned. If both
+     *         versions have equal precedence, <code>0</code> (zero) is returned. If the other version has a greater
+     *         precedence than this one, <code>-1</code> is returned.
+     */
+    @Override
+    public int compareTo(Version other) {
+        Objects.requireNonNull(other, "The other version is required.");
+
+        return compare(this, other);
     }
 
     /**
@@ -226,9 +392,33 @@ public final class Version {
         return isEqualTo((Version) object);
     }
 
+    /**
+     * Returns the exact length of the string representation, without creating it.
+     *
+     * @return The number of characters, which is also the number of bytes written by {@link #writeTo(byte[], int)}.
+     */
+    public int formattedLength() {
+        int length = digits(major) + digits(minor) + digits(patch) + 2;
+
+        if (preRelease.length > 0) {
+            length += 1 + metadataLength(preRelease);
+        }
+
+        if (build.length > 0) {
+            length += 1 + metadataLength(build);
+        }
+
+        return length;
+    }
+
     /**
      * Returns the build metadata.
      *
+     * <p>
+     * The array is not copied, so it must not be changed. The version number would no longer match its cached string
+     * representation.
+     * </p>
+     *
      * @return The build metadata.
      */
     public String[] getBuild() {
@@ -265,15 +455,29 @@ public final class Version {
     /**
      * Returns the pre-release metadata.
      *
+     * <p>
+     * The array is not copied, so it must not be changed. The version number would no longer match its cached string
+     * representation, and its hash code and precedence would change.
+     * </p>
+     *
      * @return The pre-release metadata.
      */
     public String[] getPreRelease() {
         return preRelease;
     }
 
+    /**
+     * Returns a hash code that is consistent with {@link #equals(Object)}.
+     *
+     * <p>
+     * The build metadata is ignored, since it does not affect precedence.
+     * </p>
+     *
+     * @return The hash code.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(major, minor, patch, preRelease);
+        return (((((31 * major) + minor) * 31) + patch) * 31) + Arrays.hashCode(preRelease);
     }
 
     /**
@@ -306,7 +510,7 @@ public final class Version {
      * @throws InvalidVersionException If the resulting version number is not valid.
      */
     public Version incrementMajor(int amount) throws InvalidVersionException {
-        return new Version(major + amount, 0, 0, new String[0], new String[0]);
+        return new Version(major + amount, 0, 0, EMPTY, EMPTY, false, false);
     }
 
     /**
@@ -339,7 +543,7 @@ public final class Version {
      * @throws InvalidVersionException If the resulting version number is not valid.
      */
     public Version incrementMinor(int amount) throws InvalidVersionException {
-        return new Version(major, minor + amount, 0, new String[0], new String[0]);
+        return new Version(major, minor + amount, 0, EMPTY, EMPTY, false, false);
     }
 
     /**
@@ -370,7 +574,7 @@ public final class Version {
      * @throws InvalidVersionException If the resulting version number is not valid.
      */
     public Version incrementPatch(int amount) throws InvalidVersionException {
-        return new Version(major, minor, patch + amount, new String[0], new String[0]);
+        return new Version(major, minor, patch + amount, EMPTY, EMPTY, false, false);
     }
 
     /**
@@ -442,7 +646,7 @@ public final class Version {
     public Version setBuild(String... metadata) throws InvalidVersionException {
         Objects.requireNonNull(metadata, "The build metadata is required (even if empty).");
 
-        return new Version(major, minor, patch, preRelease, metadata);
+        return new Version(major, minor, patch, preRelease, metadata, false, true);
     }
 
     /**
@@ -455,7 +659,7 @@ public final class Version {
      * @throws InvalidVersionException If the version number is not valid.
      */
     public Version setMajor(int number) throws InvalidVersionException {
-        return new Version(number, minor, patch, preRelease, build);
+        return new Version(number, minor, patch, preRelease, build, false, false);
     }
 
     /**
@@ -468,7 +672,7 @@ public final class Version {
      * @throws InvalidVersionException If the version number is not valid.
      */
     public Version setMinor(int number) throws InvalidVersionException {
-        return new Version(major, number, patch, preRelease, build);
+        return new Version(major, number, patch, preRelease, build, false, false);
     }
 
     /**
@@ -481,7 +685,7 @@ public final class Version {
      * @throws InvalidVersionException If the version number is not valid.
      */
     public Version setPatch(int number) throws InvalidVersionException {
-        return new Version(major, minor, number, preRelease, build);
+        return new Version(major, minor, number, preRelease, build, false, false);
     }
 
     /**
@@ -496,42 +700,153 @@ public final class Version {
     public Version setPreRelease(String... metadata) throws InvalidVersionException {
         Objects.requireNonNull(metadata, "The pre-release metadata is required (even if empty).");
 
-        return new Version(major, minor, patch, metadata, build);
+        return new Version(major, minor, patch, metadata, build, true, false);
+    }
+
+    /**
+     * Creates a builder that starts with the information of this version number.
+     *
+     * @return The new builder.
+     */
+    public VersionBuilder toBuilder() {
+        return new VersionBuilder(this);
     }
 
     /**
      * Creates a string representation of the version number.
      *
+     * <p>
+     * The string representation is created once and then reused. If the version number was parsed, the string that
+     * was parsed is used.
+     * </p>
+     *
      * @return The string representation.
      */
     public String toString() {
-        StringBuilder builder = new StringBuilder();
+        String string = formatted;
 
-        builder.append(major).append(".").append(minor).append(".").append(patch);
+        if (string == null) {
+            string = appendTo(new StringBuilder(formattedLength())).toString();
 
-        if (preRelease.length > 0) {
-            builder.append("-").append(toStringMetadata(preRelease));
+            formatted = string;
         }
 
-        if (build.length > 0) {
-            builder.append("+").append(toStringMetadata(build));
+        return string;
+    }
+
+    /**
+     * Writes the string representation of the version number into an array as ASCII.
+     *
+     * @param bytes  The array.
+     * @param offset The index in the array to start writing at.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If there is not enough room in the array, in which case nothing is written.
+     */
+    public int writeTo(byte[] bytes, int offset) {
+        Objects.requireNonNull(bytes, "The array is required.");
+
+        int length = formattedLength();
+
+        if ((offset < 0) || (offset > bytes.length - length)) {
+            throw new IndexOutOfBoundsException(
+                String.format("The array does not have room for %d bytes at index %d.", length, offset)
+            );
+        }
+
+        int position = writeNumber(bytes, offset, major);
+
+        bytes[position++] = '.';
+        position = writeNumber(bytes, position, minor);
+        bytes[position++] = '.';
+        position = writeNumber(bytes, position, patch);
+        position = writeMetadata(bytes, position, '-', preRelease);
+
+        writeMetadata(bytes, position, '+', build);
+
+        return length;
+    }
+
+    /**
+     * Writes the string representation of the version number into a buffer as ASCII, at its position.
+     *
+     * @param buffer The buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws BufferOverflowException If there is not enough room in the buffer, in which case nothing is written.
+     */
+    public int writeTo(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "The buffer is required.");
+
+        int length = formattedLength();
+
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+
+        if (buffer.hasArray()) {
+            writeTo(buffer.array(), buffer.arrayOffset() + buffer.position());
+
+            buffer.position(buffer.position() + length);
+        } else {
+            putNumber(buffer, major);
+            buffer.put((byte) '.');
+            putNumber(buffer, minor);
+            buffer.put((byte) '.');
+            putNumber(buffer, patch);
+            putMetadata(buffer, '-', preRelease);
+            putMetadata(buffer, '+', build);
+        }
+
+        return length;
+    }
+
+    /**
+     * Appends a group of metadata identifiers, if there are any.
+     *
+     * @param appendable The destination.
+     * @param prefix     The character that precedes the group.
+     * @param metadata   The metadata identifiers.
+     *
+     * @throws IOException If the destination could not be appended to.
+     */
+    private static void appendMetadata(Appendable appendable, char prefix, String[] metadata) throws IOException {
+        for (int i = 0; i < metadata.length; i++) {
+            appendable.append((i == 0) ? prefix : '.').append(metadata[i]);
         }
+    }
 
-        return builder.toString();
+    /**
+     * Appends the decimal digits of a number.
+     *
+     * @param appendable The destination.
+     * @param number     The number, which is at least 0 (zero).
+     *
+     * @throws IOException If the destination could not be appended to.
+     */
+    private static void appendNumber(Appendable appendable, int number) throws IOException {
+        for (int divisor = power(digits(number) - 1); divisor > 0; divisor /= 10) {
+            appendable.append((char) ('0' + ((number / divisor) % 10)));
+        }
     }
 
     /**
      * Requires that a version number be greater than or equal to 0 (zero).
      *
-     * @param position The position of the integer in the version number.
-     * @param number   The version number.
+     * @param component The component of the number.
+     * @param number    The version number.
      *
      * @throws InvalidVersionException If the number is not at least 0 (zero).
      */
-    private int atLeastZero(String position, int number) throws InvalidVersionException {
+    private static int atLeastZero(Component component, int number) throws InvalidVersionException {
         if (number < 0) {
             throw new InvalidVersionException(
-                String.format("The %s version number must be at least 0 (zero).", position)
+                "The %s version number must be at least 0 (zero).",
+                component,
+                Integer.toString(number),
+                -1
             );
         }
 
@@ -577,11 +892,17 @@ public final class Version {
      *         a greater precedence than the left, <code>-1</code> is returned.
      */
     private int compareMetadata(String left, String right) {
+        boolean leftNumeric = isNumeric(left);
+        boolean rightNumeric = isNumeric(right);
         int result;
 
-        try {
-            result = Integer.parseInt(left) - Integer.parseInt(right);
-        } catch (NumberFormatException exception) {
+        if (leftNumeric && rightNumeric) {
+            result = (left.length() == right.length())
+                ? left.compareTo(right)
+                : Integer.compare(left.length(), right.length());
+        } else if (leftNumeric || rightNumeric) {
+            result = leftNumeric ? LESSER : GREATER;
+        } else {
             result = left.compareTo(right);
         }
 
@@ -628,21 +949,69 @@ public final class Version {
         return EQUAL;
     }
 
+    /**
+     * Counts the decimal digits of a number.
+     *
+     * @param number The number, which is at least 0 (zero).
+     *
+     * @return The number of digits.
+     */
+    private static int digits(int number) {
+        int digits = 1;
+
+        while (number >= 10) {
+            number /= 10;
+            digits++;
+        }
+
+        return digits;
+    }
+
+    /**
+     * Checks if a metadata identifier only has digits.
+     *
+     * <p>
+     * Since numeric identifiers cannot have leading zeros, two of them can be compared by their length first, and
+     * then character by character, without parsing them (or overflowing an <code>int</code>).
+     * </p>
+     *
+     * @param identifier The metadata identifier.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+     */
+    private static boolean isNumeric(String identifier) {
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+
+            if ((c < '0') || (c > '9')) {
+                return false;
+            }
+        }
+
+        return !identifier.isEmpty();
+    }
+
     /**
      * Checks if a metadata identifier is valid.
      *
-     * @param group      The name of the metadata group.
-     * @param pattern    The identifier pattern to validate against.
+     * @param component  The component of the metadata.
      * @param identifier The metadata identifier to validate.
      *
      * @return The valid identifier.
      *
      * @throws InvalidVersionException If the identifier is not valid.
      */
-    private String isValidIdentifier(String group, Pattern pattern, String identifier) throws InvalidVersionException {
-        if (!pattern.matcher(identifier).matches()) {
+    private static String isValidIdentifier(Component component, String identifier) throws InvalidVersionException {
+        int length = identifier.length();
+
+        if ((identifier.indexOf('.') >= 0) || !((component == Component.PRE_RELEASE)
+            ? Identifiers.isPreRelease(identifier, 0, length)
+            : Identifiers.isBuild(identifier, 0, length))) {
             throw new InvalidVersionException(
-                String.format("The %s metadata identifier \"%s\" is not valid.", group, identifier)
+                "The %s metadata identifier \"%s\" is not valid.",
+                component,
+                identifier,
+                -1
             );
         }
 
@@ -652,62 +1021,186 @@ public final class Version {
     /**
      * Checks if an array of metadata identifiers are valid.
      *
-     * @param group       The name of the metadata group.
-     * @param pattern     The identifier pattern to validate against.
+     * @param component   The component of the metadata.
      * @param identifiers The metadata identifiers to validate.
      *
      * @return The valid identifiers.
      *
      * @throws InvalidVersionException If the identifiers are not valid.
      */
-    private String[] isValidIdentifiers(String group, Pattern pattern, String[] identifiers)
+    private static String[] isValidIdentifiers(Component component, String[] identifiers)
         throws InvalidVersionException {
         for (String identifier : identifiers) {
-            isValidIdentifier(group, pattern, identifier);
+            isValidIdentifier(component, identifier);
         }
 
         return identifiers;
     }
 
     /**
-     * Parses a string integer into a <code>Integer</code>.
+     * Returns the length of a group of metadata identifiers, separated by dots.
      *
-     * @param position  The position of the integer in the version number.
-     * @param stringInt The string integer to parse.
+     * @param metadata The metadata identifiers.
+     *
+     * @return The number of characters.
+     */
+    private static int metadataLength(String[] metadata) {
+        int length = metadata.length - 1;
+
+        for (String identifier : metadata) {
+            length += identifier.length();
+        }
+
+        return length;
+    }
+
+    /**
+     * Parses the digits in a range of a string as an integer.
+     *
+     * @param component The component of the integer.
+     * @param string    The string, which only has digits in the range.
+     * @param start     The index of the first digit.
+     * @param end       The index after the last digit.
      *
      * @return The integer.
      *
-     * @throws InvalidVersionException If the string integer could not be parsed.
+     * @throws InvalidVersionException If the integer is too large.
      */
-    private Integer parseInt(String position, String stringInt) throws InvalidVersionException {
-        try {
-            return Integer.parseInt(stringInt);
-        } catch (NumberFormatException cause) {
-            throw new InvalidVersionException(
-                String.format("The %s version number \"%s\" could not be parsed as an integer.", position, stringInt),
-                cause
-            );
+    private static int parseInt(Component component, String string, int start, int end)
+        throws InvalidVersionException {
+        long number = 0;
+
+        for (int i = start; i < end; i++) {
+            number = (number * 10) + (string.charAt(i) - '0');
+
+            if (number > Integer.MAX_VALUE) {
+                throw new InvalidVersionException(
+                    "The %s version number \"%s\" could not be parsed as an integer.",
+                    component,
+                    string.substring(start, end),
+                    start
+                );
+            }
         }
+
+        return (int) number;
     }
 
     /**
-     * Creates a metadata string for a semantic version number.
+     * Returns a power of ten.
      *
-     * @param metadata The metadata.
+     * @param exponent The exponent, from 0 (zero) to 9.
+     *
+     * @return The power.
+     */
+    private static int power(int exponent) {
+        int power = 1;
+
+        for (int i = 0; i < exponent; i++) {
+            power *= 10;
+        }
+
+        return power;
+    }
+
+    /**
+     * Puts a group of metadata identifiers into a buffer as ASCII, if there are any.
+     *
+     * @param buffer   The buffer.
+     * @param prefix   The character that precedes the group.
+     * @param metadata The metadata identifiers.
+     */
+    private static void putMetadata(ByteBuffer buffer, char prefix, String[] metadata) {
+        for (int i = 0; i < metadata.length; i++) {
+            buffer.put((byte) ((i == 0) ? prefix : '.'));
+
+            for (int j = 0; j < metadata[i].length(); j++) {
+                buffer.put((byte) metadata[i].charAt(j));
+            }
+        }
+    }
+
+    /**
+     * Puts the decimal digits of a number into a buffer as ASCII.
      *
-     * @return The string.
+     * @param buffer The buffer.
+     * @param number The number, which is at least 0 (zero).
      */
-    private String toStringMetadata(String[] metadata) {
-        StringBuilder builder = new StringBuilder();
+    private static void putNumber(ByteBuffer buffer, int number) {
+        for (int divisor = power(digits(number) - 1); divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + ((number / divisor) % 10)));
+        }
+    }
+
+    /**
+     * Splits a range of a string into identifiers separated by dots.
+     *
+     * @param string The string.
+     * @param start  The index of the first character.
+     * @param end    The index after the last character.
+     *
+     * @return The identifiers.
+     */
+    private static String[] split(String string, int start, int end) {
+        int count = 1;
+
+        for (int i = start; i < end; i++) {
+            if (string.charAt(i) == '.') {
+                count++;
+            }
+        }
+
+        String[] identifiers = new String[count];
+
+        for (int i = 0; i < count; i++) {
+            int dot = (i == count - 1) ? end : string.indexOf('.', start);
+
+            identifiers[i] = string.substring(start, dot);
+            start = dot + 1;
+        }
 
+        return identifiers;
+    }
+
+    /**
+     * Writes a group of metadata identifiers into an array as ASCII, if there are any.
+     *
+     * @param bytes    The array.
+     * @param position The index to start writing at.
+     * @param prefix   The character that precedes the group.
+     * @param metadata The metadata identifiers.
+     *
+     * @return The index after the last byte written.
+     */
+    private static int writeMetadata(byte[] bytes, int position, char prefix, String[] metadata) {
         for (int i = 0; i < metadata.length; i++) {
-            if (i > 0) {
-                builder.append(".");
+            bytes[position++] = (byte) ((i == 0) ? prefix : '.');
+
+            for (int j = 0; j < metadata[i].length(); j++) {
+                bytes[position++] = (byte) metadata[i].charAt(j);
             }
+        }
+
+        return position;
+    }
+
+    /**
+     * Writes the decimal digits of a number into an array as ASCII.
+     *
+     * @param bytes    The array.
+     * @param position The index to start writing at.
+     * @param number   The number, which is at least 0 (zero).
+     *
+     * @return The index after the last byte written.
+     */
+    private static int writeNumber(byte[] bytes, int position, int number) {
+        int end = position + digits(number);
 
-            builder.append(metadata[i]);
+        for (int i = end - 1; i >= position; i--) {
+            bytes[i] = (byte) ('0' + (number % 10));
+            number /= 10;
         }
 
-        return builder.toString();
+        return end;
     }
 }
@@ -0,0 +1,260 @@
+package io.herrera.kevin.semver;
+
+import java.util.Objects;
+
+/**
+ * A mutable, reusable builder of version numbers.
+ *
+ * <p>
+ * Unlike chaining the setters of {@link Version}, which creates a new instance for every step, the builder only
+ * creates a version number when {@link #build()} is called. The metadata is validated at that time, and only if it is
+ * not already known to be valid: metadata copied from a version number, or already used by a previous build, is not
+ * validated again. A builder can be reused to create many version numbers, but it is not safe to use from several
+ * threads unless access is synchronized.
+ * </p>
+ *
+ * <pre>
+ * VersionBuilder builder = new VersionBuilder().setMajor(1).setMinor(2).setPreRelease("alpha", "1");
+ *
+ * Version alpha = builder.build();
+ * Version beta = builder.setPreRelease("beta", "1").build();
+ * </pre>
+ */
+public final class VersionBuilder {
+
+    /**
+     * The metadata of a version number without any.
+     */
+    private static final String[] EMPTY = new String[0];
+
+    /**
+     * The build metadata.
+     */
+    private String[] build = EMPTY;
+
+    /**
+     * Indicates that the build metadata is known to be valid.
+     */
+    private boolean buildValid = true;
+
+    /**
+     * The major version number.
+     */
+    private int major;
+
+    /**
+     * The minor version number.
+     */
+    private int minor;
+
+    /**
+     * The patch version number.
+     */
+    private int patch;
+
+    /**
+     * The pre-release metadata.
+     */
+    private String[] preRelease = EMPTY;
+
+    /**
+     * Indicates that the pre-release metadata is known to be valid.
+     */
+    private boolean preReleaseValid = true;
+
+    /**
+     * Starts with the default version number (0.0.0).
+     */
+    public VersionBuilder() {
+    }
+
+    /**
+     * Starts with the information of a version number.
+     *
+     * @param version The version number.
+     */
+    public VersionBuilder(Version version) {
+        from(version);
+    }
+
+    /**
+     * Creates a version number using the current information.
+     *
+     * <p>
+     * Any metadata that was set since the last successful build is validated.
+     * </p>
+     *
+     * @return The new version number.
+     *
+     * @throws InvalidVersionException If the version information is not valid.
+     */
+    public Version build() throws InvalidVersionException {
+        Version version = new Version(major, minor, patch, preRelease, build, !preReleaseValid, !buildValid);
+
+        buildValid = true;
+        preReleaseValid = true;
+
+        return version;
+    }
+
+    /**
+     * Clears the build metadata.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder clearBuild() {
+        build = EMPTY;
+        buildValid = true;
+
+        return this;
+    }
+
+    /**
+     * Clears the pre-release metadata.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder clearPreRelease() {
+        preRelease = EMPTY;
+        preReleaseValid = true;
+
+        return this;
+    }
+
+    /**
+     * Replaces all of the information with that of a version number.
+     *
+     * @param version The version number.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder from(Version version) {
+        Objects.requireNonNull(version, "The version is required.");
+
+        build = version.getBuild();
+        buildValid = true;
+        major = version.getMajor();
+        minor = version.getMinor();
+        patch = version.getPatch();
+        preRelease = version.getPreRelease();
+        preReleaseValid = true;
+
+        return this;
+    }
+
+    /**
+     * Increments the major version number by 1 (one), resetting the minor and patch version numbers and clearing the
+     * metadata.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder incrementMajor() {
+        major++;
+        minor = 0;
+        patch = 0;
+
+        return clearPreRelease().clearBuild();
+    }
+
+    /**
+     * Increments the minor version number by 1 (one), resetting the patch version number and clearing the metadata.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder incrementMinor() {
+        minor++;
+        patch = 0;
+
+        return clearPreRelease().clearBuild();
+    }
+
+    /**
+     * Increments the patch version number by 1 (one), clearing the metadata.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder incrementPatch() {
+        patch++;
+
+        return clearPreRelease().clearBuild();
+    }
+
+    /**
+     * Sets the build metadata.
+     *
+     * <p>
+     * The metadata is copied, so changing the array afterwards does not change the builder.
+     * </p>
+     *
+     * @param metadata The metadata.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder setBuild(String... metadata) {
+        Objects.requireNonNull(metadata, "The build metadata is required (even if empty).");
+
+        build = metadata.clone();
+        buildValid = metadata.length == 0;
+
+        return this;
+    }
+
+    /**
+     * Sets the major version number.
+     *
+     * @param number The number.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder setMajor(int number) {
+        major = number;
+
+        return this;
+    }
+
+    /**
+     * Sets the minor version number.
+     *
+     * @param number The number.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder setMinor(int number) {
+        minor = number;
+
+        return this;
+    }
+
+    /**
+     * Sets the patch version number.
+     *
+     * @param number The number.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder setPatch(int number) {
+        patch = number;
+
+        return this;
+    }
+
+    /**
+     * Sets the pre-release metadata.
+     *
+     * <p>
+     * The metadata is copied, so changing the array afterwards does not change the builder.
+     * </p>
+     *
+     * @param metadata The metadata.
+     *
+     * @return A fluent interface.
+     */
+    public VersionBuilder setPreRelease(String... metadata) {
+        Objects.requireNonNull(metadata, "The pre-release metadata is required (even if empty).");
+
+        preRelease = metadata.clone();
+        preReleaseValid = metadata.length == 0;
+
+        return this;
+    }
+}
@@ -4,6 +4,13 @@ package io.herrera.kevin.semver;
  * An exception that is thrown when a version related error is encountered.
  */
 public class VersionException extends Exception {
+
+    /**
+     * The cause, if it is kept here instead of by {@link Throwable}: <code>this</code> until it is initialized, or
+     * <code>null</code> if it is not kept here (or was initialized to <code>null</code>).
+     */
+    private Throwable keptCause;
+
     public VersionException(String message) {
         super(message);
     }
@@ -11,4 +18,47 @@ public class VersionException extends Exception {
     public VersionException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Sets the message, optionally without capturing the stack trace.
+     *
+     * <p>
+     * The constructor of {@link Throwable} that can skip the stack trace always sets the cause, even to
+     * <code>null</code>, so the cause is kept here instead and can still be {@link #initCause(Throwable) initialized}.
+     * </p>
+     *
+     * @param message            The message.
+     * @param writableStackTrace Indicates that the stack trace is captured.
+     */
+    protected VersionException(String message, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+
+        keptCause = this;
+    }
+
+    @Override
+    public synchronized Throwable getCause() {
+        Throwable cause = keptCause;
+
+        if (cause == null) {
+            return super.getCause();
+        }
+
+        return (cause == this) ? null : cause;
+    }
+
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        if (keptCause != this) {
+            return super.initCause(cause);
+        }
+
+        if (cause == this) {
+            throw new IllegalArgumentException("Self-causation not permitted", this);
+        }
+
+        keptCause = cause;
+
+        return this;
+    }
 }
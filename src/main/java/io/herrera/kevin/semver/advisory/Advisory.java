@@ -0,0 +1,110 @@
+package io.herrera.kevin.semver.advisory;
+
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.constraints.Interval;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable security advisory, which affects the versions of a package that pass a constraint.
+ */
+public final class Advisory {
+
+    /**
+     * The constraint that affected versions pass.
+     */
+    private final Constraint affected;
+
+    /**
+     * Indicates that a version is affected if, and only if, it is in one of the intervals.
+     */
+    private final boolean exact;
+
+    /**
+     * The identifier.
+     */
+    private final String id;
+
+    /**
+     * The intervals of the affected versions.
+     */
+    private final List<Interval> intervals;
+
+    /**
+     * The name of the package.
+     */
+    private final String packageName;
+
+    /**
+     * Sets the advisory.
+     *
+     * <p>
+     * The intervals of the constraint are read once, so the constraint should not be modified afterwards.
+     * </p>
+     *
+     * @param id          The identifier.
+     * @param packageName The name of the package.
+     * @param affected    The constraint that affected versions pass.
+     */
+    public Advisory(String id, String packageName, Constraint affected) {
+        Objects.requireNonNull(id, "The identifier is required.");
+        Objects.requireNonNull(packageName, "The name of the package is required.");
+        Objects.requireNonNull(affected, "The constraint is required.");
+
+        this.affected = affected;
+        this.exact = affected.isExact();
+        this.id = id;
+        this.intervals = affected.intervals();
+        this.packageName = packageName;
+    }
+
+    /**
+     * Returns the constraint that affected versions pass.
+     *
+     * @return The constraint.
+     */
+    public Constraint getAffected() {
+        return affected;
+    }
+
+    /**
+     * Returns the identifier.
+     *
+     * @return The identifier.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the package.
+     *
+     * @return The name of the package.
+     */
+    public String getPackageName() {
+        return packageName;
+    }
+
+    @Override
+    public String toString() {
+        return id + " (" + packageName + ")";
+    }
+
+    /**
+     * Returns the intervals of the affected versions.
+     *
+     * @return The intervals.
+     */
+    List<Interval> getIntervals() {
+        return intervals;
+    }
+
+    /**
+     * Checks if a version is affected if, and only if, it is in one of the intervals.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if the constraint must still be applied.
+     */
+    boolean isExact() {
+        return exact;
+    }
+}
@@ -0,0 +1,53 @@
+package io.herrera.kevin.semver.advisory;
+
+/**
+ * An item of an inventory that is affected by an advisory.
+ *
+ * @param <T> The type of the inventory items.
+ */
+public final class AdvisoryMatch<T> {
+
+    /**
+     * The advisory.
+     */
+    private final Advisory advisory;
+
+    /**
+     * The inventory item.
+     */
+    private final T item;
+
+    /**
+     * Sets the match.
+     *
+     * @param advisory The advisory.
+     * @param item     The inventory item.
+     */
+    AdvisoryMatch(Advisory advisory, T item) {
+        this.advisory = advisory;
+        this.item = item;
+    }
+
+    /**
+     * Returns the advisory.
+     *
+     * @return The advisory.
+     */
+    public Advisory getAdvisory() {
+        return advisory;
+    }
+
+    /**
+     * Returns the inventory item.
+     *
+     * @return The inventory item.
+     */
+    public T getItem() {
+        return item;
+    }
+
+    @Override
+    public String toString() {
+        return advisory.getId() + ": " + item;
+    }
+}
@@ -0,0 +1,476 @@
+package io.herrera.kevin.semver.advisory;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Interval;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Matches an inventory of package versions against security advisories.
+ *
+ * <p>
+ * The advisories are grouped by package, and the intervals of their affected versions are sorted by lower bound.
+ * The inventory items of a package are sorted by version and joined with the intervals in a single sweep: intervals
+ * become active once their lower bound has been passed, and are retired once their upper bound has been passed, so
+ * each version is only checked against the intervals that contain it. Advisories with constraints that are not
+ * exact (e.g. they require stable versions) are still applied to each version in one of their intervals.
+ * </p>
+ *
+ * <p>
+ * Packages are independent of each other, so large inventories are matched in parallel, one package per task. The
+ * matches are found as they are consumed, so they are never collected in memory.
+ * </p>
+ */
+public final class AdvisoryMatcher {
+
+    /**
+     * Orders ranges by their lower bounds.
+     */
+    private static final Comparator<Range> BY_LOWER = (left, right) -> Interval.BY_LOWER.compare(
+        left.interval,
+        right.interval
+    );
+
+    /**
+     * Orders ranges by their upper bounds.
+     */
+    private static final Comparator<Range> BY_UPPER = (left, right) -> Interval.BY_UPPER.compare(
+        left.interval,
+        right.interval
+    );
+
+    /**
+     * The ranges of affected versions for each package, sorted by their lower bounds.
+     */
+    private final Map<String, Range[]> ranges;
+
+    /**
+     * Sets the ranges of affected versions.
+     *
+     * @param ranges The ranges of affected versions for each package.
+     */
+    private AdvisoryMatcher(Map<String, Range[]> ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Creates a matcher for a collection of advisories.
+     *
+     * @param advisories The advisories.
+     *
+     * @return The matcher.
+     */
+    public static AdvisoryMatcher of(Collection<Advisory> advisories) {
+        Objects.requireNonNull(advisories, "The advisories are required.");
+
+        Map<String, List<Range>> grouped = new HashMap<>();
+
+        for (Advisory advisory : advisories) {
+            Objects.requireNonNull(advisory, "The advisory is required.");
+
+            List<Range> list = grouped.computeIfAbsent(advisory.getPackageName(), key -> new ArrayList<>());
+
+            for (Interval interval : advisory.getIntervals()) {
+                list.add(new Range(advisory, interval));
+            }
+        }
+
+        Map<String, Range[]> ranges = new HashMap<>();
+
+        grouped.forEach((packageName, list) -> {
+            Range[] array = list.toArray(new Range[0]);
+
+            Arrays.sort(array, BY_LOWER);
+
+            ranges.put(packageName, array);
+        });
+
+        return new AdvisoryMatcher(ranges);
+    }
+
+    /**
+     * Returns the names of the packages with advisories.
+     *
+     * @return The names of the packages.
+     */
+    public Collection<String> getPackageNames() {
+        return Collections.unmodifiableSet(ranges.keySet());
+    }
+
+    /**
+     * Checks if there are advisories for a package.
+     *
+     * @param packageName The name of the package.
+     *
+     * @return Returns <code>true</code> if there are, or <code>false</code> if not.
+     */
+    public boolean hasAdvisories(String packageName) {
+        return ranges.containsKey(packageName);
+    }
+
+    /**
+     * Matches an inventory against the advisories.
+     *
+     * <p>
+     * The inventory items of packages with advisories are sorted by package and version in parallel, and each package
+     * is then swept as the parallel stream is consumed, with the packages split between tasks. The matches for a
+     * package are in order of version, but the packages are in no particular order.
+     * </p>
+     *
+     * @param inventory The inventory items.
+     * @param packageOf Returns the name of the package of an inventory item.
+     * @param versionOf Returns the version of an inventory item.
+     * @param <T>       The type of the inventory items.
+     *
+     * @return The stream of matches.
+     */
+    public <T> Stream<AdvisoryMatch<T>> match(
+        Collection<? extends T> inventory,
+        Function<? super T, String> packageOf,
+        Function<? super T, Version> versionOf
+    ) {
+        Objects.requireNonNull(inventory, "The inventory is required.");
+        Objects.requireNonNull(packageOf, "The function to return the package is required.");
+        Objects.requireNonNull(versionOf, "The function to return the version is required.");
+
+        Comparator<T> byPackage = Comparator.comparing(packageOf);
+        List<? extends T> items = inventory
+            .parallelStream()
+            .filter(item -> hasAdvisories(packageOf.apply(item)))
+            .sorted(byPackage.thenComparing(versionOf))
+            .collect(Collectors.toList());
+
+        int[] starts = IntStream
+            .rangeClosed(0, items.size())
+            .parallel()
+            .filter(i -> (i == 0) || (i == items.size())
+                || !packageOf.apply(items.get(i)).equals(packageOf.apply(items.get(i - 1))))
+            .toArray();
+
+        return StreamSupport.stream(
+            new Packages<>(ranges, items, starts, 0, starts.length - 1, packageOf, versionOf),
+            true
+        );
+    }
+
+    /**
+     * Matches the inventory items of a single package against its advisories.
+     *
+     * @param packageName The name of the package.
+     * @param items       The inventory items, in any order.
+     * @param versionOf   Returns the version of an inventory item.
+     * @param action      Accepts each match, in order of version.
+     * @param <T>         The type of the inventory items.
+     */
+    public <T> void match(
+        String packageName,
+        Collection<? extends T> items,
+        Function<? super T, Version> versionOf,
+        Consumer<? super AdvisoryMatch<T>> action
+    ) {
+        Objects.requireNonNull(packageName, "The name of the package is required.");
+        Objects.requireNonNull(items, "The inventory items are required.");
+        Objects.requireNonNull(versionOf, "The function to return the version is required.");
+        Objects.requireNonNull(action, "The action is required.");
+
+        Range[] sorted = ranges.get(packageName);
+
+        if ((sorted == null) || items.isEmpty()) {
+            return;
+        }
+
+        List<T> ordered = new ArrayList<>(items);
+
+        ordered.sort(Comparator.comparing(versionOf));
+
+        new Sweep<>(sorted, ordered, 0, ordered.size(), versionOf).forEachRemaining(action);
+    }
+
+    /**
+     * Sweeps the packages of an inventory that is sorted by package and version, one package at a time.
+     *
+     * @param <T> The type of the inventory items.
+     */
+    private static final class Packages<T> implements Spliterator<AdvisoryMatch<T>> {
+
+        /**
+         * The index of the next package.
+         */
+        private int current;
+
+        /**
+         * The index after the last package (exclusive).
+         */
+        private int fence;
+
+        /**
+         * The inventory items, sorted by package and version.
+         */
+        private final List<? extends T> items;
+
+        /**
+         * Returns the name of the package of an inventory item.
+         */
+        private final Function<? super T, String> packageOf;
+
+        /**
+         * The ranges of affected versions for each package.
+         */
+        private final Map<String, Range[]> ranges;
+
+        /**
+         * The index of the first inventory item of each package, followed by the number of items.
+         */
+        private final int[] starts;
+
+        /**
+         * The sweep of the current package, or <code>null</code> if none was started.
+         */
+        private Sweep<T> sweep;
+
+        /**
+         * Returns the version of an inventory item.
+         */
+        private final Function<? super T, Version> versionOf;
+
+        /**
+         * Sets the packages to sweep.
+         *
+         * @param ranges    The ranges of affected versions for each package.
+         * @param items     The inventory items, sorted by package and version.
+         * @param starts    The index of the first inventory item of each package, followed by the number of items.
+         * @param current   The index of the first package.
+         * @param fence     The index after the last package (exclusive).
+         * @param packageOf Returns the name of the package of an inventory item.
+         * @param versionOf Returns the version of an inventory item.
+         */
+        Packages(
+            Map<String, Range[]> ranges,
+            List<? extends T> items,
+            int[] starts,
+            int current,
+            int fence,
+            Function<? super T, String> packageOf,
+            Function<? super T, Version> versionOf
+        ) {
+            this.current = current;
+            this.fence = fence;
+            this.items = items;
+            this.packageOf = packageOf;
+            this.ranges = ranges;
+            this.starts = starts;
+            this.versionOf = versionOf;
+        }
+
+        @Override
+        public int characteristics() {
+            return NONNULL;
+        }
+
+        @Override
+        public long estimateSize() {
+            return ((sweep == null) ? 0 : sweep.estimateSize()) + (starts[fence] - starts[current]);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super AdvisoryMatch<T>> action) {
+            Objects.requireNonNull(action, "The action is required.");
+
+            while ((sweep == null) || !sweep.tryAdvance(action)) {
+                if (current == fence) {
+                    return false;
+                }
+
+                sweep = new Sweep<>(
+                    ranges.get(packageOf.apply(items.get(starts[current]))),
+                    items,
+                    starts[current],
+                    starts[current + 1],
+                    versionOf
+                );
+
+                current++;
+            }
+
+            return true;
+        }
+
+        @Override
+        public Spliterator<AdvisoryMatch<T>> trySplit() {
+            if ((fence - current) < 2) {
+                return null;
+            }
+
+            int middle = (current + fence) >>> 1;
+            Packages<T> prefix = new Packages<>(ranges, items, starts, current, middle, packageOf, versionOf);
+
+            current = middle;
+
+            return prefix;
+        }
+    }
+
+    /**
+     * An interval of versions affected by an advisory.
+     */
+    private static final class Range {
+
+        /**
+         * The advisory.
+         */
+        private final Advisory advisory;
+
+        /**
+         * The interval of affected versions.
+         */
+        private final Interval interval;
+
+        /**
+         * Sets the range.
+         *
+         * @param advisory The advisory.
+         * @param interval The interval of affected versions.
+         */
+        Range(Advisory advisory, Interval interval) {
+            this.advisory = advisory;
+            this.interval = interval;
+        }
+    }
+
+    /**
+     * Sweeps the inventory items of a single package, sorted by version, and joins them with the ranges of affected
+     * versions.
+     *
+     * @param <T> The type of the inventory items.
+     */
+    private static final class Sweep<T> implements Spliterator<AdvisoryMatch<T>> {
+
+        /**
+         * The ranges that have been passed, sorted by their upper bounds.
+         */
+        private final PriorityQueue<Range> active = new PriorityQueue<>(BY_UPPER);
+
+        /**
+         * The index after the last inventory item (exclusive).
+         */
+        private final int end;
+
+        /**
+         * The inventory items, sorted by version.
+         */
+        private final List<? extends T> items;
+
+        /**
+         * The index of the next range to activate.
+         */
+        private int next;
+
+        /**
+         * The matches for the last inventory item that have not been accepted yet.
+         */
+        private final ArrayDeque<AdvisoryMatch<T>> pending = new ArrayDeque<>();
+
+        /**
+         * The index of the next inventory item.
+         */
+        private int position;
+
+        /**
+         * The ranges of affected versions, sorted by their lower bounds.
+         */
+        private final Range[] sorted;
+
+        /**
+         * Returns the version of an inventory item.
+         */
+        private final Function<? super T, Version> versionOf;
+
+        /**
+         * Sets the inventory items to sweep.
+         *
+         * @param sorted    The ranges of affected versions, sorted by their lower bounds.
+         * @param items     The inventory items, sorted by version.
+         * @param position  The index of the first inventory item.
+         * @param end       The index after the last inventory item (exclusive).
+         * @param versionOf Returns the version of an inventory item.
+         */
+        Sweep(Range[] sorted, List<? extends T> items, int position, int end, Function<? super T, Version> versionOf) {
+            this.end = end;
+            this.items = items;
+            this.position = position;
+            this.sorted = sorted;
+            this.versionOf = versionOf;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+
+        @Override
+        public long estimateSize() {
+            return pending.size() + (end - position);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super AdvisoryMatch<T>> action) {
+            Objects.requireNonNull(action, "The action is required.");
+
+            while (pending.isEmpty()) {
+                if (position == end) {
+                    return false;
+                }
+
+                T item = items.get(position++);
+                Version version = versionOf.apply(item);
+
+                while ((next < sorted.length) && sorted[next].interval.isAbove(version)) {
+                    active.add(sorted[next++]);
+                }
+
+                while (!active.isEmpty() && !active.peek().interval.isBelow(version)) {
+                    active.poll();
+                }
+
+                if (active.isEmpty() && (next == sorted.length)) {
+                    position = end;
+
+                    return false;
+                }
+
+                for (Range range : active) {
+                    Advisory advisory = range.advisory;
+
+                    if (advisory.isExact() || advisory.getAffected().apply(version)) {
+                        pending.add(new AdvisoryMatch<>(advisory, item));
+                    }
+                }
+            }
+
+            action.accept(pending.poll());
+
+            return true;
+        }
+
+        @Override
+        public Spliterator<AdvisoryMatch<T>> trySplit() {
+            return null;
+        }
+    }
+}
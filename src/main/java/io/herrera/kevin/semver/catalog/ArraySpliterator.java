@@ -0,0 +1,138 @@
+package io.herrera.kevin.semver.catalog;
+
+import io.herrera.kevin.semver.Version;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits a range of an array of version numbers.
+ *
+ * <p>
+ * Ranges are only split at multiples of 64 (sixty-four), so that each split covers whole words of a
+ * {@link java.util.BitSet} and can record its results without coordinating with the other splits.
+ * </p>
+ */
+final class ArraySpliterator implements Spliterator<Version> {
+
+    /**
+     * The characteristics in addition to those of every array range.
+     */
+    private final int characteristics;
+
+    /**
+     * The end of the range (exclusive).
+     */
+    private final int fence;
+
+    /**
+     * The next index in the range.
+     */
+    private int origin;
+
+    /**
+     * The version numbers.
+     */
+    private final Version[] versions;
+
+    /**
+     * Sets the range.
+     *
+     * @param versions        The version numbers.
+     * @param origin          The start of the range (inclusive).
+     * @param fence           The end of the range (exclusive).
+     * @param characteristics The characteristics in addition to those of every array range.
+     */
+    ArraySpliterator(Version[] versions, int origin, int fence, int characteristics) {
+        this.characteristics = characteristics | ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+        this.fence = fence;
+        this.origin = origin;
+        this.versions = versions;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Version> action) {
+        Objects.requireNonNull(action, "The action is required.");
+
+        for (int i = origin; i < fence; i++) {
+            action.accept(versions[i]);
+        }
+
+        origin = fence;
+    }
+
+    @Override
+    public Comparator<? super Version> getComparator() {
+        if (hasCharacteristics(SORTED)) {
+            return null;
+        }
+
+        throw new IllegalStateException("The version numbers are not sorted.");
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Version> action) {
+        Objects.requireNonNull(action, "The action is required.");
+
+        if (origin < fence) {
+            action.accept(versions[origin++]);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public ArraySpliterator trySplit() {
+        int middle = ((origin + fence) >>> 1) & ~63;
+
+        if (middle <= origin) {
+            return null;
+        }
+
+        ArraySpliterator prefix = new ArraySpliterator(versions, origin, middle, characteristics);
+
+        origin = middle;
+
+        return prefix;
+    }
+
+    /**
+     * Returns the end of the range.
+     *
+     * @return The end of the range (exclusive).
+     */
+    int getFence() {
+        return fence;
+    }
+
+    /**
+     * Returns the next index in the range.
+     *
+     * @return The next index.
+     */
+    int getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Returns the version numbers.
+     *
+     * @return The version numbers.
+     */
+    Version[] getVersions() {
+        return versions;
+    }
+}
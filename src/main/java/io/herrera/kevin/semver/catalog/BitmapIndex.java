@@ -0,0 +1,317 @@
+package io.herrera.kevin.semver.catalog;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.And;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.constraints.Interval;
+import io.herrera.kevin.semver.constraints.Or;
+import io.herrera.kevin.semver.constraints.PreRelease;
+import io.herrera.kevin.semver.constraints.PreReleaseChannel;
+import io.herrera.kevin.semver.constraints.Stable;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Turns constraints into bitmaps over a fixed, sorted set of version numbers.
+ *
+ * <p>
+ * Each bit is the position of a version number in a {@link VersionIndex}. Since the version numbers are sorted, every
+ * interval of a constraint, and every major and minor version bucket, is a contiguous run of bits that is found with a
+ * binary search and set a word at a time. The stable and pre-release flags are precomputed once, and pre-release
+ * channels are found with a {@link PreReleaseTrie}, which is only built once a channel is filtered. An {@link And} or
+ * {@link Or} constraint is evaluated as the intersection or union of the bitmaps of its constraints, so a version
+ * number is only passed to {@link Constraint#apply(Version)} for a constraint that is not
+ * {@link Constraint#isExact() exact}, and only if it is within the intervals of that constraint.
+ * </p>
+ */
+public final class BitmapIndex {
+
+    /**
+     * The sorted version numbers.
+     */
+    private final VersionIndex index;
+
+    /**
+     * The positions of the pre-release version numbers.
+     */
+    private final BitSet preRelease;
+
+    /**
+     * The positions of the stable version numbers.
+     */
+    private final BitSet stable;
+
+    /**
+     * The pre-release identifiers of the version numbers, or <code>null</code> until a channel is filtered.
+     */
+    private volatile PreReleaseTrie trie;
+
+    /**
+     * Sets the sorted version numbers and precomputes the flags.
+     *
+     * @param index The sorted version numbers.
+     */
+    private BitmapIndex(VersionIndex index) {
+        this.index = index;
+        this.preRelease = new BitSet(index.size());
+        this.stable = new BitSet(index.size());
+
+        for (int i = 0; i < index.size(); i++) {
+            Version version = index.get(i);
+
+            if (version.isPreRelease()) {
+                preRelease.set(i);
+            }
+
+            if (version.isStable()) {
+                stable.set(i);
+            }
+        }
+    }
+
+    /**
+     * Creates a bitmap index over a set of version numbers.
+     *
+     * @param index The sorted version numbers.
+     *
+     * @return The bitmap index.
+     */
+    public static BitmapIndex of(VersionIndex index) {
+        Objects.requireNonNull(index, "The index is required.");
+
+        return new BitmapIndex(index);
+    }
+
+    /**
+     * Finds the version numbers that pass a constraint.
+     *
+     * @param constraint The constraint.
+     *
+     * @return The positions of the version numbers that passed.
+     */
+    public BitSet filter(Constraint constraint) {
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        if (constraint instanceof And) {
+            BitSet bits = all();
+
+            for (Constraint inner : ((And) constraint).getConstraints()) {
+                if (bits.isEmpty()) {
+                    break;
+                }
+
+                bits.and(filter(inner));
+            }
+
+            return bits;
+        }
+
+        if (constraint instanceof Or) {
+            BitSet bits = new BitSet(index.size());
+
+            for (Constraint inner : ((Or) constraint).getConstraints()) {
+                bits.or(filter(inner));
+            }
+
+            return bits;
+        }
+
+        if (constraint instanceof PreRelease) {
+            return (BitSet) preRelease.clone();
+        }
+
+        if (constraint instanceof PreReleaseChannel) {
+            return trie().find((PreReleaseChannel) constraint);
+        }
+
+        if (constraint instanceof Stable) {
+            return (BitSet) stable.clone();
+        }
+
+        BitSet bits = ranges(constraint.intervals());
+
+        if (!constraint.isExact()) {
+            for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+                if (!constraint.apply(index.get(i))) {
+                    bits.clear(i);
+                }
+            }
+        }
+
+        return bits;
+    }
+
+    /**
+     * Returns the sorted version numbers.
+     *
+     * @return The version numbers.
+     */
+    public VersionIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Finds the version numbers with a major version number.
+     *
+     * @param major The major version number.
+     *
+     * @return The positions of the version numbers.
+     */
+    public BitSet major(int major) {
+        return bucket(start(major, 0), (major == Integer.MAX_VALUE) ? index.size() : start(major + 1, 0));
+    }
+
+    /**
+     * Finds the version numbers with a major and minor version number.
+     *
+     * @param major The major version number.
+     * @param minor The minor version number.
+     *
+     * @return The positions of the version numbers.
+     */
+    public BitSet minor(int major, int minor) {
+        if (minor == Integer.MAX_VALUE) {
+            return bucket(start(major, minor), (major == Integer.MAX_VALUE) ? index.size() : start(major + 1, 0));
+        }
+
+        return bucket(start(major, minor), start(major, minor + 1));
+    }
+
+    /**
+     * Finds the pre-release version numbers.
+     *
+     * @return The positions of the version numbers.
+     */
+    public BitSet preRelease() {
+        return (BitSet) preRelease.clone();
+    }
+
+    /**
+     * Selects the version numbers at a set of positions.
+     *
+     * @param positions The positions.
+     *
+     * @return The version numbers, sorted by precedence.
+     */
+    public List<Version> select(BitSet positions) {
+        Objects.requireNonNull(positions, "The positions are required.");
+
+        return positions.stream().mapToObj(index::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the stable version numbers.
+     *
+     * @return The positions of the version numbers.
+     */
+    public BitSet stable() {
+        return (BitSet) stable.clone();
+    }
+
+    /**
+     * Returns a bitmap with every version number in it.
+     *
+     * @return The bitmap.
+     */
+    private BitSet all() {
+        BitSet bits = new BitSet(index.size());
+
+        bits.set(0, index.size());
+
+        return bits;
+    }
+
+    /**
+     * Returns a bitmap with a contiguous run of version numbers in it.
+     *
+     * @param start The position of the first version number.
+     * @param end   The position after the last version number.
+     *
+     * @return The bitmap.
+     */
+    private BitSet bucket(int start, int end) {
+        BitSet bits = new BitSet(index.size());
+
+        if (start < end) {
+            bits.set(start, end);
+        }
+
+        return bits;
+    }
+
+    /**
+     * Finds the bits for the intervals of a constraint.
+     *
+     * @param intervals The intervals.
+     *
+     * @return The bitmap.
+     */
+    private BitSet ranges(List<Interval> intervals) {
+        BitSet bits = new BitSet(index.size());
+
+        for (Interval interval : intervals) {
+            int start = (interval.getLower() == null)
+                ? 0
+                : index.bound(interval.getLower(), !interval.isLowerInclusive());
+            int end = (interval.getUpper() == null)
+                ? index.size()
+                : index.bound(interval.getUpper(), interval.isUpperInclusive());
+
+            bits.or(bucket(start, end));
+        }
+
+        return bits;
+    }
+
+    /**
+     * Finds the position of the first version number that is not less than any version with a major and minor
+     * version number, including its pre-releases.
+     *
+     * @param major The major version number.
+     * @param minor The minor version number.
+     *
+     * @return The position.
+     */
+    private int start(int major, int minor) {
+        int low = 0;
+        int high = index.size();
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Version version = index.get(middle);
+            int result = (version.getMajor() != major)
+                ? Integer.compare(version.getMajor(), major)
+                : Integer.compare(version.getMinor(), minor);
+
+            if (result < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the trie, which is built the first time a channel is filtered.
+     *
+     * <p>
+     * Two threads may both build it, but since it cannot be changed, either one is kept.
+     * </p>
+     *
+     * @return The trie.
+     */
+    private PreReleaseTrie trie() {
+        PreReleaseTrie built = trie;
+
+        if (built == null) {
+            built = PreReleaseTrie.of(index);
+            trie = built;
+        }
+
+        return built;
+    }
+}
@@ -0,0 +1,171 @@
+package io.herrera.kevin.semver.catalog;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable, indexed collection of version numbers.
+ *
+ * <p>
+ * The catalog keeps the version numbers in the order they were given. The results of filtering the catalog are
+ * returned as a set of indexes into the catalog, which can be combined before the version numbers are selected.
+ * </p>
+ */
+public final class Catalog implements Iterable<Version> {
+
+    /**
+     * The filter used by {@link #filter(Constraint)}.
+     */
+    private static final ParallelFilter FILTER = new ParallelFilter();
+
+    /**
+     * The version numbers.
+     */
+    private final Version[] versions;
+
+    /**
+     * Sets the version numbers.
+     *
+     * @param versions The version numbers.
+     */
+    private Catalog(Version[] versions) {
+        for (Version version : versions) {
+            Objects.requireNonNull(version, "The version number is required.");
+        }
+
+        this.versions = versions;
+    }
+
+    /**
+     * Creates a catalog from a collection of version numbers.
+     *
+     * @param versions The version numbers.
+     *
+     * @return The catalog.
+     */
+    public static Catalog of(Collection<Version> versions) {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+
+        return new Catalog(versions.toArray(new Version[0]));
+    }
+
+    /**
+     * Creates a catalog from an array of version numbers.
+     *
+     * @param versions The version numbers.
+     *
+     * @return The catalog.
+     */
+    public static Catalog of(Version... versions) {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+
+        return new Catalog(versions.clone());
+    }
+
+    /**
+     * Finds the version numbers that pass a constraint, in parallel for large catalogs.
+     *
+     * @param constraint The constraint.
+     *
+     * @return The indexes of the version numbers that passed.
+     *
+     * @see ParallelFilter
+     */
+    public BitSet filter(Constraint constraint) {
+        return FILTER.filter(this, constraint);
+    }
+
+    /**
+     * Returns the version number at an index.
+     *
+     * @param index The index.
+     *
+     * @return The version number.
+     */
+    public Version get(int index) {
+        return versions[index];
+    }
+
+    @Override
+    public Iterator<Version> iterator() {
+        return Arrays.asList(versions).iterator();
+    }
+
+    /**
+     * Selects the version numbers at a set of indexes, in catalog order.
+     *
+     * @param indexes The indexes.
+     *
+     * @return The version numbers.
+     */
+    public List<Version> select(BitSet indexes) {
+        Objects.requireNonNull(indexes, "The indexes are required.");
+
+        return indexes.stream().mapToObj(i -> versions[i]).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of version numbers.
+     *
+     * @return The number of version numbers.
+     */
+    public int size() {
+        return versions.length;
+    }
+
+    /**
+     * Returns a spliterator that splits the catalog into ranges of known size.
+     *
+     * @return The spliterator.
+     */
+    @Override
+    public Spliterator<Version> spliterator() {
+        return ranges();
+    }
+
+    /**
+     * Returns a stream of the version numbers.
+     *
+     * @return The stream.
+     */
+    public Stream<Version> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a copy of the version numbers.
+     *
+     * @return The version numbers.
+     */
+    public Version[] toArray() {
+        return versions.clone();
+    }
+
+    /**
+     * Returns the version numbers without copying them.
+     *
+     * @return The version numbers.
+     */
+    Version[] array() {
+        return versions;
+    }
+
+    /**
+     * Returns a spliterator over the whole catalog that exposes its range.
+     *
+     * @return The spliterator.
+     */
+    ArraySpliterator ranges() {
+        return new ArraySpliterator(versions, 0, versions.length, 0);
+    }
+}
@@ -0,0 +1,110 @@
+package io.herrera.kevin.semver.catalog;
+
+import io.herrera.kevin.semver.Version;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Chains ranges of an array of version numbers, one after another.
+ *
+ * <p>
+ * The ranges must be in order and must not overlap, so the chain is as sorted and distinct as the array. Unlike a
+ * flat mapped stream, the chain keeps those characteristics and only advances one range at a time, so a stream that
+ * stops early (e.g. <code>findFirst()</code>) does not visit the later ranges. The chain is split between ranges
+ * first, and then within the last remaining one.
+ * </p>
+ */
+final class ChainedSpliterator implements Spliterator<Version> {
+
+    /**
+     * The characteristics of every chain.
+     */
+    private static final int CHARACTERISTICS = ORDERED | SORTED | DISTINCT | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+
+    /**
+     * The index of the current range.
+     */
+    private int current;
+
+    /**
+     * The index after the last range (exclusive).
+     */
+    private final int fence;
+
+    /**
+     * The ranges.
+     */
+    private final ArraySpliterator[] ranges;
+
+    /**
+     * Sets the ranges.
+     *
+     * @param ranges  The ranges, in order and without any overlap.
+     * @param current The index of the first range.
+     * @param fence   The index after the last range (exclusive).
+     */
+    ChainedSpliterator(ArraySpliterator[] ranges, int current, int fence) {
+        this.current = current;
+        this.fence = fence;
+        this.ranges = ranges;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0;
+
+        for (int i = current; i < fence; i++) {
+            size += ranges[i].estimateSize();
+        }
+
+        return size;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Version> action) {
+        Objects.requireNonNull(action, "The action is required.");
+
+        for (; current < fence; current++) {
+            ranges[current].forEachRemaining(action);
+        }
+    }
+
+    @Override
+    public Comparator<? super Version> getComparator() {
+        return null;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Version> action) {
+        Objects.requireNonNull(action, "The action is required.");
+
+        for (; current < fence; current++) {
+            if (ranges[current].tryAdvance(action)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Spliterator<Version> trySplit() {
+        if ((fence - current) > 1) {
+            int middle = (current + fence) >>> 1;
+            ChainedSpliterator prefix = new ChainedSpliterator(ranges, current, middle);
+
+            current = middle;
+
+            return prefix;
+        }
+
+        return (current < fence) ? ranges[current].trySplit() : null;
+    }
+}
@@ -0,0 +1,192 @@
+package io.herrera.kevin.semver.catalog;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Applies a constraint to every version number in a catalog, in parallel if the catalog is large enough.
+ *
+ * <p>
+ * Catalogs smaller than the threshold are filtered sequentially on the calling thread. Larger catalogs are split
+ * using their {@link Catalog#spliterator() spliterator} and the ranges are filtered as tasks in the fork/join pool.
+ * Each range records its results directly in its own words of the result, so no merging is necessary.
+ * </p>
+ *
+ * <p>
+ * The constraint is applied from several threads at the same time, so it must be safe to do so. All of the bundled
+ * constraints are, as long as they are not modified while the filter is running.
+ * </p>
+ */
+public final class ParallelFilter {
+
+    /**
+     * The default size a catalog must have before it is filtered in parallel.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 15;
+
+    /**
+     * The smallest range that is filtered as a single task.
+     */
+    private static final int MIN_TASK_SIZE = 1 << 12;
+
+    /**
+     * The fork/join pool.
+     */
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * The size a catalog must have before it is filtered in parallel.
+     */
+    private int threshold = DEFAULT_THRESHOLD;
+
+    /**
+     * Applies a constraint to every version number in a catalog.
+     *
+     * @param catalog    The catalog.
+     * @param constraint The constraint.
+     *
+     * @return The indexes of the version numbers that passed.
+     */
+    public BitSet filter(Catalog catalog, Constraint constraint) {
+        Objects.requireNonNull(catalog, "The catalog is required.");
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        Version[] versions = catalog.array();
+        long[] words = new long[(versions.length + 63) >>> 6];
+
+        if (versions.length < threshold) {
+            apply(versions, constraint, 0, versions.length, words);
+        } else {
+            int taskSize = Math.max(MIN_TASK_SIZE, versions.length / (pool.getParallelism() * 8));
+
+            pool.invoke(new FilterTask(catalog.ranges(), constraint, taskSize, words));
+        }
+
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Applies a constraint to every version number in a catalog and selects those that passed.
+     *
+     * @param catalog    The catalog.
+     * @param constraint The constraint.
+     *
+     * @return The version numbers that passed, in catalog order.
+     */
+    public List<Version> select(Catalog catalog, Constraint constraint) {
+        return catalog.select(filter(catalog, constraint));
+    }
+
+    /**
+     * Sets the fork/join pool used to filter large catalogs.
+     *
+     * @param pool The fork/join pool.
+     *
+     * @return A fluent interface.
+     */
+    public ParallelFilter setPool(ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "The fork/join pool is required.");
+
+        this.pool = pool;
+
+        return this;
+    }
+
+    /**
+     * Sets the size a catalog must have before it is filtered in parallel.
+     *
+     * @param threshold The number of version numbers.
+     *
+     * @return A fluent interface.
+     */
+    public ParallelFilter setThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The threshold must be at least 0 (zero).");
+        }
+
+        this.threshold = threshold;
+
+        return this;
+    }
+
+    /**
+     * Applies a constraint to a range of version numbers.
+     *
+     * @param versions   The version numbers.
+     * @param constraint The constraint.
+     * @param from       The start of the range (inclusive).
+     * @param to         The end of the range (exclusive).
+     * @param words      The words to record the results in.
+     */
+    private static void apply(Version[] versions, Constraint constraint, int from, int to, long[] words) {
+        for (int i = from; i < to; i++) {
+            if (constraint.apply(versions[i])) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * Filters a range of a catalog, splitting it further if it is large enough.
+     */
+    private static final class FilterTask extends RecursiveAction {
+
+        /**
+         * The constraint.
+         */
+        private final Constraint constraint;
+
+        /**
+         * The range of the catalog.
+         */
+        private final ArraySpliterator range;
+
+        /**
+         * The smallest range that is filtered as a single task.
+         */
+        private final int taskSize;
+
+        /**
+         * The words to record the results in.
+         */
+        private final long[] words;
+
+        /**
+         * Sets the range to filter.
+         *
+         * @param range      The range of the catalog.
+         * @param constraint The constraint.
+         * @param taskSize   The smallest range that is filtered as a single task.
+         * @param words      The words to record the results in.
+         */
+        FilterTask(ArraySpliterator range, Constraint constraint, int taskSize, long[] words) {
+            this.constraint = constraint;
+            this.range = range;
+            this.taskSize = taskSize;
+            this.words = words;
+        }
+
+        @Override
+        protected void compute() {
+            ArraySpliterator prefix = null;
+
+            if (range.estimateSize() > taskSize) {
+                prefix = range.trySplit();
+            }
+
+            if (prefix == null) {
+                apply(range.getVersions(), constraint, range.getOrigin(), range.getFence(), words);
+            } else {
+                invokeAll(
+                    new FilterTask(prefix, constraint, taskSize, words),
+                    new FilterTask(range, constraint, taskSize, words)
+                );
+            }
+        }
+    }
+}
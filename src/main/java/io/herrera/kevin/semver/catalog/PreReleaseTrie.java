@@ -0,0 +1,201 @@
+package io.herrera.kevin.semver.catalog;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.PreReleaseChannel;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the version numbers in a fixed, sorted set that are in a pre-release channel.
+ *
+ * <p>
+ * The pre-release identifiers of every version number are stored in a trie, where each node is an identifier and
+ * has the positions (in a {@link VersionIndex}) of the version numbers whose identifiers end at the node. Each
+ * position is only stored once, so the trie grows with the number of identifiers rather than with the number of
+ * version numbers for each of them. A {@link PreReleaseChannel} is matched by walking the trie one identifier of the
+ * pattern at a time, so only the branches that match are visited, instead of every version number, and then
+ * collecting the positions below the nodes that were reached. The children of each node are sorted, so an identifier
+ * that ends with a wildcard only visits the children that start with the rest of it.
+ * </p>
+ */
+public final class PreReleaseTrie {
+
+    /**
+     * The sorted version numbers.
+     */
+    private final VersionIndex index;
+
+    /**
+     * The root of the trie, which has every pre-release version number.
+     */
+    private final Node root;
+
+    /**
+     * Sets the sorted version numbers and builds the trie.
+     *
+     * @param index The sorted version numbers.
+     */
+    private PreReleaseTrie(VersionIndex index) {
+        this.index = index;
+        this.root = new Node();
+
+        for (int i = 0; i < index.size(); i++) {
+            String[] identifiers = index.get(i).getPreRelease();
+
+            if (identifiers.length == 0) {
+                continue;
+            }
+
+            Node node = root;
+
+            for (String identifier : identifiers) {
+                node = node.children.computeIfAbsent(identifier, key -> new Node());
+            }
+
+            node.add(i);
+        }
+    }
+
+    /**
+     * Creates a trie over the pre-release identifiers of a set of version numbers.
+     *
+     * @param index The sorted version numbers.
+     *
+     * @return The trie.
+     */
+    public static PreReleaseTrie of(VersionIndex index) {
+        Objects.requireNonNull(index, "The index is required.");
+
+        return new PreReleaseTrie(index);
+    }
+
+    /**
+     * Finds the version numbers in a pre-release channel.
+     *
+     * @param channel The channel.
+     *
+     * @return The positions of the version numbers.
+     */
+    public BitSet find(PreReleaseChannel channel) {
+        Objects.requireNonNull(channel, "The channel is required.");
+
+        BitSet positions = new BitSet(index.size());
+
+        walk(root, channel.getPattern(), 0, positions);
+
+        return positions;
+    }
+
+    /**
+     * Returns the sorted version numbers.
+     *
+     * @return The version numbers.
+     */
+    public VersionIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * Finds the version numbers in a pre-release channel.
+     *
+     * @param channel The channel.
+     *
+     * @return The version numbers, sorted by precedence.
+     */
+    public List<Version> select(PreReleaseChannel channel) {
+        return find(channel).stream().mapToObj(index::get).collect(Collectors.toList());
+    }
+
+    /**
+     * Collects the positions of the version numbers that end at or below a node.
+     *
+     * @param node      The node.
+     * @param positions Receives the positions.
+     */
+    private static void collect(Node node, BitSet positions) {
+        for (int i = 0; i < node.count; i++) {
+            positions.set(node.positions[i]);
+        }
+
+        for (Node child : node.children.values()) {
+            collect(child, positions);
+        }
+    }
+
+    /**
+     * Collects the positions of the version numbers below a node that match the rest of a pattern.
+     *
+     * @param node      The node.
+     * @param pattern   The identifiers of the pattern.
+     * @param depth     The position of the next identifier of the pattern.
+     * @param positions Receives the positions.
+     */
+    private static void walk(Node node, List<String> pattern, int depth, BitSet positions) {
+        if (depth == pattern.size()) {
+            collect(node, positions);
+
+            return;
+        }
+
+        String identifier = pattern.get(depth);
+
+        if (!identifier.endsWith(PreReleaseChannel.WILDCARD)) {
+            Node child = node.children.get(identifier);
+
+            if (child != null) {
+                walk(child, pattern, depth + 1, positions);
+            }
+
+            return;
+        }
+
+        String prefix = identifier.substring(0, identifier.length() - 1);
+
+        for (Map.Entry<String, Node> child : node.children.tailMap(prefix, true).entrySet()) {
+            if (!child.getKey().startsWith(prefix)) {
+                break;
+            }
+
+            walk(child.getValue(), pattern, depth + 1, positions);
+        }
+    }
+
+    /**
+     * A node in the trie.
+     */
+    private static final class Node {
+
+        /**
+         * The child nodes, by identifier.
+         */
+        private final TreeMap<String, Node> children = new TreeMap<>();
+
+        /**
+         * The number of positions.
+         */
+        private int count;
+
+        /**
+         * The positions of the version numbers whose identifiers end at the node, in increasing order.
+         */
+        private int[] positions = new int[1];
+
+        /**
+         * Adds the position of a version number whose identifiers end at the node.
+         *
+         * @param position The position, which is greater than those already added.
+         */
+        void add(int position) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+
+            positions[count++] = position;
+        }
+    }
+}
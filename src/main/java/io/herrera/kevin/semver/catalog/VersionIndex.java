@@ -0,0 +1,388 @@
+package io.herrera.kevin.semver.catalog;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.constraints.Interval;
+import io.herrera.kevin.semver.sort.VersionSort;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable, sorted set of version numbers that can be searched and streamed by range.
+ *
+ * <p>
+ * The version numbers are sorted by precedence and are distinct. If several version numbers with equal precedence
+ * are given (e.g. they only differ in their build metadata), only the first one is kept. Streams and spliterators
+ * report the <code>SORTED</code> and <code>DISTINCT</code> characteristics, using the natural order of
+ * {@link Version}.
+ * </p>
+ */
+public final class VersionIndex implements Iterable<Version> {
+
+    /**
+     * An empty index.
+     */
+    private static final VersionIndex EMPTY = new VersionIndex(new Version[0]);
+
+    /**
+     * The sorted and distinct version numbers.
+     */
+    private final Version[] versions;
+
+    /**
+     * Sets the sorted and distinct version numbers.
+     *
+     * @param versions The version numbers.
+     */
+    private VersionIndex(Version[] versions) {
+        this.versions = versions;
+    }
+
+    /**
+     * Returns an empty index.
+     *
+     * @return The index.
+     */
+    public static VersionIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates an index from a collection of version numbers.
+     *
+     * @param versions The version numbers, in any order.
+     *
+     * @return The index.
+     */
+    public static VersionIndex of(Collection<Version> versions) {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+
+        return of(versions.toArray(new Version[0]));
+    }
+
+    /**
+     * Creates an index from an array of version numbers.
+     *
+     * @param versions The version numbers, in any order.
+     *
+     * @return The index.
+     */
+    public static VersionIndex of(Version... versions) {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+
+        Version[] sorted = versions.clone();
+
+        VersionSort.sort(sorted);
+
+        int size = 0;
+
+        for (Version version : sorted) {
+            if ((size == 0) || (sorted[size - 1].compareTo(version) != 0)) {
+                sorted[size++] = version;
+            }
+        }
+
+        return new VersionIndex(Arrays.copyOf(sorted, size));
+    }
+
+    /**
+     * Creates an index from version numbers that are already sorted and distinct.
+     *
+     * @param versions The sorted and distinct version numbers, which must not be modified afterwards.
+     *
+     * @return The index.
+     */
+    static VersionIndex ofSorted(Version[] versions) {
+        return new VersionIndex(versions);
+    }
+
+    /**
+     * Returns the version number at an index.
+     *
+     * @param index The index.
+     *
+     * @return The version number.
+     */
+    public Version get(int index) {
+        return versions[index];
+    }
+
+    /**
+     * Searches for a version number with equal precedence.
+     *
+     * @param version The version number to search for.
+     *
+     * @return The index of the version number, if found. Otherwise, <code>(-(insertion point) - 1)</code>.
+     */
+    public int indexOf(Version version) {
+        Objects.requireNonNull(version, "The version number to search for is required.");
+
+        return Arrays.binarySearch(versions, version);
+    }
+
+    /**
+     * Checks if the index is empty.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    public boolean isEmpty() {
+        return versions.length == 0;
+    }
+
+    @Override
+    public Iterator<Version> iterator() {
+        return Arrays.asList(versions).iterator();
+    }
+
+    /**
+     * Finds the version number with the greatest precedence that passes a constraint.
+     *
+     * <p>
+     * The version numbers within the {@link Constraint#intervals() intervals} of the constraint are checked from
+     * greatest to least precedence, starting from the upper bound of the last interval and stopping at the first that
+     * passes. If the constraint is {@link Constraint#isExact() exact}, that is the greatest version number in the last
+     * interval that has any.
+     * </p>
+     *
+     * @param constraint The constraint.
+     *
+     * @return The version number, if any passed.
+     */
+    public Optional<Version> latest(Constraint constraint) {
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        List<Interval> intervals = constraint.intervals();
+
+        for (int i = intervals.size() - 1; i >= 0; i--) {
+            ArraySpliterator range = slice(intervals.get(i));
+
+            for (int j = range.getFence() - 1; j >= range.getOrigin(); j--) {
+                if (constraint.isExact() || constraint.apply(versions[j])) {
+                    return Optional.of(versions[j]);
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a stream of the version numbers that pass a constraint.
+     *
+     * <p>
+     * Only the version numbers within the {@link Constraint#intervals() intervals} of the constraint are visited, one
+     * interval after another, and the constraint is only applied to them if it is not
+     * {@link Constraint#isExact() exact}. The stream is sorted and distinct, like the index.
+     * </p>
+     *
+     * @param constraint The constraint.
+     *
+     * @return The stream, sorted by precedence.
+     */
+    public Stream<Version> matching(Constraint constraint) {
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        List<Interval> intervals = constraint.intervals();
+        ArraySpliterator[] ranges = new ArraySpliterator[intervals.size()];
+
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = slice(intervals.get(i));
+        }
+
+        Stream<Version> matching = StreamSupport.stream(new ChainedSpliterator(ranges, 0, ranges.length), false);
+
+        return constraint.isExact() ? matching : matching.filter(constraint::apply);
+    }
+
+    /**
+     * Returns a stream of the version numbers within a range.
+     *
+     * @param from          The lower bound, or <code>null</code> if there is none.
+     * @param fromInclusive Is the lower bound included?
+     * @param to            The upper bound, or <code>null</code> if there is none.
+     * @param toInclusive   Is the upper bound included?
+     *
+     * @return The stream.
+     */
+    public Stream<Version> range(Version from, boolean fromInclusive, Version to, boolean toInclusive) {
+        return StreamSupport.stream(spliterator(from, fromInclusive, to, toInclusive), false);
+    }
+
+    /**
+     * Returns the number of version numbers.
+     *
+     * @return The number of version numbers.
+     */
+    public int size() {
+        return versions.length;
+    }
+
+    @Override
+    public Spliterator<Version> spliterator() {
+        return new ArraySpliterator(versions, 0, versions.length, Spliterator.SORTED | Spliterator.DISTINCT);
+    }
+
+    /**
+     * Returns a spliterator over the version numbers within a range.
+     *
+     * @param from          The lower bound, or <code>null</code> if there is none.
+     * @param fromInclusive Is the lower bound included?
+     * @param to            The upper bound, or <code>null</code> if there is none.
+     * @param toInclusive   Is the upper bound included?
+     *
+     * @return The spliterator.
+     */
+    public Spliterator<Version> spliterator(Version from, boolean fromInclusive, Version to, boolean toInclusive) {
+        return slice(from, fromInclusive, to, toInclusive);
+    }
+
+    /**
+     * Returns a stream of the version numbers.
+     *
+     * @return The stream.
+     */
+    public Stream<Version> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a copy of the version numbers.
+     *
+     * @return The version numbers.
+     */
+    public Version[] toArray() {
+        return versions.clone();
+    }
+
+    /**
+     * Creates a catalog of the version numbers, in order of precedence.
+     *
+     * @return The catalog.
+     */
+    public Catalog toCatalog() {
+        return Catalog.of(versions);
+    }
+
+    /**
+     * Returns the sorted version numbers without copying them.
+     *
+     * @return The version numbers.
+     */
+    Version[] array() {
+        return versions;
+    }
+
+    /**
+     * Finds the position of a bound in the index.
+     *
+     * @param version The bound.
+     * @param after   Should the position be after a version number of equal precedence?
+     *
+     * @return The position.
+     */
+    int bound(Version version, boolean after) {
+        int index = indexOf(version);
+
+        if (index < 0) {
+            return -index - 1;
+        }
+
+        return after ? (index + 1) : index;
+    }
+
+    /**
+     * Creates a copy of the index with another version number.
+     *
+     * @param version The version number.
+     *
+     * @return The copy, or this index if it already has a version number with equal precedence.
+     */
+    VersionIndex with(Version version) {
+        int index = indexOf(version);
+
+        if (index >= 0) {
+            return this;
+        }
+
+        int position = -index - 1;
+        Version[] copy = new Version[versions.length + 1];
+
+        System.arraycopy(versions, 0, copy, 0, position);
+        System.arraycopy(versions, position, copy, position + 1, versions.length - position);
+
+        copy[position] = version;
+
+        return new VersionIndex(copy);
+    }
+
+    /**
+     * Creates a copy of the index without a version number.
+     *
+     * @param version The version number.
+     *
+     * @return The copy, or this index if it does not have a version number with equal precedence.
+     */
+    VersionIndex without(Version version) {
+        int position = indexOf(version);
+
+        if (position < 0) {
+            return this;
+        }
+
+        if (versions.length == 1) {
+            return EMPTY;
+        }
+
+        Version[] copy = new Version[versions.length - 1];
+
+        System.arraycopy(versions, 0, copy, 0, position);
+        System.arraycopy(versions, position + 1, copy, position, copy.length - position);
+
+        return new VersionIndex(copy);
+    }
+
+    /**
+     * Returns a spliterator over the version numbers within an interval.
+     *
+     * @param interval The interval.
+     *
+     * @return The spliterator.
+     */
+    private ArraySpliterator slice(Interval interval) {
+        return slice(
+            interval.getLower(),
+            interval.isLowerInclusive(),
+            interval.getUpper(),
+            interval.isUpperInclusive()
+        );
+    }
+
+    /**
+     * Returns a spliterator over the version numbers within a range.
+     *
+     * @param from          The lower bound, or <code>null</code> if there is none.
+     * @param fromInclusive Is the lower bound included?
+     * @param to            The upper bound, or <code>null</code> if there is none.
+     * @param toInclusive   Is the upper bound included?
+     *
+     * @return The spliterator.
+     */
+    private ArraySpliterator slice(Version from, boolean fromInclusive, Version to, boolean toInclusive) {
+        int start = (from == null) ? 0 : bound(from, !fromInclusive);
+        int end = (to == null) ? versions.length : bound(to, toInclusive);
+
+        return new ArraySpliterator(
+            versions,
+            start,
+            Math.max(start, end),
+            Spliterator.SORTED | Spliterator.DISTINCT
+        );
+    }
+}
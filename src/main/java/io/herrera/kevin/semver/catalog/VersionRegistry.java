@@ -0,0 +1,157 @@
+package io.herrera.kevin.semver.catalog;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * A concurrent registry of the published version numbers of each package.
+ *
+ * <p>
+ * The version numbers of each package are kept in an immutable {@link VersionIndex}. Publishing or yanking a version
+ * number creates a new index with the change (copy-on-write), and swaps it in with a compare-and-set, retrying if
+ * another writer got there first. Readers never take a lock and are never blocked by writers: they read the current
+ * index of a package, which is a consistent snapshot that no later change will modify.
+ * </p>
+ *
+ * <p>
+ * Snapshots are consistent for a single package only. Since each change copies the version numbers of the package,
+ * the registry is best suited to many reads and infrequent writes.
+ * </p>
+ */
+public final class VersionRegistry {
+
+    /**
+     * The current index of each package, by name.
+     */
+    private final ConcurrentMap<String, VersionIndex> packages = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the names of the packages with any published version numbers.
+     *
+     * @return An unmodifiable view of the names, which is kept up to date.
+     */
+    public Set<String> getPackageNames() {
+        return Collections.unmodifiableSet(packages.keySet());
+    }
+
+    /**
+     * Finds the version number of a package with the greatest precedence that passes a constraint.
+     *
+     * @param packageName The name of the package.
+     * @param constraint  The constraint.
+     *
+     * @return The version number, if any passed.
+     */
+    public Optional<Version> latest(String packageName, Constraint constraint) {
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        return snapshot(packageName).latest(constraint);
+    }
+
+    /**
+     * Finds the version numbers of a package that pass a constraint.
+     *
+     * @param packageName The name of the package.
+     * @param constraint  The constraint.
+     *
+     * @return The version numbers, sorted by precedence.
+     */
+    public List<Version> matching(String packageName, Constraint constraint) {
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        return snapshot(packageName).matching(constraint).collect(Collectors.toList());
+    }
+
+    /**
+     * Publishes a version number of a package.
+     *
+     * @param packageName The name of the package.
+     * @param version     The version number.
+     *
+     * @return Returns <code>true</code> if it was published, or <code>false</code> if the package already has a
+     *         version number with equal precedence.
+     */
+    public boolean publish(String packageName, Version version) {
+        Objects.requireNonNull(packageName, "The name of the package is required.");
+        Objects.requireNonNull(version, "The version number is required.");
+
+        while (true) {
+            VersionIndex current = packages.get(packageName);
+
+            if (current == null) {
+                if (packages.putIfAbsent(packageName, VersionIndex.ofSorted(new Version[]{version})) == null) {
+                    return true;
+                }
+
+                continue;
+            }
+
+            VersionIndex updated = current.with(version);
+
+            if (updated == current) {
+                return false;
+            }
+
+            if (packages.replace(packageName, current, updated)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the version numbers of a package.
+     *
+     * @param packageName The name of the package.
+     *
+     * @return The snapshot, which is empty if the package has no published version numbers.
+     */
+    public VersionIndex snapshot(String packageName) {
+        Objects.requireNonNull(packageName, "The name of the package is required.");
+
+        return packages.getOrDefault(packageName, VersionIndex.empty());
+    }
+
+    /**
+     * Yanks a version number of a package.
+     *
+     * @param packageName The name of the package.
+     * @param version     The version number.
+     *
+     * @return Returns <code>true</code> if the package had a version number with equal precedence, or
+     *         <code>false</code> if not.
+     */
+    public boolean yank(String packageName, Version version) {
+        Objects.requireNonNull(packageName, "The name of the package is required.");
+        Objects.requireNonNull(version, "The version number is required.");
+
+        while (true) {
+            VersionIndex current = packages.get(packageName);
+
+            if (current == null) {
+                return false;
+            }
+
+            VersionIndex updated = current.without(version);
+
+            if (updated == current) {
+                return false;
+            }
+
+            boolean swapped = updated.isEmpty()
+                ? packages.remove(packageName, current)
+                : packages.replace(packageName, current, updated);
+
+            if (swapped) {
+                return true;
+            }
+        }
+    }
+}
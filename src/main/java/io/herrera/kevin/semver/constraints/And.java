@@ -1,6 +1,8 @@
 package io.herrera.kevin.semver.constraints;
 
 import io.herrera.kevin.semver.Version;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Requires that a version match all constraints in a set.
@@ -18,6 +20,17 @@ public final class And extends Composite {
         return this;
     }
 
+    @Override
+    public List<Interval> intervals() {
+        List<Interval> intervals = Collections.singletonList(Interval.ALL);
+
+        for (Constraint constraint : getConstraints()) {
+            intervals = Interval.intersectAll(intervals, constraint.intervals());
+        }
+
+        return intervals;
+    }
+
     @Override
     protected Result constrain(Version version, Constraint constraint) {
         return constraint.apply(version) ? Result.CONTINUE : Result.FAIL;
@@ -1,7 +1,10 @@
 package io.herrera.kevin.semver.constraints;
 
 import io.herrera.kevin.semver.Version;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -22,6 +25,11 @@ abstract class Composite implements Constraint {
      */
     private Set<Constraint> constraints;
 
+    /**
+     * A copy of the version constraints, which can be iterated without allocating an iterator.
+     */
+    private Constraint[] snapshot;
+
     /**
      * The ultimate result for the constraint.
      */
@@ -39,13 +47,14 @@ abstract class Composite implements Constraint {
     /**
      * Creates a new composite constraint with the given set of version constraints.
      *
-     * @param constraints The version constraints.
+     * @param constraints The version constraints, which must only be modified through {@link #add(Constraint...)}.
      * @param ultimate    The ultimate result for the constraint.
      */
     public Composite(Set<Constraint> constraints, boolean ultimate) {
         Objects.requireNonNull(constraints, "The set of constraints is required.");
 
         this.constraints = constraints;
+        this.snapshot = constraints.toArray(new Constraint[0]);
         this.ultimate = ultimate;
     }
 
@@ -58,11 +67,13 @@ abstract class Composite implements Constraint {
      */
     public Composite add(Constraint... constraint) {
         for (Constraint c : constraint) {
-            Objects.requireNonNull(constraint, "The constraint is required.");
+            Objects.requireNonNull(c, "The constraint is required.");
 
             constraints.add(c);
         }
 
+        snapshot = constraints.toArray(new Constraint[0]);
+
         return this;
     }
 
@@ -70,7 +81,7 @@ abstract class Composite implements Constraint {
     public boolean apply(Version version) {
         Objects.requireNonNull(version, "The version number to constrain is required.");
 
-        for (Constraint constraint: constraints) {
+        for (Constraint constraint : snapshot) {
             switch (constrain(version, constraint)) {
                 case FAIL:
                     return false;
@@ -87,6 +98,78 @@ abstract class Composite implements Constraint {
         return ultimate;
     }
 
+    /**
+     * Explains each inner constraint in the order they are applied, until the result is decided.
+     *
+     * <p>
+     * The inner constraints after the one that decided the result are included in the trace as skipped.
+     * </p>
+     *
+     * @param version The version to constrain.
+     * @param profile The profile to record each evaluated constraint to, or <code>null</code> if there is none.
+     *
+     * @return The trace of the evaluation.
+     */
+    @Override
+    public Trace explain(Version version, Profile profile) {
+        Objects.requireNonNull(version, "The version number to constrain is required.");
+
+        long start = System.nanoTime();
+        Constraint[] constraints = snapshot;
+        List<Trace> children = new ArrayList<>(constraints.length);
+        Explained explained = new Explained(profile);
+        Boolean result = null;
+
+        for (Constraint constraint : constraints) {
+            if (result != null) {
+                children.add(Trace.skipped(constraint));
+
+                continue;
+            }
+
+            explained.constraint = constraint;
+
+            Result next = constrain(version, explained);
+
+            children.add(explained.trace);
+
+            if (next == Result.FAIL) {
+                result = false;
+            } else if (next == Result.PASS) {
+                result = true;
+            }
+        }
+
+        boolean passed = (result == null) ? ultimate : result;
+        long nanos = System.nanoTime() - start;
+
+        if (profile != null) {
+            profile.record(this, nanos);
+        }
+
+        return new Trace(this, passed ? Trace.Status.PASSED : Trace.Status.FAILED, nanos, children);
+    }
+
+    /**
+     * Returns the version constraints.
+     *
+     * @return The version constraints, which cannot be modified.
+     */
+    public Set<Constraint> getConstraints() {
+        return Collections.unmodifiableSet(constraints);
+    }
+
+    @Override
+    public boolean isExact() {
+        for (Constraint constraint : constraints) {
+            if (!constraint.isExact()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Applies the constraint to the version and returns the result.
      *
@@ -97,6 +180,44 @@ abstract class Composite implements Constraint {
      */
     protected abstract Result constrain(Version version, Constraint constraint);
 
+    /**
+     * Explains an inner constraint when it is applied by {@link #constrain(Version, Constraint)}, so that the result
+     * can be decided the same way as it is by {@link #apply(Version)}.
+     */
+    private static final class Explained implements Constraint {
+
+        /**
+         * The inner constraint to explain.
+         */
+        private Constraint constraint;
+
+        /**
+         * The profile to record each evaluated constraint to, if any.
+         */
+        private final Profile profile;
+
+        /**
+         * The trace of the last evaluation.
+         */
+        private Trace trace;
+
+        /**
+         * Sets the profile.
+         *
+         * @param profile The profile to record each evaluated constraint to, or <code>null</code> if there is none.
+         */
+        Explained(Profile profile) {
+            this.profile = profile;
+        }
+
+        @Override
+        public boolean apply(Version version) {
+            trace = constraint.explain(version, profile);
+
+            return trace.isPassed();
+        }
+    }
+
     /**
      * Controls what happens after a constraint is applied.
      */
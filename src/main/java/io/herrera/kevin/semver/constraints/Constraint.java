@@ -2,6 +2,8 @@ package io.herrera.kevin.semver.constraints;
 
 import io.herrera.kevin.semver.InvalidVersionException;
 import io.herrera.kevin.semver.Version;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Defines how a version constraint must be implemented.
@@ -29,4 +31,70 @@ public interface Constraint {
      * @return Returns <code>true</code> if the version passes or <code>false</code> if not.
      */
     boolean apply(Version version);
+
+    /**
+     * Applies the constraint to a version number, recording how it was evaluated.
+     *
+     * <p>
+     * This is slower than {@link #apply(Version)}, since the time taken by each constraint is measured and a node is
+     * created for each one, so it should only be used to find out why a version number passed or failed, or which
+     * constraints are expensive.
+     * </p>
+     *
+     * @param version The version to constrain.
+     *
+     * @return The trace of the evaluation.
+     */
+    default Trace explain(Version version) {
+        return explain(version, null);
+    }
+
+    /**
+     * Applies the constraint to a version number, recording how it was evaluated.
+     *
+     * <p>
+     * By default, the constraint is treated as a leaf: it is applied and timed. Constraints made of other constraints
+     * should override this to explain each of them, and must record themselves to the profile, if any.
+     * </p>
+     *
+     * @param version The version to constrain.
+     * @param profile The profile to record each evaluated constraint to, or <code>null</code> if there is none.
+     *
+     * @return The trace of the evaluation.
+     */
+    default Trace explain(Version version, Profile profile) {
+        long start = System.nanoTime();
+        boolean passed = apply(version);
+        long nanos = System.nanoTime() - start;
+
+        if (profile != null) {
+            profile.record(this, nanos);
+        }
+
+        return new Trace(this, passed ? Trace.Status.PASSED : Trace.Status.FAILED, nanos, Collections.emptyList());
+    }
+
+    /**
+     * Returns the intervals of version numbers that could pass the constraint.
+     *
+     * <p>
+     * Every version number that passes the constraint is in one of the intervals. If the constraint is not
+     * {@link #isExact() exact}, a version number in one of the intervals may still fail the constraint. By default,
+     * a single interval with every version number in it is returned.
+     * </p>
+     *
+     * @return The intervals, sorted and without any overlap.
+     */
+    default List<Interval> intervals() {
+        return Collections.singletonList(Interval.ALL);
+    }
+
+    /**
+     * Checks if a version number passes the constraint if, and only if, it is in one of the intervals.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if the constraint must still be applied.
+     */
+    default boolean isExact() {
+        return false;
+    }
 }
@@ -0,0 +1,450 @@
+package io.herrera.kevin.semver.constraints;
+
+import io.herrera.kevin.semver.Version;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Finds every registered constraint that a version number passes.
+ *
+ * <p>
+ * Each constraint is registered by an identifier and stored as its {@link Constraint#intervals() intervals} in an
+ * interval tree: a randomized binary search tree (treap) ordered by lower bound, where each node also tracks the
+ * greatest upper bound in its subtree. Finding the constraints for a version number is a stabbing query that skips
+ * every subtree whose intervals all start after it or all end before it, so it takes O(log n) time when nothing
+ * matches and at most O(log n) more for each interval that does. Adding and removing a constraint takes O(log n)
+ * time per interval.
+ * </p>
+ *
+ * <p>
+ * Constraints that are not {@link Constraint#isExact() exact} are still applied to the version number after their
+ * intervals match. Constraints should not be modified while they are registered, since their intervals are only read
+ * once. The index is not safe to use from several threads unless access is synchronized.
+ * </p>
+ *
+ * @param <K> The type of the identifiers.
+ */
+public final class ConstraintIndex<K> {
+
+    /**
+     * The registered constraints and their nodes, by identifier.
+     */
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    /**
+     * Generates the priorities for new nodes.
+     */
+    private final Random random = new Random();
+
+    /**
+     * The root of the tree.
+     */
+    private Node<K> root;
+
+    /**
+     * The number of nodes created so far, used to order nodes with equal lower bounds.
+     */
+    private long sequence;
+
+    /**
+     * Registers a constraint, replacing any constraint already registered with the same identifier.
+     *
+     * @param id         The identifier.
+     * @param constraint The constraint.
+     *
+     * @return A fluent interface.
+     */
+    public ConstraintIndex<K> add(K id, Constraint constraint) {
+        Objects.requireNonNull(id, "The identifier is required.");
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        remove(id);
+
+        Entry<K> entry = new Entry<>(id, constraint);
+
+        for (Interval interval : constraint.intervals()) {
+            Node<K> node = new Node<>(entry, interval, random.nextInt(), sequence++);
+
+            entry.nodes.add(node);
+
+            root = insert(root, node);
+        }
+
+        entries.put(id, entry);
+
+        return this;
+    }
+
+    /**
+     * Checks if a constraint is registered with an identifier.
+     *
+     * @param id The identifier.
+     *
+     * @return Returns <code>true</code> if one is, or <code>false</code> if not.
+     */
+    public boolean contains(K id) {
+        return entries.containsKey(id);
+    }
+
+    /**
+     * Returns the constraint registered with an identifier.
+     *
+     * @param id The identifier.
+     *
+     * @return The constraint, or <code>null</code> if none is registered.
+     */
+    public Constraint get(K id) {
+        Entry<K> entry = entries.get(id);
+
+        return (entry == null) ? null : entry.constraint;
+    }
+
+    /**
+     * Finds the identifiers of every constraint that a version number passes.
+     *
+     * @param version The version number.
+     *
+     * @return The identifiers, in no particular order.
+     */
+    public List<K> match(Version version) {
+        List<K> ids = new ArrayList<>();
+
+        match(version, ids::add);
+
+        return ids;
+    }
+
+    /**
+     * Finds the identifiers of every constraint that a version number passes.
+     *
+     * @param version The version number.
+     * @param action  Accepts each identifier, in no particular order.
+     */
+    public void match(Version version, Consumer<? super K> action) {
+        Objects.requireNonNull(version, "The version number is required.");
+        Objects.requireNonNull(action, "The action is required.");
+
+        stab(root, version, action);
+    }
+
+    /**
+     * Unregisters a constraint.
+     *
+     * @param id The identifier.
+     *
+     * @return Returns <code>true</code> if a constraint was registered with the identifier, or <code>false</code> if
+     *         not.
+     */
+    public boolean remove(K id) {
+        Entry<K> entry = entries.remove(id);
+
+        if (entry == null) {
+            return false;
+        }
+
+        for (Node<K> node : entry.nodes) {
+            root = delete(root, node);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of registered constraints.
+     *
+     * @return The number of constraints.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Compares the positions of two nodes in the tree.
+     *
+     * @param left  The left node.
+     * @param right The right node.
+     *
+     * @return The result of the comparison.
+     */
+    private static int compare(Node<?> left, Node<?> right) {
+        int result = Interval.compareLower(left.interval, right.interval);
+
+        return (result == 0) ? Long.compare(left.sequence, right.sequence) : result;
+    }
+
+    /**
+     * Removes a node from a subtree.
+     *
+     * @param subtree The root of the subtree.
+     * @param node    The node to remove.
+     * @param <K>     The type of the identifiers.
+     *
+     * @return The new root of the subtree.
+     */
+    private static <K> Node<K> delete(Node<K> subtree, Node<K> node) {
+        if (subtree == null) {
+            return null;
+        }
+
+        if (subtree == node) {
+            return merge(subtree.left, subtree.right);
+        }
+
+        if (compare(node, subtree) < 0) {
+            subtree.left = delete(subtree.left, node);
+        } else {
+            subtree.right = delete(subtree.right, node);
+        }
+
+        return subtree.update();
+    }
+
+    /**
+     * Inserts a node into a subtree.
+     *
+     * @param subtree The root of the subtree.
+     * @param node    The node to insert.
+     * @param <K>     The type of the identifiers.
+     *
+     * @return The new root of the subtree.
+     */
+    private static <K> Node<K> insert(Node<K> subtree, Node<K> node) {
+        if (subtree == null) {
+            return node.update();
+        }
+
+        if (compare(node, subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+
+            if (subtree.left.priority > subtree.priority) {
+                return rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+
+            if (subtree.right.priority > subtree.priority) {
+                return rotateLeft(subtree);
+            }
+        }
+
+        return subtree.update();
+    }
+
+    /**
+     * Merges two subtrees, where every node on the left comes before every node on the right.
+     *
+     * @param left  The root of the left subtree.
+     * @param right The root of the right subtree.
+     * @param <K>   The type of the identifiers.
+     *
+     * @return The root of the merged subtree.
+     */
+    private static <K> Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+
+            return left.update();
+        }
+
+        right.left = merge(left, right.left);
+
+        return right.update();
+    }
+
+    /**
+     * Rotates a subtree to the left, making its right child the new root.
+     *
+     * @param subtree The root of the subtree.
+     * @param <K>     The type of the identifiers.
+     *
+     * @return The new root of the subtree.
+     */
+    private static <K> Node<K> rotateLeft(Node<K> subtree) {
+        Node<K> pivot = subtree.right;
+
+        subtree.right = pivot.left;
+        pivot.left = subtree.update();
+
+        return pivot.update();
+    }
+
+    /**
+     * Rotates a subtree to the right, making its left child the new root.
+     *
+     * @param subtree The root of the subtree.
+     * @param <K>     The type of the identifiers.
+     *
+     * @return The new root of the subtree.
+     */
+    private static <K> Node<K> rotateRight(Node<K> subtree) {
+        Node<K> pivot = subtree.left;
+
+        subtree.left = pivot.right;
+        pivot.right = subtree.update();
+
+        return pivot.update();
+    }
+
+    /**
+     * Accepts the identifier of every constraint in a subtree that a version number passes.
+     *
+     * @param subtree The root of the subtree.
+     * @param version The version number.
+     * @param action  Accepts each identifier.
+     * @param <K>     The type of the identifiers.
+     */
+    private static <K> void stab(Node<K> subtree, Version version, Consumer<? super K> action) {
+        while (subtree != null) {
+            if (!subtree.max.isBelow(version)) {
+                return;
+            }
+
+            stab(subtree.left, version, action);
+
+            if (!subtree.interval.isAbove(version)) {
+                return;
+            }
+
+            if (subtree.interval.isBelow(version)) {
+                Entry<K> entry = subtree.entry;
+
+                if (entry.exact || entry.constraint.apply(version)) {
+                    action.accept(entry.id);
+                }
+            }
+
+            subtree = subtree.right;
+        }
+    }
+
+    /**
+     * A registered constraint.
+     *
+     * @param <K> The type of the identifier.
+     */
+    private static final class Entry<K> {
+
+        /**
+         * The constraint.
+         */
+        private final Constraint constraint;
+
+        /**
+         * Indicates that a version number passes the constraint if, and only if, it is in one of the intervals.
+         */
+        private final boolean exact;
+
+        /**
+         * The identifier.
+         */
+        private final K id;
+
+        /**
+         * The nodes for each interval of the constraint.
+         */
+        private final List<Node<K>> nodes = new ArrayList<>();
+
+        /**
+         * Sets the constraint.
+         *
+         * @param id         The identifier.
+         * @param constraint The constraint.
+         */
+        Entry(K id, Constraint constraint) {
+            this.constraint = constraint;
+            this.exact = constraint.isExact();
+            this.id = id;
+        }
+    }
+
+    /**
+     * A node in the tree, holding a single interval of a registered constraint.
+     *
+     * @param <K> The type of the identifier.
+     */
+    private static final class Node<K> {
+
+        /**
+         * The registered constraint.
+         */
+        private final Entry<K> entry;
+
+        /**
+         * The interval.
+         */
+        private final Interval interval;
+
+        /**
+         * The left child.
+         */
+        private Node<K> left;
+
+        /**
+         * The interval in the subtree with the greatest upper bound.
+         */
+        private Interval max;
+
+        /**
+         * The priority in the heap order.
+         */
+        private final int priority;
+
+        /**
+         * The right child.
+         */
+        private Node<K> right;
+
+        /**
+         * The order in which the node was created.
+         */
+        private final long sequence;
+
+        /**
+         * Sets the interval.
+         *
+         * @param entry    The registered constraint.
+         * @param interval The interval.
+         * @param priority The priority in the heap order.
+         * @param sequence The order in which the node was created.
+         */
+        Node(Entry<K> entry, Interval interval, int priority, long sequence) {
+            this.entry = entry;
+            this.interval = interval;
+            this.max = interval;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        /**
+         * Updates the greatest upper bound in the subtree after its children have changed.
+         *
+         * @return The node.
+         */
+        Node<K> update() {
+            max = interval;
+
+            if ((left != null) && (Interval.compareUpper(left.max, max) > 0)) {
+                max = left.max;
+            }
+
+            if ((right != null) && (Interval.compareUpper(right.max, max) > 0)) {
+                max = right.max;
+            }
+
+            return this;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package io.herrera.kevin.semver.constraints;
+
+import io.herrera.kevin.semver.Version;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Keeps the version numbers in a changing catalog that pass each registered constraint.
+ *
+ * <p>
+ * The results for every constraint are materialized when it is registered, and then maintained as version numbers
+ * are added to or yanked from the catalog. A change only touches the constraints whose intervals contain the version
+ * number, which are found with a {@link ConstraintIndex}, instead of applying every constraint again. Registering a
+ * constraint only scans the parts of the catalog within its intervals.
+ * </p>
+ *
+ * <p>
+ * The catalog keeps a single version number for each precedence, so a version number that only differs in its build
+ * metadata is not added again. The view is not safe to use from several threads unless access is synchronized.
+ * </p>
+ *
+ * @param <K> The type of the identifiers.
+ */
+public final class ConstraintView<K> {
+
+    /**
+     * The version numbers in the catalog.
+     */
+    private final NavigableSet<Version> catalog = new TreeSet<>();
+
+    /**
+     * The registered constraints.
+     */
+    private final ConstraintIndex<K> index = new ConstraintIndex<>();
+
+    /**
+     * Notified of each change to the results, or <code>null</code> if there is no listener.
+     */
+    private Listener<? super K> listener;
+
+    /**
+     * The version numbers that pass each registered constraint, by identifier.
+     */
+    private final Map<K, NavigableSet<Version>> results = new HashMap<>();
+
+    /**
+     * Adds a version number to the catalog.
+     *
+     * @param version The version number.
+     *
+     * @return Returns <code>true</code> if it was added, or <code>false</code> if the catalog already has a version
+     *         number with equal precedence.
+     */
+    public boolean add(Version version) {
+        Objects.requireNonNull(version, "The version number is required.");
+
+        if (!catalog.add(version)) {
+            return false;
+        }
+
+        index.match(version, id -> {
+            results.get(id).add(version);
+
+            if (listener != null) {
+                listener.changed(id, version, true);
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * Checks if the catalog has a version number with equal precedence.
+     *
+     * @param version The version number.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+     */
+    public boolean contains(Version version) {
+        Objects.requireNonNull(version, "The version number is required.");
+
+        return catalog.contains(version);
+    }
+
+    /**
+     * Returns the version numbers in the catalog that pass a registered constraint.
+     *
+     * @param id The identifier of the constraint.
+     *
+     * @return An unmodifiable view of the version numbers, which is kept up to date, or <code>null</code> if no
+     *         constraint is registered with the identifier.
+     */
+    public NavigableSet<Version> getMatches(K id) {
+        NavigableSet<Version> matches = results.get(id);
+
+        return (matches == null) ? null : Collections.unmodifiableNavigableSet(matches);
+    }
+
+    /**
+     * Registers a constraint, replacing any constraint already registered with the same identifier.
+     *
+     * @param id         The identifier.
+     * @param constraint The constraint.
+     *
+     * @return A fluent interface.
+     */
+    public ConstraintView<K> register(K id, Constraint constraint) {
+        Objects.requireNonNull(id, "The identifier is required.");
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        index.add(id, constraint);
+
+        NavigableSet<Version> matches = new TreeSet<>();
+        boolean exact = constraint.isExact();
+
+        for (Interval interval : constraint.intervals()) {
+            for (Version version : range(interval)) {
+                if (exact || constraint.apply(version)) {
+                    matches.add(version);
+                }
+            }
+        }
+
+        results.put(id, matches);
+
+        return this;
+    }
+
+    /**
+     * Sets the listener that is notified of each change to the results.
+     *
+     * @param listener The listener, or <code>null</code> to remove it.
+     *
+     * @return A fluent interface.
+     */
+    public ConstraintView<K> setListener(Listener<? super K> listener) {
+        this.listener = listener;
+
+        return this;
+    }
+
+    /**
+     * Returns the number of version numbers in the catalog.
+     *
+     * @return The number of version numbers.
+     */
+    public int size() {
+        return catalog.size();
+    }
+
+    /**
+     * Unregisters a constraint.
+     *
+     * @param id The identifier.
+     *
+     * @return Returns <code>true</code> if a constraint was registered with the identifier, or <code>false</code> if
+     *         not.
+     */
+    public boolean unregister(K id) {
+        results.remove(id);
+
+        return index.remove(id);
+    }
+
+    /**
+     * Yanks a version number from the catalog.
+     *
+     * @param version The version number.
+     *
+     * @return Returns <code>true</code> if the catalog had a version number with equal precedence, or
+     *         <code>false</code> if not.
+     */
+    public boolean yank(Version version) {
+        Objects.requireNonNull(version, "The version number is required.");
+
+        if (!catalog.remove(version)) {
+            return false;
+        }
+
+        index.match(version, id -> {
+            results.get(id).remove(version);
+
+            if (listener != null) {
+                listener.changed(id, version, false);
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * Returns the version numbers in the catalog within an interval.
+     *
+     * @param interval The interval.
+     *
+     * @return The version numbers.
+     */
+    private NavigableSet<Version> range(Interval interval) {
+        NavigableSet<Version> range = catalog;
+
+        if (interval.getLower() != null) {
+            range = range.tailSet(interval.getLower(), interval.isLowerInclusive());
+        }
+
+        if (interval.getUpper() != null) {
+            range = range.headSet(interval.getUpper(), interval.isUpperInclusive());
+        }
+
+        return range;
+    }
+
+    /**
+     * Notified of each change to the results of a registered constraint.
+     *
+     * @param <K> The type of the identifiers.
+     */
+    @FunctionalInterface
+    public interface Listener<K> {
+
+        /**
+         * Handles a change to the results of a registered constraint.
+         *
+         * @param id      The identifier of the constraint.
+         * @param version The version number that was added to or removed from the results.
+         * @param added   Indicates that the version number was added, rather than removed.
+         */
+        void changed(K id, Version version, boolean added);
+    }
+}
@@ -19,6 +19,19 @@ public final class Constraints {
         return new And().add(constraint);
     }
 
+    /**
+     * Requires the pre-release metadata of a version number to start with a pattern of identifiers.
+     *
+     * @param pattern The pattern, with identifiers separated by dots.
+     *
+     * @return The version constraint.
+     *
+     * @see PreReleaseChannel
+     */
+    public static PreReleaseChannel channel(String pattern) {
+        return new PreReleaseChannel(pattern);
+    }
+
     /**
      * Requires a version number to be equal to another.
      *
@@ -139,6 +152,20 @@ public final class Constraints {
         return new LessThanOrEqualTo(version);
     }
 
+    /**
+     * Records the evaluations of another constraint to the metrics under a name.
+     *
+     * @param name       The name to record the evaluations under.
+     * @param constraint The constraint to measure.
+     *
+     * @return The version constraint.
+     *
+     * @see Metered
+     */
+    public static Metered metered(String name, Constraint constraint) {
+        return new Metered(name, constraint);
+    }
+
     /**
      * Requires a version to not be equal to another.
      *
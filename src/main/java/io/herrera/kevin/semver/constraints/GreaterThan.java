@@ -2,6 +2,8 @@ package io.herrera.kevin.semver.constraints;
 
 import io.herrera.kevin.semver.InvalidVersionException;
 import io.herrera.kevin.semver.Version;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -42,4 +44,14 @@ public class GreaterThan implements Constraint {
 
         return version.isGreaterThan(this.version);
     }
+
+    @Override
+    public List<Interval> intervals() {
+        return Collections.singletonList(Interval.greaterThan(version));
+    }
+
+    @Override
+    public boolean isExact() {
+        return true;
+    }
 }
@@ -0,0 +1,415 @@
+package io.herrera.kevin.semver.constraints;
+
+import io.herrera.kevin.semver.Version;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable, contiguous range of version numbers ordered by precedence.
+ *
+ * <p>
+ * A bound that is <code>null</code> is unbounded. An interval with no version numbers in it (e.g. its lower bound is
+ * greater than its upper bound) cannot be created, so operations that could produce one return <code>null</code> or
+ * leave it out instead.
+ * </p>
+ */
+public final class Interval {
+
+    /**
+     * An interval with every version number in it.
+     */
+    public static final Interval ALL = new Interval(null, false, null, false);
+
+    /**
+     * Orders intervals by their lower bounds, from least to greatest.
+     */
+    public static final Comparator<Interval> BY_LOWER = Interval::compareLower;
+
+    /**
+     * Orders intervals by their upper bounds, from least to greatest.
+     */
+    public static final Comparator<Interval> BY_UPPER = Interval::compareUpper;
+
+    /**
+     * The lower bound, or <code>null</code> if there is none.
+     */
+    private final Version lower;
+
+    /**
+     * Indicates that the lower bound is included.
+     */
+    private final boolean lowerInclusive;
+
+    /**
+     * The upper bound, or <code>null</code> if there is none.
+     */
+    private final Version upper;
+
+    /**
+     * Indicates that the upper bound is included.
+     */
+    private final boolean upperInclusive;
+
+    /**
+     * Sets the bounds.
+     *
+     * @param lower          The lower bound, or <code>null</code> if there is none.
+     * @param lowerInclusive Is the lower bound included?
+     * @param upper          The upper bound, or <code>null</code> if there is none.
+     * @param upperInclusive Is the upper bound included?
+     */
+    private Interval(Version lower, boolean lowerInclusive, Version upper, boolean upperInclusive) {
+        this.lower = lower;
+        this.lowerInclusive = (lower != null) && lowerInclusive;
+        this.upper = upper;
+        this.upperInclusive = (upper != null) && upperInclusive;
+    }
+
+    /**
+     * Creates an interval with only the version numbers greater than another.
+     *
+     * @param version The version number to be greater than.
+     *
+     * @return The interval.
+     */
+    public static Interval greaterThan(Version version) {
+        Objects.requireNonNull(version, "The version number to be greater than is required.");
+
+        return new Interval(version, false, null, false);
+    }
+
+    /**
+     * Creates an interval with only the version numbers greater than or equal to another.
+     *
+     * @param version The version number to be greater than or equal to.
+     *
+     * @return The interval.
+     */
+    public static Interval greaterThanOrEqualTo(Version version) {
+        Objects.requireNonNull(version, "The version number to be greater than or equal to is required.");
+
+        return new Interval(version, true, null, false);
+    }
+
+    /**
+     * Creates an interval with only the version numbers less than another.
+     *
+     * @param version The version number to be less than.
+     *
+     * @return The interval.
+     */
+    public static Interval lessThan(Version version) {
+        Objects.requireNonNull(version, "The version number to be less than is required.");
+
+        return new Interval(null, false, version, false);
+    }
+
+    /**
+     * Creates an interval with only the version numbers less than or equal to another.
+     *
+     * @param version The version number to be less than or equal to.
+     *
+     * @return The interval.
+     */
+    public static Interval lessThanOrEqualTo(Version version) {
+        Objects.requireNonNull(version, "The version number to be less than or equal to is required.");
+
+        return new Interval(null, false, version, true);
+    }
+
+    /**
+     * Creates an interval with only the version numbers of equal precedence to another.
+     *
+     * @param version The version number to be equal to.
+     *
+     * @return The interval.
+     */
+    public static Interval of(Version version) {
+        Objects.requireNonNull(version, "The version number to be equal to is required.");
+
+        return new Interval(version, true, version, true);
+    }
+
+    /**
+     * Creates an interval between two bounds.
+     *
+     * @param lower          The lower bound, or <code>null</code> if there is none.
+     * @param lowerInclusive Is the lower bound included?
+     * @param upper          The upper bound, or <code>null</code> if there is none.
+     * @param upperInclusive Is the upper bound included?
+     *
+     * @return The interval, or <code>null</code> if it would have no version numbers in it.
+     */
+    public static Interval of(Version lower, boolean lowerInclusive, Version upper, boolean upperInclusive) {
+        Interval interval = new Interval(lower, lowerInclusive, upper, upperInclusive);
+
+        return interval.isEmpty() ? null : interval;
+    }
+
+    /**
+     * Checks if a version number is in the interval.
+     *
+     * @param version The version number.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    public boolean contains(Version version) {
+        Objects.requireNonNull(version, "The version number is required.");
+
+        return isAbove(version) && isBelow(version);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof Interval)) {
+            return false;
+        }
+
+        Interval other = (Interval) object;
+
+        return (compareLower(this, other) == 0) && (compareUpper(this, other) == 0);
+    }
+
+    /**
+     * Returns the lower bound.
+     *
+     * @return The lower bound, or <code>null</code> if there is none.
+     */
+    public Version getLower() {
+        return lower;
+    }
+
+    /**
+     * Returns the upper bound.
+     *
+     * @return The upper bound, or <code>null</code> if there is none.
+     */
+    public Version getUpper() {
+        return upper;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lower, lowerInclusive, upper, upperInclusive);
+    }
+
+    /**
+     * Creates the interval with the version numbers in both this and another interval.
+     *
+     * @param other The other interval.
+     *
+     * @return The interval, or <code>null</code> if there are no version numbers in both.
+     */
+    public Interval intersect(Interval other) {
+        Objects.requireNonNull(other, "The other interval is required.");
+
+        Interval low = (compareLower(this, other) >= 0) ? this : other;
+        Interval high = (compareUpper(this, other) <= 0) ? this : other;
+
+        return of(low.lower, low.lowerInclusive, high.upper, high.upperInclusive);
+    }
+
+    /**
+     * Checks if a version number is at or above the lower bound.
+     *
+     * @param version The version number.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    public boolean isAbove(Version version) {
+        if (lower == null) {
+            return true;
+        }
+
+        int result = version.compareTo(lower);
+
+        return (result > 0) || ((result == 0) && lowerInclusive);
+    }
+
+    /**
+     * Checks if a version number is at or below the upper bound.
+     *
+     * @param version The version number.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    public boolean isBelow(Version version) {
+        if (upper == null) {
+            return true;
+        }
+
+        int result = version.compareTo(upper);
+
+        return (result < 0) || ((result == 0) && upperInclusive);
+    }
+
+    /**
+     * Checks if the lower bound is included.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not (or there is no lower bound).
+     */
+    public boolean isLowerInclusive() {
+        return lowerInclusive;
+    }
+
+    /**
+     * Checks if the upper bound is included.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not (or there is no upper bound).
+     */
+    public boolean isUpperInclusive() {
+        return upperInclusive;
+    }
+
+    @Override
+    public String toString() {
+        return (lowerInclusive ? "[" : "(")
+            + ((lower == null) ? "" : lower.toString())
+            + ", "
+            + ((upper == null) ? "" : upper.toString())
+            + (upperInclusive ? "]" : ")");
+    }
+
+    /**
+     * Compares the lower bounds of two intervals.
+     *
+     * <p>
+     * An unbounded lower bound is the least. For bounds of equal precedence, an inclusive bound is less than an
+     * exclusive one, since it lets in one more version number.
+     * </p>
+     *
+     * @param left  The left interval.
+     * @param right The right interval.
+     *
+     * @return The result of the comparison.
+     */
+    static int compareLower(Interval left, Interval right) {
+        if (left.lower == null || right.lower == null) {
+            return Boolean.compare(left.lower != null, right.lower != null);
+        }
+
+        int result = left.lower.compareTo(right.lower);
+
+        return (result == 0) ? Boolean.compare(right.lowerInclusive, left.lowerInclusive) : result;
+    }
+
+    /**
+     * Compares the upper bounds of two intervals.
+     *
+     * <p>
+     * An unbounded upper bound is the greatest. For bounds of equal precedence, an inclusive bound is greater than an
+     * exclusive one, since it lets in one more version number.
+     * </p>
+     *
+     * @param left  The left interval.
+     * @param right The right interval.
+     *
+     * @return The result of the comparison.
+     */
+    static int compareUpper(Interval left, Interval right) {
+        if (left.upper == null || right.upper == null) {
+            return Boolean.compare(left.upper == null, right.upper == null);
+        }
+
+        int result = left.upper.compareTo(right.upper);
+
+        return (result == 0) ? Boolean.compare(left.upperInclusive, right.upperInclusive) : result;
+    }
+
+    /**
+     * Creates the intervals with the version numbers in any of the given intervals.
+     *
+     * @param intervals The intervals.
+     *
+     * @return The intervals, sorted and without any overlap.
+     */
+    static List<Interval> union(List<Interval> intervals) {
+        if (intervals.size() < 2) {
+            return intervals;
+        }
+
+        List<Interval> sorted = new ArrayList<>(intervals);
+        List<Interval> union = new ArrayList<>();
+
+        sorted.sort(BY_LOWER);
+
+        Interval current = sorted.get(0);
+
+        for (int i = 1; i < sorted.size(); i++) {
+            Interval next = sorted.get(i);
+
+            if (current.touches(next)) {
+                if (compareUpper(next, current) > 0) {
+                    current = new Interval(current.lower, current.lowerInclusive, next.upper, next.upperInclusive);
+                }
+            } else {
+                union.add(current);
+
+                current = next;
+            }
+        }
+
+        union.add(current);
+
+        return Collections.unmodifiableList(union);
+    }
+
+    /**
+     * Creates the intervals with the version numbers in every one of the given lists of intervals.
+     *
+     * @param left  The intervals on the left.
+     * @param right The intervals on the right.
+     *
+     * @return The intervals, sorted and without any overlap.
+     */
+    static List<Interval> intersectAll(List<Interval> left, List<Interval> right) {
+        List<Interval> intersection = new ArrayList<>();
+
+        for (Interval l : left) {
+            for (Interval r : right) {
+                Interval both = l.intersect(r);
+
+                if (both != null) {
+                    intersection.add(both);
+                }
+            }
+        }
+
+        return union(intersection);
+    }
+
+    /**
+     * Checks if the interval has no version numbers in it.
+     *
+     * @return Returns <code>true</code> if it does not, or <code>false</code> if it does.
+     */
+    private boolean isEmpty() {
+        if ((lower == null) || (upper == null)) {
+            return false;
+        }
+
+        int result = lower.compareTo(upper);
+
+        return (result > 0) || ((result == 0) && !(lowerInclusive && upperInclusive));
+    }
+
+    /**
+     * Checks if another interval, which does not start before this one, overlaps or is adjacent to this one.
+     *
+     * @param next The other interval.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+     */
+    private boolean touches(Interval next) {
+        if ((upper == null) || (next.lower == null)) {
+            return true;
+        }
+
+        int result = next.lower.compareTo(upper);
+
+        return (result < 0) || ((result == 0) && (upperInclusive || next.lowerInclusive));
+    }
+}
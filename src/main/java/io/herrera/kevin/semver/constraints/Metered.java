@@ -0,0 +1,103 @@
+package io.herrera.kevin.semver.constraints;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.metrics.MetricsProvider;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Records the evaluations of another constraint to the {@link MetricsProvider metrics} under a name.
+ *
+ * <p>
+ * Each time the constraint is applied, the result and the time it took are recorded. If metrics are disabled, the
+ * constraint is applied without reading the clock.
+ * </p>
+ */
+public class Metered implements Constraint {
+
+    /**
+     * The constraint to measure.
+     */
+    private final Constraint constraint;
+
+    /**
+     * The name to record the evaluations under.
+     */
+    private final String name;
+
+    /**
+     * Sets the constraint to measure.
+     *
+     * @param name       The name to record the evaluations under.
+     * @param constraint The constraint to measure.
+     */
+    public Metered(String name, Constraint constraint) {
+        Objects.requireNonNull(name, "The name is required.");
+        Objects.requireNonNull(constraint, "The constraint to measure is required.");
+
+        this.constraint = constraint;
+        this.name = name;
+    }
+
+    @Override
+    public boolean apply(Version version) {
+        if (!MetricsProvider.isEnabled()) {
+            return constraint.apply(version);
+        }
+
+        long start = System.nanoTime();
+        boolean passed = constraint.apply(version);
+
+        MetricsProvider.get().constraintEvaluated(name, passed, System.nanoTime() - start);
+
+        return passed;
+    }
+
+    /**
+     * Explains the measured constraint, without recording to the metrics.
+     *
+     * @param version The version to constrain.
+     * @param profile The profile to record each evaluated constraint to, or <code>null</code> if there is none.
+     *
+     * @return The trace of the evaluation, with the trace of the measured constraint as its only child.
+     */
+    @Override
+    public Trace explain(Version version, Profile profile) {
+        Trace inner = constraint.explain(version, profile);
+
+        if (profile != null) {
+            profile.record(this, inner.getNanos());
+        }
+
+        return new Trace(this, inner.getStatus(), inner.getNanos(), Collections.singletonList(inner));
+    }
+
+    /**
+     * Returns the constraint that is measured.
+     *
+     * @return The constraint.
+     */
+    public Constraint getConstraint() {
+        return constraint;
+    }
+
+    /**
+     * Returns the name the evaluations are recorded under.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public List<Interval> intervals() {
+        return constraint.intervals();
+    }
+
+    @Override
+    public boolean isExact() {
+        return constraint.isExact();
+    }
+}
@@ -2,6 +2,8 @@ package io.herrera.kevin.semver.constraints;
 
 import io.herrera.kevin.semver.InvalidVersionException;
 import io.herrera.kevin.semver.Version;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -42,4 +44,14 @@ public class NotEqualTo implements Constraint {
 
         return !this.version.equals(version);
     }
+
+    @Override
+    public List<Interval> intervals() {
+        return Arrays.asList(Interval.lessThan(version), Interval.greaterThan(version));
+    }
+
+    @Override
+    public boolean isExact() {
+        return true;
+    }
 }
@@ -1,6 +1,8 @@
 package io.herrera.kevin.semver.constraints;
 
 import io.herrera.kevin.semver.Version;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Requires that a version match any constraint in a set.
@@ -18,6 +20,17 @@ public final class Or extends Composite {
         return this;
     }
 
+    @Override
+    public List<Interval> intervals() {
+        List<Interval> intervals = new ArrayList<>();
+
+        for (Constraint constraint : getConstraints()) {
+            intervals.addAll(constraint.intervals());
+        }
+
+        return Interval.union(intervals);
+    }
+
     @Override
     protected Result constrain(Version version, Constraint constraint) {
         return constraint.apply(version) ? Result.PASS : Result.CONTINUE;
@@ -0,0 +1,108 @@
+package io.herrera.kevin.semver.constraints;
+
+import io.herrera.kevin.semver.Version;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Requires the pre-release metadata of a version number to start with a pattern of identifiers.
+ *
+ * <p>
+ * The pattern is a list of identifiers separated by dots, just like pre-release metadata, where each identifier is
+ * matched to the identifier at the same position in the version number:
+ * </p>
+ *
+ * <ul>
+ *   <li><code>*</code> matches any identifier.</li>
+ *   <li>An identifier that ends with <code>*</code> matches any identifier that starts with the rest of it (e.g.
+ *       <code>2026*</code> matches <code>20260115</code>).</li>
+ *   <li>Any other identifier must be equal.</li>
+ * </ul>
+ *
+ * <p>
+ * The version number may have more identifiers than the pattern, so <code>rc</code> matches <code>rc.1</code> and
+ * <code>rc.1.2</code>, while <code>rc.*</code> matches both of those but not <code>rc</code>. A version number
+ * without pre-release metadata never matches.
+ * </p>
+ */
+public class PreReleaseChannel implements Constraint {
+
+    /**
+     * The wildcard that matches any identifier, or any remainder of one.
+     */
+    public static final String WILDCARD = "*";
+
+    /**
+     * The identifiers of the pattern.
+     */
+    private final List<String> pattern;
+
+    /**
+     * Sets the pattern.
+     *
+     * @param pattern The pattern, with identifiers separated by dots.
+     *
+     * @throws IllegalArgumentException If the pattern has an empty identifier.
+     */
+    public PreReleaseChannel(String pattern) {
+        Objects.requireNonNull(pattern, "The pattern is required.");
+
+        String[] identifiers = pattern.split("\\.", -1);
+
+        for (String identifier : identifiers) {
+            if (identifier.isEmpty()) {
+                throw new IllegalArgumentException(
+                    String.format("The pattern \"%s\" has an empty identifier.", pattern)
+                );
+            }
+        }
+
+        this.pattern = Collections.unmodifiableList(Arrays.asList(identifiers));
+    }
+
+    @Override
+    public boolean apply(Version version) {
+        Objects.requireNonNull(version, "The version number to constrain is required.");
+
+        String[] identifiers = version.getPreRelease();
+
+        if (identifiers.length < pattern.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < pattern.size(); i++) {
+            if (!matches(pattern.get(i), identifiers[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the identifiers of the pattern.
+     *
+     * @return The identifiers, which cannot be modified.
+     */
+    public List<String> getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Checks if an identifier matches an identifier of a pattern.
+     *
+     * @param pattern    The identifier of the pattern.
+     * @param identifier The identifier.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+     */
+    private static boolean matches(String pattern, String identifier) {
+        if (pattern.endsWith(WILDCARD)) {
+            return identifier.startsWith(pattern.substring(0, pattern.length() - 1));
+        }
+
+        return pattern.equals(identifier);
+    }
+}
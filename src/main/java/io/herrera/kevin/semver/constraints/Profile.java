@@ -0,0 +1,111 @@
+package io.herrera.kevin.semver.constraints;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Accumulates the number of times each constraint was applied, and the time it took, across explained evaluations.
+ *
+ * <p>
+ * A profile is passed to {@link Constraint#explain(io.herrera.kevin.semver.Version, Profile)}, which records every
+ * node of the constraint tree that is evaluated. Constraints are counted by identity, so a constraint that is shared by
+ * several trees is counted once for all of them. The time of a composite constraint includes that of its inner
+ * constraints. A profile is not safe to use from several threads unless access is synchronized.
+ * </p>
+ */
+public final class Profile {
+
+    /**
+     * The counters for each constraint.
+     */
+    private final Map<Constraint, Counter> counters = new IdentityHashMap<>();
+
+    /**
+     * Returns the constraints that were recorded, by the total time they took.
+     *
+     * @return The constraints, from the most to the least time.
+     */
+    public List<Constraint> getConstraints() {
+        List<Constraint> constraints = new ArrayList<>(counters.keySet());
+
+        constraints.sort(Comparator.comparingLong(this::getNanos).reversed());
+
+        return constraints;
+    }
+
+    /**
+     * Returns the number of times a constraint was applied.
+     *
+     * @param constraint The constraint.
+     *
+     * @return The number of times.
+     */
+    public long getInvocations(Constraint constraint) {
+        Counter counter = counters.get(constraint);
+
+        return (counter == null) ? 0 : counter.invocations;
+    }
+
+    /**
+     * Returns the total time a constraint took.
+     *
+     * @param constraint The constraint.
+     *
+     * @return The time, in nanoseconds.
+     */
+    public long getNanos(Constraint constraint) {
+        Counter counter = counters.get(constraint);
+
+        return (counter == null) ? 0 : counter.nanos;
+    }
+
+    /**
+     * Records that a constraint was applied.
+     *
+     * @param constraint The constraint.
+     * @param nanos      The time it took, in nanoseconds.
+     *
+     * @return A fluent interface.
+     */
+    public Profile record(Constraint constraint, long nanos) {
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        Counter counter = counters.computeIfAbsent(constraint, key -> new Counter());
+
+        counter.invocations++;
+        counter.nanos += nanos;
+
+        return this;
+    }
+
+    /**
+     * Clears the counters.
+     *
+     * @return A fluent interface.
+     */
+    public Profile reset() {
+        counters.clear();
+
+        return this;
+    }
+
+    /**
+     * The counters for a constraint.
+     */
+    private static final class Counter {
+
+        /**
+         * The number of times the constraint was applied.
+         */
+        private long invocations;
+
+        /**
+         * The total time it took, in nanoseconds.
+         */
+        private long nanos;
+    }
+}
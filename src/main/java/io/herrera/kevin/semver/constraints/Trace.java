@@ -0,0 +1,235 @@
+package io.herrera.kevin.semver.constraints;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable record of how a constraint was evaluated for a version number.
+ *
+ * <p>
+ * A trace is a tree with a node for each constraint that was visited, in the order they were visited. A composite
+ * constraint has a child node for each of its inner constraints, including those that were skipped because an earlier
+ * one already decided the result (short-circuited). The {@link #getCause() cause} is the leaf that decided the result.
+ * </p>
+ *
+ * @see Constraint#explain(io.herrera.kevin.semver.Version)
+ */
+public final class Trace {
+
+    /**
+     * The traces of the inner constraints.
+     */
+    private final List<Trace> children;
+
+    /**
+     * The constraint.
+     */
+    private final Constraint constraint;
+
+    /**
+     * The time the evaluation took, in nanoseconds.
+     */
+    private final long nanos;
+
+    /**
+     * The outcome of the evaluation.
+     */
+    private final Status status;
+
+    /**
+     * Sets the outcome of the evaluation.
+     *
+     * @param constraint The constraint.
+     * @param status     The outcome of the evaluation.
+     * @param nanos      The time the evaluation took, in nanoseconds.
+     * @param children   The traces of the inner constraints.
+     */
+    public Trace(Constraint constraint, Status status, long nanos, List<Trace> children) {
+        Objects.requireNonNull(constraint, "The constraint is required.");
+        Objects.requireNonNull(status, "The outcome is required.");
+        Objects.requireNonNull(children, "The traces of the inner constraints are required.");
+
+        this.children = Collections.unmodifiableList(children);
+        this.constraint = constraint;
+        this.nanos = nanos;
+        this.status = status;
+    }
+
+    /**
+     * Creates the trace of a constraint that was skipped.
+     *
+     * @param constraint The constraint.
+     *
+     * @return The trace.
+     */
+    public static Trace skipped(Constraint constraint) {
+        return new Trace(constraint, Status.SKIPPED, 0, Collections.emptyList());
+    }
+
+    /**
+     * Finds the leaf that decided the result.
+     *
+     * <p>
+     * Starting from this node, the last child that was evaluated is followed until a leaf is reached. For a composite
+     * constraint that short-circuited, that is the child that decided the result. Otherwise, every child agreed with
+     * the result (e.g. every branch of a failed <code>or</code>), and the last one is as good a cause as any other.
+     * </p>
+     *
+     * <p>
+     * In that case, the cause is arbitrary: a composite constraint visits its inner constraints in the iteration order
+     * of their set, which for the default <code>HashSet</code> may differ from one run to the next. Only the cause of a
+     * short-circuited result, or of a composite constraint with a single path to a leaf, can be relied on.
+     * </p>
+     *
+     * @return The trace of the leaf, which may be this trace.
+     */
+    public Trace getCause() {
+        Trace cause = this;
+
+        while (true) {
+            Trace next = null;
+
+            for (Trace child : cause.children) {
+                if (child.status != Status.SKIPPED) {
+                    next = child;
+                }
+            }
+
+            if (next == null) {
+                return cause;
+            }
+
+            cause = next;
+        }
+    }
+
+    /**
+     * Returns the traces of the inner constraints.
+     *
+     * @return The traces, in the order the constraints were visited (or would have been), which cannot be modified.
+     */
+    public List<Trace> getChildren() {
+        return children;
+    }
+
+    /**
+     * Returns the constraint.
+     *
+     * @return The constraint.
+     */
+    public Constraint getConstraint() {
+        return constraint;
+    }
+
+    /**
+     * Returns the time the evaluation took, including that of the inner constraints.
+     *
+     * @return The time, in nanoseconds.
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * Returns the outcome of the evaluation.
+     *
+     * @return The outcome.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks if the version number passed the constraint.
+     *
+     * @return Returns <code>true</code> if it did, or <code>false</code> if it did not (or it was skipped).
+     */
+    public boolean isPassed() {
+        return status == Status.PASSED;
+    }
+
+    /**
+     * Renders the tree, with one line for each constraint and the inner constraints indented.
+     *
+     * @return The tree.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+
+        render(builder, 0);
+
+        return builder.toString();
+    }
+
+    /**
+     * Describes a constraint for a line of the tree.
+     *
+     * @param constraint The constraint.
+     *
+     * @return The description.
+     */
+    private static String describe(Constraint constraint) {
+        if (constraint instanceof Metered) {
+            return "Metered \"" + ((Metered) constraint).getName() + "\"";
+        }
+
+        if (constraint instanceof PreReleaseChannel) {
+            return "PreReleaseChannel " + String.join(".", ((PreReleaseChannel) constraint).getPattern());
+        }
+
+        String name = constraint.getClass().getSimpleName();
+
+        if (name.isEmpty()) {
+            name = constraint.getClass().getName();
+        }
+
+        if ((constraint instanceof Composite) || !constraint.isExact()) {
+            return name;
+        }
+
+        return name + " " + constraint.intervals();
+    }
+
+    /**
+     * Renders a node and its children.
+     *
+     * @param builder The builder to render to.
+     * @param depth   The depth of the node.
+     */
+    private void render(StringBuilder builder, int depth) {
+        for (int i = 0; i < depth; i++) {
+            builder.append("  ");
+        }
+
+        builder.append(status).append(' ').append(describe(constraint));
+
+        for (Trace child : children) {
+            builder.append('\n');
+
+            child.render(builder, depth + 1);
+        }
+    }
+
+    /**
+     * The outcomes of an evaluation.
+     */
+    public enum Status {
+
+        /**
+         * The version number did not pass the constraint.
+         */
+        FAILED,
+
+        /**
+         * The version number passed the constraint.
+         */
+        PASSED,
+
+        /**
+         * The constraint was not applied, since the result was already decided.
+         */
+        SKIPPED
+    }
+}
@@ -0,0 +1,777 @@
+package io.herrera.kevin.semver.encoding;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import lombok.SneakyThrows;
+
+/**
+ * A compact, read-only view of a sorted sequence of version numbers.
+ *
+ * <p>
+ * The history is encoded much like a posting list. Version numbers are grouped into fixed size blocks, and each entry
+ * in a block only stores the difference between its version numbers and those of the previous entry. Pre-release and
+ * build metadata is only stored when it changes, and then only the identifiers that do not share a prefix with the
+ * previous entry are stored as references into a dictionary at the start of the block. Since the block offsets are
+ * stored up front, a version number can be found by binary searching the first version of each block and then only
+ * decoding the blocks that may contain it.
+ * </p>
+ *
+ * <p>
+ * The encoded form has the following layout, using big endian integers:
+ * </p>
+ *
+ * <pre>
+ * int    magic
+ * int    count
+ * int    block size
+ * int    block count
+ * int[]  block offsets (relative to the start of the history)
+ * blocks (int byte length, identifier dictionary, entries)
+ * </pre>
+ */
+public final class VersionHistory implements Iterable<Version> {
+
+    /**
+     * The default number of version numbers stored in a block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 128;
+
+    /**
+     * Indicates that the build metadata differs from the previous entry.
+     */
+    private static final int BUILD_CHANGED = 0x08;
+
+    /**
+     * Indicates that the major version number changed, followed by the delta and the minor and patch numbers.
+     */
+    private static final int CORE_MAJOR = 0x03;
+
+    /**
+     * Masks the flags that describe how the version numbers changed.
+     */
+    private static final int CORE_MASK = 0x03;
+
+    /**
+     * Indicates that the minor version number changed, followed by the delta and the patch number.
+     */
+    private static final int CORE_MINOR = 0x02;
+
+    /**
+     * Indicates that the patch version number changed, followed by the delta.
+     */
+    private static final int CORE_PATCH = 0x01;
+
+    /**
+     * Indicates that the version numbers did not change.
+     */
+    private static final int CORE_SAME = 0x00;
+
+    /**
+     * An empty group of identifiers.
+     */
+    private static final String[] EMPTY = new String[0];
+
+    /**
+     * The size of the header, in bytes.
+     */
+    private static final int HEADER_SIZE = 16;
+
+    /**
+     * Identifies the encoded form of a version history ("SVH1").
+     */
+    private static final int MAGIC = 0x53564831;
+
+    /**
+     * Indicates that the pre-release metadata differs from the previous entry.
+     */
+    private static final int PRE_RELEASE_CHANGED = 0x04;
+
+    /**
+     * The number of blocks.
+     */
+    private final int blockCount;
+
+    /**
+     * The maximum number of version numbers in a block.
+     */
+    private final int blockSize;
+
+    /**
+     * The encoded history.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The number of version numbers.
+     */
+    private final int count;
+
+    /**
+     * Sets the encoded history and reads its header.
+     *
+     * @param buffer The encoded history.
+     */
+    private VersionHistory(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if ((buffer.remaining() < HEADER_SIZE) || (buffer.getInt(0) != MAGIC)) {
+            throw new IllegalArgumentException("The buffer does not contain an encoded version history.");
+        }
+
+        count = buffer.getInt(4);
+        blockSize = buffer.getInt(8);
+        blockCount = buffer.getInt(12);
+    }
+
+    /**
+     * Encodes a sorted collection of version numbers using the default block size.
+     *
+     * @param versions The version numbers, sorted by precedence.
+     *
+     * @return The encoded history.
+     */
+    public static ByteBuffer encode(Collection<Version> versions) {
+        return encode(versions, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Encodes a sorted collection of version numbers.
+     *
+     * @param versions  The version numbers, sorted by precedence.
+     * @param blockSize The maximum number of version numbers in a block.
+     *
+     * @return The encoded history.
+     */
+    public static ByteBuffer encode(Collection<Version> versions, int blockSize) {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("The block size must be at least 1 (one).");
+        }
+
+        int blockCount = (versions.size() + blockSize - 1) / blockSize;
+        int[] offsets = new int[blockCount];
+        int offset = HEADER_SIZE + (blockCount * 4);
+        ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+        Encoder block = new Encoder();
+        Version previous = null;
+        int i = 0;
+
+        for (Version version : versions) {
+            Objects.requireNonNull(version, "The version number is required.");
+
+            if ((previous != null) && (previous.compareTo(version) > 0)) {
+                throw new IllegalArgumentException("The version numbers must be sorted by precedence.");
+            }
+
+            if ((i % blockSize) == 0) {
+                if (i > 0) {
+                    offset += block.writeTo(blocks);
+                }
+
+                offsets[i / blockSize] = offset;
+            }
+
+            block.write(version);
+
+            previous = version;
+            i++;
+        }
+
+        if (i > 0) {
+            block.writeTo(blocks);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + (blockCount * 4) + blocks.size());
+
+        buffer.putInt(MAGIC).putInt(versions.size()).putInt(blockSize).putInt(blockCount);
+
+        for (int blockOffset : offsets) {
+            buffer.putInt(blockOffset);
+        }
+
+        buffer.put(blocks.toByteArray());
+        buffer.flip();
+
+        return buffer;
+    }
+
+    /**
+     * Creates a view of an encoded history.
+     *
+     * <p>
+     * The history starts at the current position of the buffer. The buffer itself is not modified, but it must not
+     * be changed while the view is in use.
+     * </p>
+     *
+     * @param buffer The encoded history.
+     *
+     * @return The view.
+     */
+    public static VersionHistory wrap(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "The encoded history is required.");
+
+        return new VersionHistory(buffer.slice().order(ByteOrder.BIG_ENDIAN));
+    }
+
+    /**
+     * Decodes the version number at an index.
+     *
+     * <p>
+     * Only the block containing the version number is decoded.
+     * </p>
+     *
+     * @param index The index of the version number.
+     *
+     * @return The version number.
+     */
+    public Version get(int index) {
+        if ((index < 0) || (index >= count)) {
+            throw new IndexOutOfBoundsException(String.format("The index %d is out of bounds.", index));
+        }
+
+        Cursor cursor = new Cursor(index - (index % blockSize));
+
+        cursor.skip(index % blockSize);
+
+        return cursor.next();
+    }
+
+    /**
+     * Returns an iterator that decodes the version numbers in order.
+     *
+     * @return The iterator.
+     */
+    @Override
+    public Iterator<Version> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * Returns an iterator that decodes the version numbers in order, starting at an index.
+     *
+     * @param index The index of the first version number.
+     *
+     * @return The iterator.
+     */
+    public Iterator<Version> iterator(int index) {
+        if ((index < 0) || (index > count)) {
+            throw new IndexOutOfBoundsException(String.format("The index %d is out of bounds.", index));
+        }
+
+        Cursor cursor = new Cursor(index - (index % blockSize));
+
+        cursor.skip(index % blockSize);
+
+        return cursor;
+    }
+
+    /**
+     * Searches for a version number with equal precedence.
+     *
+     * <p>
+     * The first version number of each block is binary searched, only decoding its numbers (and its pre-release
+     * identifiers, if the numbers are equal) instead of the whole block, and then the matching blocks are decoded
+     * until a version number of equal or greater precedence is found.
+     * </p>
+     *
+     * @param version The version number to search for.
+     *
+     * @return The index of the first version number with equal precedence, if found. Otherwise,
+     *         <code>(-(insertion point) - 1)</code> is returned, as done by {@link java.util.Arrays#binarySearch}.
+     */
+    public int search(Version version) {
+        Objects.requireNonNull(version, "The version number to search for is required.");
+
+        int low = 0;
+        int high = blockCount - 1;
+        int block = 0;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (new Cursor(middle * blockSize).compareFirst(version) < 0) {
+                block = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        Cursor cursor = new Cursor(block * blockSize);
+
+        while (cursor.hasNext()) {
+            int index = cursor.index;
+            int result = cursor.next().compareTo(version);
+
+            if (result == 0) {
+                return index;
+            } else if (result > 0) {
+                return -index - 1;
+            }
+        }
+
+        return -count - 1;
+    }
+
+    /**
+     * Returns the number of version numbers.
+     *
+     * @return The number of version numbers.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Writes a variable length integer.
+     *
+     * @param output The output stream.
+     * @param value  The integer.
+     */
+    private static void writeVarInt(ByteArrayOutputStream output, int value) {
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        output.write(value);
+    }
+
+    /**
+     * Decodes the entries of the history in order.
+     */
+    private final class Cursor implements Iterator<Version> {
+
+        /**
+         * The build metadata of the previous version number.
+         */
+        private String[] build;
+
+        /**
+         * The identifiers used in the current block.
+         */
+        private String[] dictionary;
+
+        /**
+         * The index of the next version number.
+         */
+        private int index;
+
+        /**
+         * The major version number of the previous version number.
+         */
+        private int major;
+
+        /**
+         * The minor version number of the previous version number.
+         */
+        private int minor;
+
+        /**
+         * The patch version number of the previous version number.
+         */
+        private int patch;
+
+        /**
+         * The position of the next entry.
+         */
+        private int position;
+
+        /**
+         * The pre-release metadata of the previous version number.
+         */
+        private String[] preRelease;
+
+        /**
+         * Positions the cursor at the start of a block.
+         *
+         * @param index The index of the first version number in the block.
+         */
+        Cursor(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        @SneakyThrows(InvalidVersionException.class)
+        public Version next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more version numbers in the history.");
+            }
+
+            decode();
+
+            return Version.ofValid(major, minor, patch, preRelease, build);
+        }
+
+        /**
+         * Compares the first version number of the block the cursor is positioned at with another version number.
+         *
+         * <p>
+         * The dictionary is skipped over, and only the identifiers of the pre-release metadata are read from it, if the
+         * numbers are equal. The state of the cursor is not valid afterwards.
+         * </p>
+         *
+         * @param version The other version number.
+         *
+         * @return A negative integer, zero, or a positive integer as the first version number has less, equal, or
+         *         greater precedence.
+         */
+        @SneakyThrows(InvalidVersionException.class)
+        int compareFirst(Version version) {
+            position = buffer.getInt(HEADER_SIZE + ((index / blockSize) * 4)) + 4;
+
+            int dictionaryStart = position;
+
+            skipIdentifiers(readInt());
+
+            major = 0;
+            minor = 0;
+            patch = 0;
+
+            int flags = buffer.get(position++);
+
+            readCore(flags);
+
+            int result = Integer.compare(major, version.getMajor());
+
+            if (result == 0) {
+                result = Integer.compare(minor, version.getMinor());
+            }
+
+            if (result == 0) {
+                result = Integer.compare(patch, version.getPatch());
+            }
+
+            if (result != 0) {
+                return result;
+            }
+
+            if ((flags & PRE_RELEASE_CHANGED) == 0) {
+                return version.isPreRelease() ? 1 : 0;
+            }
+
+            readInt();
+
+            String[] identifiers = new String[readInt()];
+
+            for (int i = 0; i < identifiers.length; i++) {
+                int reference = readInt();
+                int next = position;
+
+                identifiers[i] = readIdentifier(dictionaryStart, reference);
+                position = next;
+            }
+
+            return Version.ofValid(major, minor, patch, identifiers, EMPTY).compareTo(version);
+        }
+
+        /**
+         * Skips over a number of entries.
+         *
+         * @param entries The number of entries to skip.
+         */
+        void skip(int entries) {
+            for (int i = 0; (i < entries) && hasNext(); i++) {
+                decode();
+            }
+        }
+
+        /**
+         * Decodes the next entry into the state of the cursor.
+         */
+        private void decode() {
+            if ((index % blockSize) == 0) {
+                readBlockHeader();
+            }
+
+            int flags = buffer.get(position++);
+
+            readCore(flags);
+
+            if ((flags & PRE_RELEASE_CHANGED) != 0) {
+                preRelease = readIdentifiers(preRelease);
+            }
+
+            if ((flags & BUILD_CHANGED) != 0) {
+                build = readIdentifiers(build);
+            }
+
+            index++;
+        }
+
+        /**
+         * Reads the header of the current block and resets the state of the cursor.
+         */
+        private void readBlockHeader() {
+            position = buffer.getInt(HEADER_SIZE + ((index / blockSize) * 4)) + 4;
+            dictionary = new String[readInt()];
+
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString();
+            }
+
+            major = 0;
+            minor = 0;
+            patch = 0;
+            preRelease = EMPTY;
+            build = EMPTY;
+        }
+
+        /**
+         * Reads the numbers of an entry that changed from the previous entry.
+         *
+         * @param flags The flags of the entry.
+         */
+        private void readCore(int flags) {
+            switch (flags & CORE_MASK) {
+                case CORE_MAJOR:
+                    major += readInt();
+                    minor = readInt();
+                    patch = readInt();
+                    break;
+
+                case CORE_MINOR:
+                    minor += readInt();
+                    patch = readInt();
+                    break;
+
+                case CORE_PATCH:
+                    patch += readInt();
+                    break;
+
+                case CORE_SAME:
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * Reads an identifier from the dictionary of the block, without reading the identifiers after it, and moves
+         * the position to the end of it.
+         *
+         * @param dictionaryStart The position of the dictionary.
+         * @param reference       The position of the identifier in the dictionary.
+         *
+         * @return The identifier.
+         */
+        private String readIdentifier(int dictionaryStart, int reference) {
+            position = dictionaryStart;
+
+            readInt();
+            skipIdentifiers(reference);
+
+            return readString();
+        }
+
+        /**
+         * Reads a group of identifiers that may share a prefix with the previous group.
+         *
+         * @param previous The previous group of identifiers.
+         *
+         * @return The identifiers.
+         */
+        private String[] readIdentifiers(String[] previous) {
+            int shared = readInt();
+            String[] identifiers = new String[shared + readInt()];
+
+            System.arraycopy(previous, 0, identifiers, 0, shared);
+
+            for (int i = shared; i < identifiers.length; i++) {
+                identifiers[i] = dictionary[readInt()];
+            }
+
+            return identifiers;
+        }
+
+        /**
+         * Reads a variable length integer and advances the position.
+         *
+         * @return The integer.
+         */
+        private int readInt() {
+            int value = 0;
+            int shift = 0;
+            byte current;
+
+            do {
+                current = buffer.get(position++);
+                value |= (current & 0x7F) << shift;
+                shift += 7;
+            } while (current < 0);
+
+            return value;
+        }
+
+        /**
+         * Reads an identifier from the dictionary and advances the position.
+         *
+         * @return The identifier.
+         */
+        private String readString() {
+            byte[] bytes = new byte[readInt()];
+
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(position++);
+            }
+
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+
+        /**
+         * Skips over identifiers in the dictionary.
+         *
+         * @param identifiers The number of identifiers to skip.
+         */
+        private void skipIdentifiers(int identifiers) {
+            for (int i = 0; i < identifiers; i++) {
+                int length = readInt();
+
+                position += length;
+            }
+        }
+    }
+
+    /**
+     * Encodes the entries of a single block.
+     */
+    private static final class Encoder {
+
+        /**
+         * The identifiers used in the block, and their position in the dictionary.
+         */
+        private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+
+        /**
+         * The encoded entries.
+         */
+        private final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+
+        /**
+         * The previous version number in the block, starting with 0.0.0 for the first entry.
+         */
+        private Version previous = Version.DEFAULT;
+
+        /**
+         * Encodes a version number relative to the previous one in the block.
+         *
+         * @param version The version number.
+         */
+        void write(Version version) {
+            int majorDelta = version.getMajor() - previous.getMajor();
+            int minorDelta = version.getMinor() - previous.getMinor();
+            int patchDelta = version.getPatch() - previous.getPatch();
+            boolean preReleaseChanged = !Arrays.equals(previous.getPreRelease(), version.getPreRelease());
+            boolean buildChanged = !Arrays.equals(previous.getBuild(), version.getBuild());
+            int flags = (preReleaseChanged ? PRE_RELEASE_CHANGED : 0) | (buildChanged ? BUILD_CHANGED : 0);
+
+            if (majorDelta > 0) {
+                entries.write(flags | CORE_MAJOR);
+                writeVarInt(entries, majorDelta);
+                writeVarInt(entries, version.getMinor());
+                writeVarInt(entries, version.getPatch());
+            } else if (minorDelta > 0) {
+                entries.write(flags | CORE_MINOR);
+                writeVarInt(entries, minorDelta);
+                writeVarInt(entries, version.getPatch());
+            } else if (patchDelta > 0) {
+                entries.write(flags | CORE_PATCH);
+                writeVarInt(entries, patchDelta);
+            } else {
+                entries.write(flags | CORE_SAME);
+            }
+
+            if (preReleaseChanged) {
+                writeIdentifiers(previous.getPreRelease(), version.getPreRelease());
+            }
+
+            if (buildChanged) {
+                writeIdentifiers(previous.getBuild(), version.getBuild());
+            }
+
+            previous = version;
+        }
+
+        /**
+         * Writes the block header and entries, and resets the encoder for the next block.
+         *
+         * @param output The output stream.
+         *
+         * @return The number of bytes written.
+         */
+        int writeTo(ByteArrayOutputStream output) {
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+
+            writeVarInt(header, dictionary.size());
+
+            for (String identifier : dictionary.keySet()) {
+                byte[] bytes = identifier.getBytes(StandardCharsets.US_ASCII);
+
+                writeVarInt(header, bytes.length);
+                header.write(bytes, 0, bytes.length);
+            }
+
+            int size = header.size() + entries.size();
+
+            output.write(size >>> 24);
+            output.write(size >>> 16);
+            output.write(size >>> 8);
+            output.write(size);
+            output.write(header.toByteArray(), 0, header.size());
+            output.write(entries.toByteArray(), 0, entries.size());
+
+            dictionary.clear();
+            entries.reset();
+            previous = Version.DEFAULT;
+
+            return size + 4;
+        }
+
+        /**
+         * Writes a group of identifiers, omitting the prefix shared with the previous group.
+         *
+         * @param previous    The previous group of identifiers.
+         * @param identifiers The identifiers.
+         */
+        private void writeIdentifiers(String[] previous, String[] identifiers) {
+            int shared = 0;
+
+            while ((shared < previous.length)
+                && (shared < identifiers.length)
+                && previous[shared].equals(identifiers[shared])) {
+                shared++;
+            }
+
+            writeVarInt(entries, shared);
+            writeVarInt(entries, identifiers.length - shared);
+
+            for (int i = shared; i < identifiers.length; i++) {
+                Integer position = dictionary.get(identifiers[i]);
+
+                if (position == null) {
+                    position = dictionary.size();
+
+                    dictionary.put(identifiers[i], position);
+                }
+
+                writeVarInt(entries, position);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.herrera.kevin.semver.encoding;
+
+import io.herrera.kevin.semver.Version;
+import java.util.Objects;
+
+/**
+ * Packs the version numbers of a semantic version number into a single <code>long</code> sort key.
+ *
+ * <p>
+ * The major, minor, and patch version numbers are stored in 21 bits each, followed by a single bit that is set if the
+ * version number does not have any pre-release metadata. When compared as unsigned integers, two keys are ordered the
+ * same way as the version numbers they were packed from. If two keys are equal and the release bit is not set, the
+ * version numbers must still be compared to determine their precedence.
+ * </p>
+ *
+ * <pre>
+ * 63       43 42       22 21        1 0
+ * [  major  ] [  minor  ] [  patch  ] [release]
+ * </pre>
+ */
+public final class VersionKey {
+
+    /**
+     * The largest version number that can be packed.
+     */
+    public static final int MAX_NUMBER = (1 << 21) - 1;
+
+    /**
+     * The bit that is set if the version number does not have any pre-release metadata.
+     */
+    private static final long RELEASE = 1L;
+
+    /**
+     * Compares two keys.
+     *
+     * @param left  The left hand side.
+     * @param right The right hand side.
+     *
+     * @return A negative integer, zero, or a positive integer as the left key is less than, equal to, or greater than
+     *         the right key.
+     */
+    public static int compare(long left, long right) {
+        return Long.compareUnsigned(left, right);
+    }
+
+    /**
+     * Checks if the version number in a key has pre-release metadata.
+     *
+     * @param key The key.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+     */
+    public static boolean hasPreRelease(long key) {
+        return (key & RELEASE) == 0;
+    }
+
+    /**
+     * Checks if a version number can be packed into a key.
+     *
+     * @param version The version number.
+     *
+     * @return Returns <code>true</code> if it can, or <code>false</code> if not.
+     */
+    public static boolean isPackable(Version version) {
+        Objects.requireNonNull(version, "The version number is required.");
+
+        return (version.getMajor() <= MAX_NUMBER)
+            && (version.getMinor() <= MAX_NUMBER)
+            && (version.getPatch() <= MAX_NUMBER);
+    }
+
+    /**
+     * Returns the major version number in a key.
+     *
+     * @param key The key.
+     *
+     * @return The major version number.
+     */
+    public static int major(long key) {
+        return (int) (key >>> 43);
+    }
+
+    /**
+     * Returns the minor version number in a key.
+     *
+     * @param key The key.
+     *
+     * @return The minor version number.
+     */
+    public static int minor(long key) {
+        return (int) ((key >>> 22) & MAX_NUMBER);
+    }
+
+    /**
+     * Packs a version number into a key.
+     *
+     * @param version The version number.
+     *
+     * @return The key.
+     *
+     * @throws IllegalArgumentException If the version number cannot be packed.
+     */
+    public static long pack(Version version) {
+        if (!isPackable(version)) {
+            throw new IllegalArgumentException(
+                String.format("The version number \"%s\" is too large to be packed.", version)
+            );
+        }
+
+        return ((long) version.getMajor() << 43)
+            | ((long) version.getMinor() << 22)
+            | ((long) version.getPatch() << 1)
+            | ((version.getPreRelease().length == 0) ? RELEASE : 0);
+    }
+
+    /**
+     * Returns the patch version number in a key.
+     *
+     * @param key The key.
+     *
+     * @return The patch version number.
+     */
+    public static int patch(long key) {
+        return (int) ((key >>> 1) & MAX_NUMBER);
+    }
+
+    private VersionKey() {
+        // Should not be instantiated.
+    }
+}
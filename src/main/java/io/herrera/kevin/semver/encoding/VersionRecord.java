@@ -0,0 +1,136 @@
+package io.herrera.kevin.semver.encoding;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Reads and writes version numbers as binary records that start with their sort key.
+ *
+ * <p>
+ * Each record starts with a flag that indicates if the version number could be packed into a {@link VersionKey}. If
+ * it could, the key follows, otherwise the major, minor, and patch version numbers follow. The pre-release and build
+ * metadata identifiers are written last, each group preceded by the number of identifiers in it.
+ * </p>
+ *
+ * <pre>
+ * byte     flags
+ * long     key                   (if packed)
+ * int[3]   major, minor, patch   (if not packed)
+ * short    pre-release count, followed by UTF identifiers
+ * short    build count, followed by UTF identifiers
+ * </pre>
+ */
+public final class VersionRecord {
+
+    /**
+     * Indicates that the version numbers were packed into a key.
+     */
+    private static final int PACKED = 0x01;
+
+    /**
+     * Reads a version number.
+     *
+     * @param input The input stream.
+     *
+     * @return The version number, or <code>null</code> if the end of the stream was reached.
+     *
+     * @throws InvalidVersionException If the record is not a valid semantic version number.
+     * @throws IOException             If the record could not be read.
+     */
+    public static Version read(DataInputStream input) throws InvalidVersionException, IOException {
+        Objects.requireNonNull(input, "The input stream is required.");
+
+        int flags = input.read();
+
+        if (flags < 0) {
+            return null;
+        }
+
+        int major;
+        int minor;
+        int patch;
+
+        if ((flags & PACKED) != 0) {
+            long key = input.readLong();
+
+            major = VersionKey.major(key);
+            minor = VersionKey.minor(key);
+            patch = VersionKey.patch(key);
+        } else {
+            major = input.readInt();
+            minor = input.readInt();
+            patch = input.readInt();
+        }
+
+        return new Version(major, minor, patch, readIdentifiers(input), readIdentifiers(input));
+    }
+
+    /**
+     * Writes a version number.
+     *
+     * @param output  The output stream.
+     * @param version The version number.
+     *
+     * @throws IOException If the record could not be written.
+     */
+    public static void write(DataOutput output, Version version) throws IOException {
+        Objects.requireNonNull(output, "The output stream is required.");
+        Objects.requireNonNull(version, "The version number is required.");
+
+        if (VersionKey.isPackable(version)) {
+            output.writeByte(PACKED);
+            output.writeLong(VersionKey.pack(version));
+        } else {
+            output.writeByte(0);
+            output.writeInt(version.getMajor());
+            output.writeInt(version.getMinor());
+            output.writeInt(version.getPatch());
+        }
+
+        writeIdentifiers(output, version.getPreRelease());
+        writeIdentifiers(output, version.getBuild());
+    }
+
+    /**
+     * Reads a group of metadata identifiers.
+     *
+     * @param input The input stream.
+     *
+     * @return The identifiers.
+     *
+     * @throws IOException If the identifiers could not be read.
+     */
+    private static String[] readIdentifiers(DataInputStream input) throws IOException {
+        String[] identifiers = new String[input.readUnsignedShort()];
+
+        for (int i = 0; i < identifiers.length; i++) {
+            identifiers[i] = input.readUTF();
+        }
+
+        return identifiers;
+    }
+
+    /**
+     * Writes a group of metadata identifiers.
+     *
+     * @param output      The output stream.
+     * @param identifiers The identifiers.
+     *
+     * @throws IOException If the identifiers could not be written.
+     */
+    private static void writeIdentifiers(DataOutput output, String[] identifiers) throws IOException {
+        output.writeShort(identifiers.length);
+
+        for (String identifier : identifiers) {
+            output.writeUTF(identifier);
+        }
+    }
+
+    private VersionRecord() {
+        // Should not be instantiated.
+    }
+}
@@ -0,0 +1,154 @@
+package io.herrera.kevin.semver.encoding;
+
+import io.herrera.kevin.semver.Version;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+/**
+ * Writes many version numbers as text, one per line, without creating their string representations.
+ *
+ * <p>
+ * Each version number is formatted into a buffer that is reused for the whole array, and the buffer is written out
+ * whenever it is full. The version numbers are written as ASCII, which is also valid UTF-8, and each one is followed by
+ * a line feed.
+ * </p>
+ */
+public final class VersionText {
+
+    /**
+     * The size of the buffer, in characters or bytes.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The character that follows each version number.
+     */
+    private static final char SEPARATOR = '\n';
+
+    private VersionText() {
+        // Should not be instantiated.
+    }
+
+    /**
+     * Writes version numbers to a channel.
+     *
+     * @param versions The version numbers.
+     * @param channel  The channel to write to.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException If the channel could not be written to.
+     */
+    public static long write(Version[] versions, WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+        Objects.requireNonNull(channel, "The channel is required.");
+
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long written = 0;
+
+        for (Version version : versions) {
+            int length = version.formattedLength() + 1;
+
+            if (buffer.remaining() < length) {
+                written += drain(buffer, channel);
+
+                if (buffer.capacity() < length) {
+                    buffer = ByteBuffer.allocate(length);
+                }
+            }
+
+            version.writeTo(buffer);
+            buffer.put((byte) SEPARATOR);
+        }
+
+        return written + drain(buffer, channel);
+    }
+
+    /**
+     * Writes version numbers to a writer.
+     *
+     * <p>
+     * The writer is not flushed.
+     * </p>
+     *
+     * @param versions The version numbers.
+     * @param writer   The writer to write to.
+     *
+     * @return The number of characters written.
+     *
+     * @throws IOException If the writer could not be written to.
+     */
+    public static long write(Version[] versions, Writer writer) throws IOException {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+        Objects.requireNonNull(writer, "The writer is required.");
+
+        StringBuilder builder = new StringBuilder(BUFFER_SIZE);
+        char[] chars = new char[BUFFER_SIZE];
+        long written = 0;
+
+        for (Version version : versions) {
+            if (builder.length() + version.formattedLength() + 1 > BUFFER_SIZE) {
+                written += flush(builder, chars, writer);
+            }
+
+            version.appendTo(builder).append(SEPARATOR);
+
+            if (builder.length() > BUFFER_SIZE) {
+                written += flush(builder, chars, writer);
+            }
+        }
+
+        return written + flush(builder, chars, writer);
+    }
+
+    /**
+     * Writes the contents of a buffer to a channel, and then clears the buffer.
+     *
+     * @param buffer  The buffer.
+     * @param channel The channel to write to.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException If the channel could not be written to.
+     */
+    private static int drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException {
+        int written = buffer.flip().remaining();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+
+        return written;
+    }
+
+    /**
+     * Writes the contents of a builder to a writer, and then empties the builder.
+     *
+     * @param builder The builder.
+     * @param chars   The array to copy the contents into.
+     * @param writer  The writer to write to.
+     *
+     * @return The number of characters written.
+     *
+     * @throws IOException If the writer could not be written to.
+     */
+    private static int flush(StringBuilder builder, char[] chars, Writer writer) throws IOException {
+        int written = builder.length();
+
+        for (int start = 0; start < written; start += chars.length) {
+            int end = Math.min(written, start + chars.length);
+
+            builder.getChars(start, end, chars, 0);
+            writer.write(chars, 0, end - start);
+        }
+
+        builder.setLength(0);
+
+        return written;
+    }
+}
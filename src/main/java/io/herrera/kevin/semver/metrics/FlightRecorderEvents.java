@@ -0,0 +1,64 @@
+package io.herrera.kevin.semver.metrics;
+
+/**
+ * Commits JDK Flight Recorder events for {@link FlightRecorderMetrics}.
+ *
+ * <p>
+ * Flight Recorder events cannot be created before Java 11, so this version does nothing. The library jar is a
+ * multi-release jar with a version of this class for Java 11 or later that commits the events.
+ * </p>
+ */
+final class FlightRecorderEvents {
+
+    /**
+     * Commits an event for an eviction from a cache.
+     *
+     * @param cache The name of the cache.
+     * @param count The number of entries evicted.
+     */
+    static void cacheEvicted(String cache, int count) {
+    }
+
+    /**
+     * Commits an event for a constraint evaluation.
+     *
+     * @param name   The name of the constraint.
+     * @param passed Indicates that the version number passed the constraint.
+     * @param nanos  The time it took, in nanoseconds.
+     */
+    static void constraintEvaluated(String name, boolean passed, long nanos) {
+    }
+
+    /**
+     * Checks if the events are committed.
+     *
+     * @return Returns <code>true</code> if they are, or <code>false</code> if not.
+     */
+    static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Commits an event for a parse.
+     *
+     * @param string The string.
+     * @param reason The reason it could not be parsed, or <code>null</code> if it was.
+     * @param nanos  The time it took, in nanoseconds.
+     */
+    static void parsed(String string, ParseFailure reason, long nanos) {
+    }
+
+    /**
+     * Commits an event for a resolver step.
+     *
+     * @param step  The name of the step.
+     * @param name  The name of the package, or <code>null</code> for the root package.
+     * @param nanos The time it took, in nanoseconds.
+     */
+    static void resolverStep(String step, String name, long nanos) {
+    }
+
+    private FlightRecorderEvents() {
+        // Should not be instantiated.
+    }
+}
@@ -0,0 +1,221 @@
+package io.herrera.kevin.semver.metrics;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Records slow operations as JDK Flight Recorder events.
+ *
+ * <p>
+ * An event is committed for each parse, constraint evaluation, and resolver step that takes at least as long as its
+ * threshold, and for each eviction from a cache. The events are in the <code>Semantic Versioning</code> category:
+ * </p>
+ *
+ * <ul>
+ *   <li><code>io.herrera.kevin.semver.Parse</code>, with the string and, if it is not valid, the reason.</li>
+ *   <li><code>io.herrera.kevin.semver.ConstraintEvaluation</code>, with the name of the constraint and the
+ *       result.</li>
+ *   <li><code>io.herrera.kevin.semver.CacheEviction</code>, with the name of the cache and the number of entries
+ *       evicted.</li>
+ *   <li><code>io.herrera.kevin.semver.ResolverStep</code>, with the name of the step and of the package.</li>
+ * </ul>
+ *
+ * <p>
+ * The events are created and committed after the operation has finished, when it is known how long it took, so their
+ * start time is the end of the operation and their duration is zero. The time the operation took is in the
+ * <code>elapsed</code> field instead, and only the thresholds set here decide which operations are slow: the
+ * <code>threshold</code> recording setting has no effect on these event types. Each event type can still be enabled
+ * or disabled in the recording settings, like any other event type.
+ * </p>
+ *
+ * <p>
+ * The events are only recorded on Java 11 or later, since the <code>jdk.jfr</code> module is used by a class that is
+ * only in the Java 11 part of the (multi-release) library jar. On older versions, the measurements are only passed on
+ * to the delegate.
+ * </p>
+ */
+public final class FlightRecorderMetrics implements Metrics {
+
+    /**
+     * The default threshold for constraint evaluations.
+     */
+    public static final Duration DEFAULT_CONSTRAINT_THRESHOLD = Duration.ofNanos(100_000);
+
+    /**
+     * The default threshold for parses.
+     */
+    public static final Duration DEFAULT_PARSE_THRESHOLD = Duration.ofNanos(100_000);
+
+    /**
+     * The default threshold for resolver steps.
+     */
+    public static final Duration DEFAULT_RESOLVER_THRESHOLD = Duration.ofMillis(1);
+
+    /**
+     * The threshold for constraint evaluations, in nanoseconds.
+     */
+    private volatile long constraintThreshold = DEFAULT_CONSTRAINT_THRESHOLD.toNanos();
+
+    /**
+     * The implementation the measurements are also passed on to, if any.
+     */
+    private final Metrics delegate;
+
+    /**
+     * The threshold for parses, in nanoseconds.
+     */
+    private volatile long parseThreshold = DEFAULT_PARSE_THRESHOLD.toNanos();
+
+    /**
+     * The threshold for resolver steps, in nanoseconds.
+     */
+    private volatile long resolverThreshold = DEFAULT_RESOLVER_THRESHOLD.toNanos();
+
+    /**
+     * Records the events without passing the measurements on.
+     */
+    public FlightRecorderMetrics() {
+        this(null);
+    }
+
+    /**
+     * Records the events and passes the measurements on to another implementation.
+     *
+     * @param delegate The other implementation, or <code>null</code> if there is none.
+     */
+    public FlightRecorderMetrics(Metrics delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Checks if the events can be recorded by the running Java version.
+     *
+     * @return Returns <code>true</code> if they can, or <code>false</code> if not.
+     */
+    public static boolean isSupported() {
+        return FlightRecorderEvents.isSupported();
+    }
+
+    @Override
+    public void cacheEvicted(String cache, int count) {
+        if (delegate != null) {
+            delegate.cacheEvicted(cache, count);
+        }
+
+        FlightRecorderEvents.cacheEvicted(cache, count);
+    }
+
+    @Override
+    public void cacheHit(String cache) {
+        if (delegate != null) {
+            delegate.cacheHit(cache);
+        }
+    }
+
+    @Override
+    public void cacheMiss(String cache) {
+        if (delegate != null) {
+            delegate.cacheMiss(cache);
+        }
+    }
+
+    @Override
+    public void constraintEvaluated(String name, boolean passed, long nanos) {
+        if (delegate != null) {
+            delegate.constraintEvaluated(name, passed, nanos);
+        }
+
+        if (nanos >= constraintThreshold) {
+            FlightRecorderEvents.constraintEvaluated(name, passed, nanos);
+        }
+    }
+
+    @Override
+    public void parseFailed(String string, ParseFailure reason, long nanos) {
+        if (delegate != null) {
+            delegate.parseFailed(string, reason, nanos);
+        }
+
+        if (nanos >= parseThreshold) {
+            FlightRecorderEvents.parsed(string, reason, nanos);
+        }
+    }
+
+    @Override
+    public void parseSucceeded(String string, long nanos) {
+        if (delegate != null) {
+            delegate.parseSucceeded(string, nanos);
+        }
+
+        if (nanos >= parseThreshold) {
+            FlightRecorderEvents.parsed(string, null, nanos);
+        }
+    }
+
+    @Override
+    public void resolverStep(String step, String name, long nanos) {
+        if (delegate != null) {
+            delegate.resolverStep(step, name, nanos);
+        }
+
+        if (nanos >= resolverThreshold) {
+            FlightRecorderEvents.resolverStep(step, name, nanos);
+        }
+    }
+
+    /**
+     * Sets the threshold for constraint evaluations.
+     *
+     * @param threshold The minimum time an evaluation must take to be recorded.
+     *
+     * @return A fluent interface.
+     */
+    public FlightRecorderMetrics setConstraintThreshold(Duration threshold) {
+        constraintThreshold = toNanos(threshold);
+
+        return this;
+    }
+
+    /**
+     * Sets the threshold for parses.
+     *
+     * @param threshold The minimum time a parse must take to be recorded.
+     *
+     * @return A fluent interface.
+     */
+    public FlightRecorderMetrics setParseThreshold(Duration threshold) {
+        parseThreshold = toNanos(threshold);
+
+        return this;
+    }
+
+    /**
+     * Sets the threshold for resolver steps.
+     *
+     * @param threshold The minimum time a step must take to be recorded.
+     *
+     * @return A fluent interface.
+     */
+    public FlightRecorderMetrics setResolverThreshold(Duration threshold) {
+        resolverThreshold = toNanos(threshold);
+
+        return this;
+    }
+
+    /**
+     * Converts a threshold to nanoseconds.
+     *
+     * @param threshold The threshold.
+     *
+     * @return The threshold, in nanoseconds.
+     */
+    private static long toNanos(Duration threshold) {
+        Objects.requireNonNull(threshold, "The threshold is required.");
+
+        if (threshold.isNegative()) {
+            throw new IllegalArgumentException("The threshold must not be negative.");
+        }
+
+        return threshold.toNanos();
+    }
+}
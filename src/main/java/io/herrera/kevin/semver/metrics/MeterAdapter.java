@@ -0,0 +1,229 @@
+package io.herrera.kevin.semver.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Records measurements to the counters and timers of a metrics library.
+ *
+ * <p>
+ * The adapter does not depend on any metrics library. Instead, it is given a factory for counters and a factory for
+ * timers, each of which creates a meter for a name and tags (given as pairs of keys and values), and returns a
+ * {@link LongConsumer} that records to it. A meter is only created once for each name and tags. With Micrometer:
+ * </p>
+ *
+ * <pre>
+ * MetricsProvider.set(new MeterAdapter(
+ *     (name, tags) -&gt; registry.counter(name, tags)::increment,
+ *     (name, tags) -&gt; {
+ *         Timer timer = registry.timer(name, tags);
+ *
+ *         return nanos -&gt; timer.record(nanos, TimeUnit.NANOSECONDS);
+ *     }
+ * ));
+ * </pre>
+ *
+ * <p>
+ * With Dropwizard Metrics, which has no tags, the tag values can be added to the name:
+ * </p>
+ *
+ * <pre>
+ * MetricsProvider.set(new MeterAdapter(
+ *     (name, tags) -&gt; registry.counter(MetricRegistry.name(name, values(tags)))::inc,
+ *     (name, tags) -&gt; {
+ *         Timer timer = registry.timer(MetricRegistry.name(name, values(tags)));
+ *
+ *         return nanos -&gt; timer.update(nanos, TimeUnit.NANOSECONDS);
+ *     }
+ * ));
+ * </pre>
+ *
+ * <p>
+ * The following meters are created:
+ * </p>
+ *
+ * <ul>
+ *   <li><code>semver.parse</code>: a timer of parse attempts, tagged with the <code>result</code>
+ *       (<code>success</code> or <code>failure</code>) and, for failures, the <code>reason</code>. The number of
+ *       attempts is the count of the timer.</li>
+ *   <li><code>semver.cache</code>: a counter of cache lookups, tagged with the <code>cache</code> name and the
+ *       <code>result</code> (<code>hit</code> or <code>miss</code>).</li>
+ *   <li><code>semver.cache.evictions</code>: a counter of evicted cache entries, tagged with the <code>cache</code>
+ *       name.</li>
+ *   <li><code>semver.constraint</code>: a timer of constraint evaluations, tagged with the <code>constraint</code>
+ *       name and the <code>result</code> (<code>pass</code> or <code>fail</code>).</li>
+ *   <li><code>semver.resolver</code>: a timer of resolver steps, tagged with the <code>step</code>.</li>
+ * </ul>
+ */
+public final class MeterAdapter implements Metrics {
+
+    /**
+     * The name of the counter of cache lookups.
+     */
+    public static final String CACHE = "semver.cache";
+
+    /**
+     * The name of the counter of evicted cache entries.
+     */
+    public static final String CACHE_EVICTIONS = "semver.cache.evictions";
+
+    /**
+     * The name of the timer of constraint evaluations.
+     */
+    public static final String CONSTRAINT = "semver.constraint";
+
+    /**
+     * The name of the timer of parse attempts.
+     */
+    public static final String PARSE = "semver.parse";
+
+    /**
+     * The name of the timer of resolver steps.
+     */
+    public static final String RESOLVER = "semver.resolver";
+
+    /**
+     * The counters for each cache, by name: hits, misses, and evictions.
+     */
+    private final Map<String, LongConsumer[]> caches = new ConcurrentHashMap<>();
+
+    /**
+     * The timers for each constraint, by name: failures and passes.
+     */
+    private final Map<String, LongConsumer[]> constraints = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the counters.
+     */
+    private final MeterFactory counters;
+
+    /**
+     * The timers of parse failures, by reason.
+     */
+    private final LongConsumer[] parseFailures;
+
+    /**
+     * The timer of parse successes.
+     */
+    private final LongConsumer parseSuccesses;
+
+    /**
+     * The timers for each resolver step, by name.
+     */
+    private final Map<String, LongConsumer> steps = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the timers.
+     */
+    private final MeterFactory timers;
+
+    /**
+     * Sets the factories for the meters.
+     *
+     * @param counters Creates a counter, returning a consumer that increments it by an amount.
+     * @param timers   Creates a timer, returning a consumer that records a duration in nanoseconds.
+     */
+    public MeterAdapter(MeterFactory counters, MeterFactory timers) {
+        Objects.requireNonNull(counters, "The factory for counters is required.");
+        Objects.requireNonNull(timers, "The factory for timers is required.");
+
+        this.counters = counters;
+        this.parseFailures = new LongConsumer[ParseFailure.values().length];
+        this.parseSuccesses = timers.create(PARSE, "result", "success");
+        this.timers = timers;
+
+        for (ParseFailure reason : ParseFailure.values()) {
+            parseFailures[reason.ordinal()] = timers.create(PARSE, "result", "failure", "reason", reason.name());
+        }
+    }
+
+    @Override
+    public void cacheEvicted(String cache, int count) {
+        cache(cache)[2].accept(count);
+    }
+
+    @Override
+    public void cacheHit(String cache) {
+        cache(cache)[0].accept(1);
+    }
+
+    @Override
+    public void cacheMiss(String cache) {
+        cache(cache)[1].accept(1);
+    }
+
+    @Override
+    public void constraintEvaluated(String name, boolean passed, long nanos) {
+        LongConsumer[] meters = constraints.get(name);
+
+        if (meters == null) {
+            meters = constraints.computeIfAbsent(name, key -> new LongConsumer[]{
+                timers.create(CONSTRAINT, "constraint", key, "result", "fail"),
+                timers.create(CONSTRAINT, "constraint", key, "result", "pass")
+            });
+        }
+
+        meters[passed ? 1 : 0].accept(nanos);
+    }
+
+    @Override
+    public void parseFailed(String string, ParseFailure reason, long nanos) {
+        parseFailures[reason.ordinal()].accept(nanos);
+    }
+
+    @Override
+    public void parseSucceeded(String string, long nanos) {
+        parseSuccesses.accept(nanos);
+    }
+
+    @Override
+    public void resolverStep(String step, String name, long nanos) {
+        LongConsumer timer = steps.get(step);
+
+        if (timer == null) {
+            timer = steps.computeIfAbsent(step, key -> timers.create(RESOLVER, "step", key));
+        }
+
+        timer.accept(nanos);
+    }
+
+    /**
+     * Returns the counters for a cache, creating them if needed.
+     *
+     * @param name The name of the cache.
+     *
+     * @return The counters for hits, misses, and evictions.
+     */
+    private LongConsumer[] cache(String name) {
+        LongConsumer[] meters = caches.get(name);
+
+        if (meters == null) {
+            meters = caches.computeIfAbsent(name, key -> new LongConsumer[]{
+                counters.create(CACHE, "cache", key, "result", "hit"),
+                counters.create(CACHE, "cache", key, "result", "miss"),
+                counters.create(CACHE_EVICTIONS, "cache", key)
+            });
+        }
+
+        return meters;
+    }
+
+    /**
+     * Creates a meter in a metrics library.
+     */
+    @FunctionalInterface
+    public interface MeterFactory {
+
+        /**
+         * Creates a meter, or returns the one that already exists.
+         *
+         * @param name The name of the meter.
+         * @param tags The tags of the meter, as pairs of keys and values.
+         *
+         * @return A consumer that records a value to the meter.
+         */
+        LongConsumer create(String name, String... tags);
+    }
+}
@@ -0,0 +1,88 @@
+package io.herrera.kevin.semver.metrics;
+
+/**
+ * Receives measurements of parsing, caching, constraint evaluation, and resolution.
+ *
+ * <p>
+ * This is the service provider interface for metrics. Every method does nothing by default, so an implementation only
+ * needs to override the measurements it is interested in. The implementation in use is managed by
+ * {@link MetricsProvider}, and {@link MeterAdapter} binds the measurements to the meters of a metrics library (e.g.
+ * Micrometer or Dropwizard Metrics).
+ * </p>
+ *
+ * <p>
+ * The methods are called on the thread doing the work, often on a hot path, so they must be thread safe and should
+ * return quickly.
+ * </p>
+ */
+public interface Metrics {
+
+    /**
+     * Records that entries were evicted from a cache.
+     *
+     * @param cache The name of the cache.
+     * @param count The number of entries evicted.
+     */
+    default void cacheEvicted(String cache, int count) {
+    }
+
+    /**
+     * Records that an entry was found in a cache.
+     *
+     * @param cache The name of the cache.
+     */
+    default void cacheHit(String cache) {
+    }
+
+    /**
+     * Records that an entry was not found in a cache.
+     *
+     * @param cache The name of the cache.
+     */
+    default void cacheMiss(String cache) {
+    }
+
+    /**
+     * Records that a named constraint was applied to a version number.
+     *
+     * @param name   The name of the constraint.
+     * @param passed Indicates that the version number passed the constraint.
+     * @param nanos  The time it took, in nanoseconds.
+     */
+    default void constraintEvaluated(String name, boolean passed, long nanos) {
+    }
+
+    /**
+     * Records that a string could not be parsed as a version number.
+     *
+     * @param string The string.
+     * @param reason The reason it could not be parsed.
+     * @param nanos  The time it took, in nanoseconds.
+     */
+    default void parseFailed(String string, ParseFailure reason, long nanos) {
+    }
+
+    /**
+     * Records that a string was parsed as a version number.
+     *
+     * @param string The string.
+     * @param nanos  The time it took, in nanoseconds.
+     */
+    default void parseSucceeded(String string, long nanos) {
+    }
+
+    /**
+     * Records that the resolver took a step.
+     *
+     * <p>
+     * The resolver alternates between two steps: <code>propagate</code> derives what follows from the decisions made
+     * so far about a package, and <code>choose</code> chooses the next package and the version to decide on.
+     * </p>
+     *
+     * @param step  The name of the step.
+     * @param name  The name of the package, or <code>null</code> for the root package with the requirements.
+     * @param nanos The time it took, in nanoseconds.
+     */
+    default void resolverStep(String step, String name, long nanos) {
+    }
+}
@@ -0,0 +1,70 @@
+package io.herrera.kevin.semver.metrics;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Manages the metrics implementation that measurements are recorded to.
+ *
+ * <p>
+ * Metrics are disabled by default, in which case measurements are recorded to an implementation that does nothing,
+ * and the instrumented code skips any work that is only needed to take a measurement (e.g. reading the clock). The
+ * first implementation registered as a {@link ServiceLoader service} for {@link Metrics} is used when the class is
+ * loaded, if any, and another can be set at any time.
+ * </p>
+ */
+public final class MetricsProvider {
+
+    /**
+     * The implementation that does nothing.
+     */
+    private static final Metrics NOOP = new Metrics() {
+    };
+
+    /**
+     * The implementation in use.
+     */
+    private static volatile Metrics current = load();
+
+    /**
+     * Returns the implementation in use.
+     *
+     * @return The implementation, which does nothing if metrics are disabled.
+     */
+    public static Metrics get() {
+        return current;
+    }
+
+    /**
+     * Checks if metrics are enabled.
+     *
+     * @return Returns <code>true</code> if they are, or <code>false</code> if not.
+     */
+    public static boolean isEnabled() {
+        return current != NOOP;
+    }
+
+    /**
+     * Sets the implementation to use.
+     *
+     * @param metrics The implementation, or <code>null</code> to disable metrics.
+     */
+    public static void set(Metrics metrics) {
+        current = (metrics == null) ? NOOP : metrics;
+    }
+
+    /**
+     * Loads the first implementation registered as a service.
+     *
+     * @return The implementation, or the one that does nothing if none is registered.
+     */
+    private static Metrics load() {
+        Iterator<Metrics> services = ServiceLoader.load(Metrics.class).iterator();
+
+        return services.hasNext() ? services.next() : NOOP;
+    }
+
+    private MetricsProvider() {
+        // Should not be instantiated.
+    }
+}
@@ -0,0 +1,122 @@
+package io.herrera.kevin.semver.metrics;
+
+import io.herrera.kevin.semver.Identifiers;
+import java.util.Objects;
+
+/**
+ * The reasons a string could not be parsed as a semantic version number.
+ */
+public enum ParseFailure {
+
+    /**
+     * The string is empty.
+     */
+    EMPTY,
+
+    /**
+     * The build metadata has an empty identifier or an identifier with a character that is not allowed.
+     */
+    INVALID_BUILD,
+
+    /**
+     * The major, minor, and patch version numbers are missing, incomplete, or not made of digits.
+     */
+    INVALID_CORE,
+
+    /**
+     * The pre-release metadata has an empty identifier, an identifier with a character that is not allowed, or a
+     * numeric identifier with a leading zero.
+     */
+    INVALID_PRE_RELEASE,
+
+    /**
+     * A major, minor, or patch version number has a leading zero.
+     */
+    LEADING_ZERO,
+
+    /**
+     * A major, minor, or patch version number is too large to be represented.
+     */
+    NUMBER_TOO_LARGE;
+
+    /**
+     * Finds the reason a string could not be parsed as a semantic version number.
+     *
+     * <p>
+     * The string is validated by {@link Identifiers#findInvalid(CharSequence, int, int)}, so the reason given is for
+     * the first part of the string that is not valid.
+     * </p>
+     *
+     * @param string The string.
+     *
+     * @return The reason, or <code>null</code> if the string is a valid semantic version number.
+     */
+    public static ParseFailure classify(String string) {
+        Objects.requireNonNull(string, "The string is required.");
+
+        int length = string.length();
+
+        if (length == 0) {
+            return EMPTY;
+        }
+
+        int invalid = Identifiers.findInvalid(string, 0, length);
+
+        if (invalid < 0) {
+            return isTooLarge(string) ? NUMBER_TOO_LARGE : null;
+        }
+
+        switch (Identifiers.componentAt(string, invalid)) {
+            case BUILD:
+                return INVALID_BUILD;
+            case PRE_RELEASE:
+                return INVALID_PRE_RELEASE;
+            default:
+                return isLeadingZero(string, invalid) ? LEADING_ZERO : INVALID_CORE;
+        }
+    }
+
+    /**
+     * Checks if a number starts with a zero that is followed by another digit.
+     *
+     * @param string The string.
+     * @param index  The index of the number.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+     */
+    private static boolean isLeadingZero(String string, int index) {
+        return (index + 1 < string.length())
+            && (string.charAt(index) == '0')
+            && (string.charAt(index + 1) >= '0')
+            && (string.charAt(index + 1) <= '9');
+    }
+
+    /**
+     * Checks if a major, minor, or patch version number of a valid version number is too large to be represented.
+     *
+     * @param string The valid version number.
+     *
+     * @return Returns <code>true</code> if one is, or <code>false</code> if not.
+     */
+    private static boolean isTooLarge(String string) {
+        long number = 0;
+
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+
+            if (c == '.') {
+                number = 0;
+            } else if ((c == '-') || (c == '+')) {
+                break;
+            } else {
+                number = (number * 10) + (c - '0');
+
+                if (number > Integer.MAX_VALUE) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+}
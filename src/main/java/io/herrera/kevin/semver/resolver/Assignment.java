@@ -0,0 +1,87 @@
+package io.herrera.kevin.semver.resolver;
+
+/**
+ * A term added to the partial solution, either as a decision or derived from an incompatibility.
+ */
+final class Assignment {
+
+    /**
+     * The incompatibility it was derived from, or <code>null</code> if it is a decision.
+     */
+    private final Incompatibility cause;
+
+    /**
+     * The position in the partial solution.
+     */
+    private final int index;
+
+    /**
+     * The decision level.
+     */
+    private final int level;
+
+    /**
+     * The term.
+     */
+    private final Term term;
+
+    /**
+     * Sets the assignment.
+     *
+     * @param term  The term.
+     * @param level The decision level.
+     * @param index The position in the partial solution.
+     * @param cause The incompatibility it was derived from, or <code>null</code> if it is a decision.
+     */
+    Assignment(Term term, int level, int index, Incompatibility cause) {
+        this.cause = cause;
+        this.index = index;
+        this.level = level;
+        this.term = term;
+    }
+
+    /**
+     * Returns the incompatibility it was derived from.
+     *
+     * @return The incompatibility, or <code>null</code> if it is a decision.
+     */
+    Incompatibility getCause() {
+        return cause;
+    }
+
+    /**
+     * Returns the position in the partial solution.
+     *
+     * @return The position.
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the decision level.
+     *
+     * @return The decision level.
+     */
+    int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the term.
+     *
+     * @return The term.
+     */
+    Term getTerm() {
+        return term;
+    }
+
+    /**
+     * Checks if the assignment is a decision.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if it was derived.
+     */
+    boolean isDecision() {
+        return cause == null;
+    }
+}
@@ -0,0 +1,321 @@
+package io.herrera.kevin.semver.resolver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * A set of terms that must not all be true at the same time.
+ *
+ * <p>
+ * Incompatibilities are either given (the requirements, the dependencies of a version, or the lack of versions of a
+ * package) or derived from two other incompatibilities while resolving a conflict. Derived incompatibilities keep
+ * their causes, so a failure can be explained as a series of deductions.
+ * </p>
+ */
+final class Incompatibility {
+
+    /**
+     * Indicates that the incompatibility follows from the available packages alone, and not the requirements.
+     */
+    private final boolean general;
+
+    /**
+     * The terms as given, before they were merged.
+     */
+    private final List<Term> given;
+
+    /**
+     * The kind of cause.
+     */
+    private final Kind kind;
+
+    /**
+     * The first cause, if derived.
+     */
+    private final Incompatibility left;
+
+    /**
+     * The second cause, if derived.
+     */
+    private final Incompatibility right;
+
+    /**
+     * The terms, with at most one for each package.
+     */
+    private final List<Term> terms;
+
+    /**
+     * Sets the terms and their cause.
+     *
+     * <p>
+     * Terms for the same package are intersected into one, and terms that are always true are left out.
+     * </p>
+     *
+     * @param terms The terms.
+     * @param kind  The kind of cause.
+     * @param left  The first cause, if derived.
+     * @param right The second cause, if derived.
+     */
+    private Incompatibility(Collection<Term> terms, Kind kind, Incompatibility left, Incompatibility right) {
+        Map<PackageVersions, Term> merged = new LinkedHashMap<>();
+
+        for (Term term : terms) {
+            merged.merge(term.getPackage(), term, Term::intersect);
+        }
+
+        this.given = new ArrayList<>(terms);
+        this.general = (kind == Kind.DERIVED)
+            ? (left.general && right.general)
+            : ((kind != Kind.ROOT) && given.stream().noneMatch(term -> term.getPackage().isRoot()));
+        this.kind = kind;
+        this.left = left;
+        this.right = right;
+        this.terms = Collections.unmodifiableList(
+            merged.values().stream().filter(term -> !term.isFull()).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Creates an incompatibility that was learned in an earlier resolution.
+     *
+     * @param terms The terms.
+     *
+     * @return The incompatibility.
+     */
+    static Incompatibility cached(Collection<Term> terms) {
+        return new Incompatibility(terms, Kind.CACHED, null, null);
+    }
+
+    /**
+     * Creates an incompatibility for the dependency of a version of a package.
+     *
+     * @param version    The version of the package.
+     * @param dependency The versions of the dependency that are not allowed.
+     *
+     * @return The incompatibility.
+     */
+    static Incompatibility dependency(Term version, Term dependency) {
+        List<Term> terms = new ArrayList<>();
+
+        terms.add(version);
+        terms.add(dependency);
+
+        return new Incompatibility(terms, Kind.DEPENDENCY, null, null);
+    }
+
+    /**
+     * Creates an incompatibility derived from two others.
+     *
+     * @param terms The terms.
+     * @param left  The first cause.
+     * @param right The second cause.
+     *
+     * @return The incompatibility.
+     */
+    static Incompatibility derived(Collection<Term> terms, Incompatibility left, Incompatibility right) {
+        return new Incompatibility(terms, Kind.DERIVED, left, right);
+    }
+
+    /**
+     * Creates an incompatibility for a set of versions of a package, when there are no such versions.
+     *
+     * @param term The positive term for the versions.
+     *
+     * @return The incompatibility.
+     */
+    static Incompatibility noVersions(Term term) {
+        return new Incompatibility(Collections.singletonList(term), Kind.NO_VERSIONS, null, null);
+    }
+
+    /**
+     * Creates the incompatibility that requires the root package to be selected.
+     *
+     * @param root The negative term for the root package.
+     *
+     * @return The incompatibility.
+     */
+    static Incompatibility root(Term root) {
+        return new Incompatibility(Collections.singletonList(root), Kind.ROOT, null, null);
+    }
+
+    /**
+     * Explains how an incompatibility was derived, as a series of numbered deductions.
+     *
+     * @return The explanation.
+     */
+    String explain() {
+        List<String> lines = new ArrayList<>();
+
+        explainTo(this, new IdentityHashMap<>(), lines);
+
+        if (lines.isEmpty()) {
+            return toString() + ".";
+        }
+
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Returns the terms.
+     *
+     * @return The terms, with at most one for each package.
+     */
+    List<Term> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Checks if the incompatibility can never be true, which means that resolution has failed.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    boolean isFailure() {
+        return terms.isEmpty()
+            || ((terms.size() == 1) && terms.get(0).getPackage().isRoot() && terms.get(0).isPositive());
+    }
+
+    /**
+     * Checks if the incompatibility follows from the available packages alone, and not the requirements.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+     */
+    boolean isGeneral() {
+        return general;
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case DEPENDENCY:
+                if (given.get(0).getPackage().isRoot()) {
+                    return "the requirements include " + given.get(1).negate();
+                }
+
+                return given.get(0) + " depends on " + given.get(1).negate();
+
+            case NO_VERSIONS:
+                return "no versions of " + given.get(0) + " are available";
+
+            case ROOT:
+                return "the requirements must be resolved";
+
+            case CACHED:
+            case DERIVED:
+            default:
+                break;
+        }
+
+        List<Term> remaining = terms
+            .stream()
+            .filter(term -> !(term.getPackage().isRoot() && term.isPositive()))
+            .collect(Collectors.toList());
+
+        if (remaining.isEmpty()) {
+            return "the requirements cannot be resolved";
+        }
+
+        if (remaining.size() == 1) {
+            Term term = remaining.get(0);
+
+            return term.isPositive() ? (term + " is forbidden") : (term.negate() + " is required");
+        }
+
+        List<Term> positive = remaining.stream().filter(Term::isPositive).collect(Collectors.toList());
+
+        if ((remaining.size() == 2) && (positive.size() == 1)) {
+            Term negative = remaining.get(remaining.get(0).isPositive() ? 1 : 0);
+
+            return positive.get(0) + " requires " + negative.negate();
+        }
+
+        if (positive.size() == remaining.size()) {
+            return positive.stream().map(Term::toString).collect(Collectors.joining(" is incompatible with "));
+        }
+
+        return "one of " + remaining.stream().map(Term::toString).collect(Collectors.joining(", "))
+            + " must be false";
+    }
+
+    /**
+     * Explains how an incompatibility was derived, after its causes.
+     *
+     * @param incompatibility The incompatibility.
+     * @param numbers         The line numbers of the incompatibilities already explained.
+     * @param lines           The lines of the explanation.
+     */
+    private static void explainTo(
+        Incompatibility incompatibility,
+        Map<Incompatibility, Integer> numbers,
+        List<String> lines
+    ) {
+        if ((incompatibility.kind != Kind.DERIVED) || numbers.containsKey(incompatibility)) {
+            return;
+        }
+
+        explainTo(incompatibility.left, numbers, lines);
+        explainTo(incompatibility.right, numbers, lines);
+
+        numbers.put(incompatibility, lines.size() + 1);
+
+        lines.add(
+            String.format(
+                "%d. Because %s and %s, %s.",
+                lines.size() + 1,
+                reference(incompatibility.left, numbers),
+                reference(incompatibility.right, numbers),
+                incompatibility
+            )
+        );
+    }
+
+    /**
+     * Refers to an incompatibility in an explanation.
+     *
+     * @param incompatibility The incompatibility.
+     * @param numbers         The line numbers of the incompatibilities already explained.
+     *
+     * @return The reference.
+     */
+    private static String reference(Incompatibility incompatibility, Map<Incompatibility, Integer> numbers) {
+        Integer number = numbers.get(incompatibility);
+
+        return (number == null) ? incompatibility.toString() : (incompatibility + " (" + number + ")");
+    }
+
+    /**
+     * The kinds of causes for an incompatibility.
+     */
+    private enum Kind {
+
+        /**
+         * Learned in an earlier resolution.
+         */
+        CACHED,
+
+        /**
+         * A version of a package depends on another package.
+         */
+        DEPENDENCY,
+
+        /**
+         * Derived from two other incompatibilities.
+         */
+        DERIVED,
+
+        /**
+         * There are no versions of a package that match.
+         */
+        NO_VERSIONS,
+
+        /**
+         * The root package must be selected.
+         */
+        ROOT
+    }
+}
@@ -0,0 +1,31 @@
+package io.herrera.kevin.semver.resolver;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Defines how the packages available to a resolver must be provided.
+ */
+public interface PackageSource {
+
+    /**
+     * Returns the dependencies of a version of a package.
+     *
+     * @param name    The name of the package.
+     * @param version The version of the package.
+     *
+     * @return The constraints on the versions of each dependency, by name.
+     */
+    Map<String, Constraint> getDependencies(String name, Version version);
+
+    /**
+     * Returns the versions of a package.
+     *
+     * @param name The name of the package.
+     *
+     * @return The versions, in any order, or none if the package does not exist.
+     */
+    Collection<Version> getVersions(String name);
+}
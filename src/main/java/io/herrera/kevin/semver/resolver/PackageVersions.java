@@ -0,0 +1,90 @@
+package io.herrera.kevin.semver.resolver;
+
+import io.herrera.kevin.semver.Version;
+import java.util.Arrays;
+
+/**
+ * The versions available for a package, sorted by precedence.
+ *
+ * <p>
+ * Sets of versions of the package are represented as bits, where each version is the bit at its index, and an extra
+ * bit at the end represents the package not being selected at all.
+ * </p>
+ */
+final class PackageVersions {
+
+    /**
+     * The name of the package, or <code>null</code> if it is the root package.
+     */
+    private final String name;
+
+    /**
+     * The versions, sorted by precedence.
+     */
+    private final Version[] versions;
+
+    /**
+     * Sets the versions.
+     *
+     * @param name     The name of the package, or <code>null</code> if it is the root package.
+     * @param versions The versions, sorted by precedence and distinct.
+     */
+    PackageVersions(String name, Version[] versions) {
+        this.name = name;
+        this.versions = versions;
+    }
+
+    /**
+     * Returns the name of the package.
+     *
+     * @return The name, or <code>null</code> if it is the root package.
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the version at an index.
+     *
+     * @param index The index.
+     *
+     * @return The version.
+     */
+    Version getVersion(int index) {
+        return versions[index];
+    }
+
+    /**
+     * Finds the index of a version.
+     *
+     * @param version The version.
+     *
+     * @return The index, or a negative number if there is no such version.
+     */
+    int indexOf(Version version) {
+        return Arrays.binarySearch(versions, version);
+    }
+
+    /**
+     * Checks if this is the root package, which depends on the requirements being resolved.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    boolean isRoot() {
+        return name == null;
+    }
+
+    /**
+     * Returns the number of versions.
+     *
+     * @return The number of versions, which is also the index of the bit for the package not being selected.
+     */
+    int size() {
+        return versions.length;
+    }
+
+    @Override
+    public String toString() {
+        return isRoot() ? "root" : name;
+    }
+}
@@ -0,0 +1,206 @@
+package io.herrera.kevin.semver.resolver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The assignments made so far while resolving, in order.
+ *
+ * <p>
+ * The intersection of the assignments for each package is kept up to date, so checking a term against the partial
+ * solution does not need to visit every assignment.
+ * </p>
+ */
+final class PartialSolution {
+
+    /**
+     * The assignments, in order.
+     */
+    private final List<Assignment> assignments = new ArrayList<>();
+
+    /**
+     * The packages that have been decided, and the index of the selected version.
+     */
+    private final Map<PackageVersions, Integer> decisions = new LinkedHashMap<>();
+
+    /**
+     * The current decision level.
+     */
+    private int level;
+
+    /**
+     * The intersection of the assignments for each package, in the order they were first assigned.
+     */
+    private final Map<PackageVersions, Term> terms = new LinkedHashMap<>();
+
+    /**
+     * Removes every assignment made after a decision level.
+     *
+     * @param level The decision level.
+     */
+    void backtrack(int level) {
+        int size = assignments.size();
+
+        while ((size > 0) && (assignments.get(size - 1).getLevel() > level)) {
+            assignments.remove(--size);
+        }
+
+        this.level = level;
+
+        decisions.clear();
+        terms.clear();
+
+        for (Assignment assignment : assignments) {
+            register(assignment);
+        }
+    }
+
+    /**
+     * Selects a version of a package.
+     *
+     * @param versions The package.
+     * @param index    The index of the version.
+     */
+    void decide(PackageVersions versions, int index) {
+        level++;
+
+        add(Term.positive(versions, index), null);
+    }
+
+    /**
+     * Adds a term derived from an incompatibility.
+     *
+     * @param term  The term.
+     * @param cause The incompatibility.
+     */
+    void derive(Term term, Incompatibility cause) {
+        add(term, cause);
+    }
+
+    /**
+     * Returns the packages that have been decided.
+     *
+     * @return The index of the selected version for each package.
+     */
+    Map<PackageVersions, Integer> getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Returns the intersection of the assignments for a package.
+     *
+     * @param versions The package.
+     *
+     * @return The term, or <code>null</code> if nothing has been assigned.
+     */
+    Term getTerm(PackageVersions versions) {
+        return terms.get(versions);
+    }
+
+    /**
+     * Returns the intersection of the assignments for each package.
+     *
+     * @return The terms, in the order they were first assigned.
+     */
+    Map<PackageVersions, Term> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Checks how a term relates to the partial solution.
+     *
+     * @param term The term.
+     *
+     * @return The relation.
+     */
+    Relation relation(Term term) {
+        Term assigned = terms.get(term.getPackage());
+
+        if (assigned == null) {
+            return Relation.INCONCLUSIVE;
+        }
+
+        if (term.isSatisfiedBy(assigned)) {
+            return Relation.SATISFIED;
+        }
+
+        return term.isDisjoint(assigned) ? Relation.CONTRADICTED : Relation.INCONCLUSIVE;
+    }
+
+    /**
+     * Finds the earliest assignment that, along with those before it, satisfies a term.
+     *
+     * @param term The term.
+     *
+     * @return The assignment.
+     */
+    Assignment satisfier(Term term) {
+        Term assigned = null;
+
+        for (Assignment assignment : assignments) {
+            if (assignment.getTerm().getPackage() != term.getPackage()) {
+                continue;
+            }
+
+            assigned = (assigned == null) ? assignment.getTerm() : assigned.intersect(assignment.getTerm());
+
+            if (term.isSatisfiedBy(assigned)) {
+                return assignment;
+            }
+        }
+
+        throw new IllegalStateException("The term " + term + " is not satisfied.");
+    }
+
+    /**
+     * Adds an assignment at the current decision level.
+     *
+     * @param term  The term.
+     * @param cause The incompatibility it was derived from, or <code>null</code> if it is a decision.
+     */
+    private void add(Term term, Incompatibility cause) {
+        Assignment assignment = new Assignment(term, level, assignments.size(), cause);
+
+        assignments.add(assignment);
+
+        register(assignment);
+    }
+
+    /**
+     * Includes an assignment in the intersection for its package.
+     *
+     * @param assignment The assignment.
+     */
+    private void register(Assignment assignment) {
+        Term term = assignment.getTerm();
+
+        terms.merge(term.getPackage(), term, Term::intersect);
+
+        if (assignment.isDecision()) {
+            decisions.put(term.getPackage(), term.getVersions().nextSetBit(0));
+        }
+    }
+
+    /**
+     * The ways a term can relate to the partial solution.
+     */
+    enum Relation {
+
+        /**
+         * The partial solution makes the term false.
+         */
+        CONTRADICTED,
+
+        /**
+         * The partial solution could still make the term true or false.
+         */
+        INCONCLUSIVE,
+
+        /**
+         * The partial solution makes the term true.
+         */
+        SATISFIED
+    }
+}
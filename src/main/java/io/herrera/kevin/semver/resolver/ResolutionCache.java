@@ -0,0 +1,922 @@
+package io.herrera.kevin.semver.resolver;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.And;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.constraints.EqualTo;
+import io.herrera.kevin.semver.constraints.GreaterThan;
+import io.herrera.kevin.semver.constraints.GreaterThanOrEqualTo;
+import io.herrera.kevin.semver.constraints.LessThan;
+import io.herrera.kevin.semver.constraints.LessThanOrEqualTo;
+import io.herrera.kevin.semver.constraints.Metered;
+import io.herrera.kevin.semver.constraints.NotEqualTo;
+import io.herrera.kevin.semver.constraints.Or;
+import io.herrera.kevin.semver.constraints.PreRelease;
+import io.herrera.kevin.semver.constraints.Stable;
+import io.herrera.kevin.semver.encoding.VersionRecord;
+import io.herrera.kevin.semver.metrics.MetricsProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * A file that remembers the results of previous resolutions.
+ *
+ * <p>
+ * Two kinds of records are kept. Solutions are keyed by a hash of the catalog snapshot and the requirements, so
+ * resolving the same requirements against the same snapshot again returns the cached solution without any search.
+ * Learned incompatibilities are keyed by a hash of the catalog snapshot alone. Only those that follow from the
+ * dependencies in the snapshot (and not from the requirements of a particular resolution) are kept, so they can be
+ * used to skip conflicts found in earlier resolutions of different requirements.
+ * </p>
+ *
+ * <p>
+ * Records are appended to the end of the file and never modified. The file is memory-mapped to read records. Once it
+ * grows beyond its maximum size, it is compacted: it is rewritten with only the latest solution for each key and the
+ * distinct learned incompatibilities. If those still take more than half of the maximum size, the records that were
+ * appended first are dropped, whether they are solutions or learned incompatibilities, until they fit.
+ * </p>
+ *
+ * <pre>
+ * int      magic
+ * int      format version
+ * records:
+ *   int    length of the rest of the record
+ *   byte   type (solution or learned incompatibilities)
+ *   byte[] key (SHA-256)
+ *   ...    payload, with version numbers as {@link VersionRecord}s
+ * </pre>
+ *
+ * <p>
+ * Compaction replaces the file with an atomic move while it is still memory-mapped, since a mapping cannot be released
+ * before it is garbage collected. This works on POSIX file systems, but fails on Windows, which does not allow a
+ * mapped file to be replaced.
+ * </p>
+ *
+ * <p>
+ * A cache may be shared by threads, but not by processes. Lookups of solutions and the solutions dropped by compaction
+ * are recorded to the {@link MetricsProvider metrics} as the <code>resolution</code> cache.
+ * </p>
+ */
+public final class ResolutionCache implements Closeable {
+
+    /**
+     * The default maximum size of the file, in bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE = 64L << 20;
+
+    /**
+     * The format version.
+     */
+    private static final int FORMAT = 1;
+
+    /**
+     * The size of the header, in bytes.
+     */
+    private static final int HEADER_SIZE = 8;
+
+    /**
+     * The size of a key, in bytes.
+     */
+    private static final int KEY_SIZE = 32;
+
+    /**
+     * The type of a record of learned incompatibilities.
+     */
+    private static final byte LEARNED = 2;
+
+    /**
+     * Identifies the file as a resolution cache.
+     */
+    private static final int MAGIC = 0x53565243;
+
+    /**
+     * The name of the cache in the metrics.
+     */
+    private static final String METRICS_NAME = "resolution";
+
+    /**
+     * The type of a record of a solution.
+     */
+    private static final byte SOLUTION = 1;
+
+    /**
+     * The payloads of the learned incompatibilities for each snapshot, without duplicates.
+     */
+    private final Map<Key, Set<Key>> learned = new HashMap<>();
+
+    /**
+     * The offset of the payload of each learned incompatibility.
+     */
+    private final Map<Key, Long> learnedOffsets = new HashMap<>();
+
+    /**
+     * The maximum size of the file, in bytes.
+     */
+    private long maxSize = DEFAULT_MAX_SIZE;
+
+    /**
+     * The read-only mapping of the file.
+     */
+    private MappedByteBuffer mapping;
+
+    /**
+     * The path to the file.
+     */
+    private final Path path;
+
+    /**
+     * The offset of the latest solution for each key, in the order they were written.
+     */
+    private final Map<Key, Long> solutions = new LinkedHashMap<>();
+
+    /**
+     * The channel used to append records.
+     */
+    private FileChannel writer;
+
+    /**
+     * Sets the path to the file.
+     *
+     * @param path The path to the file.
+     */
+    private ResolutionCache(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Opens a cache, creating the file if it does not exist.
+     *
+     * @param path The path to the file.
+     *
+     * @return The cache.
+     *
+     * @throws IOException If the file could not be opened or is not a resolution cache.
+     */
+    public static ResolutionCache open(Path path) throws IOException {
+        Objects.requireNonNull(path, "The path to the file is required.");
+
+        ResolutionCache cache = new ResolutionCache(path);
+
+        cache.load();
+
+        return cache;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        mapping = null;
+
+        if (writer != null) {
+            writer.close();
+
+            writer = null;
+        }
+    }
+
+    /**
+     * Rewrites the file with only the records that are still used.
+     *
+     * <p>
+     * The records are kept in the order they were appended. If they take more than half of the maximum size, the
+     * records that were appended first are dropped until they fit. The file is replaced with an atomic move, which
+     * is not supported on Windows while the file is mapped.
+     * </p>
+     *
+     * @throws IOException If the file could not be rewritten.
+     */
+    public synchronized void compact() throws IOException {
+        List<Record> kept = new ArrayList<>();
+        long size = HEADER_SIZE;
+
+        for (Map.Entry<Key, Long> entry : solutions.entrySet()) {
+            kept.add(new Record(SOLUTION, entry.getKey(), entry.getValue(), payload(entry.getValue())));
+        }
+
+        for (Map.Entry<Key, Set<Key>> entry : learned.entrySet()) {
+            for (Key content : entry.getValue()) {
+                long offset = learnedOffsets.get(content);
+
+                kept.add(new Record(LEARNED, entry.getKey(), offset, payload(offset)));
+            }
+        }
+
+        kept.sort(Comparator.comparingLong(record -> record.offset));
+
+        for (Record record : kept) {
+            size += recordSize(record.payload);
+        }
+
+        int first = 0;
+
+        while ((size > (maxSize / 2)) && (first < kept.size())) {
+            size -= recordSize(kept.get(first++).payload);
+        }
+
+        if (first > 0) {
+            MetricsProvider.get().cacheEvicted(METRICS_NAME, first);
+        }
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".compact");
+
+        try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(temporary))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT);
+
+            for (Record record : kept.subList(first, kept.size())) {
+                writeRecord(output, record.type, record.key, record.payload);
+            }
+        }
+
+        close();
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        load();
+    }
+
+    /**
+     * Sets the maximum size of the file, after which it is compacted.
+     *
+     * @param maxSize The maximum size, in bytes.
+     *
+     * @return A fluent interface.
+     */
+    public ResolutionCache setMaxSize(long maxSize) {
+        if ((maxSize < HEADER_SIZE) || (maxSize > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException(
+                "The maximum size must be between " + HEADER_SIZE + " and " + Integer.MAX_VALUE + " bytes."
+            );
+        }
+
+        this.maxSize = maxSize;
+
+        return this;
+    }
+
+    /**
+     * Returns the size of the file.
+     *
+     * @return The size, in bytes.
+     *
+     * @throws IOException If the size could not be read.
+     */
+    public synchronized long size() throws IOException {
+        return writer.size();
+    }
+
+    /**
+     * Creates the key for a resolution.
+     *
+     * @param snapshot     The identifier of the catalog snapshot.
+     * @param requirements The requirements.
+     *
+     * @return The key, or <code>null</code> if a constraint cannot be described canonically (e.g. it is not one of
+     *         the bundled constraints).
+     */
+    static Key key(String snapshot, Map<String, Constraint> requirements) {
+        StringBuilder builder = new StringBuilder("solution\n").append(snapshot).append('\n');
+
+        for (Map.Entry<String, Constraint> requirement : new TreeMap<>(requirements).entrySet()) {
+            String canonical = canonical(requirement.getValue());
+
+            if (canonical == null) {
+                return null;
+            }
+
+            builder.append(requirement.getKey()).append(' ').append(canonical).append('\n');
+        }
+
+        return new Key(hash(builder.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Creates the key for the learned incompatibilities of a catalog snapshot.
+     *
+     * @param snapshot The identifier of the catalog snapshot.
+     *
+     * @return The key.
+     */
+    static Key key(String snapshot) {
+        return new Key(hash(("learned\n" + snapshot).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the learned incompatibilities for a catalog snapshot.
+     *
+     * @param snapshot The key of the snapshot.
+     *
+     * @return The incompatibilities, each as its list of terms.
+     */
+    synchronized List<List<StoredTerm>> getLearned(Key snapshot) {
+        List<List<StoredTerm>> incompatibilities = new ArrayList<>();
+
+        for (Key payload : learned.getOrDefault(snapshot, Collections.emptySet())) {
+            incompatibilities.add(readTerms(input(learnedOffsets.get(payload))));
+        }
+
+        return incompatibilities;
+    }
+
+    /**
+     * Returns the solution for a resolution.
+     *
+     * @param key The key of the resolution.
+     *
+     * @return The selected version of each package, or <code>null</code> if there is none.
+     */
+    synchronized SortedMap<String, Version> getSolution(Key key) {
+        Long offset = solutions.get(key);
+
+        if (offset == null) {
+            MetricsProvider.get().cacheMiss(METRICS_NAME);
+
+            return null;
+        }
+
+        MetricsProvider.get().cacheHit(METRICS_NAME);
+
+        DataInputStream input = input(offset);
+        SortedMap<String, Version> solution = new TreeMap<>();
+
+        try {
+            for (int i = input.readInt(); i > 0; i--) {
+                solution.put(input.readUTF(), readVersion(input));
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("The cached solution is corrupt.", exception);
+        }
+
+        return Collections.unmodifiableSortedMap(solution);
+    }
+
+    /**
+     * Adds learned incompatibilities for a catalog snapshot, skipping those already known.
+     *
+     * @param snapshot          The key of the snapshot.
+     * @param incompatibilities The incompatibilities, each as its list of terms.
+     *
+     * @throws IOException If the records could not be written.
+     */
+    synchronized void putLearned(Key snapshot, List<List<StoredTerm>> incompatibilities) throws IOException {
+        Set<Key> known = learned.computeIfAbsent(snapshot, key -> new LinkedHashSet<>());
+
+        for (List<StoredTerm> terms : incompatibilities) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+
+            output.writeInt(terms.size());
+
+            for (StoredTerm term : terms) {
+                output.writeUTF(term.getName());
+                output.writeBoolean(term.isPositive());
+                output.writeInt(term.getVersions().size());
+
+                for (Version version : term.getVersions()) {
+                    VersionRecord.write(output, version);
+                }
+            }
+
+            byte[] payload = bytes.toByteArray();
+            Key content = content(snapshot, payload);
+
+            if (!learnedOffsets.containsKey(content)) {
+                known.add(content);
+                learnedOffsets.put(content, append(LEARNED, snapshot, payload));
+            }
+        }
+
+        compactIfNeeded();
+    }
+
+    /**
+     * Adds the solution for a resolution.
+     *
+     * @param key      The key of the resolution.
+     * @param solution The selected version of each package.
+     *
+     * @throws IOException If the record could not be written.
+     */
+    synchronized void putSolution(Key key, Map<String, Version> solution) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+
+        output.writeInt(solution.size());
+
+        for (Map.Entry<String, Version> entry : solution.entrySet()) {
+            output.writeUTF(entry.getKey());
+
+            VersionRecord.write(output, entry.getValue());
+        }
+
+        solutions.remove(key);
+        solutions.put(key, append(SOLUTION, key, bytes.toByteArray()));
+
+        compactIfNeeded();
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param type    The type of the record.
+     * @param key     The key of the record.
+     * @param payload The payload.
+     *
+     * @return The offset of the payload.
+     *
+     * @throws IOException If the record could not be written.
+     */
+    private long append(byte type, Key key, byte[] payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(recordSize(payload));
+
+        writeRecord(new DataOutputStream(bytes), type, key, payload);
+
+        long offset = writer.size();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+        while (buffer.hasRemaining()) {
+            writer.write(buffer);
+        }
+
+        return offset + recordSize(payload) - payload.length;
+    }
+
+    /**
+     * Describes a constraint canonically, so that equivalent requirements have the same key.
+     *
+     * @param constraint The constraint.
+     *
+     * @return The description, or <code>null</code> if the constraint is not one of the bundled constraints.
+     */
+    private static String canonical(Constraint constraint) {
+        Class<?> type = constraint.getClass();
+
+        if ((type == And.class) || (type == Or.class)) {
+            Set<Constraint> constraints = (type == And.class)
+                ? ((And) constraint).getConstraints()
+                : ((Or) constraint).getConstraints();
+            List<String> inner = new ArrayList<>();
+
+            for (Constraint c : constraints) {
+                String canonical = canonical(c);
+
+                if (canonical == null) {
+                    return null;
+                }
+
+                inner.add(canonical);
+            }
+
+            Collections.sort(inner);
+
+            return type.getSimpleName() + inner;
+        }
+
+        if (type == Metered.class) {
+            return canonical(((Metered) constraint).getConstraint());
+        }
+
+        if ((type == Stable.class) || (type == PreRelease.class)) {
+            return type.getSimpleName();
+        }
+
+        if ((type == EqualTo.class)
+            || (type == GreaterThan.class)
+            || (type == GreaterThanOrEqualTo.class)
+            || (type == LessThan.class)
+            || (type == LessThanOrEqualTo.class)
+            || (type == NotEqualTo.class)) {
+            return constraint.intervals().toString();
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates the key for the content of a learned incompatibility.
+     *
+     * @param snapshot The key of the snapshot.
+     * @param payload  The payload.
+     *
+     * @return The key.
+     */
+    private static Key content(Key snapshot, byte[] payload) {
+        byte[] bytes = Arrays.copyOf(snapshot.bytes, KEY_SIZE + payload.length);
+
+        System.arraycopy(payload, 0, bytes, KEY_SIZE, payload.length);
+
+        return new Key(hash(bytes));
+    }
+
+    /**
+     * Compacts the file if it has grown beyond its maximum size.
+     *
+     * @throws IOException If the file could not be compacted.
+     */
+    private void compactIfNeeded() throws IOException {
+        if (writer.size() > maxSize) {
+            compact();
+        }
+    }
+
+    /**
+     * Hashes bytes with SHA-256.
+     *
+     * @param bytes The bytes.
+     *
+     * @return The hash.
+     */
+    private static byte[] hash(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not supported.", exception);
+        }
+    }
+
+    /**
+     * Returns a stream that reads from the mapping of the file.
+     *
+     * @param offset The offset to start reading at.
+     *
+     * @return The stream.
+     */
+    private DataInputStream input(long offset) {
+        try {
+            if ((mapping == null) || (offset >= mapping.capacity())) {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("The cache could not be mapped.", exception);
+        }
+
+        ByteBuffer buffer = mapping.duplicate();
+
+        buffer.position((int) offset);
+
+        return new DataInputStream(new BufferInputStream(buffer));
+    }
+
+    /**
+     * Opens the file and indexes its records.
+     *
+     * @throws IOException If the file could not be opened or is not a resolution cache.
+     */
+    private void load() throws IOException {
+        learned.clear();
+        learnedOffsets.clear();
+        solutions.clear();
+
+        writer = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        if (writer.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT);
+
+            header.flip();
+            writer.write(header);
+        }
+
+        long size = writer.size();
+
+        mapping = writer.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+        if ((size < HEADER_SIZE) || (mapping.getInt(0) != MAGIC) || (mapping.getInt(4) != FORMAT)) {
+            writer.close();
+
+            throw new IOException("The file \"" + path + "\" is not a resolution cache.");
+        }
+
+        int position = HEADER_SIZE;
+
+        while (position + 4 <= size) {
+            int length = mapping.getInt(position);
+
+            if ((length < 1 + KEY_SIZE) || (position + 4L + length > size)) {
+                break;
+            }
+
+            byte[] key = new byte[KEY_SIZE];
+            ByteBuffer buffer = mapping.duplicate();
+
+            buffer.position(position + 5);
+            buffer.get(key);
+
+            long offset = position + 5L + KEY_SIZE;
+
+            if (mapping.get(position + 4) == SOLUTION) {
+                solutions.remove(new Key(key));
+                solutions.put(new Key(key), offset);
+            } else {
+                byte[] payload = new byte[length - 1 - KEY_SIZE];
+
+                buffer.get(payload);
+
+                Key content = content(new Key(key), payload);
+
+                if (!learnedOffsets.containsKey(content)) {
+                    learned.computeIfAbsent(new Key(key), k -> new LinkedHashSet<>()).add(content);
+                    learnedOffsets.put(content, offset);
+                }
+            }
+
+            position += 4 + length;
+        }
+
+        writer.truncate(position);
+        writer.position(position);
+    }
+
+    /**
+     * Copies the payload of a record.
+     *
+     * @param offset The offset of the payload.
+     *
+     * @return The payload.
+     */
+    private byte[] payload(long offset) {
+        input(offset);
+
+        int length = mapping.getInt((int) offset - KEY_SIZE - 5) - 1 - KEY_SIZE;
+        byte[] payload = new byte[length];
+        ByteBuffer buffer = mapping.duplicate();
+
+        buffer.position((int) offset);
+        buffer.get(payload);
+
+        return payload;
+    }
+
+    /**
+     * Reads the terms of a learned incompatibility.
+     *
+     * @param input The input stream.
+     *
+     * @return The terms.
+     */
+    private static List<StoredTerm> readTerms(DataInputStream input) {
+        try {
+            List<StoredTerm> terms = new ArrayList<>();
+
+            for (int i = input.readInt(); i > 0; i--) {
+                String name = input.readUTF();
+                boolean positive = input.readBoolean();
+                Version[] versions = new Version[input.readInt()];
+
+                for (int j = 0; j < versions.length; j++) {
+                    versions[j] = readVersion(input);
+                }
+
+                terms.add(new StoredTerm(name, positive, Arrays.asList(versions)));
+            }
+
+            return terms;
+        } catch (IOException exception) {
+            throw new IllegalStateException("The cached incompatibility is corrupt.", exception);
+        }
+    }
+
+    /**
+     * Reads a version number.
+     *
+     * @param input The input stream.
+     *
+     * @return The version number.
+     *
+     * @throws IOException If the version number could not be read.
+     */
+    private static Version readVersion(DataInputStream input) throws IOException {
+        try {
+            return VersionRecord.read(input);
+        } catch (InvalidVersionException exception) {
+            throw new IOException("The version number is not valid.", exception);
+        }
+    }
+
+    /**
+     * Returns the size of a record.
+     *
+     * @param payload The payload.
+     *
+     * @return The size, in bytes.
+     */
+    private static int recordSize(byte[] payload) {
+        return 4 + 1 + KEY_SIZE + payload.length;
+    }
+
+    /**
+     * Writes a record.
+     *
+     * @param output  The output stream.
+     * @param type    The type of the record.
+     * @param key     The key of the record.
+     * @param payload The payload.
+     *
+     * @throws IOException If the record could not be written.
+     */
+    private static void writeRecord(DataOutputStream output, byte type, Key key, byte[] payload) throws IOException {
+        output.writeInt(1 + KEY_SIZE + payload.length);
+        output.writeByte(type);
+        output.write(key.bytes);
+        output.write(payload);
+        output.flush();
+    }
+
+    /**
+     * Reads from a buffer.
+     */
+    private static final class BufferInputStream extends InputStream {
+
+        /**
+         * The buffer.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Sets the buffer.
+         *
+         * @param buffer The buffer.
+         */
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int count = Math.min(length, buffer.remaining());
+
+            buffer.get(bytes, offset, count);
+
+            return count;
+        }
+    }
+
+    /**
+     * A key of a record.
+     */
+    static final class Key {
+
+        /**
+         * The bytes of the key.
+         */
+        private final byte[] bytes;
+
+        /**
+         * Sets the bytes of the key.
+         *
+         * @param bytes The bytes.
+         */
+        Key(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return (object instanceof Key) && Arrays.equals(bytes, ((Key) object).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(bytes);
+        }
+    }
+
+    /**
+     * A record to keep while compacting.
+     */
+    private static final class Record {
+
+        /**
+         * The key of the record.
+         */
+        private final Key key;
+
+        /**
+         * The offset of the payload in the file, which orders the records by when they were appended.
+         */
+        private final long offset;
+
+        /**
+         * The payload.
+         */
+        private final byte[] payload;
+
+        /**
+         * The type of the record.
+         */
+        private final byte type;
+
+        /**
+         * Sets the record.
+         *
+         * @param type    The type of the record.
+         * @param key     The key of the record.
+         * @param offset  The offset of the payload in the file.
+         * @param payload The payload.
+         */
+        Record(byte type, Key key, long offset, byte[] payload) {
+            this.key = key;
+            this.offset = offset;
+            this.payload = payload;
+            this.type = type;
+        }
+    }
+
+    /**
+     * A term of a learned incompatibility, independent of the versions loaded in a particular resolution.
+     */
+    static final class StoredTerm {
+
+        /**
+         * The name of the package.
+         */
+        private final String name;
+
+        /**
+         * Indicates that the term requires one of the versions to be selected, instead of forbidding them.
+         */
+        private final boolean positive;
+
+        /**
+         * The versions.
+         */
+        private final List<Version> versions;
+
+        /**
+         * Sets the term.
+         *
+         * @param name     The name of the package.
+         * @param positive Indicates that the term requires one of the versions to be selected.
+         * @param versions The versions.
+         */
+        StoredTerm(String name, boolean positive, List<Version> versions) {
+            this.name = name;
+            this.positive = positive;
+            this.versions = versions;
+        }
+
+        /**
+         * Returns the name of the package.
+         *
+         * @return The name.
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the versions.
+         *
+         * @return The versions.
+         */
+        List<Version> getVersions() {
+            return versions;
+        }
+
+        /**
+         * Checks if the term requires one of the versions to be selected, instead of forbidding them.
+         *
+         * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+         */
+        boolean isPositive() {
+            return positive;
+        }
+    }
+}
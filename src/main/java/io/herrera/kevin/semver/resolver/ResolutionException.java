@@ -0,0 +1,20 @@
+package io.herrera.kevin.semver.resolver;
+
+import io.herrera.kevin.semver.VersionException;
+
+/**
+ * An exception that is thrown when no versions of the packages satisfy all of the requirements.
+ *
+ * <p>
+ * The message explains why, as a series of numbered deductions that lead to the conflict.
+ * </p>
+ */
+public class ResolutionException extends VersionException {
+    public ResolutionException(String message) {
+        super(message);
+    }
+
+    public ResolutionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
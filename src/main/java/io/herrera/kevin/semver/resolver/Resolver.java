@@ -0,0 +1,616 @@
+package io.herrera.kevin.semver.resolver;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.catalog.VersionIndex;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.metrics.Metrics;
+import io.herrera.kevin.semver.metrics.MetricsProvider;
+import io.herrera.kevin.semver.resolver.PartialSolution.Relation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Selects a version of every package required, directly or indirectly, so that all dependencies are satisfied.
+ *
+ * <p>
+ * The resolver is an implementation of the PubGrub algorithm, a form of conflict-driven clause learning. Each
+ * requirement and dependency is an incompatibility: a set of terms that must not all be true at the same time. After
+ * each decision, the consequences of the incompatibilities are propagated. When the decisions lead to a conflict,
+ * the cause of the conflict is learned as a new incompatibility, and the resolver backtracks directly to the decision
+ * that caused it, so the same conflict is never explored twice. Packages with the fewest allowed versions are decided
+ * first, and the newest allowed version is always tried first.
+ * </p>
+ *
+ * <p>
+ * If there is no solution, the learned incompatibilities are used to explain why in the message of the exception.
+ * </p>
+ *
+ * <p>
+ * If a {@link ResolutionCache cache} is set, solutions for the same requirements and catalog snapshot are returned
+ * from the cache, and the incompatibilities learned from the catalog snapshot in earlier resolutions are added before
+ * the search starts. The snapshot identifier must change whenever the packages or their dependencies change.
+ * </p>
+ *
+ * <p>
+ * If {@link MetricsProvider metrics} are enabled, the time taken by each step of the search is recorded.
+ * </p>
+ */
+public final class Resolver {
+
+    /**
+     * The name of the step that chooses the next package to decide, in the metrics.
+     */
+    private static final String CHOOSE = "choose";
+
+    /**
+     * The name of the step that propagates the consequences of the incompatibilities, in the metrics.
+     */
+    private static final String PROPAGATE = "propagate";
+
+    /**
+     * The cache, if any.
+     */
+    private ResolutionCache cache;
+
+    /**
+     * The identifier of the catalog snapshot that the source provides.
+     */
+    private String snapshot;
+
+    /**
+     * The source of the packages.
+     */
+    private final PackageSource source;
+
+    /**
+     * Sets the source of the packages.
+     *
+     * @param source The source of the packages.
+     */
+    public Resolver(PackageSource source) {
+        Objects.requireNonNull(source, "The source of the packages is required.");
+
+        this.source = source;
+    }
+
+    /**
+     * Selects a version of every package required, directly or indirectly.
+     *
+     * @param requirements The constraints on the versions of each required package, by name.
+     *
+     * @return The selected version of each package, by name.
+     *
+     * @throws ResolutionException If no versions of the packages satisfy all of the requirements.
+     */
+    public SortedMap<String, Version> resolve(Map<String, Constraint> requirements) throws ResolutionException {
+        Objects.requireNonNull(requirements, "The requirements are required.");
+
+        if (cache == null) {
+            return new Solver(requirements).solve();
+        }
+
+        ResolutionCache.Key key = ResolutionCache.key(snapshot, requirements);
+        SortedMap<String, Version> selected = (key == null) ? null : cache.getSolution(key);
+
+        if (selected != null) {
+            return selected;
+        }
+
+        ResolutionCache.Key learned = ResolutionCache.key(snapshot);
+        Solver solver = new Solver(requirements);
+
+        solver.seed(cache.getLearned(learned));
+
+        try {
+            selected = solver.solve();
+
+            if (key != null) {
+                cache.putSolution(key, selected);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            try {
+                cache.putLearned(learned, solver.getLearned());
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        return selected;
+    }
+
+    /**
+     * Sets the cache of earlier resolutions.
+     *
+     * @param cache    The cache, or <code>null</code> to not use one.
+     * @param snapshot The identifier of the catalog snapshot that the source provides.
+     *
+     * @return A fluent interface.
+     */
+    public Resolver setCache(ResolutionCache cache, String snapshot) {
+        if (cache != null) {
+            Objects.requireNonNull(snapshot, "The identifier of the catalog snapshot is required.");
+        }
+
+        this.cache = cache;
+        this.snapshot = snapshot;
+
+        return this;
+    }
+
+    /**
+     * The state of a single resolution.
+     */
+    private final class Solver {
+
+        /**
+         * The incompatibilities that have a term for each package, from oldest to newest.
+         */
+        private final Map<PackageVersions, List<Incompatibility>> incompatibilities = new HashMap<>();
+
+        /**
+         * The incompatibilities derived while resolving conflicts.
+         */
+        private final List<Incompatibility> learned = new ArrayList<>();
+
+        /**
+         * The packages loaded so far, by name.
+         */
+        private final Map<String, PackageVersions> packages = new HashMap<>();
+
+        /**
+         * The requirements.
+         */
+        private final Map<String, Constraint> requirements;
+
+        /**
+         * The root package.
+         */
+        private final PackageVersions root = new PackageVersions(null, new Version[] { Version.DEFAULT });
+
+        /**
+         * The partial solution.
+         */
+        private final PartialSolution solution = new PartialSolution();
+
+        /**
+         * Sets the requirements.
+         *
+         * @param requirements The requirements.
+         */
+        Solver(Map<String, Constraint> requirements) {
+            this.requirements = requirements;
+        }
+
+        /**
+         * Returns the incompatibilities learned from conflicts that follow from the available packages alone.
+         *
+         * @return The incompatibilities, each as its list of terms.
+         */
+        List<List<ResolutionCache.StoredTerm>> getLearned() {
+            List<List<ResolutionCache.StoredTerm>> general = new ArrayList<>();
+
+            for (Incompatibility incompatibility : learned) {
+                if (!incompatibility.isGeneral()) {
+                    continue;
+                }
+
+                List<ResolutionCache.StoredTerm> terms = new ArrayList<>();
+
+                for (Term term : incompatibility.getTerms()) {
+                    PackageVersions versions = term.getPackage();
+                    BitSet set = term.getVersions();
+                    List<Version> list = new ArrayList<>();
+
+                    for (int i = set.nextSetBit(0); (i >= 0) && (i < versions.size()); i = set.nextSetBit(i + 1)) {
+                        list.add(versions.getVersion(i));
+                    }
+
+                    terms.add(new ResolutionCache.StoredTerm(versions.getName(), term.isPositive(), list));
+                }
+
+                general.add(terms);
+            }
+
+            return general;
+        }
+
+        /**
+         * Adds incompatibilities learned in earlier resolutions.
+         *
+         * <p>
+         * Incompatibilities that refer to versions that are no longer available are skipped.
+         * </p>
+         *
+         * @param incompatibilities The incompatibilities, each as its list of terms.
+         */
+        void seed(List<List<ResolutionCache.StoredTerm>> incompatibilities) {
+            for (List<ResolutionCache.StoredTerm> stored : incompatibilities) {
+                List<Term> terms = new ArrayList<>();
+
+                for (ResolutionCache.StoredTerm term : stored) {
+                    PackageVersions versions = load(term.getName());
+                    BitSet set = new BitSet(versions.size());
+
+                    for (Version version : term.getVersions()) {
+                        int index = versions.indexOf(version);
+
+                        if (index < 0) {
+                            set = null;
+
+                            break;
+                        }
+
+                        set.set(index);
+                    }
+
+                    if (set == null) {
+                        terms = null;
+
+                        break;
+                    }
+
+                    terms.add(term.isPositive() ? Term.positive(versions, set) : Term.negative(versions, set));
+                }
+
+                if (terms != null) {
+                    add(Incompatibility.cached(terms));
+                }
+            }
+        }
+
+        /**
+         * Selects a version of every package required, directly or indirectly.
+         *
+         * @return The selected version of each package, by name.
+         *
+         * @throws ResolutionException If no versions of the packages satisfy all of the requirements.
+         */
+        SortedMap<String, Version> solve() throws ResolutionException {
+            BitSet all = new BitSet();
+
+            all.set(0);
+
+            add(Incompatibility.root(Term.negative(root, all)));
+
+            Metrics metrics = MetricsProvider.isEnabled() ? MetricsProvider.get() : null;
+            PackageVersions next = root;
+
+            while (next != null) {
+                long start = (metrics == null) ? 0 : System.nanoTime();
+
+                propagate(next);
+
+                if (metrics != null) {
+                    metrics.resolverStep(PROPAGATE, next.getName(), System.nanoTime() - start);
+
+                    start = System.nanoTime();
+                }
+
+                next = choose();
+
+                if ((metrics != null) && (next != null)) {
+                    metrics.resolverStep(CHOOSE, next.getName(), System.nanoTime() - start);
+                }
+            }
+
+            SortedMap<String, Version> selected = new TreeMap<>();
+
+            solution.getDecisions().forEach((versions, index) -> {
+                if (!versions.isRoot()) {
+                    selected.put(versions.getName(), versions.getVersion(index));
+                }
+            });
+
+            return Collections.unmodifiableSortedMap(selected);
+        }
+
+        /**
+         * Adds an incompatibility, so that it is checked for each of its packages.
+         *
+         * @param incompatibility The incompatibility.
+         */
+        private void add(Incompatibility incompatibility) {
+            for (Term term : incompatibility.getTerms()) {
+                incompatibilities.computeIfAbsent(term.getPackage(), key -> new ArrayList<>()).add(incompatibility);
+            }
+        }
+
+        /**
+         * Chooses the next package to decide, and decides it unless its dependencies would cause a conflict.
+         *
+         * @return The package, or <code>null</code> if every required package has been decided.
+         */
+        private PackageVersions choose() {
+            Term chosen = null;
+
+            for (Term term : solution.getTerms().values()) {
+                if (term.isPositive()
+                    && !solution.getDecisions().containsKey(term.getPackage())
+                    && ((chosen == null) || (term.size() < chosen.size()))) {
+                    chosen = term;
+                }
+            }
+
+            if (chosen == null) {
+                return null;
+            }
+
+            PackageVersions versions = chosen.getPackage();
+            int index = chosen.getVersions().previousSetBit(versions.size() - 1);
+
+            if (index < 0) {
+                add(Incompatibility.noVersions(chosen));
+
+                return versions;
+            }
+
+            Term version = Term.positive(versions, index);
+            boolean conflict = false;
+
+            for (Map.Entry<String, Constraint> dependency : getDependencies(versions, index).entrySet()) {
+                PackageVersions target = load(dependency.getKey());
+                Incompatibility incompatibility = Incompatibility.dependency(
+                    version,
+                    Term.negative(target, allowed(target, dependency.getValue()))
+                );
+
+                if (incompatibility.getTerms().stream().anyMatch(Term::isEmpty)) {
+                    continue;
+                }
+
+                if (incompatibility.getTerms().size() < 2) {
+                    conflict = true;
+                }
+
+                add(incompatibility);
+
+                for (Term term : incompatibility.getTerms()) {
+                    if ((term.getPackage() != versions) && (solution.relation(term) == Relation.SATISFIED)) {
+                        conflict = true;
+                    }
+                }
+            }
+
+            if (!conflict) {
+                solution.decide(versions, index);
+            }
+
+            return versions;
+        }
+
+        /**
+         * Returns the versions of a package that pass a constraint.
+         *
+         * @param versions   The package.
+         * @param constraint The constraint.
+         *
+         * @return The versions.
+         */
+        private BitSet allowed(PackageVersions versions, Constraint constraint) {
+            BitSet allowed = new BitSet(versions.size());
+
+            for (int i = 0; i < versions.size(); i++) {
+                if (constraint.apply(versions.getVersion(i))) {
+                    allowed.set(i);
+                }
+            }
+
+            return allowed;
+        }
+
+        /**
+         * Returns the dependencies of a version of a package.
+         *
+         * @param versions The package.
+         * @param index    The index of the version.
+         *
+         * @return The constraints on the versions of each dependency, by name.
+         */
+        private Map<String, Constraint> getDependencies(PackageVersions versions, int index) {
+            if (versions.isRoot()) {
+                return requirements;
+            }
+
+            Map<String, Constraint> dependencies = source.getDependencies(
+                versions.getName(),
+                versions.getVersion(index)
+            );
+
+            return (dependencies == null) ? Collections.emptyMap() : dependencies;
+        }
+
+        /**
+         * Returns the versions of a package, loading them if necessary.
+         *
+         * @param name The name of the package.
+         *
+         * @return The package.
+         */
+        private PackageVersions load(String name) {
+            Objects.requireNonNull(name, "The name of the package is required.");
+
+            return packages.computeIfAbsent(name, key -> {
+                VersionIndex index = VersionIndex.of(source.getVersions(key));
+
+                return new PackageVersions(key, index.toArray());
+            });
+        }
+
+        /**
+         * Propagates the consequences of the incompatibilities, starting with those of a package.
+         *
+         * @param start The package.
+         *
+         * @throws ResolutionException If a conflict cannot be resolved.
+         */
+        private void propagate(PackageVersions start) throws ResolutionException {
+            Set<PackageVersions> changed = new LinkedHashSet<>();
+
+            changed.add(start);
+
+            while (!changed.isEmpty()) {
+                PackageVersions next = changed.iterator().next();
+
+                changed.remove(next);
+
+                List<Incompatibility> list = incompatibilities.getOrDefault(next, Collections.emptyList());
+
+                for (int i = list.size() - 1; i >= 0; i--) {
+                    Incompatibility incompatibility = list.get(i);
+                    Term unsatisfied = null;
+                    boolean satisfied = true;
+
+                    for (Term term : incompatibility.getTerms()) {
+                        Relation relation = solution.relation(term);
+
+                        if (relation == Relation.SATISFIED) {
+                            continue;
+                        }
+
+                        satisfied = false;
+
+                        if ((relation == Relation.CONTRADICTED) || (unsatisfied != null)) {
+                            unsatisfied = null;
+
+                            break;
+                        }
+
+                        unsatisfied = term;
+                    }
+
+                    if (satisfied) {
+                        Incompatibility cause = resolveConflict(incompatibility);
+
+                        unsatisfied = unsatisfied(cause);
+
+                        solution.derive(unsatisfied.negate(), cause);
+
+                        changed.clear();
+                        changed.add(unsatisfied.getPackage());
+
+                        break;
+                    }
+
+                    if (unsatisfied != null) {
+                        solution.derive(unsatisfied.negate(), incompatibility);
+
+                        changed.add(unsatisfied.getPackage());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Resolves a conflict by learning its cause and backtracking.
+         *
+         * @param incompatibility The incompatibility that is satisfied by the partial solution.
+         *
+         * @return The learned incompatibility, which is almost satisfied after backtracking.
+         *
+         * @throws ResolutionException If the conflict cannot be resolved.
+         */
+        private Incompatibility resolveConflict(Incompatibility incompatibility) throws ResolutionException {
+            boolean derived = false;
+
+            while (!incompatibility.isFailure()) {
+                Term mostRecentTerm = null;
+                Assignment mostRecentSatisfier = null;
+                Term difference = null;
+                int previousLevel = 1;
+
+                for (Term term : incompatibility.getTerms()) {
+                    Assignment satisfier = solution.satisfier(term);
+
+                    if ((mostRecentSatisfier == null) || (satisfier.getIndex() > mostRecentSatisfier.getIndex())) {
+                        if (mostRecentSatisfier != null) {
+                            previousLevel = Math.max(previousLevel, mostRecentSatisfier.getLevel());
+                        }
+
+                        mostRecentTerm = term;
+                        mostRecentSatisfier = satisfier;
+                        difference = null;
+                    } else {
+                        previousLevel = Math.max(previousLevel, satisfier.getLevel());
+                    }
+
+                    if (mostRecentTerm == term) {
+                        difference = mostRecentSatisfier.getTerm().difference(mostRecentTerm);
+
+                        if (difference.isEmpty()) {
+                            difference = null;
+                        } else {
+                            previousLevel = Math.max(previousLevel, solution.satisfier(difference.negate()).getLevel());
+                        }
+                    }
+                }
+
+                if ((previousLevel < mostRecentSatisfier.getLevel()) || mostRecentSatisfier.isDecision()) {
+                    solution.backtrack(previousLevel);
+
+                    if (derived) {
+                        add(incompatibility);
+                    }
+
+                    return incompatibility;
+                }
+
+                List<Term> terms = new ArrayList<>();
+
+                for (Term term : incompatibility.getTerms()) {
+                    if (term != mostRecentTerm) {
+                        terms.add(term);
+                    }
+                }
+
+                for (Term term : mostRecentSatisfier.getCause().getTerms()) {
+                    if (term.getPackage() != mostRecentSatisfier.getTerm().getPackage()) {
+                        terms.add(term);
+                    }
+                }
+
+                if (difference != null) {
+                    terms.add(difference.negate());
+                }
+
+                incompatibility = Incompatibility.derived(terms, incompatibility, mostRecentSatisfier.getCause());
+                derived = true;
+
+                learned.add(incompatibility);
+            }
+
+            throw new ResolutionException(
+                "No versions of the packages satisfy all of the requirements:\n" + incompatibility.explain()
+            );
+        }
+
+        /**
+         * Finds the only term of an incompatibility that is not satisfied by the partial solution.
+         *
+         * @param incompatibility The incompatibility, which must be almost satisfied.
+         *
+         * @return The term.
+         */
+        private Term unsatisfied(Incompatibility incompatibility) {
+            for (Term term : incompatibility.getTerms()) {
+                if (solution.relation(term) != Relation.SATISFIED) {
+                    return term;
+                }
+            }
+
+            throw new IllegalStateException("The incompatibility is satisfied.");
+        }
+    }
+}
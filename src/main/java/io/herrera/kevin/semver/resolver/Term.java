@@ -0,0 +1,266 @@
+package io.herrera.kevin.semver.resolver;
+
+import java.util.BitSet;
+
+/**
+ * An immutable statement about the selected version of a package.
+ *
+ * <p>
+ * A positive term requires a version in a set to be selected. A negative term requires that no version in a set is
+ * selected, which is also true if the package is not selected at all. Both are stored as the bits of the outcomes
+ * that make the term true, including the bit for the package not being selected, so every operation on terms is a
+ * single operation on bits.
+ * </p>
+ */
+final class Term {
+
+    /**
+     * The outcomes that make the term true.
+     */
+    private final BitSet outcomes;
+
+    /**
+     * The package.
+     */
+    private final PackageVersions versions;
+
+    /**
+     * Sets the outcomes that make the term true.
+     *
+     * @param versions The package.
+     * @param outcomes The outcomes, which must not be modified afterwards.
+     */
+    private Term(PackageVersions versions, BitSet outcomes) {
+        this.outcomes = outcomes;
+        this.versions = versions;
+    }
+
+    /**
+     * Creates a term that is true if any of a set of versions is not selected.
+     *
+     * @param versions The package.
+     * @param set      The versions.
+     *
+     * @return The term.
+     */
+    static Term negative(PackageVersions versions, BitSet set) {
+        return positive(versions, set).negate();
+    }
+
+    /**
+     * Creates a term that is true if one of a set of versions is selected.
+     *
+     * @param versions The package.
+     * @param set      The versions.
+     *
+     * @return The term.
+     */
+    static Term positive(PackageVersions versions, BitSet set) {
+        BitSet outcomes = (BitSet) set.clone();
+
+        if (outcomes.length() > versions.size()) {
+            outcomes.clear(versions.size(), outcomes.length());
+        }
+
+        return new Term(versions, outcomes);
+    }
+
+    /**
+     * Creates a term that is true if a single version is selected.
+     *
+     * @param versions The package.
+     * @param index    The index of the version.
+     *
+     * @return The term.
+     */
+    static Term positive(PackageVersions versions, int index) {
+        BitSet outcomes = new BitSet(versions.size() + 1);
+
+        outcomes.set(index);
+
+        return new Term(versions, outcomes);
+    }
+
+    /**
+     * Creates a term that is true if this term is true and another is not.
+     *
+     * @param other The other term, for the same package.
+     *
+     * @return The term.
+     */
+    Term difference(Term other) {
+        BitSet outcomes = (BitSet) this.outcomes.clone();
+
+        outcomes.andNot(other.outcomes);
+
+        return new Term(versions, outcomes);
+    }
+
+    /**
+     * Returns the package.
+     *
+     * @return The package.
+     */
+    PackageVersions getPackage() {
+        return versions;
+    }
+
+    /**
+     * Returns the versions that a positive term allows, or a negative term forbids.
+     *
+     * @return The versions.
+     */
+    BitSet getVersions() {
+        BitSet set = (BitSet) outcomes.clone();
+
+        if (!isPositive()) {
+            set.flip(0, versions.size() + 1);
+        }
+
+        return set;
+    }
+
+    /**
+     * Creates a term that is true if both this and another term are true.
+     *
+     * @param other The other term, for the same package.
+     *
+     * @return The term.
+     */
+    Term intersect(Term other) {
+        BitSet outcomes = (BitSet) this.outcomes.clone();
+
+        outcomes.and(other.outcomes);
+
+        return new Term(versions, outcomes);
+    }
+
+    /**
+     * Checks if this term and another term can both be true.
+     *
+     * @param other The other term, for the same package.
+     *
+     * @return Returns <code>true</code> if they cannot, or <code>false</code> if they can.
+     */
+    boolean isDisjoint(Term other) {
+        return !outcomes.intersects(other.outcomes);
+    }
+
+    /**
+     * Checks if the term can never be true.
+     *
+     * @return Returns <code>true</code> if it can, or <code>false</code> if not.
+     */
+    boolean isEmpty() {
+        return outcomes.isEmpty();
+    }
+
+    /**
+     * Checks if the term is always true.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    boolean isFull() {
+        return outcomes.cardinality() == (versions.size() + 1);
+    }
+
+    /**
+     * Checks if the term requires the package to be selected.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not.
+     */
+    boolean isPositive() {
+        return !outcomes.get(versions.size());
+    }
+
+    /**
+     * Checks if this term is true whenever another term is true.
+     *
+     * @param other The other term, for the same package.
+     *
+     * @return Returns <code>true</code> if it is, or <code>false</code> if not.
+     */
+    boolean isSatisfiedBy(Term other) {
+        BitSet outcomes = (BitSet) other.outcomes.clone();
+
+        outcomes.andNot(this.outcomes);
+
+        return outcomes.isEmpty();
+    }
+
+    /**
+     * Creates a term that is true if, and only if, this term is false.
+     *
+     * @return The term.
+     */
+    Term negate() {
+        BitSet outcomes = (BitSet) this.outcomes.clone();
+
+        outcomes.flip(0, versions.size() + 1);
+
+        return new Term(versions, outcomes);
+    }
+
+    /**
+     * Returns the number of versions that the term allows.
+     *
+     * @return The number of versions.
+     */
+    int size() {
+        return isPositive() ? outcomes.cardinality() : (outcomes.cardinality() - 1);
+    }
+
+    @Override
+    public String toString() {
+        if (versions.isRoot()) {
+            return isPositive() ? "root" : "not root";
+        }
+
+        return (isPositive() ? "" : "not ") + versions + " " + describe(getVersions());
+    }
+
+    /**
+     * Describes a set of versions as runs of consecutive versions.
+     *
+     * @param set The versions.
+     *
+     * @return The description.
+     */
+    private String describe(BitSet set) {
+        int size = versions.size();
+
+        set.clear(size);
+
+        if (size == 0) {
+            return "(unknown package)";
+        }
+
+        if (set.isEmpty()) {
+            return "(no versions)";
+        }
+
+        if (set.cardinality() == size) {
+            return "*";
+        }
+
+        StringBuilder builder = new StringBuilder();
+
+        for (int start = set.nextSetBit(0); start >= 0; start = set.nextSetBit(start)) {
+            int end = set.nextClearBit(start) - 1;
+
+            if (builder.length() > 0) {
+                builder.append(" || ");
+            }
+
+            builder.append(versions.getVersion(start));
+
+            if (end > start) {
+                builder.append(" - ").append(versions.getVersion(end));
+            }
+
+            start = end + 1;
+        }
+
+        return builder.toString();
+    }
+}
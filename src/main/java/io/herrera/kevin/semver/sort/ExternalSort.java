@@ -0,0 +1,790 @@
+package io.herrera.kevin.semver.sort;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.encoding.VersionKey;
+import io.herrera.kevin.semver.encoding.VersionRecord;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts files of version numbers that are too large to fit in memory.
+ *
+ * <p>
+ * The input is read in runs that fit within the memory limit. Each run is sorted by precedence with
+ * {@link VersionSort} and spilled to a temporary file as {@link VersionRecord}s. The runs are then merged together
+ * using a k-way merge, optionally dropping version numbers with equal precedence, and written to the output. Each run
+ * being merged holds a read buffer and a file open, so if there are more runs than the memory limit allows for, they
+ * are first merged in groups into fewer, longer runs. The sort is stable, so the first of several version numbers with
+ * equal precedence is the one that is kept.
+ * </p>
+ */
+public final class ExternalSort {
+
+    /**
+     * The default memory limit, in bytes.
+     */
+    public static final long DEFAULT_MEMORY_LIMIT = 64L * 1024 * 1024;
+
+    /**
+     * The size of the buffers used to read and write files.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The largest number of runs that are merged at once, which limits the number of open files.
+     */
+    private static final int MAX_FAN_IN = 256;
+
+    /**
+     * Indicates that version numbers with equal precedence are dropped.
+     */
+    private boolean deduplicate;
+
+    /**
+     * The estimated number of bytes that can be used to hold a run in memory.
+     */
+    private long memoryLimit = DEFAULT_MEMORY_LIMIT;
+
+    /**
+     * The directory for the temporary run files.
+     */
+    private Path tempDirectory = Paths.get(System.getProperty("java.io.tmpdir"));
+
+    /**
+     * Sets whether version numbers with equal precedence are dropped from the output.
+     *
+     * @param deduplicate Drop version numbers with equal precedence?
+     *
+     * @return A fluent interface.
+     */
+    public ExternalSort setDeduplicate(boolean deduplicate) {
+        this.deduplicate = deduplicate;
+
+        return this;
+    }
+
+    /**
+     * Sets the estimated number of bytes that can be used to hold a run in memory.
+     *
+     * @param bytes The number of bytes.
+     *
+     * @return A fluent interface.
+     */
+    public ExternalSort setMemoryLimit(long bytes) {
+        if (bytes < 1) {
+            throw new IllegalArgumentException("The memory limit must be at least 1 (one) byte.");
+        }
+
+        this.memoryLimit = bytes;
+
+        return this;
+    }
+
+    /**
+     * Sets the directory for the temporary run files.
+     *
+     * @param directory The directory.
+     *
+     * @return A fluent interface.
+     */
+    public ExternalSort setTempDirectory(Path directory) {
+        Objects.requireNonNull(directory, "The temporary directory is required.");
+
+        this.tempDirectory = directory;
+
+        return this;
+    }
+
+    /**
+     * Sorts a file of version numbers.
+     *
+     * <p>
+     * Text files contain one version number per line. Blank lines are skipped, and lines that are not valid semantic
+     * version numbers are skipped and counted in the report.
+     * </p>
+     *
+     * @param input        The input file.
+     * @param inputFormat  The format of the input file.
+     * @param output       The output file.
+     * @param outputFormat The format of the output file.
+     *
+     * @return The report.
+     *
+     * @throws IOException If a file could not be read or written.
+     */
+    public Report sort(Path input, Format inputFormat, Path output, Format outputFormat) throws IOException {
+        Objects.requireNonNull(input, "The input file is required.");
+        Objects.requireNonNull(inputFormat, "The input format is required.");
+        Objects.requireNonNull(output, "The output file is required.");
+        Objects.requireNonNull(outputFormat, "The output format is required.");
+
+        Report report = new Report();
+        List<Path> runs = new ArrayList<>();
+
+        report.started = System.nanoTime();
+
+        try (Reader reader = inputFormat.open(input)) {
+            List<Version> run = new ArrayList<>();
+            long size = 0;
+            Version version;
+
+            while ((version = reader.read(report)) != null) {
+                run.add(version);
+
+                size += estimateSize(version);
+
+                if (size >= memoryLimit) {
+                    runs.add(spill(run, report));
+                    run.clear();
+
+                    size = 0;
+                }
+            }
+
+            try (Writer writer = outputFormat.create(output)) {
+                if (runs.isEmpty()) {
+                    Version[] sorted = run.toArray(new Version[0]);
+
+                    VersionSort.sort(sorted);
+
+                    for (Version each : sorted) {
+                        write(writer, each, report);
+                    }
+                } else {
+                    if (!run.isEmpty()) {
+                        runs.add(spill(run, report));
+                    }
+
+                    merge(runs, writer, report);
+                }
+            }
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+
+        report.runs = runs.size();
+        report.finished = System.nanoTime();
+
+        return report;
+    }
+
+    /**
+     * Closes the readers of the runs being merged, even if closing one of them fails.
+     *
+     * @param readers The readers.
+     *
+     * @throws IOException If a reader could not be closed.
+     */
+    private static void close(List<RunReader> readers) throws IOException {
+        IOException failure = null;
+
+        for (RunReader reader : readers) {
+            try {
+                reader.close();
+            } catch (IOException exception) {
+                if (failure == null) {
+                    failure = exception;
+                } else {
+                    failure.addSuppressed(exception);
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Estimates the number of bytes used by a version number in memory.
+     *
+     * @param version The version number.
+     *
+     * @return The estimated number of bytes.
+     */
+    private static long estimateSize(Version version) {
+        long size = 96;
+
+        for (String identifier : version.getPreRelease()) {
+            size += 48 + identifier.length();
+        }
+
+        for (String identifier : version.getBuild()) {
+            size += 48 + identifier.length();
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns the number of runs that are merged at once, which is how many read buffers fit within the memory limit.
+     *
+     * @return The number of runs.
+     */
+    private int fanIn() {
+        return (int) Math.max(2, Math.min(MAX_FAN_IN, memoryLimit / BUFFER_SIZE));
+    }
+
+    /**
+     * Merges the sorted runs into the output.
+     *
+     * <p>
+     * While there are more runs than can be merged at once, each group of consecutive runs is merged into a temporary
+     * run, which keeps the merge stable. The temporary runs are deleted once the output is written.
+     * </p>
+     *
+     * @param runs   The sorted runs.
+     * @param writer The output writer.
+     * @param report The report.
+     *
+     * @throws IOException If a run could not be read or written, or the output could not be written.
+     */
+    private void merge(List<Path> runs, Writer writer, Report report) throws IOException {
+        int fanIn = fanIn();
+        List<Path> merged = new ArrayList<>();
+        List<Path> pending = runs;
+
+        try {
+            while (pending.size() > fanIn) {
+                List<Path> next = new ArrayList<>();
+
+                for (int from = 0; from < pending.size(); from += fanIn) {
+                    List<Path> group = pending.subList(from, Math.min(pending.size(), from + fanIn));
+
+                    if (group.size() == 1) {
+                        next.add(group.get(0));
+
+                        continue;
+                    }
+
+                    Path path = Files.createTempFile(tempDirectory, "semver-run-", ".bin");
+
+                    merged.add(path);
+                    next.add(path);
+
+                    try (Writer output = Format.BINARY.create(path)) {
+                        mergeRuns(group, output, null);
+                    }
+                }
+
+                pending = next;
+            }
+
+            mergeRuns(pending, writer, report);
+        } finally {
+            for (Path path : merged) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Merges sorted runs, all at once, into a writer.
+     *
+     * @param runs   The sorted runs.
+     * @param writer The writer.
+     * @param report The report, or <code>null</code> if the writer is for a temporary run, which is written as is.
+     *
+     * @throws IOException If a run could not be read or the writer could not be written.
+     */
+    private void mergeRuns(List<Path> runs, Writer writer, Report report) throws IOException {
+        PriorityQueue<RunReader> queue = new PriorityQueue<>(runs.size());
+        List<RunReader> readers = new ArrayList<>(runs.size());
+
+        try (Closeable closing = () -> close(readers)) {
+            for (int i = 0; i < runs.size(); i++) {
+                RunReader reader = new RunReader(runs.get(i), i);
+
+                readers.add(reader);
+
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                RunReader reader = queue.poll();
+
+                if (report == null) {
+                    writer.write(reader.current);
+                } else {
+                    write(writer, reader.current, report);
+                }
+
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts a run and spills it to a temporary file.
+     *
+     * @param run    The run.
+     * @param report The report.
+     *
+     * @return The temporary file.
+     *
+     * @throws IOException If the temporary file could not be written.
+     */
+    private Path spill(List<Version> run, Report report) throws IOException {
+        Version[] sorted = run.toArray(new Version[0]);
+
+        VersionSort.sort(sorted);
+
+        Path path = Files.createTempFile(tempDirectory, "semver-run-", ".bin");
+
+        try (DataOutputStream output = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)
+        )) {
+            Version previous = null;
+
+            for (Version version : sorted) {
+                if (deduplicate && (previous != null) && previous.equals(version)) {
+                    report.duplicates++;
+                } else {
+                    VersionRecord.write(output, version);
+                }
+
+                previous = version;
+            }
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(path);
+
+            throw exception;
+        }
+
+        return path;
+    }
+
+    /**
+     * Writes a version number to the output, unless it is a duplicate that should be dropped.
+     *
+     * @param writer  The output writer.
+     * @param version The version number.
+     * @param report  The report.
+     *
+     * @throws IOException If the version number could not be written.
+     */
+    private void write(Writer writer, Version version, Report report) throws IOException {
+        if (deduplicate && (report.last != null) && report.last.equals(version)) {
+            report.duplicates++;
+
+            return;
+        }
+
+        writer.write(version);
+
+        report.last = version;
+        report.written++;
+    }
+
+    /**
+     * The formats that version numbers can be read and written in.
+     */
+    public enum Format {
+
+        /**
+         * A stream of {@link VersionRecord}s.
+         */
+        BINARY {
+            @Override
+            Reader open(Path path) throws IOException {
+                DataInputStream input = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)
+                );
+
+                return new Reader() {
+                    @Override
+                    public void close() throws IOException {
+                        input.close();
+                    }
+
+                    @Override
+                    public Version read(Report report) throws IOException {
+                        while (true) {
+                            try {
+                                Version version = VersionRecord.read(input);
+
+                                if (version != null) {
+                                    report.read++;
+                                }
+
+                                return version;
+                            } catch (InvalidVersionException exception) {
+                                report.invalid++;
+                            }
+                        }
+                    }
+                };
+            }
+
+            @Override
+            Writer create(Path path) throws IOException {
+                DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)
+                );
+
+                return new Writer() {
+                    @Override
+                    public void close() throws IOException {
+                        output.close();
+                    }
+
+                    @Override
+                    public void write(Version version) throws IOException {
+                        VersionRecord.write(output, version);
+                    }
+                };
+            }
+        },
+
+        /**
+         * One string representation per line, encoded as UTF-8.
+         */
+        TEXT {
+            @Override
+            Reader open(Path path) throws IOException {
+                BufferedReader input = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+
+                return new Reader() {
+                    @Override
+                    public void close() throws IOException {
+                        input.close();
+                    }
+
+                    @Override
+                    public Version read(Report report) throws IOException {
+                        String line;
+
+                        while ((line = input.readLine()) != null) {
+                            line = line.trim();
+
+                            if (line.isEmpty()) {
+                                continue;
+                            }
+
+                            try {
+                                Version version = new Version(line);
+
+                                report.read++;
+
+                                return version;
+                            } catch (InvalidVersionException exception) {
+                                report.invalid++;
+                            }
+                        }
+
+                        return null;
+                    }
+                };
+            }
+
+            @Override
+            Writer create(Path path) throws IOException {
+                BufferedWriter output = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+
+                return new Writer() {
+                    @Override
+                    public void close() throws IOException {
+                        output.close();
+                    }
+
+                    @Override
+                    public void write(Version version) throws IOException {
+                        output.write(version.toString());
+                        output.newLine();
+                    }
+                };
+            }
+        };
+
+        /**
+         * Opens a file for reading.
+         *
+         * @param path The path to the file.
+         *
+         * @return The reader.
+         *
+         * @throws IOException If the file could not be opened.
+         */
+        abstract Reader open(Path path) throws IOException;
+
+        /**
+         * Creates a file for writing.
+         *
+         * @param path The path to the file.
+         *
+         * @return The writer.
+         *
+         * @throws IOException If the file could not be created.
+         */
+        abstract Writer create(Path path) throws IOException;
+    }
+
+    /**
+     * Reads version numbers from an input file.
+     */
+    private interface Reader extends Closeable {
+
+        /**
+         * Reads the next valid version number.
+         *
+         * @param report The report to record counts in.
+         *
+         * @return The version number, or <code>null</code> if the end of the file was reached.
+         *
+         * @throws IOException If the file could not be read.
+         */
+        Version read(Report report) throws IOException;
+    }
+
+    /**
+     * Writes version numbers to an output file.
+     */
+    private interface Writer extends Closeable {
+
+        /**
+         * Writes a version number.
+         *
+         * @param version The version number.
+         *
+         * @throws IOException If the file could not be written.
+         */
+        void write(Version version) throws IOException;
+    }
+
+    /**
+     * Reports the work done by a sort.
+     */
+    public static final class Report {
+
+        /**
+         * The number of version numbers dropped as duplicates.
+         */
+        private long duplicates;
+
+        /**
+         * The time the sort finished, in nanoseconds.
+         */
+        private long finished;
+
+        /**
+         * The number of invalid version numbers skipped.
+         */
+        private long invalid;
+
+        /**
+         * The last version number written, used to drop duplicates.
+         */
+        private Version last;
+
+        /**
+         * The number of valid version numbers read.
+         */
+        private long read;
+
+        /**
+         * The number of runs spilled to temporary files.
+         */
+        private int runs;
+
+        /**
+         * The time the sort started, in nanoseconds.
+         */
+        private long started;
+
+        /**
+         * The number of version numbers written.
+         */
+        private long written;
+
+        /**
+         * Returns the number of version numbers dropped as duplicates.
+         *
+         * @return The number of version numbers.
+         */
+        public long getDuplicates() {
+            return duplicates;
+        }
+
+        /**
+         * Returns the time the sort took, in nanoseconds.
+         *
+         * @return The time in nanoseconds.
+         */
+        public long getElapsedNanos() {
+            return finished - started;
+        }
+
+        /**
+         * Returns the number of invalid version numbers that were skipped.
+         *
+         * @return The number of version numbers.
+         */
+        public long getInvalid() {
+            return invalid;
+        }
+
+        /**
+         * Returns the number of valid version numbers that were read.
+         *
+         * @return The number of version numbers.
+         */
+        public long getRead() {
+            return read;
+        }
+
+        /**
+         * Returns the number of runs that were spilled to temporary files.
+         *
+         * @return The number of runs.
+         */
+        public int getRuns() {
+            return runs;
+        }
+
+        /**
+         * Returns the number of version numbers read per second.
+         *
+         * @return The number of version numbers per second.
+         */
+        public double getThroughput() {
+            long elapsed = getElapsedNanos();
+
+            return (elapsed > 0) ? ((read + invalid) * 1e9 / elapsed) : 0;
+        }
+
+        /**
+         * Returns the number of version numbers that were written.
+         *
+         * @return The number of version numbers.
+         */
+        public long getWritten() {
+            return written;
+        }
+
+        /**
+         * Creates a summary of the report.
+         *
+         * @return The summary.
+         */
+        @Override
+        public String toString() {
+            return String.format(
+                "read %d (%d invalid), wrote %d (%d duplicates) using %d runs in %.3f s (%.0f versions/s)",
+                read,
+                invalid,
+                written,
+                duplicates,
+                runs,
+                getElapsedNanos() / 1e9,
+                getThroughput()
+            );
+        }
+    }
+
+    /**
+     * Reads a sorted run from a temporary file during the merge.
+     */
+    private static final class RunReader implements Comparable<RunReader>, Closeable {
+
+        /**
+         * The current version number.
+         */
+        private Version current;
+
+        /**
+         * The input stream.
+         */
+        private final DataInputStream input;
+
+        /**
+         * The key of the current version number, if it could be packed.
+         */
+        private long key;
+
+        /**
+         * Indicates that the current version number was packed.
+         */
+        private boolean packed;
+
+        /**
+         * The order of the run, which keeps the merge stable.
+         */
+        private final int order;
+
+        /**
+         * Opens a run.
+         *
+         * @param path  The path to the run.
+         * @param order The order of the run.
+         *
+         * @throws IOException If the run could not be opened.
+         */
+        RunReader(Path path, int order) throws IOException {
+            this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+            this.order = order;
+        }
+
+        /**
+         * Reads the next version number in the run.
+         *
+         * @return Returns <code>true</code> if there was one, or <code>false</code> if the run is exhausted.
+         *
+         * @throws IOException If the run could not be read.
+         */
+        boolean advance() throws IOException {
+            try {
+                current = VersionRecord.read(input);
+            } catch (InvalidVersionException exception) {
+                throw new IOException("The run contains an invalid version number.", exception);
+            }
+
+            if (current != null) {
+                packed = VersionKey.isPackable(current);
+                key = packed ? VersionKey.pack(current) : 0;
+            }
+
+            return current != null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+
+        @Override
+        public int compareTo(RunReader other) {
+            int result = 0;
+
+            if (packed && other.packed) {
+                result = VersionKey.compare(key, other.key);
+            }
+
+            if ((result == 0) && (!packed || !other.packed || VersionKey.hasPreRelease(key))) {
+                result = current.compareTo(other.current);
+            }
+
+            return (result == 0) ? Integer.compare(order, other.order) : result;
+        }
+    }
+}
@@ -0,0 +1,496 @@
+package io.herrera.kevin.semver.sort;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.encoding.VersionKey;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts large numbers of version numbers by precedence.
+ *
+ * <p>
+ * Instead of comparing version numbers directly, the version numbers are packed into {@link VersionKey}s which are
+ * then sorted using a least significant digit radix sort. Only version numbers with equal keys and pre-release
+ * metadata need to be compared, which is done with a comparison sort over just those ranges. The version numbers that
+ * are too large to be packed (usually few, if any) are sorted with a comparison sort on their own, and then inserted
+ * into the radix sorted ones. All sorts are stable.
+ * </p>
+ */
+public final class VersionSort {
+
+    /**
+     * The number of bits in each radix digit.
+     */
+    private static final int DIGIT_BITS = 16;
+
+    /**
+     * The number of values in each radix digit.
+     */
+    private static final int DIGIT_SIZE = 1 << DIGIT_BITS;
+
+    /**
+     * The smallest range that is split into parallel tasks.
+     */
+    private static final int MIN_PARALLEL_SIZE = 1 << 16;
+
+    /**
+     * The largest range that is sorted with a comparison sort instead of a radix sort.
+     */
+    private static final int MAX_COMPARISON_SIZE = 256;
+
+    /**
+     * Sorts packed keys as unsigned integers.
+     *
+     * @param keys The keys.
+     */
+    public static void sort(long[] keys) {
+        Objects.requireNonNull(keys, "The keys are required.");
+
+        radix(keys, null, 0, keys.length, new long[keys.length], null);
+    }
+
+    /**
+     * Sorts a list of version numbers.
+     *
+     * @param versions The version numbers.
+     */
+    public static void sort(List<Version> versions) {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+
+        Version[] array = versions.toArray(new Version[0]);
+
+        sort(array);
+        copy(array, versions);
+    }
+
+    /**
+     * Sorts an array of version numbers.
+     *
+     * @param versions The version numbers.
+     */
+    public static void sort(Version[] versions) {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+
+        long[] keys = new long[versions.length];
+        Version[] versionBuffer = new Version[versions.length];
+        int packed = pack(versions, keys, versionBuffer);
+
+        sortRange(keys, versions, 0, packed, new long[keys.length], versionBuffer);
+        insertUnpacked(versions, packed, versionBuffer);
+    }
+
+    /**
+     * Sorts a list of version numbers using the common fork/join pool.
+     *
+     * @param versions The version numbers.
+     */
+    public static void parallelSort(List<Version> versions) {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+
+        Version[] array = versions.toArray(new Version[0]);
+
+        parallelSort(array);
+        copy(array, versions);
+    }
+
+    /**
+     * Sorts an array of version numbers using the common fork/join pool.
+     *
+     * @param versions The version numbers.
+     */
+    public static void parallelSort(Version[] versions) {
+        parallelSort(versions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts an array of version numbers using a fork/join pool.
+     *
+     * <p>
+     * The array is split into one range per thread, each range is radix sorted, and the sorted ranges are then merged
+     * together in parallel.
+     * </p>
+     *
+     * @param versions The version numbers.
+     * @param pool     The fork/join pool.
+     */
+    public static void parallelSort(Version[] versions, ForkJoinPool pool) {
+        Objects.requireNonNull(versions, "The version numbers are required.");
+        Objects.requireNonNull(pool, "The fork/join pool is required.");
+
+        if (versions.length < MIN_PARALLEL_SIZE) {
+            sort(versions);
+
+            return;
+        }
+
+        long[] keys = new long[versions.length];
+        Version[] versionBuffer = new Version[versions.length];
+        int packed = pack(versions, keys, versionBuffer);
+        int threshold = Math.max(MIN_PARALLEL_SIZE, packed / pool.getParallelism());
+
+        pool.invoke(new ParallelSort(keys, versions, 0, packed, new long[keys.length], versionBuffer, threshold));
+        insertUnpacked(versions, packed, versionBuffer);
+    }
+
+    /**
+     * Compares two version numbers using their keys, falling back to the version numbers if necessary.
+     *
+     * @param leftKey  The key of the left hand side.
+     * @param left     The left hand side.
+     * @param rightKey The key of the right hand side.
+     * @param right    The right hand side.
+     *
+     * @return A negative integer, zero, or a positive integer as the left version number has a lesser, equal, or
+     *         greater precedence than the right.
+     */
+    private static int compare(long leftKey, Version left, long rightKey, Version right) {
+        int result = VersionKey.compare(leftKey, rightKey);
+
+        if ((result == 0) && VersionKey.hasPreRelease(leftKey)) {
+            result = left.compareTo(right);
+        }
+
+        return result;
+    }
+
+    /**
+     * Copies a sorted array back into a list.
+     *
+     * @param array    The sorted array.
+     * @param versions The list.
+     */
+    private static void copy(Version[] array, List<Version> versions) {
+        ListIterator<Version> iterator = versions.listIterator();
+
+        for (Version version : array) {
+            iterator.next();
+            iterator.set(version);
+        }
+    }
+
+    /**
+     * Sorts the version numbers that could not be packed, and inserts them into the sorted ones that could.
+     *
+     * <p>
+     * Each version number is inserted, from the greatest to the least, after the last sorted version number that does
+     * not have a greater precedence, which is found with a binary search. The sorted version numbers are only moved
+     * once, as a block, to make room for each insertion.
+     * </p>
+     *
+     * @param versions      The version numbers, with the sorted ones first and the ones to insert at the end.
+     * @param packed        The number of sorted version numbers.
+     * @param versionBuffer The scratch space for version numbers.
+     */
+    private static void insertUnpacked(Version[] versions, int packed, Version[] versionBuffer) {
+        int count = versions.length - packed;
+
+        if (count == 0) {
+            return;
+        }
+
+        Arrays.sort(versions, packed, versions.length);
+        System.arraycopy(versions, packed, versionBuffer, 0, count);
+
+        int end = versions.length;
+        int sorted = packed;
+
+        for (int i = count - 1; i >= 0; i--) {
+            Version version = versionBuffer[i];
+            int low = 0;
+            int high = sorted;
+
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+
+                if (versions[middle].compareTo(version) > 0) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+
+            int moved = sorted - low;
+
+            System.arraycopy(versions, low, versions, end - moved, moved);
+
+            end -= moved;
+            versions[--end] = version;
+            sorted = low;
+        }
+    }
+
+    /**
+     * Merges two adjacent sorted ranges.
+     *
+     * @param keys          The keys.
+     * @param versions      The version numbers.
+     * @param from          The start of the first range (inclusive).
+     * @param middle        The end of the first range and start of the second range.
+     * @param to            The end of the second range (exclusive).
+     * @param keyBuffer     The scratch space for keys.
+     * @param versionBuffer The scratch space for version numbers.
+     */
+    private static void merge(
+        long[] keys,
+        Version[] versions,
+        int from,
+        int middle,
+        int to,
+        long[] keyBuffer,
+        Version[] versionBuffer
+    ) {
+        System.arraycopy(keys, from, keyBuffer, from, middle - from);
+        System.arraycopy(versions, from, versionBuffer, from, middle - from);
+
+        int left = from;
+        int right = middle;
+        int i = from;
+
+        while ((left < middle) && (right < to)) {
+            if (compare(keyBuffer[left], versionBuffer[left], keys[right], versions[right]) <= 0) {
+                keys[i] = keyBuffer[left];
+                versions[i++] = versionBuffer[left++];
+            } else {
+                keys[i] = keys[right];
+                versions[i++] = versions[right++];
+            }
+        }
+
+        while (left < middle) {
+            keys[i] = keyBuffer[left];
+            versions[i++] = versionBuffer[left++];
+        }
+    }
+
+    /**
+     * Packs the version numbers into keys, moving the ones that cannot be packed to the end of the array.
+     *
+     * <p>
+     * Both the version numbers that are packed and the ones that are not keep their order. The array is not changed if
+     * any version number is missing.
+     * </p>
+     *
+     * @param versions      The version numbers.
+     * @param keys          The array to pack the keys into, in the same order as the version numbers.
+     * @param versionBuffer The scratch space for version numbers.
+     *
+     * @return The number of version numbers that were packed, which are now at the start of the array.
+     */
+    private static int pack(Version[] versions, long[] keys, Version[] versionBuffer) {
+        for (Version version : versions) {
+            Objects.requireNonNull(version, "The version number is required.");
+        }
+
+        int packed = 0;
+        int unpacked = 0;
+
+        for (Version version : versions) {
+            if (VersionKey.isPackable(version)) {
+                keys[packed] = VersionKey.pack(version);
+                versions[packed++] = version;
+            } else {
+                versionBuffer[unpacked++] = version;
+            }
+        }
+
+        System.arraycopy(versionBuffer, 0, versions, packed, unpacked);
+
+        return packed;
+    }
+
+    /**
+     * Sorts a range of keys, and their version numbers if given, using a least significant digit radix sort.
+     *
+     * @param keys          The keys.
+     * @param versions      The version numbers, or <code>null</code> to only sort the keys.
+     * @param from          The start of the range (inclusive).
+     * @param to            The end of the range (exclusive).
+     * @param keyBuffer     The scratch space for keys.
+     * @param versionBuffer The scratch space for version numbers, or <code>null</code> to only sort the keys.
+     */
+    private static void radix(
+        long[] keys,
+        Version[] versions,
+        int from,
+        int to,
+        long[] keyBuffer,
+        Version[] versionBuffer
+    ) {
+        if ((to - from) < 2) {
+            return;
+        }
+
+        int[] counts = new int[DIGIT_SIZE + 1];
+
+        for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+            Arrays.fill(counts, 0);
+
+            for (int i = from; i < to; i++) {
+                counts[(int) ((keys[i] >>> shift) & (DIGIT_SIZE - 1)) + 1]++;
+            }
+
+            if (counts[(int) ((keys[from] >>> shift) & (DIGIT_SIZE - 1)) + 1] == (to - from)) {
+                continue;
+            }
+
+            for (int i = 0; i < DIGIT_SIZE; i++) {
+                counts[i + 1] += counts[i];
+            }
+
+            for (int i = from; i < to; i++) {
+                int position = from + counts[(int) ((keys[i] >>> shift) & (DIGIT_SIZE - 1))]++;
+
+                keyBuffer[position] = keys[i];
+
+                if (versions != null) {
+                    versionBuffer[position] = versions[i];
+                }
+            }
+
+            System.arraycopy(keyBuffer, from, keys, from, to - from);
+
+            if (versions != null) {
+                System.arraycopy(versionBuffer, from, versions, from, to - from);
+            }
+        }
+    }
+
+    /**
+     * Sorts a range of version numbers by their keys, and then sorts the ranges of equal pre-release keys.
+     *
+     * @param keys          The keys.
+     * @param versions      The version numbers.
+     * @param from          The start of the range (inclusive).
+     * @param to            The end of the range (exclusive).
+     * @param keyBuffer     The scratch space for keys.
+     * @param versionBuffer The scratch space for version numbers.
+     */
+    private static void sortRange(
+        long[] keys,
+        Version[] versions,
+        int from,
+        int to,
+        long[] keyBuffer,
+        Version[] versionBuffer
+    ) {
+        if ((to - from) <= MAX_COMPARISON_SIZE) {
+            Arrays.sort(versions, from, to);
+
+            for (int i = from; i < to; i++) {
+                keys[i] = VersionKey.pack(versions[i]);
+            }
+
+            return;
+        }
+
+        radix(keys, versions, from, to, keyBuffer, versionBuffer);
+
+        int start = from;
+
+        for (int i = from + 1; i <= to; i++) {
+            if ((i == to) || (keys[i] != keys[start])) {
+                if (((i - start) > 1) && VersionKey.hasPreRelease(keys[start])) {
+                    Arrays.sort(versions, start, i);
+                }
+
+                start = i;
+            }
+        }
+    }
+
+    /**
+     * Sorts a range of version numbers by splitting it in half, sorting each half in parallel, and then merging them.
+     */
+    private static final class ParallelSort extends RecursiveAction {
+
+        /**
+         * The start of the range (inclusive).
+         */
+        private final int from;
+
+        /**
+         * The scratch space for keys.
+         */
+        private final long[] keyBuffer;
+
+        /**
+         * The keys.
+         */
+        private final long[] keys;
+
+        /**
+         * The largest range that is sorted sequentially.
+         */
+        private final int threshold;
+
+        /**
+         * The end of the range (exclusive).
+         */
+        private final int to;
+
+        /**
+         * The scratch space for version numbers.
+         */
+        private final Version[] versionBuffer;
+
+        /**
+         * The version numbers.
+         */
+        private final Version[] versions;
+
+        /**
+         * Sets the range to sort.
+         *
+         * @param keys          The keys.
+         * @param versions      The version numbers.
+         * @param from          The start of the range (inclusive).
+         * @param to            The end of the range (exclusive).
+         * @param keyBuffer     The scratch space for keys.
+         * @param versionBuffer The scratch space for version numbers.
+         * @param threshold     The largest range that is sorted sequentially.
+         */
+        ParallelSort(
+            long[] keys,
+            Version[] versions,
+            int from,
+            int to,
+            long[] keyBuffer,
+            Version[] versionBuffer,
+            int threshold
+        ) {
+            this.from = from;
+            this.keyBuffer = keyBuffer;
+            this.keys = keys;
+            this.threshold = threshold;
+            this.to = to;
+            this.versionBuffer = versionBuffer;
+            this.versions = versions;
+        }
+
+        @Override
+        protected void compute() {
+            if ((to - from) <= threshold) {
+                sortRange(keys, versions, from, to, keyBuffer, versionBuffer);
+
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+
+            invokeAll(
+                new ParallelSort(keys, versions, from, middle, keyBuffer, versionBuffer, threshold),
+                new ParallelSort(keys, versions, middle, to, keyBuffer, versionBuffer, threshold)
+            );
+
+            merge(keys, versions, from, middle, to, keyBuffer, versionBuffer);
+        }
+    }
+
+    private VersionSort() {
+        // Should not be instantiated.
+    }
+}
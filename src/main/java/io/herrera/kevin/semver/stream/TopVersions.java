@@ -0,0 +1,310 @@
+package io.herrera.kevin.semver.stream;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.encoding.VersionKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the version numbers with the greatest precedence out of a stream, up to a limit.
+ *
+ * <p>
+ * The version numbers are kept in a bounded heap with the least of them at the root, so the whole stream never needs
+ * to be sorted. Each version number is packed into a {@link VersionKey} as it is kept. Once the heap is full, a new
+ * version number is first compared to the root by its key, and is rejected without applying the constraint or
+ * comparing any pre-release metadata if it is not greater. Version numbers with equal precedence are all kept while
+ * there is room, but once the heap is full, only the ones seen first are.
+ * </p>
+ *
+ * <p>
+ * Instances are not safe to use from several threads, but partial results can be {@link #combine(TopVersions)
+ * combined}.
+ * </p>
+ */
+public final class TopVersions implements Consumer<Version> {
+
+    /**
+     * The constraint the version numbers must pass, or <code>null</code> if there is none.
+     */
+    private final Constraint constraint;
+
+    /**
+     * The kept version numbers, in heap order.
+     */
+    private final Version[] heap;
+
+    /**
+     * The keys of the kept version numbers, in heap order.
+     */
+    private final long[] keys;
+
+    /**
+     * Indicates that each of the kept version numbers could be packed into a key.
+     */
+    private final boolean[] packed;
+
+    /**
+     * The number of kept version numbers.
+     */
+    private int size;
+
+    /**
+     * Sets the limit and the constraint.
+     *
+     * @param limit      The maximum number of version numbers to keep.
+     * @param constraint The constraint, or <code>null</code> if there is none.
+     */
+    private TopVersions(int limit, Constraint constraint) {
+        this.constraint = constraint;
+        this.heap = new Version[limit];
+        this.keys = new long[limit];
+        this.packed = new boolean[limit];
+    }
+
+    /**
+     * Creates an operator that keeps the version numbers with the greatest precedence.
+     *
+     * @param limit The maximum number of version numbers to keep.
+     *
+     * @return The operator.
+     */
+    public static TopVersions of(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit must not be negative.");
+        }
+
+        return new TopVersions(limit, null);
+    }
+
+    /**
+     * Creates an operator that keeps the version numbers with the greatest precedence that pass a constraint.
+     *
+     * @param limit      The maximum number of version numbers to keep.
+     * @param constraint The constraint.
+     *
+     * @return The operator.
+     */
+    public static TopVersions of(int limit, Constraint constraint) {
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit must not be negative.");
+        }
+
+        return new TopVersions(limit, constraint);
+    }
+
+    /**
+     * Offers a version number to be kept.
+     *
+     * @param version The version number.
+     */
+    @Override
+    public void accept(Version version) {
+        Objects.requireNonNull(version, "The version number is required.");
+
+        boolean isPackable = VersionKey.isPackable(version);
+        long key = isPackable ? VersionKey.pack(version) : 0;
+
+        if ((size == heap.length) && !isGreaterThanRoot(version, key, isPackable)) {
+            return;
+        }
+
+        if ((constraint == null) || constraint.apply(version)) {
+            keep(version, key, isPackable);
+        }
+    }
+
+    /**
+     * Offers the version numbers kept by another operator.
+     *
+     * @param other The other operator, which must have the same constraint.
+     *
+     * @return A fluent interface.
+     */
+    public TopVersions combine(TopVersions other) {
+        Objects.requireNonNull(other, "The other operator is required.");
+
+        for (int i = 0; i < other.size; i++) {
+            if ((size < heap.length) || isGreaterThanRoot(other.heap[i], other.keys[i], other.packed[i])) {
+                keep(other.heap[i], other.keys[i], other.packed[i]);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks if the limit has been reached.
+     *
+     * @return Returns <code>true</code> if it has, or <code>false</code> if not.
+     */
+    public boolean isFull() {
+        return size == heap.length;
+    }
+
+    /**
+     * Returns the number of kept version numbers.
+     *
+     * @return The number of version numbers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the kept version numbers.
+     *
+     * @return The version numbers, from greatest to least precedence.
+     */
+    public List<Version> toList() {
+        Version[] sorted = Arrays.copyOf(heap, size);
+
+        Arrays.sort(sorted, Collections.reverseOrder());
+
+        return Collections.unmodifiableList(new ArrayList<>(Arrays.asList(sorted)));
+    }
+
+    /**
+     * Compares two kept version numbers, or a kept version number and a new one.
+     *
+     * @param left        The left version number.
+     * @param leftKey     The key of the left version number.
+     * @param leftPacked  Indicates that the left version number could be packed.
+     * @param right       The right version number.
+     * @param rightKey    The key of the right version number.
+     * @param rightPacked Indicates that the right version number could be packed.
+     *
+     * @return The result of the comparison.
+     */
+    private static int compare(
+        Version left,
+        long leftKey,
+        boolean leftPacked,
+        Version right,
+        long rightKey,
+        boolean rightPacked
+    ) {
+        if (leftPacked && rightPacked) {
+            int result = VersionKey.compare(leftKey, rightKey);
+
+            if ((result != 0) || !VersionKey.hasPreRelease(leftKey)) {
+                return result;
+            }
+        }
+
+        return left.compareTo(right);
+    }
+
+    /**
+     * Compares the kept version numbers at two positions in the heap.
+     *
+     * @param left  The left position.
+     * @param right The right position.
+     *
+     * @return The result of the comparison.
+     */
+    private int compareAt(int left, int right) {
+        return compare(heap[left], keys[left], packed[left], heap[right], keys[right], packed[right]);
+    }
+
+    /**
+     * Checks if a version number has a greater precedence than the least of the kept version numbers.
+     *
+     * @param version    The version number.
+     * @param key        The key of the version number.
+     * @param isPackable Indicates that the version number could be packed.
+     *
+     * @return Returns <code>true</code> if it does, or <code>false</code> if not (or nothing can be kept).
+     */
+    private boolean isGreaterThanRoot(Version version, long key, boolean isPackable) {
+        return (heap.length > 0) && (compare(version, key, isPackable, heap[0], keys[0], packed[0]) > 0);
+    }
+
+    /**
+     * Keeps a version number, replacing the least of the kept version numbers if the limit has been reached.
+     *
+     * @param version    The version number.
+     * @param key        The key of the version number.
+     * @param isPackable Indicates that the version number could be packed.
+     */
+    private void keep(Version version, long key, boolean isPackable) {
+        if (size < heap.length) {
+            set(size, version, key, isPackable);
+
+            int child = size++;
+
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+
+                if (compareAt(child, parent) >= 0) {
+                    break;
+                }
+
+                swap(child, parent);
+
+                child = parent;
+            }
+
+            return;
+        }
+
+        set(0, version, key, isPackable);
+
+        int parent = 0;
+
+        while (true) {
+            int child = (parent << 1) + 1;
+
+            if (child >= size) {
+                break;
+            }
+
+            if (((child + 1) < size) && (compareAt(child + 1, child) < 0)) {
+                child++;
+            }
+
+            if (compareAt(child, parent) >= 0) {
+                break;
+            }
+
+            swap(child, parent);
+
+            parent = child;
+        }
+    }
+
+    /**
+     * Sets the version number at a position in the heap.
+     *
+     * @param index      The position.
+     * @param version    The version number.
+     * @param key        The key of the version number.
+     * @param isPackable Indicates that the version number could be packed.
+     */
+    private void set(int index, Version version, long key, boolean isPackable) {
+        heap[index] = version;
+        keys[index] = key;
+        packed[index] = isPackable;
+    }
+
+    /**
+     * Swaps the version numbers at two positions in the heap.
+     *
+     * @param left  The left position.
+     * @param right The right position.
+     */
+    private void swap(int left, int right) {
+        Version version = heap[left];
+        long key = keys[left];
+        boolean isPackable = packed[left];
+
+        set(left, heap[right], keys[right], packed[right]);
+        set(right, version, key, isPackable);
+    }
+}
@@ -0,0 +1,202 @@
+package io.herrera.kevin.semver.stream;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.catalog.VersionIndex;
+import io.herrera.kevin.semver.constraints.Constraint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+
+/**
+ * Provides collectors for streams of version numbers.
+ *
+ * <p>
+ * The collectors compare version numbers by their natural order (precedence), so there is no need to build a
+ * comparator out of <code>isGreaterThan()</code> and <code>isLessThan()</code>.
+ * </p>
+ */
+public final class VersionCollectors {
+
+    /**
+     * Keeps the version number with the greatest precedence, or the first if they are equal.
+     */
+    private static final BinaryOperator<Version> LATEST = (left, right) -> (right.compareTo(left) > 0) ? right : left;
+
+    /**
+     * Collects the version numbers with the greatest precedence, without sorting the whole stream.
+     *
+     * @param limit The maximum number of version numbers to collect.
+     *
+     * @return The collector, which produces a list from greatest to least precedence.
+     *
+     * @see TopVersions
+     */
+    public static Collector<Version, ?, List<Version>> latest(int limit) {
+        return top(limit, null);
+    }
+
+    /**
+     * Collects the version numbers with the greatest precedence for each major version number.
+     *
+     * @return The collector, which produces a map sorted by the major version number.
+     */
+    public static Collector<Version, ?, NavigableMap<Integer, Version>> latestPerMajor() {
+        return latestPer(Version::getMajor);
+    }
+
+    /**
+     * Collects the version numbers with the greatest precedence for each minor version number.
+     *
+     * @return The collector, which produces a map sorted by the major and minor version numbers (with the patch
+     *         version number and metadata cleared).
+     */
+    public static Collector<Version, ?, NavigableMap<Version, Version>> latestPerMinor() {
+        return latestPer(VersionCollectors::minorOf);
+    }
+
+    /**
+     * Collects the version numbers with the greatest precedence that pass a constraint, without sorting the whole
+     * stream.
+     *
+     * @param constraint The constraint.
+     * @param limit      The maximum number of version numbers to collect.
+     *
+     * @return The collector, which produces a list from greatest to least precedence.
+     *
+     * @see TopVersions
+     */
+    public static Collector<Version, ?, List<Version>> latestSatisfying(Constraint constraint, int limit) {
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        return top(limit, constraint);
+    }
+
+    /**
+     * Collects the version number with the greatest precedence that passes a constraint.
+     *
+     * @param constraint The constraint.
+     *
+     * @return The collector.
+     */
+    public static Collector<Version, ?, Optional<Version>> maxSatisfying(Constraint constraint) {
+        Objects.requireNonNull(constraint, "The constraint is required.");
+
+        return Collector.of(
+            Latest::new,
+            (latest, version) -> {
+                if (constraint.apply(version)) {
+                    latest.accept(version);
+                }
+            },
+            (left, right) -> {
+                left.accept(right.version);
+
+                return left;
+            },
+            latest -> Optional.ofNullable(latest.version),
+            Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Collects the version numbers into a sorted index.
+     *
+     * @return The collector.
+     */
+    public static Collector<Version, ?, VersionIndex> toSortedVersionIndex() {
+        return Collectors.collectingAndThen(Collectors.toCollection(ArrayList::new), VersionIndex::of);
+    }
+
+    /**
+     * Collects the version numbers into an array, in encounter order.
+     *
+     * @return The collector.
+     */
+    public static Collector<Version, ?, Version[]> toVersionArray() {
+        return Collectors.collectingAndThen(
+            Collectors.toCollection(ArrayList::new),
+            list -> list.toArray(new Version[0])
+        );
+    }
+
+    /**
+     * Collects the version numbers with the greatest precedence for each key.
+     *
+     * @param key Returns the key for a version number.
+     * @param <K> The type of the key.
+     *
+     * @return The collector.
+     */
+    private static <K> Collector<Version, ?, NavigableMap<K, Version>> latestPer(Function<Version, K> key) {
+        return Collectors.toMap(key, Function.identity(), LATEST, TreeMap::new);
+    }
+
+    /**
+     * Collects the version numbers with the greatest precedence into a bounded heap.
+     *
+     * @param limit      The maximum number of version numbers to collect.
+     * @param constraint The constraint, or <code>null</code> if there is none.
+     *
+     * @return The collector.
+     */
+    private static Collector<Version, ?, List<Version>> top(int limit, Constraint constraint) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit must not be negative.");
+        }
+
+        return Collector.of(
+            () -> (constraint == null) ? TopVersions.of(limit) : TopVersions.of(limit, constraint),
+            TopVersions::accept,
+            TopVersions::combine,
+            TopVersions::toList,
+            Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Returns the version number with only the major and minor version numbers.
+     *
+     * @param version The version number.
+     *
+     * @return The version number.
+     */
+    @SneakyThrows(InvalidVersionException.class)
+    private static Version minorOf(Version version) {
+        return new Version(version.getMajor(), version.getMinor(), 0);
+    }
+
+    /**
+     * Holds the version number with the greatest precedence seen so far.
+     */
+    private static final class Latest {
+
+        /**
+         * The version number, if any.
+         */
+        private Version version;
+
+        /**
+         * Keeps a version number if it has a greater precedence.
+         *
+         * @param candidate The version number, or <code>null</code>.
+         */
+        void accept(Version candidate) {
+            if ((candidate != null) && ((version == null) || (candidate.compareTo(version) > 0))) {
+                version = candidate;
+            }
+        }
+    }
+
+    private VersionCollectors() {
+        // Should not be instantiated.
+    }
+}
@@ -0,0 +1,90 @@
+package io.herrera.kevin.semver.upgrade;
+
+import io.herrera.kevin.semver.Version;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The versions to upgrade to for each installed version of a package, under several policies.
+ */
+public final class UpgradePlan {
+
+    /**
+     * The installed versions, sorted by precedence.
+     */
+    private final Version[] installed;
+
+    /**
+     * The policies.
+     */
+    private final List<UpgradePolicy> policies;
+
+    /**
+     * The version to upgrade to for each installed version and policy.
+     */
+    private final Version[][] targets;
+
+    /**
+     * Sets the plan.
+     *
+     * @param installed The installed versions, sorted by precedence.
+     * @param policies  The policies.
+     * @param targets   The version to upgrade to for each installed version and policy.
+     */
+    UpgradePlan(Version[] installed, UpgradePolicy[] policies, Version[][] targets) {
+        this.installed = installed;
+        this.policies = Arrays.asList(policies);
+        this.targets = targets;
+    }
+
+    /**
+     * Returns an installed version.
+     *
+     * @param index The index of the installed version.
+     *
+     * @return The installed version.
+     */
+    public Version getInstalled(int index) {
+        return installed[index];
+    }
+
+    /**
+     * Returns the policies in the plan.
+     *
+     * @return The policies.
+     */
+    public List<UpgradePolicy> getPolicies() {
+        return policies;
+    }
+
+    /**
+     * Returns the version to upgrade an installed version to under a policy.
+     *
+     * @param index  The index of the installed version.
+     * @param policy The policy.
+     *
+     * @return The newest version allowed by the policy, which may be the installed version itself, or
+     *         <code>null</code> if the catalog has no such version.
+     */
+    public Version getTarget(int index, UpgradePolicy policy) {
+        Objects.requireNonNull(policy, "The policy is required.");
+
+        int column = policies.indexOf(policy);
+
+        if (column < 0) {
+            throw new IllegalArgumentException("The policy " + policy + " is not in the plan.");
+        }
+
+        return targets[index][column];
+    }
+
+    /**
+     * Returns the number of installed versions.
+     *
+     * @return The number of installed versions.
+     */
+    public int size() {
+        return installed.length;
+    }
+}
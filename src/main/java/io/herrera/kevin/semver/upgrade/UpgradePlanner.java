@@ -0,0 +1,170 @@
+package io.herrera.kevin.semver.upgrade;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.catalog.VersionIndex;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the versions to upgrade to for an entire inventory at once.
+ *
+ * <p>
+ * For each package, the installed versions and the catalog are both sorted by precedence, and the targets for every
+ * policy are found in a single merge pass over both. Since the lower bound (the installed version) and the upper
+ * bound of every policy only increase along the inventory, each policy only needs a pair of cursors that move forward
+ * through the catalog, along with a table of the newest stable version at or before each position. Packages are
+ * independent of each other, so several packages are planned in parallel.
+ * </p>
+ */
+public final class UpgradePlanner {
+
+    /**
+     * Plans the upgrades for every package in an inventory, in parallel.
+     *
+     * @param catalogs  The catalog of each package, by name.
+     * @param inventory The installed versions of each package, sorted by precedence, by name.
+     * @param policies  The policies.
+     *
+     * @return The plan for each package in the inventory, by name.
+     */
+    public static Map<String, UpgradePlan> plan(
+        Map<String, VersionIndex> catalogs,
+        Map<String, Version[]> inventory,
+        UpgradePolicy... policies
+    ) {
+        Objects.requireNonNull(catalogs, "The catalogs are required.");
+        Objects.requireNonNull(inventory, "The inventory is required.");
+
+        Map<String, UpgradePlan> plans = new ConcurrentHashMap<>();
+
+        inventory.entrySet().parallelStream().forEach(entry -> plans.put(
+            entry.getKey(),
+            plan(catalogs.getOrDefault(entry.getKey(), VersionIndex.empty()), entry.getValue(), policies)
+        ));
+
+        return plans;
+    }
+
+    /**
+     * Plans the upgrades for the installed versions of a package.
+     *
+     * @param catalog   The catalog of the package.
+     * @param installed The installed versions, sorted by precedence.
+     * @param policies  The policies.
+     *
+     * @return The plan.
+     */
+    public static UpgradePlan plan(VersionIndex catalog, Version[] installed, UpgradePolicy... policies) {
+        Objects.requireNonNull(catalog, "The catalog is required.");
+        Objects.requireNonNull(installed, "The installed versions are required.");
+        Objects.requireNonNull(policies, "The policies are required.");
+
+        for (int i = 1; i < installed.length; i++) {
+            if (installed[i - 1].compareTo(installed[i]) > 0) {
+                throw new IllegalArgumentException("The installed versions must be sorted by precedence.");
+            }
+        }
+
+        int[] stable = newestStable(catalog);
+        Version[][] targets = new Version[installed.length][policies.length];
+
+        for (int p = 0; p < policies.length; p++) {
+            UpgradePolicy policy = Objects.requireNonNull(policies[p], "The policy is required.");
+            int lower = 0;
+            int upper = 0;
+
+            for (int i = 0; i < installed.length; i++) {
+                Version version = installed[i];
+                Version bound = policy.upperBound(version);
+
+                while ((lower < catalog.size()) && (catalog.get(lower).compareTo(version) < 0)) {
+                    lower++;
+                }
+
+                while ((upper < catalog.size()) && ((bound == null) || (catalog.get(upper).compareTo(bound) < 0))) {
+                    upper++;
+                }
+
+                if ((upper > 0) && (stable[upper - 1] >= lower)) {
+                    targets[i][p] = catalog.get(stable[upper - 1]);
+                } else if (policy.allowsSamePreRelease() && !isRelease(version)) {
+                    targets[i][p] = samePreRelease(catalog, version, lower, upper);
+                }
+            }
+        }
+
+        return new UpgradePlan(installed.clone(), policies.clone(), targets);
+    }
+
+    /**
+     * Checks if a version has no pre-release metadata.
+     *
+     * <p>
+     * Unlike {@link Version#isStable()}, versions with a major version number of 0 (zero) are included, since they
+     * are still releases that can be upgraded to.
+     * </p>
+     *
+     * @param version The version.
+     *
+     * @return Returns <code>true</code> if it has none, or <code>false</code> if it does.
+     */
+    private static boolean isRelease(Version version) {
+        return version.getPreRelease().length == 0;
+    }
+
+    /**
+     * Finds the index of the newest stable version at or before each position in a catalog.
+     *
+     * @param catalog The catalog.
+     *
+     * @return The index for each position, or <code>-1</code> if there is none.
+     */
+    private static int[] newestStable(VersionIndex catalog) {
+        int[] newest = new int[catalog.size()];
+        int last = -1;
+
+        for (int i = 0; i < newest.length; i++) {
+            if (isRelease(catalog.get(i))) {
+                last = i;
+            }
+
+            newest[i] = last;
+        }
+
+        return newest;
+    }
+
+    /**
+     * Finds the newest pre-release of the same version as an installed pre-release.
+     *
+     * @param catalog   The catalog.
+     * @param installed The installed pre-release.
+     * @param lower     The index of the first version in the catalog that is not older than the installed version.
+     * @param upper     The index of the first version in the catalog that is not below the upper bound.
+     *
+     * @return The pre-release, or <code>null</code> if there is none.
+     */
+    private static Version samePreRelease(VersionIndex catalog, Version installed, int lower, int upper) {
+        int index = catalog.indexOf(installed.clearPreRelease());
+        int newest = ((index < 0) ? (-index - 1) : index) - 1;
+
+        if ((newest < lower) || (newest >= upper)) {
+            return null;
+        }
+
+        Version candidate = catalog.get(newest);
+
+        if ((candidate.getMajor() == installed.getMajor())
+            && (candidate.getMinor() == installed.getMinor())
+            && (candidate.getPatch() == installed.getPatch())) {
+            return candidate;
+        }
+
+        return null;
+    }
+
+    private UpgradePlanner() {
+        // Should not be instantiated.
+    }
+}
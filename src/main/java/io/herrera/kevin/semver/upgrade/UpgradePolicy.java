@@ -0,0 +1,92 @@
+package io.herrera.kevin.semver.upgrade;
+
+import io.herrera.kevin.semver.Version;
+
+/**
+ * The policies for choosing the version to upgrade to.
+ *
+ * <p>
+ * Every policy chooses the newest version that is not older than the installed version and is below an upper bound.
+ * Versions with pre-release metadata are only chosen by the caret and tilde policies, and only if the installed
+ * version is a pre-release of the same major, minor, and patch version numbers (e.g. <code>1.2.3-beta.2</code> for
+ * <code>1.2.3-beta.1</code>), and there is no newer release within the bound.
+ * </p>
+ */
+public enum UpgradePolicy {
+
+    /**
+     * Allows changes that do not modify the left-most non-zero version number (e.g. <code>^1.2.3</code> allows
+     * <code>&lt;2.0.0</code>, and <code>^0.2.3</code> allows <code>&lt;0.3.0</code>).
+     */
+    CARET(true) {
+        @Override
+        Version upperBound(Version installed) {
+            if (installed.getMajor() > 0) {
+                return installed.incrementMajor();
+            }
+
+            if (installed.getMinor() > 0) {
+                return installed.incrementMinor();
+            }
+
+            return installed.incrementPatch();
+        }
+    },
+
+    /**
+     * Allows any newer stable version.
+     */
+    LATEST_STABLE(false) {
+        @Override
+        Version upperBound(Version installed) {
+            return null;
+        }
+    },
+
+    /**
+     * Allows patch-level changes (e.g. <code>~1.2.3</code> allows <code>&lt;1.3.0</code>).
+     */
+    TILDE(true) {
+        @Override
+        Version upperBound(Version installed) {
+            return installed.incrementMinor();
+        }
+    };
+
+    /**
+     * Indicates that pre-releases of the same version as an installed pre-release are allowed.
+     */
+    private final boolean samePreRelease;
+
+    /**
+     * Sets whether pre-releases of the same version as an installed pre-release are allowed.
+     *
+     * @param samePreRelease Indicates that they are allowed.
+     */
+    UpgradePolicy(boolean samePreRelease) {
+        this.samePreRelease = samePreRelease;
+    }
+
+    /**
+     * Checks if pre-releases of the same version as an installed pre-release are allowed.
+     *
+     * @return Returns <code>true</code> if they are, or <code>false</code> if not.
+     */
+    boolean allowsSamePreRelease() {
+        return samePreRelease;
+    }
+
+    /**
+     * Returns the exclusive upper bound of the versions allowed for an installed version.
+     *
+     * <p>
+     * The upper bound never decreases as the installed version increases, which allows the upgrades for a sorted
+     * inventory to be found in a single pass.
+     * </p>
+     *
+     * @param installed The installed version.
+     *
+     * @return The upper bound, or <code>null</code> if there is none.
+     */
+    abstract Version upperBound(Version installed);
+}
@@ -0,0 +1,229 @@
+package io.herrera.kevin.semver.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Commits JDK Flight Recorder events for {@link FlightRecorderMetrics}.
+ *
+ * <p>
+ * This is the version of the class for Java 11 or later. An event object is only created if its type is enabled in a
+ * running recording.
+ * </p>
+ *
+ * <p>
+ * The events are never begun, so each one starts when it is committed (at the end of the operation) and has no
+ * duration. The time the operation took is in the <code>elapsed</code> field.
+ * </p>
+ */
+final class FlightRecorderEvents {
+
+    /**
+     * Commits an event for an eviction from a cache.
+     *
+     * @param cache The name of the cache.
+     * @param count The number of entries evicted.
+     */
+    static void cacheEvicted(String cache, int count) {
+        CacheEviction event = new CacheEviction();
+
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.count = count;
+
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits an event for a constraint evaluation.
+     *
+     * @param name   The name of the constraint.
+     * @param passed Indicates that the version number passed the constraint.
+     * @param nanos  The time it took, in nanoseconds.
+     */
+    static void constraintEvaluated(String name, boolean passed, long nanos) {
+        ConstraintEvaluation event = new ConstraintEvaluation();
+
+        if (event.shouldCommit()) {
+            event.constraint = name;
+            event.elapsed = nanos;
+            event.passed = passed;
+
+            event.commit();
+        }
+    }
+
+    /**
+     * Checks if the events are committed.
+     *
+     * @return Returns <code>true</code> if they are, or <code>false</code> if not.
+     */
+    static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * Commits an event for a parse.
+     *
+     * @param string The string.
+     * @param reason The reason it could not be parsed, or <code>null</code> if it was.
+     * @param nanos  The time it took, in nanoseconds.
+     */
+    static void parsed(String string, ParseFailure reason, long nanos) {
+        Parse event = new Parse();
+
+        if (event.shouldCommit()) {
+            event.elapsed = nanos;
+            event.input = string;
+            event.reason = (reason == null) ? null : reason.name();
+            event.valid = reason == null;
+
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits an event for a resolver step.
+     *
+     * @param step  The name of the step.
+     * @param name  The name of the package, or <code>null</code> for the root package.
+     * @param nanos The time it took, in nanoseconds.
+     */
+    static void resolverStep(String step, String name, long nanos) {
+        ResolverStep event = new ResolverStep();
+
+        if (event.shouldCommit()) {
+            event.elapsed = nanos;
+            event.packageName = name;
+            event.step = step;
+
+            event.commit();
+        }
+    }
+
+    /**
+     * An eviction from a cache.
+     */
+    @Category("Semantic Versioning")
+    @Description("Entries were evicted from a cache.")
+    @Label("Cache Eviction")
+    @Name("io.herrera.kevin.semver.CacheEviction")
+    @StackTrace(false)
+    static final class CacheEviction extends Event {
+
+        /**
+         * The name of the cache.
+         */
+        @Label("Cache")
+        String cache;
+
+        /**
+         * The number of entries evicted.
+         */
+        @Label("Count")
+        int count;
+    }
+
+    /**
+     * A slow constraint evaluation.
+     */
+    @Category("Semantic Versioning")
+    @Description("A named constraint took at least as long as the threshold to evaluate.")
+    @Label("Constraint Evaluation")
+    @Name("io.herrera.kevin.semver.ConstraintEvaluation")
+    static final class ConstraintEvaluation extends Event {
+
+        /**
+         * The name of the constraint.
+         */
+        @Label("Constraint")
+        String constraint;
+
+        /**
+         * The time it took.
+         */
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+        /**
+         * Indicates that the version number passed the constraint.
+         */
+        @Label("Passed")
+        boolean passed;
+    }
+
+    /**
+     * A slow parse.
+     */
+    @Category("Semantic Versioning")
+    @Description("A string took at least as long as the threshold to parse as a version number.")
+    @Label("Version Parse")
+    @Name("io.herrera.kevin.semver.Parse")
+    static final class Parse extends Event {
+
+        /**
+         * The time it took.
+         */
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+        /**
+         * The string.
+         */
+        @Label("Input")
+        String input;
+
+        /**
+         * The reason the string could not be parsed, if any.
+         */
+        @Label("Reason")
+        String reason;
+
+        /**
+         * Indicates that the string is a valid version number.
+         */
+        @Label("Valid")
+        boolean valid;
+    }
+
+    /**
+     * A slow resolver step.
+     */
+    @Category("Semantic Versioning")
+    @Description("A step of the resolver took at least as long as the threshold.")
+    @Label("Resolver Step")
+    @Name("io.herrera.kevin.semver.ResolverStep")
+    static final class ResolverStep extends Event {
+
+        /**
+         * The time it took.
+         */
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+        /**
+         * The name of the package, or <code>null</code> for the root package.
+         */
+        @Label("Package")
+        String packageName;
+
+        /**
+         * The name of the step.
+         */
+        @Label("Step")
+        String step;
+    }
+
+    private FlightRecorderEvents() {
+        // Should not be instantiated.
+    }
+}
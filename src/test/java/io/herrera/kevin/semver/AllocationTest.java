@@ -0,0 +1,241 @@
+package io.herrera.kevin.semver;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static io.herrera.kevin.semver.constraints.Constraints.ne;
+import static io.herrera.kevin.semver.constraints.Constraints.or;
+import static io.herrera.kevin.semver.constraints.Constraints.stable;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.herrera.kevin.semver.constraints.Constraint;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the hot paths do not allocate more than their budgets.
+ *
+ * <p>
+ * Each operation is warmed up, and then run many times while the bytes allocated by the current thread are measured.
+ * The average number of bytes allocated per operation must not exceed its budget. A budget of 0 (zero) means that the
+ * operation must not allocate at all. The tests are skipped if the JVM cannot measure allocations per thread.
+ * </p>
+ */
+public class AllocationTest {
+
+    /**
+     * The number of times each operation is run, both to warm up and to measure.
+     */
+    private static final int ITERATIONS = 20000;
+
+    /**
+     * The number of times each operation is measured, of which the least is kept.
+     */
+    private static final int MEASUREMENTS = 5;
+
+    /**
+     * Receives the results of the operations, so they are not optimized away.
+     */
+    private static volatile long sink;
+
+    /**
+     * Measures the bytes allocated by a thread.
+     */
+    private static com.sun.management.ThreadMXBean threads;
+
+    /**
+     * Verify that applying a composite constraint does not allocate.
+     */
+    @Test
+    public void applyTest() throws Exception {
+        Version version = new Version("1.5.0");
+        Constraint constraint = or(and(gte("1.0.0"), lt("2.0.0"), ne("1.2.3"), stable()), gte("3.0.0"));
+
+        assertBudget("apply", 0, () -> constraint.apply(version) ? 1 : 0);
+    }
+
+    /**
+     * Verify that building from a reused builder only allocates the new version number.
+     */
+    @Test
+    public void buildTest() throws Exception {
+        VersionBuilder builder = new Version("1.2.3-beta.1+build.5").toBuilder();
+
+        assertBudget("build", 40, () -> builder.incrementPatch().build().getPatch());
+    }
+
+    /**
+     * Verify that clearing metadata only allocates the new version number.
+     */
+    @Test
+    public void clearTest() throws Exception {
+        Version version = new Version("1.2.3-beta.1+build.5");
+
+        assertBudget("clearPreRelease", 40, () -> version.clearPreRelease().getMajor());
+        assertBudget("incrementMajor", 40, () -> version.incrementMajor().getMajor());
+    }
+
+    /**
+     * Verify that comparing version numbers does not allocate.
+     */
+    @Test
+    public void compareTest() throws Exception {
+        Version left = new Version("1.2.3-alpha.10.beta");
+        Version right = new Version("1.2.3-alpha.9.beta");
+        Version core = new Version("1.2.4");
+
+        assertBudget("compare", 0, () -> left.compareTo(right) + left.compareTo(core));
+    }
+
+    /**
+     * Verify that checking equality and hashing do not allocate.
+     */
+    @Test
+    public void equalsTest() throws Exception {
+        Version left = new Version("1.2.3-rc.1+build.1");
+        Version right = new Version("1.2.3-rc.1+build.2");
+
+        assertBudget("equals", 0, () -> left.equals(right) ? 1 : 0);
+        assertBudget("hashCode", 0, () -> left.hashCode() ^ right.hashCode());
+    }
+
+    /**
+     * Verify that formatting a version number does not allocate, once there is room for it.
+     */
+    @Test
+    public void formatTest() throws Exception {
+        Version version = new Version(1, 2, 3, new String[] {"beta", "1"}, new String[] {"build", "5"});
+        StringBuilder builder = new StringBuilder(64);
+
+        assertBudget("appendTo", 0, () -> {
+            builder.setLength(0);
+
+            return version.appendTo(builder).length();
+        });
+
+        assertBudget("formattedLength", 0, version::formattedLength);
+
+        byte[] bytes = new byte[64];
+
+        assertBudget("writeTo array", 0, () -> version.writeTo(bytes, 0));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+
+        assertBudget("writeTo buffer", 0, () -> {
+            buffer.clear();
+
+            return version.writeTo(buffer);
+        });
+
+        version.toString();
+
+        assertBudget("toString", 0, () -> version.toString().length());
+    }
+
+    /**
+     * Verify that parsing version numbers stays within its budget.
+     */
+    @Test
+    public void parseTest() {
+        assertBudget("parse core", 64, () -> new Version("1.2.3").getMajor());
+        assertBudget("parse metadata", 384, () -> new Version("1.2.3-beta.1+build.5").getMajor());
+    }
+
+    /**
+     * Verify that rejecting an invalid version number without a stack trace stays within its budget, which is little
+     * more than the exception. A stack trace grows with the depth of the caller, so it is not budgeted.
+     */
+    @Test
+    public void parseInvalidTest() {
+        Operation parse = () -> {
+            try {
+                return new Version("1.2.3-beta..1").getMajor();
+            } catch (InvalidVersionException exception) {
+                return exception.getOffset();
+            }
+        };
+
+        InvalidVersionException.setStackTraceEnabled(false);
+
+        try {
+            assertBudget("parse invalid", 192, parse);
+        } finally {
+            InvalidVersionException.setStackTraceEnabled(true);
+        }
+    }
+
+    /**
+     * Asserts that an operation allocates no more than a number of bytes, on average.
+     *
+     * <p>
+     * The operation is measured several times and the least is kept, since a single measurement now and then includes
+     * allocations that are not the operation's own.
+     * </p>
+     *
+     * @param name      The name of the operation.
+     * @param budget    The maximum number of bytes per operation.
+     * @param operation The operation.
+     */
+    private static void assertBudget(String name, long budget, Operation operation) {
+        try {
+            long result = 0;
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                result += operation.run();
+            }
+
+            long perOperation = Long.MAX_VALUE;
+
+            for (int measurement = 0; measurement < MEASUREMENTS; measurement++) {
+                long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+
+                for (int i = 0; i < ITERATIONS; i++) {
+                    result += operation.run();
+                }
+
+                long after = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+
+                perOperation = Math.min(perOperation, (after - before) / ITERATIONS);
+            }
+
+            sink = result;
+
+            assertTrue(
+                perOperation <= budget,
+                String.format("%s allocated %d bytes per operation, over its budget of %d.", name, perOperation, budget)
+            );
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    @BeforeAll
+    private static void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * An operation to measure.
+     */
+    @FunctionalInterface
+    private interface Operation {
+
+        /**
+         * Runs the operation.
+         *
+         * @return A result that depends on the operation.
+         *
+         * @throws Exception If the operation failed.
+         */
+        int run() throws Exception;
+    }
+}
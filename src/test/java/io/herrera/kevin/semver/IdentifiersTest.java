@@ -0,0 +1,124 @@
+package io.herrera.kevin.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.InvalidVersionException.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>Identifiers</code> class functions as intended.
+ */
+public class IdentifiersTest {
+
+    /**
+     * A letter that is not ASCII, and so is not allowed in an identifier.
+     */
+    private static final char ACCENT = (char) 0xE9;
+
+    /**
+     * The regular expression that version numbers used to be validated with, which the tables must agree with.
+     */
+    private static final Pattern REFERENCE = Pattern.compile(
+        "^(0|[1-9]\\d*)\\.(0|[1-9]\\d*)\\.(0|[1-9]\\d*)(-(0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*)(\\.(0|[1-9]\\d*"
+            + "|\\d*[a-zA-Z-][0-9a-zA-Z-]*))*)?(\\+[0-9a-zA-Z-]+(\\.[0-9a-zA-Z-]+)*)?$"
+    );
+
+    /**
+     * Verify that the component an index is in is found, including the one that is missing at the end.
+     */
+    @Test
+    public void componentAtTest() {
+        assertEquals(Component.MAJOR, Identifiers.componentAt("v1.2.3", 0));
+        assertEquals(Component.MINOR, Identifiers.componentAt("1", 1));
+        assertEquals(Component.MINOR, Identifiers.componentAt("1.02.3", 2));
+        assertEquals(Component.PATCH, Identifiers.componentAt("1.2", 3));
+        assertEquals(Component.PATCH, Identifiers.componentAt("1.2.", 4));
+        assertEquals(Component.PRE_RELEASE, Identifiers.componentAt("1.2.3-rc..1", 9));
+        assertEquals(Component.BUILD, Identifiers.componentAt("1.2.3-rc+b-1.", 13));
+    }
+
+    /**
+     * Verify that the index where a version number stops being valid is found.
+     */
+    @Test
+    public void findInvalidTest() {
+        String[] strings = {"1.2.3-rc.1+b.1", "01.2.3", "1.2", "1.2.3x", "1.2.3-rc..1", "1.2.3-rc.01", "1.2.3+b.c_"};
+        int[] offsets = {-1, 0, 3, 5, 9, 9, 9};
+
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = strings[i].getBytes(StandardCharsets.US_ASCII);
+
+            assertEquals(offsets[i], Identifiers.findInvalid(strings[i], 0, strings[i].length()), strings[i]);
+            assertEquals(offsets[i], Identifiers.findInvalid(bytes, 0, bytes.length), strings[i]);
+        }
+    }
+
+    /**
+     * Verify that build metadata is validated, allowing leading zeros.
+     */
+    @Test
+    public void isBuildTest() {
+        assertTrue(Identifiers.isBuild("007", 0, 3));
+        assertTrue(Identifiers.isBuild("build.5-x.0A", 0, 12));
+        assertFalse(Identifiers.isBuild("", 0, 0));
+        assertFalse(Identifiers.isBuild("a..b", 0, 4));
+        assertFalse(Identifiers.isBuild("a_b", 0, 3));
+        assertFalse(Identifiers.isBuild("build.", 0, 6));
+        assertTrue(Identifiers.isBuild("[build]", 1, 6));
+        assertTrue(Identifiers.isBuild("sha.5114f85".getBytes(StandardCharsets.US_ASCII), 0, 11));
+    }
+
+    /**
+     * Verify that pre-release metadata is validated, rejecting numeric identifiers with leading zeros.
+     */
+    @Test
+    public void isPreReleaseTest() {
+        assertTrue(Identifiers.isPreRelease("0", 0, 1));
+        assertTrue(Identifiers.isPreRelease("rc.10", 0, 5));
+        assertTrue(Identifiers.isPreRelease("0a.-1", 0, 5));
+        assertFalse(Identifiers.isPreRelease("01", 0, 2));
+        assertFalse(Identifiers.isPreRelease("rc.01", 0, 5));
+        assertFalse(Identifiers.isPreRelease("r" + ACCENT, 0, 2));
+        assertTrue(Identifiers.isPreRelease("-rc.01", 0, 3));
+        assertFalse(Identifiers.isPreRelease("beta.007".getBytes(StandardCharsets.US_ASCII), 0, 8));
+        assertFalse(Identifiers.isPreRelease(new byte[] {'a', (byte) 0xE9}, 0, 2));
+    }
+
+    /**
+     * Verify that ranges outside of the sequence are rejected.
+     */
+    @Test
+    public void isVersionRangeTest() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Identifiers.isVersion("1.0.0", 0, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> Identifiers.isVersion("1.0.0", -1, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> Identifiers.isVersion(new byte[5], 3, 2));
+    }
+
+    /**
+     * Verify that version numbers are validated exactly as the reference regular expression does.
+     */
+    @Test
+    public void isVersionTest() {
+        String[] strings = {
+            "", "1", "1.2", "1.2.3", "1.2.3.4", "01.2.3", "1.02.3", "1.2.03", "0.0.0", "10.20.30", "1.2.3-",
+            "1.2.3+", "1.2.3-rc.1", "1.2.3-rc..1", "1.2.3-rc.01", "1.2.3-0rc.01a", "1.2.3-rc.1+build.01",
+            "1.2.3+build-1.x", "1.2.3-rc+", "1.2.3-+build", "1.2.3-a-b-c", "1.2.3-a+b+c", "1.2.3-a+b-c", "a.b.c",
+            "1.2.3 ", " 1.2.3", "1.2.3-" + ACCENT, "99999999999.0.0", "1..3", ".1.2", "1.2.3-0", "1.2.3-00",
+        };
+
+        for (String string : strings) {
+            boolean expected = REFERENCE.matcher(string).matches();
+
+            assertEquals(expected, Identifiers.isVersion(string, 0, string.length()), string);
+
+            byte[] bytes = ("[" + string + "]").getBytes(StandardCharsets.UTF_8);
+
+            assertEquals(expected, Identifiers.isVersion(bytes, 1, bytes.length - 1), string);
+        }
+    }
+}
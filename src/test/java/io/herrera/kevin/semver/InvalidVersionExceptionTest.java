@@ -0,0 +1,133 @@
+package io.herrera.kevin.semver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.InvalidVersionException.Component;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * Verifies that the <code>InvalidVersionException</code> class functions as intended.
+ */
+public class InvalidVersionExceptionTest {
+
+    @AfterEach
+    public void tearDown() {
+        InvalidVersionException.setStackTraceEnabled(true);
+    }
+
+    /**
+     * Verify that the component, input, and offset describe what is not valid.
+     */
+    @Test
+    public void describeTest() {
+        assertDescribed(Component.MINOR, "1.02.3", 2, () -> new Version("1.02.3"));
+        assertDescribed(Component.PATCH, "1.2", 3, () -> new Version("1.2"));
+        assertDescribed(Component.PRE_RELEASE, "1.2.3-beta..1", 11, () -> new Version("1.2.3-beta..1"));
+        assertDescribed(Component.BUILD, "1.2.3-rc+b_1", 10, () -> new Version("1.2.3-rc+b_1"));
+        assertDescribed(Component.MAJOR, "99999999999", 0, () -> new Version("99999999999.0.0"));
+        assertDescribed(Component.PATCH, "-1", -1, () -> new Version(1, 2, -1));
+        assertDescribed(Component.PRE_RELEASE, "01", -1, () -> Version.DEFAULT.setPreRelease("01"));
+        assertDescribed(Component.BUILD, "a.b", -1, () -> Version.DEFAULT.setBuild("a.b"));
+    }
+
+    /**
+     * Verify that the message is formatted from what is not valid, and only once.
+     */
+    @Test
+    public void getMessageTest() {
+        InvalidVersionException exception = assertThrows(
+            InvalidVersionException.class,
+            () -> new Version("99999999999.0.0")
+        );
+
+        assertEquals(
+            "The major version number \"99999999999\" could not be parsed as an integer.",
+            exception.getMessage()
+        );
+        assertSame(exception.getMessage(), exception.getMessage());
+
+        assertEquals(
+            "The string \"1.2\" is not a valid semantic version number.",
+            assertThrows(InvalidVersionException.class, () -> new Version("1.2")).getMessage()
+        );
+
+        assertEquals(
+            "The patch version number must be at least 0 (zero).",
+            assertThrows(InvalidVersionException.class, () -> new Version(0, 0, -1)).getMessage()
+        );
+
+        InvalidVersionException plain = new InvalidVersionException("Not valid.");
+
+        assertEquals("Not valid.", plain.getMessage());
+        assertNull(plain.getComponent());
+        assertNull(plain.getInput());
+        assertEquals(-1, plain.getOffset());
+    }
+
+    /**
+     * Verify that the cause can be initialized, whether or not the stack trace is captured.
+     */
+    @Test
+    public void initCauseTest() {
+        IllegalStateException cause = new IllegalStateException();
+        InvalidVersionException captured = new InvalidVersionException("%s", Component.MAJOR, "x", 0);
+
+        assertSame(captured, captured.initCause(cause));
+        assertSame(cause, captured.getCause());
+
+        InvalidVersionException.setStackTraceEnabled(false);
+
+        InvalidVersionException stackless = new InvalidVersionException("%s", Component.MAJOR, "x", 0);
+
+        assertNull(stackless.getCause());
+        assertSame(stackless, stackless.initCause(cause));
+        assertSame(cause, stackless.getCause());
+        assertEquals(0, stackless.getStackTrace().length);
+        assertThrows(IllegalStateException.class, () -> stackless.initCause(null));
+        assertThrows(IllegalStateException.class, () -> captured.initCause(null));
+    }
+
+    /**
+     * Verify that the stack trace is not captured when it is disabled.
+     */
+    @Test
+    public void stackTraceTest() {
+        assertTrue(InvalidVersionException.isStackTraceEnabled());
+        assertTrue(assertThrows(InvalidVersionException.class, () -> new Version("1")).getStackTrace().length > 0);
+
+        InvalidVersionException.setStackTraceEnabled(false);
+
+        InvalidVersionException exception = assertThrows(InvalidVersionException.class, () -> new Version("1"));
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("The string \"1\" is not a valid semantic version number.", exception.getMessage());
+        assertTrue(new InvalidVersionException("Not valid.").getStackTrace().length > 0);
+    }
+
+    /**
+     * Asserts that an exception describes what is not valid.
+     *
+     * @param component  The expected component.
+     * @param input      The expected input.
+     * @param offset     The expected offset.
+     * @param executable The code that throws the exception.
+     */
+    private static void assertDescribed(
+        Component component,
+        String input,
+        int offset,
+        Executable executable
+    ) {
+        InvalidVersionException exception = assertThrows(InvalidVersionException.class, executable);
+
+        assertEquals(component, exception.getComponent(), input);
+        assertEquals(input, exception.getInput());
+        assertEquals(offset, exception.getOffset(), input);
+    }
+}
@@ -0,0 +1,97 @@
+package io.herrera.kevin.semver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>VersionBuilder</code> class functions as intended.
+ */
+public class VersionBuilderTest {
+
+    /**
+     * Verify that a version number is built from the information that was set.
+     */
+    @Test
+    public void buildTest() throws Exception {
+        VersionBuilder builder = new VersionBuilder();
+
+        assertEquals("0.0.0", builder.build().toString());
+
+        Version version = builder
+            .setMajor(1)
+            .setMinor(2)
+            .setPatch(3)
+            .setPreRelease("alpha", "1")
+            .setBuild("20181020", "123")
+            .build();
+
+        assertEquals("1.2.3-alpha.1+20181020.123", version.toString());
+        assertArrayEquals(new String[] {"20181020", "123"}, version.getBuild());
+        assertEquals("1.2.4-alpha.1+20181020.123", builder.setPatch(4).build().toString());
+        assertEquals("1.2.4", builder.clearPreRelease().clearBuild().build().toString());
+    }
+
+    /**
+     * Verify that invalid information is rejected when building, and not before.
+     */
+    @Test
+    public void buildInvalidTest() throws Exception {
+        VersionBuilder builder = new VersionBuilder().setPreRelease("01");
+
+        assertThrows(InvalidVersionException.class, builder::build);
+        assertThrows(InvalidVersionException.class, builder::build);
+        assertThrows(InvalidVersionException.class, builder.clearPreRelease().setBuild("a..b")::build);
+        assertThrows(InvalidVersionException.class, builder.clearBuild().setMajor(-1)::build);
+
+        assertEquals("0.0.0", builder.setMajor(0).build().toString());
+    }
+
+    /**
+     * Verify that the builder starts with the information of a version number.
+     */
+    @Test
+    public void fromTest() throws Exception {
+        Version version = new Version("1.2.3-beta.1+build.5");
+        Version built = version.toBuilder().build();
+
+        assertEquals(version, built);
+        assertSame(version.getPreRelease(), built.getPreRelease());
+        assertSame(version.getBuild(), built.getBuild());
+        assertEquals("1.2.3-beta.1+build.5", new VersionBuilder(version).build().toString());
+        assertEquals("2.0.0", new VersionBuilder().from(version).setMajor(2).setMinor(0).setPatch(0)
+            .clearPreRelease().clearBuild().build().toString());
+    }
+
+    /**
+     * Verify that incrementing resets the lesser numbers and clears the metadata.
+     */
+    @Test
+    public void incrementTest() throws Exception {
+        VersionBuilder builder = new Version("1.2.3-beta.1+build.5").toBuilder();
+
+        assertEquals("1.2.4", builder.incrementPatch().build().toString());
+        assertEquals("1.3.0", builder.setPatch(7).setPreRelease("rc").incrementMinor().build().toString());
+        assertEquals("2.0.0", builder.setPatch(7).setBuild("b").incrementMajor().build().toString());
+    }
+
+    /**
+     * Verify that changing the metadata arrays after they are set does not skip their validation.
+     */
+    @Test
+    public void metadataCopiedTest() throws Exception {
+        String[] preRelease = {"alpha"};
+        String[] build = {"b1"};
+        VersionBuilder builder = new VersionBuilder().setMajor(1).setPreRelease(preRelease).setBuild(build);
+
+        assertEquals("1.0.0-alpha+b1", builder.build().toString());
+
+        preRelease[0] = "01";
+        build[0] = "a..b";
+
+        assertEquals("1.0.0-alpha+b1", builder.build().toString());
+    }
+}
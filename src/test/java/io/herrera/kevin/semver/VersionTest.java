@@ -3,9 +3,17 @@ package io.herrera.kevin.semver;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
@@ -22,6 +30,19 @@ public class VersionTest {
      */
     private static Version version;
 
+    /**
+     * Verify that the string representation is appended to any destination.
+     */
+    @Test
+    public void appendToTest() throws Exception {
+        Version created = new Version(10, 0, 205, new String[] {"rc", "1"}, new String[] {"build", "007"});
+
+        assertEquals("> 10.0.205-rc.1+build.007", created.appendTo(new StringBuilder("> ")).toString());
+        assertEquals("10.0.205-rc.1+build.007", created.appendTo(new StringWriter()).toString());
+        assertEquals("0.0.0", new Version(0, 0, 0).appendTo(new StringWriter()).toString());
+        assertEquals("1.2.3-beta", new Version("1.2.3-beta").appendTo(new StringWriter()).toString());
+    }
+
     /**
      * Verify that the build metadata is cleared in a new instance.
      */
@@ -48,6 +69,30 @@ public class VersionTest {
         assertEquals(version.getBuild(), changed.getBuild());
     }
 
+    /**
+     * Verify that numeric identifiers are compared numerically, even if they do not fit in an integer, and have
+     * lower precedence than alphanumeric identifiers.
+     */
+    @Test
+    public void compareNumericTest() throws Exception {
+        assertEquals(1, new Version("1.0.0-rc.10").compareTo(new Version("1.0.0-rc.9")));
+        assertEquals(1, new Version("1.0.0-99999999999").compareTo(new Version("1.0.0-9999999999")));
+        assertEquals(1, new Version("1.0.0-2147483648").compareTo(new Version("1.0.0-2147483647")));
+        assertEquals(-1, new Version("1.0.0-2147483647").compareTo(new Version("1.0.0--1")));
+        assertEquals(-1, new Version("1.0.0-9").compareTo(new Version("1.0.0-1a")));
+    }
+
+    /**
+     * Verify that versions are ordered by precedence.
+     */
+    @MethodSource("getGreaterVersions")
+    @ParameterizedTest(name = "compareToTest() [{index}] {arguments}")
+    public void compareToTest(Version left, Version right) throws Exception {
+        assertEquals(1, left.compareTo(right));
+        assertEquals(-1, right.compareTo(left));
+        assertEquals(0, left.compareTo(left.setBuild("xyz")));
+    }
+
     /**
      * Verify that the constructor validates the arguments.
      */
@@ -99,6 +144,21 @@ public class VersionTest {
         assertEquals(left, right);
     }
 
+    /**
+     * Verify that version numbers with equal precedence have equal hash codes.
+     */
+    @Test
+    public void hashCodeEqualTest() throws Exception {
+        Version version = new Version("1.2.3-alpha.4+xyz.5");
+        Version another = new Version("1.2.3-alpha.4+abc");
+        Map<Version, String> map = new HashMap<>();
+
+        map.put(version, "found");
+
+        assertEquals(version.hashCode(), another.hashCode());
+        assertEquals("found", map.get(another));
+    }
+
     /**
      * Verify that hash codes are generated properly.
      */
@@ -222,6 +282,22 @@ public class VersionTest {
         assertThrows(InvalidVersionException.class, () -> new Version("x.y.z"));
     }
 
+    /**
+     * Verify that valid metadata is kept as it is, while the numbers are still checked.
+     */
+    @Test
+    public void ofValidTest() throws Exception {
+        String[] preRelease = {"rc", "1"};
+        String[] build = {"b1"};
+
+        Version valid = Version.ofValid(1, 2, 3, preRelease, build);
+
+        assertEquals(new Version("1.2.3-rc.1+b1").toString(), valid.toString());
+        assertEquals(preRelease, valid.getPreRelease());
+        assertEquals(build, valid.getBuild());
+        assertThrows(InvalidVersionException.class, () -> Version.ofValid(-1, 0, 0, preRelease, build));
+    }
+
     /**
      * Verify that the build metadata is set.
      */
@@ -296,6 +372,61 @@ public class VersionTest {
         assertEquals(version.getBuild(), changed.getBuild());
     }
 
+    /**
+     * Verify that the string representation is created once, and matches the string that was parsed.
+     */
+    @Test
+    public void toStringTest() throws Exception {
+        String string = "1.2.3-beta.1+build.5";
+        Version created = new Version(1, 2, 3, new String[] {"beta", "1"}, new String[] {"build", "5"});
+
+        assertEquals(string, created.toString());
+        assertEquals(string.length(), created.formattedLength());
+        assertSame(created.toString(), created.toString());
+        assertSame(string, new Version(string).toString());
+
+        for (int number : new int[] {0, 9, 10, 99, 100, 12345, Integer.MAX_VALUE}) {
+            Version numbers = new Version(number, number, number);
+            String expected = number + "." + number + "." + number;
+
+            assertEquals(expected, numbers.toString());
+            assertEquals(expected.length(), numbers.formattedLength());
+        }
+    }
+
+    /**
+     * Verify that the string representation is written as ASCII, and nothing is written if there is no room.
+     */
+    @Test
+    public void writeToTest() throws Exception {
+        Version created = new Version(1, 20, 300, new String[] {"rc", "1"}, new String[] {"sha", "5114f85"});
+        byte[] expected = "1.20.300-rc.1+sha.5114f85".getBytes(StandardCharsets.US_ASCII);
+        byte[] bytes = new byte[expected.length + 2];
+
+        assertEquals(expected.length, created.writeTo(bytes, 2));
+        assertArrayEquals(expected, Arrays.copyOfRange(bytes, 2, bytes.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> created.writeTo(bytes, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> created.writeTo(bytes, -1));
+
+        for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+            buffer.put((byte) '>');
+
+            assertEquals(expected.length, created.writeTo(buffer));
+            assertEquals(expected.length + 1, buffer.position());
+
+            byte[] written = new byte[expected.length];
+
+            ((ByteBuffer) buffer.flip().position(1)).get(written);
+
+            assertArrayEquals(expected, written);
+        }
+
+        ByteBuffer small = ByteBuffer.allocate(expected.length - 1);
+
+        assertThrows(BufferOverflowException.class, () -> created.writeTo(small));
+        assertEquals(0, small.position());
+    }
+
     /**
      * Generates version instances for <code>equalsTest()</code> arguments.
      *
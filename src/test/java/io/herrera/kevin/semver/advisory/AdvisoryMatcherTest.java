@@ -0,0 +1,124 @@
+package io.herrera.kevin.semver.advisory;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static io.herrera.kevin.semver.constraints.Constraints.or;
+import static io.herrera.kevin.semver.constraints.Constraints.pre;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>AdvisoryMatcher</code> class functions as intended.
+ */
+public class AdvisoryMatcherTest {
+
+    /**
+     * The advisories.
+     */
+    private static List<Advisory> advisories;
+
+    /**
+     * The inventory.
+     */
+    private static List<Entry<String, Version>> inventory;
+
+    /**
+     * The matcher under test.
+     */
+    private static AdvisoryMatcher matcher;
+
+    /**
+     * Verify that the packages with advisories are known.
+     */
+    @Test
+    public void hasAdvisoriesTest() {
+        assertTrue(matcher.hasAdvisories("a"));
+        assertFalse(matcher.hasAdvisories("z"));
+        assertEquals(3, matcher.getPackageNames().size());
+    }
+
+    /**
+     * Verify that the matches for a package are accepted in order of version.
+     */
+    @Test
+    public void matchPackageTest() throws Exception {
+        List<String> matches = new ArrayList<>();
+
+        matcher.match(
+            "a",
+            Arrays.asList(new Version("1.5.0"), new Version("0.9.0"), new Version("1.0.0"), new Version("3.0.0")),
+            version -> version,
+            match -> matches.add(match.toString())
+        );
+
+        assertEquals(Arrays.asList("A-1: 1.0.0", "A-1: 1.5.0"), matches);
+    }
+
+    /**
+     * Verify that the matches are the same as applying every advisory to every inventory item.
+     */
+    @Test
+    public void matchTest() {
+        List<String> expected = new ArrayList<>();
+
+        for (Entry<String, Version> item : inventory) {
+            for (Advisory advisory : advisories) {
+                if (advisory.getPackageName().equals(item.getKey()) && advisory.getAffected().apply(item.getValue())) {
+                    expected.add(advisory.getId() + ": " + item);
+                }
+            }
+        }
+
+        List<String> actual = matcher
+            .match(inventory, Entry::getKey, Entry::getValue)
+            .map(AdvisoryMatch::toString)
+            .sorted()
+            .collect(Collectors.toList());
+
+        expected.sort(null);
+
+        assertEquals(expected, actual);
+        assertEquals(1, matcher.match(inventory, Entry::getKey, Entry::getValue).limit(1).count());
+        assertEquals(0, matcher.match(new ArrayList<Entry<String, Version>>(), Entry::getKey, Entry::getValue).count());
+    }
+
+    @BeforeAll
+    private static void setUp() throws Exception {
+        advisories = Arrays.asList(
+            new Advisory("A-1", "a", and(gte("1.0.0"), lt("2.0.0"))),
+            new Advisory("A-2", "a", or(lt("0.5.0"), gte("4.0.0"))),
+            new Advisory("B-1", "b", and(gte("1.2.0"), lt("1.3.0"), pre())),
+            new Advisory("B-2", "b", gte("1.0.0")),
+            new Advisory("C-1", "c", lt("0.0.1"))
+        );
+
+        inventory = new ArrayList<>();
+        matcher = AdvisoryMatcher.of(advisories);
+
+        Random random = new Random(123);
+        String[] packages = { "a", "b", "c", "z" };
+
+        for (int i = 0; i < 20000; i++) {
+            Version version = new Version(random.nextInt(5), random.nextInt(5), random.nextInt(5));
+
+            if (random.nextInt(4) == 0) {
+                version = version.setPreRelease("rc", String.valueOf(random.nextInt(3)));
+            }
+
+            inventory.add(new SimpleEntry<>(packages[random.nextInt(packages.length)], version));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package io.herrera.kevin.semver.catalog;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static io.herrera.kevin.semver.constraints.Constraints.ne;
+import static io.herrera.kevin.semver.constraints.Constraints.or;
+import static io.herrera.kevin.semver.constraints.Constraints.pre;
+import static io.herrera.kevin.semver.constraints.Constraints.stable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>BitmapIndex</code> class functions as intended.
+ */
+public class BitmapIndexTest {
+
+    /**
+     * The bitmap index under test.
+     */
+    private static BitmapIndex bitmaps;
+
+    /**
+     * Verify that the bitmaps match applying the constraints to every version number.
+     */
+    @Test
+    public void filterTest() throws Exception {
+        List<Constraint> constraints = Arrays.asList(
+            stable(),
+            pre(),
+            ne("1.2.3"),
+            and(gte("1.0.0"), lt("2.0.0"), stable()),
+            or(and(gte("0.5.0"), lt("1.0.0")), and(gte("2.1.0"), ne("2.2.2")), pre()),
+            and(or(lt("1.0.0"), gte("3.0.0")), or(stable(), ne("0.1.0"))),
+            and(),
+            or(),
+            version -> version.getPatch() == 1
+        );
+
+        for (Constraint constraint : constraints) {
+            List<Version> expected = new ArrayList<>();
+
+            for (Version version : bitmaps.getIndex()) {
+                if (constraint.apply(version)) {
+                    expected.add(version);
+                }
+            }
+
+            assertEquals(expected, bitmaps.select(bitmaps.filter(constraint)), constraint.toString());
+        }
+    }
+
+    /**
+     * Verify that the major version buckets are found.
+     */
+    @Test
+    public void majorTest() {
+        for (int major = -1; major < 5; major++) {
+            BitSet expected = new BitSet();
+
+            for (int i = 0; i < bitmaps.getIndex().size(); i++) {
+                if (bitmaps.getIndex().get(i).getMajor() == major) {
+                    expected.set(i);
+                }
+            }
+
+            assertEquals(expected, bitmaps.major(major));
+        }
+
+        assertEquals(new BitSet(), bitmaps.major(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Verify that the minor version buckets are found.
+     */
+    @Test
+    public void minorTest() {
+        for (int minor = 0; minor < 5; minor++) {
+            BitSet expected = new BitSet();
+
+            for (int i = 0; i < bitmaps.getIndex().size(); i++) {
+                Version version = bitmaps.getIndex().get(i);
+
+                if ((version.getMajor() == 1) && (version.getMinor() == minor)) {
+                    expected.set(i);
+                }
+            }
+
+            assertEquals(expected, bitmaps.minor(1, minor));
+        }
+
+        assertEquals(new BitSet(), bitmaps.minor(1, Integer.MAX_VALUE));
+    }
+
+    @BeforeAll
+    private static void setUp() throws Exception {
+        Random random = new Random(5);
+        List<Version> versions = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            Version version = new Version(random.nextInt(4), random.nextInt(4), random.nextInt(4));
+
+            if (random.nextInt(4) == 0) {
+                version = version.setPreRelease("beta", String.valueOf(random.nextInt(3)));
+            }
+
+            versions.add(version);
+        }
+
+        bitmaps = BitmapIndex.of(VersionIndex.of(versions));
+    }
+}
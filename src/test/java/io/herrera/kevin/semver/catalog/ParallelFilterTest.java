@@ -0,0 +1,105 @@
+package io.herrera.kevin.semver.catalog;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>ParallelFilter</code> class functions as intended.
+ */
+public class ParallelFilterTest {
+
+    /**
+     * The catalog under test.
+     */
+    private static Catalog catalog;
+
+    /**
+     * The constraint under test.
+     */
+    private static Constraint constraint;
+
+    /**
+     * Verify that a large catalog is filtered in parallel with the same result.
+     */
+    @Test
+    public void filterParallelTest() {
+        ParallelFilter filter = new ParallelFilter().setPool(new ForkJoinPool(4)).setThreshold(1000);
+
+        assertEquals(expected(), filter.filter(catalog, constraint));
+    }
+
+    /**
+     * Verify that a catalog below the threshold is filtered sequentially.
+     */
+    @Test
+    public void filterSequentialTest() {
+        ParallelFilter filter = new ParallelFilter().setThreshold(Integer.MAX_VALUE);
+
+        assertEquals(expected(), filter.filter(catalog, constraint));
+    }
+
+    /**
+     * Verify that the version numbers that passed are selected in catalog order.
+     */
+    @Test
+    public void selectTest() {
+        List<Version> expected = catalog.stream().filter(constraint::apply).collect(Collectors.toList());
+
+        assertEquals(expected, new ParallelFilter().setThreshold(0).select(catalog, constraint));
+    }
+
+    /**
+     * Verify that the spliterator splits into ranges that cover the catalog.
+     */
+    @Test
+    public void spliteratorTest() {
+        assertEquals(catalog.size(), catalog.stream().parallel().count());
+        assertEquals(
+            catalog.stream().collect(Collectors.toList()),
+            catalog.stream().parallel().collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Returns the expected result of filtering the catalog.
+     *
+     * @return The expected result.
+     */
+    private static BitSet expected() {
+        BitSet expected = new BitSet();
+
+        for (int i = 0; i < catalog.size(); i++) {
+            if (constraint.apply(catalog.get(i))) {
+                expected.set(i);
+            }
+        }
+
+        return expected;
+    }
+
+    @BeforeAll
+    private static void setUp() throws Exception {
+        List<Version> versions = new ArrayList<>();
+        Random random = new Random(123);
+
+        for (int i = 0; i < 100003; i++) {
+            versions.add(new Version(random.nextInt(5), random.nextInt(10), random.nextInt(10)));
+        }
+
+        catalog = Catalog.of(versions);
+        constraint = and(gte("1.5.0"), lt("3.0.0"));
+    }
+}
@@ -0,0 +1,92 @@
+package io.herrera.kevin.semver.catalog;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.channel;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.constraints.PreReleaseChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>PreReleaseTrie</code> class functions as intended.
+ */
+public class PreReleaseTrieTest {
+
+    /**
+     * The trie under test.
+     */
+    private static PreReleaseTrie trie;
+
+    /**
+     * Verify that the bitmap index uses the trie for channels.
+     */
+    @Test
+    public void bitmapTest() throws Exception {
+        BitmapIndex bitmaps = BitmapIndex.of(trie.getIndex());
+        Constraint constraint = and(gte("2.0.0-0"), channel("rc.*"));
+
+        assertEquals(select(constraint), bitmaps.select(bitmaps.filter(constraint)));
+    }
+
+    /**
+     * Verify that the channels match applying the constraint to every version number.
+     */
+    @Test
+    public void selectTest() {
+        for (String pattern : Arrays.asList("rc", "rc.*", "rc.1", "beta.*", "nightly.2026*", "*", "*.1", "r*", "x")) {
+            PreReleaseChannel channel = channel(pattern);
+
+            assertEquals(select(channel), trie.select(channel), pattern);
+        }
+    }
+
+    /**
+     * Selects the version numbers that pass a constraint by applying it to every one.
+     *
+     * @param constraint The constraint.
+     *
+     * @return The version numbers.
+     */
+    private static List<Version> select(Constraint constraint) {
+        List<Version> versions = new ArrayList<>();
+
+        for (Version version : trie.getIndex()) {
+            if (constraint.apply(version)) {
+                versions.add(version);
+            }
+        }
+
+        return versions;
+    }
+
+    @BeforeAll
+    private static void setUp() throws Exception {
+        List<Version> versions = new ArrayList<>();
+
+        for (String preRelease : Arrays.asList(
+            "",
+            "-rc",
+            "-rc.1",
+            "-rc.2",
+            "-rc.1.1",
+            "-rc2",
+            "-beta",
+            "-beta.1",
+            "-nightly.20251231",
+            "-nightly.20260101",
+            "-nightly.20260215.1"
+        )) {
+            versions.add(new Version("1.0.0" + preRelease));
+            versions.add(new Version("2.0.0" + preRelease));
+        }
+
+        trie = PreReleaseTrie.of(VersionIndex.of(versions));
+    }
+}
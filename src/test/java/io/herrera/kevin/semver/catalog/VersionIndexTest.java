@@ -0,0 +1,122 @@
+package io.herrera.kevin.semver.catalog;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static io.herrera.kevin.semver.constraints.Constraints.or;
+import static io.herrera.kevin.semver.constraints.Constraints.stable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>VersionIndex</code> class functions as intended.
+ */
+public class VersionIndexTest {
+
+    /**
+     * The index under test.
+     */
+    private static VersionIndex index;
+
+    /**
+     * Verify that version numbers are found by precedence.
+     */
+    @Test
+    public void indexOfTest() throws Exception {
+        assertEquals(2, index.indexOf(new Version("1.0.0+other")));
+        assertEquals(-1, index.indexOf(new Version("0.0.1")));
+    }
+
+    /**
+     * Verify that the latest version number that passes a constraint is found.
+     */
+    @Test
+    public void latestTest() throws Exception {
+        assertEquals(new Version("1.1.0"), index.latest(lt("2.0.0")).get());
+        assertEquals(new Version("1.0.0-beta"), index.latest(or(lt("1.0.0"), gte("3.0.0"))).get());
+        assertEquals(new Version("1.1.0"), index.latest(and(lt("2.0.0"), stable())).get());
+        assertFalse(index.latest(lt("0.1.0")).isPresent());
+    }
+
+    /**
+     * Verify that only the version numbers that pass a constraint are streamed.
+     */
+    @Test
+    public void matchingTest() throws Exception {
+        assertEquals(
+            Arrays.asList("1.0.0-alpha", "1.0.0-beta", "2.0.0"),
+            index
+                .matching(or(lt("1.0.0"), gte("2.0.0")))
+                .map(Version::toString)
+                .collect(Collectors.toList())
+        );
+        assertEquals(
+            Arrays.asList("1.0.0+first", "1.1.0", "2.0.0"),
+            index.matching(stable()).map(Version::toString).collect(Collectors.toList())
+        );
+
+        Spliterator<Version> spliterator = index.matching(or(lt("1.0.0"), gte("2.0.0"))).spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT));
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+    }
+
+    /**
+     * Verify that the version numbers are sorted and distinct.
+     */
+    @Test
+    public void ofTest() {
+        assertEquals(
+            Arrays.asList("1.0.0-alpha", "1.0.0-beta", "1.0.0+first", "1.1.0", "2.0.0"),
+            index.stream().map(Version::toString).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Verify that a range of version numbers is streamed.
+     */
+    @Test
+    public void rangeTest() throws Exception {
+        List<String> range = index
+            .range(new Version("1.0.0-beta"), false, new Version("2.0.0"), true)
+            .map(Version::toString)
+            .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("1.0.0+first", "1.1.0", "2.0.0"), range);
+        assertEquals(0, index.range(new Version("3.0.0"), true, new Version("1.0.0"), true).count());
+        assertEquals(index.size(), index.range(null, false, null, false).count());
+    }
+
+    /**
+     * Verify that the spliterator reports that the version numbers are sorted and distinct.
+     */
+    @Test
+    public void spliteratorTest() {
+        Spliterator<Version> spliterator = index.spliterator();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT));
+        assertEquals(null, spliterator.getComparator());
+        assertEquals(index.size(), spliterator.getExactSizeIfKnown());
+    }
+
+    @BeforeAll
+    private static void setUp() throws Exception {
+        index = VersionIndex.of(
+            new Version("2.0.0"),
+            new Version("1.0.0+first"),
+            new Version("1.0.0-beta"),
+            new Version("1.1.0"),
+            new Version("1.0.0+second"),
+            new Version("1.0.0-alpha")
+        );
+    }
+}
@@ -0,0 +1,123 @@
+package io.herrera.kevin.semver.catalog;
+
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>VersionRegistry</code> class functions as intended.
+ */
+public class VersionRegistryTest {
+
+    /**
+     * Verify that concurrent writers do not lose any version numbers, and readers always see sorted snapshots.
+     */
+    @Test
+    public void concurrentTest() throws Exception {
+        VersionRegistry registry = new VersionRegistry();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int writer = 0; writer < 3; writer++) {
+            int major = writer + 1;
+
+            futures.add(executor.submit(() -> {
+                for (int patch = 0; patch < 300; patch++) {
+                    registry.publish("a", new Version(major, 0, patch));
+                }
+
+                return null;
+            }));
+        }
+
+        futures.add(executor.submit(() -> {
+            for (int i = 0; i < 300; i++) {
+                VersionIndex snapshot = registry.snapshot("a");
+
+                for (int j = 1; j < snapshot.size(); j++) {
+                    assertTrue(snapshot.get(j - 1).compareTo(snapshot.get(j)) < 0);
+                }
+            }
+
+            return null;
+        }));
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        assertEquals(900, registry.snapshot("a").size());
+        assertEquals(300, registry.matching("a", gte("3.0.0")).size());
+    }
+
+    /**
+     * Verify that version numbers are published.
+     */
+    @Test
+    public void publishTest() throws Exception {
+        VersionRegistry registry = new VersionRegistry();
+
+        assertTrue(registry.publish("a", new Version("2.0.0")));
+        assertTrue(registry.publish("a", new Version("1.0.0")));
+        assertFalse(registry.publish("a", new Version("1.0.0+build")));
+
+        assertEquals(Collections.singleton("a"), registry.getPackageNames());
+        assertEquals(
+            Arrays.asList(new Version("1.0.0"), new Version("2.0.0")),
+            registry.matching("a", gte("0.1.0"))
+        );
+        assertEquals(new Version("1.0.0"), registry.latest("a", lt("2.0.0")).get());
+        assertFalse(registry.latest("b", lt("2.0.0")).isPresent());
+    }
+
+    /**
+     * Verify that a snapshot is not changed by later writes.
+     */
+    @Test
+    public void snapshotTest() throws Exception {
+        VersionRegistry registry = new VersionRegistry();
+
+        registry.publish("a", new Version("1.0.0"));
+
+        VersionIndex snapshot = registry.snapshot("a");
+
+        registry.publish("a", new Version("1.1.0"));
+        registry.yank("a", new Version("1.0.0"));
+
+        assertEquals(1, snapshot.size());
+        assertEquals(new Version("1.0.0"), snapshot.get(0));
+        assertEquals(new Version("1.1.0"), registry.snapshot("a").get(0));
+    }
+
+    /**
+     * Verify that version numbers are yanked.
+     */
+    @Test
+    public void yankTest() throws Exception {
+        VersionRegistry registry = new VersionRegistry();
+
+        registry.publish("a", new Version("1.0.0"));
+
+        assertFalse(registry.yank("a", new Version("2.0.0")));
+        assertFalse(registry.yank("b", new Version("1.0.0")));
+        assertTrue(registry.yank("a", new Version("1.0.0")));
+        assertTrue(registry.snapshot("a").isEmpty());
+        assertTrue(registry.getPackageNames().isEmpty());
+    }
+}
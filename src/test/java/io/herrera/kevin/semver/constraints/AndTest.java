@@ -1,5 +1,6 @@
 package io.herrera.kevin.semver.constraints;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -21,4 +22,16 @@ public class AndTest {
         assertTrue(and.apply("1.0.0"));
         assertFalse(and.apply("2.0.0"));
     }
+
+    /**
+     * Verify that the intervals of all constraints are intersected.
+     */
+    @Test
+    public void intervalsTest() throws Exception {
+        And and = new And().add(new GreaterThanOrEqualTo("1.0.0"), new LessThan("2.0.0"), new NotEqualTo("1.5.0"));
+
+        assertEquals("[[1.0.0, 1.5.0), (1.5.0, 2.0.0)]", and.intervals().toString());
+        assertTrue(and.isExact());
+        assertFalse(and.add(new Stable()).isExact());
+    }
 }
@@ -0,0 +1,148 @@
+package io.herrera.kevin.semver.constraints;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static io.herrera.kevin.semver.constraints.Constraints.or;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>ConstraintIndex</code> class functions as intended.
+ */
+public class ConstraintIndexTest {
+
+    /**
+     * Verify that constraints are registered and replaced.
+     */
+    @Test
+    public void addTest() throws Exception {
+        ConstraintIndex<String> index = new ConstraintIndex<>();
+        Constraint constraint = gte("2.0.0");
+
+        assertEquals(index, index.add("a", lt("1.0.0")));
+        assertEquals(index, index.add("a", constraint));
+        assertEquals(1, index.size());
+        assertTrue(index.contains("a"));
+        assertEquals(constraint, index.get("a"));
+        assertEquals(Collections.emptyList(), index.match(new Version("0.1.0")));
+        assertEquals(Collections.singletonList("a"), index.match(new Version("2.0.0")));
+    }
+
+    /**
+     * Verify that the matches are the same as applying every constraint.
+     */
+    @Test
+    public void matchTest() throws Exception {
+        Random random = new Random(123);
+        ConstraintIndex<Integer> index = new ConstraintIndex<>();
+        Map<Integer, Constraint> constraints = new HashMap<>();
+
+        for (int i = 0; i < 2000; i++) {
+            Constraint constraint = randomConstraint(random);
+
+            constraints.put(i, constraint);
+            index.add(i, constraint);
+        }
+
+        for (int i = 0; i < 2000; i += 3) {
+            constraints.remove(i);
+            index.remove(i);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            Version version = randomVersion(random);
+            List<Integer> expected = new ArrayList<>();
+
+            constraints.forEach((id, constraint) -> {
+                if (constraint.apply(version)) {
+                    expected.add(id);
+                }
+            });
+
+            List<Integer> actual = index.match(version);
+
+            Collections.sort(expected);
+            Collections.sort(actual);
+
+            assertEquals(expected, actual, version.toString());
+        }
+    }
+
+    /**
+     * Verify that constraints are unregistered.
+     */
+    @Test
+    public void removeTest() throws Exception {
+        ConstraintIndex<String> index = new ConstraintIndex<>();
+
+        index.add("a", Constraints.ne("1.0.0"));
+
+        assertTrue(index.remove("a"));
+        assertFalse(index.remove("a"));
+        assertFalse(index.contains("a"));
+        assertNull(index.get("a"));
+        assertEquals(0, index.size());
+        assertEquals(Collections.emptyList(), index.match(new Version("2.0.0")));
+    }
+
+    /**
+     * Creates a random constraint.
+     *
+     * @param random The random number generator.
+     *
+     * @return The constraint.
+     */
+    static Constraint randomConstraint(Random random) {
+        Version version = randomVersion(random);
+
+        switch (random.nextInt(9)) {
+            case 0:
+                return Constraints.eq(version);
+            case 1:
+                return Constraints.gt(version);
+            case 2:
+                return Constraints.gte(version);
+            case 3:
+                return Constraints.lt(version);
+            case 4:
+                return Constraints.lte(version);
+            case 5:
+                return Constraints.ne(version);
+            case 6:
+                return and(Constraints.gte(version), Constraints.lt(version.incrementMajor()), Constraints.stable());
+            case 7:
+                return or(Constraints.lt(version), Constraints.gt(randomVersion(random)));
+            default:
+                return and(randomConstraint(random), randomConstraint(random));
+        }
+    }
+
+    /**
+     * Creates a random version number.
+     *
+     * @param random The random number generator.
+     *
+     * @return The version number.
+     */
+    static Version randomVersion(Random random) {
+        try {
+            Version version = new Version(random.nextInt(4), random.nextInt(4), random.nextInt(4));
+
+            return random.nextBoolean() ? version : version.setPreRelease("rc", String.valueOf(random.nextInt(3)));
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package io.herrera.kevin.semver.constraints;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.spy;
@@ -24,4 +27,21 @@ public class ConstraintTest {
 
         assertTrue(constraint.apply("1.2.3"));
     }
+
+    /**
+     * Verify that a constraint is explained as a leaf by default.
+     */
+    @Test
+    public void explainTest() throws Exception {
+        Constraint constraint = version -> version.getMajor() > 1;
+        Profile profile = new Profile();
+        Trace trace = constraint.explain(new Version("2.0.0"), profile);
+
+        assertEquals(Trace.Status.PASSED, trace.getStatus());
+        assertSame(constraint, trace.getConstraint());
+        assertSame(trace, trace.getCause());
+        assertTrue(trace.getChildren().isEmpty());
+        assertEquals(1, profile.getInvocations(constraint));
+        assertFalse(constraint.explain(new Version("1.0.0")).isPassed());
+    }
 }
@@ -0,0 +1,116 @@
+package io.herrera.kevin.semver.constraints;
+
+import static io.herrera.kevin.semver.constraints.ConstraintIndexTest.randomConstraint;
+import static io.herrera.kevin.semver.constraints.ConstraintIndexTest.randomVersion;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>ConstraintView</code> class functions as intended.
+ */
+public class ConstraintViewTest {
+
+    /**
+     * Verify that the listener is notified of each change to the results.
+     */
+    @Test
+    public void listenerTest() throws Exception {
+        List<String> changes = new ArrayList<>();
+        ConstraintView<String> view = new ConstraintView<String>()
+            .register("old", lt("2.0.0"))
+            .register("new", gte("2.0.0"))
+            .setListener((id, version, added) -> changes.add((added ? "+" : "-") + id + " " + version));
+
+        assertTrue(view.add(new Version("1.0.0")));
+        assertFalse(view.add(new Version("1.0.0+build")));
+        assertTrue(view.add(new Version("2.0.0")));
+        assertTrue(view.yank(new Version("1.0.0")));
+        assertFalse(view.yank(new Version("3.0.0")));
+
+        assertEquals(Arrays.asList("+old 1.0.0", "+new 2.0.0", "-old 1.0.0"), changes);
+        assertEquals(1, view.size());
+    }
+
+    /**
+     * Verify that the results are the same as applying every constraint to the whole catalog.
+     */
+    @Test
+    public void matchesTest() {
+        Random random = new Random(42);
+        ConstraintView<Integer> view = new ConstraintView<>();
+        TreeMap<Integer, Constraint> constraints = new TreeMap<>();
+        NavigableSet<Version> catalog = new TreeSet<>();
+
+        for (int step = 0; step < 3000; step++) {
+            int action = random.nextInt(10);
+
+            if (action < 2) {
+                Constraint constraint = randomConstraint(random);
+                int id = random.nextInt(100);
+
+                constraints.put(id, constraint);
+                view.register(id, constraint);
+            } else if (action < 3) {
+                int id = random.nextInt(100);
+
+                assertEquals(constraints.remove(id) != null, view.unregister(id));
+            } else if (action < 7) {
+                Version version = randomVersion(random);
+
+                assertEquals(catalog.add(version), view.add(version));
+            } else {
+                Version version = randomVersion(random);
+
+                assertEquals(catalog.remove(version), view.yank(version));
+            }
+        }
+
+        for (Integer id : constraints.keySet()) {
+            NavigableSet<Version> expected = new TreeSet<>();
+
+            for (Version version : catalog) {
+                if (constraints.get(id).apply(version)) {
+                    expected.add(version);
+                }
+            }
+
+            assertEquals(new ArrayList<>(expected), new ArrayList<>(view.getMatches(id)), id.toString());
+        }
+
+        assertNull(view.getMatches(1000));
+    }
+
+    /**
+     * Verify that a registered constraint is applied to the existing catalog.
+     */
+    @Test
+    public void registerTest() throws Exception {
+        ConstraintView<String> view = new ConstraintView<>();
+
+        view.add(new Version("1.0.0"));
+        view.add(new Version("1.5.0"));
+        view.add(new Version("2.0.0"));
+        view.register("a", Constraints.and(gte("1.0.0"), lt("2.0.0")));
+
+        assertTrue(view.contains(new Version("2.0.0")));
+        assertEquals(Arrays.asList(new Version("1.0.0"), new Version("1.5.0")), new ArrayList<>(view.getMatches("a")));
+
+        view.register("a", gte("1.5.0"));
+
+        assertEquals(Arrays.asList(new Version("1.5.0"), new Version("2.0.0")), new ArrayList<>(view.getMatches("a")));
+    }
+}
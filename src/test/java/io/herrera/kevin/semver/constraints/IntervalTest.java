@@ -0,0 +1,74 @@
+package io.herrera.kevin.semver.constraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>Interval</code> class functions as intended.
+ */
+public class IntervalTest {
+
+    /**
+     * Verify that version numbers are checked against both bounds.
+     */
+    @Test
+    public void containsTest() throws Exception {
+        Interval interval = Interval.of(new Version("1.0.0"), true, new Version("2.0.0"), false);
+
+        assertFalse(interval.contains(new Version("1.0.0-rc.1")));
+        assertTrue(interval.contains(new Version("1.0.0+build")));
+        assertTrue(interval.contains(new Version("2.0.0-rc.1")));
+        assertFalse(interval.contains(new Version("2.0.0")));
+        assertTrue(Interval.ALL.contains(new Version("0.0.0")));
+    }
+
+    /**
+     * Verify that intervals are intersected.
+     */
+    @Test
+    public void intersectTest() throws Exception {
+        Interval low = Interval.lessThanOrEqualTo(new Version("2.0.0"));
+        Interval high = Interval.greaterThan(new Version("1.0.0"));
+
+        assertEquals(Interval.of(new Version("1.0.0"), false, new Version("2.0.0"), true), low.intersect(high));
+        assertEquals(
+            Interval.of(new Version("2.0.0")),
+            low.intersect(Interval.greaterThanOrEqualTo(new Version("2.0.0")))
+        );
+        assertNull(low.intersect(Interval.greaterThan(new Version("2.0.0"))));
+    }
+
+    /**
+     * Verify that intervals with no version numbers in them are not created.
+     */
+    @Test
+    public void ofTest() throws Exception {
+        assertNull(Interval.of(new Version("2.0.0"), true, new Version("1.0.0"), true));
+        assertNull(Interval.of(new Version("1.0.0"), true, new Version("1.0.0"), false));
+        assertEquals("[1.0.0, 1.0.0]", Interval.of(new Version("1.0.0")).toString());
+    }
+
+    /**
+     * Verify that overlapping and adjacent intervals are merged.
+     */
+    @Test
+    public void unionTest() throws Exception {
+        assertEquals(
+            "[(, 3.0.0), [4.0.0, )]",
+            Interval.union(
+                Arrays.asList(
+                    Interval.greaterThanOrEqualTo(new Version("4.0.0")),
+                    Interval.of(new Version("1.0.0"), true, new Version("3.0.0"), false),
+                    Interval.lessThan(new Version("1.0.0")),
+                    Interval.of(new Version("2.0.0"))
+                )
+            ).toString()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package io.herrera.kevin.semver.constraints;
+
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.metered;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>Metered</code> class functions as intended.
+ */
+public class MeteredTest {
+
+    /**
+     * Verify that the measured constraint is applied.
+     */
+    @Test
+    public void applyTest() throws Exception {
+        Metered constraint = metered("new", gte("1.0.0"));
+
+        assertTrue(constraint.apply("1.0.0"));
+        assertFalse(constraint.apply("0.9.0"));
+        assertEquals("new", constraint.getName());
+    }
+
+    /**
+     * Verify that the intervals of the measured constraint are used.
+     */
+    @Test
+    public void intervalsTest() throws Exception {
+        Constraint inner = gte("1.0.0");
+        Metered constraint = metered("new", inner);
+
+        assertSame(inner, constraint.getConstraint());
+        assertEquals(inner.intervals(), constraint.intervals());
+        assertTrue(constraint.isExact());
+        assertFalse(metered("stable", new Stable()).isExact());
+    }
+}
@@ -1,5 +1,6 @@
 package io.herrera.kevin.semver.constraints;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -21,4 +22,16 @@ public class OrTest {
         assertTrue(or.apply("2.0.0"));
         assertFalse(or.apply("3.0.0"));
     }
+
+    /**
+     * Verify that the intervals of all constraints are merged.
+     */
+    @Test
+    public void intervalsTest() throws Exception {
+        Or or = new Or().add(new LessThan("1.0.0"), new EqualTo("1.0.0"), new GreaterThan("2.0.0"));
+
+        assertEquals("[(, 1.0.0], (2.0.0, )]", or.intervals().toString());
+        assertTrue(or.isExact());
+        assertTrue(new Or().intervals().isEmpty());
+    }
 }
@@ -0,0 +1,43 @@
+package io.herrera.kevin.semver.constraints;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>PreReleaseChannel</code> class functions as intended.
+ */
+public class PreReleaseChannelTest {
+
+    /**
+     * Verify that the pre-release metadata must start with the pattern.
+     */
+    @Test
+    public void applyTest() throws Exception {
+        assertTrue(Constraints.channel("rc").apply("1.0.0-rc"));
+        assertTrue(Constraints.channel("rc").apply("1.0.0-rc.1.2"));
+        assertFalse(Constraints.channel("rc").apply("1.0.0-rc2"));
+        assertFalse(Constraints.channel("rc").apply("1.0.0"));
+
+        assertTrue(Constraints.channel("rc.*").apply("1.0.0-rc.1"));
+        assertFalse(Constraints.channel("rc.*").apply("1.0.0-rc"));
+
+        assertTrue(Constraints.channel("nightly.2026*").apply("1.0.0-nightly.20260115"));
+        assertFalse(Constraints.channel("nightly.2026*").apply("1.0.0-nightly.20251231"));
+        assertTrue(Constraints.channel("*.2026*").apply("1.0.0-beta.2026.1"));
+    }
+
+    /**
+     * Verify that the pattern must not have empty identifiers.
+     */
+    @Test
+    public void constructorTest() {
+        assertEquals(Arrays.asList("beta", "*"), new PreReleaseChannel("beta.*").getPattern());
+        assertThrows(IllegalArgumentException.class, () -> new PreReleaseChannel(""));
+        assertThrows(IllegalArgumentException.class, () -> new PreReleaseChannel("rc..1"));
+    }
+}
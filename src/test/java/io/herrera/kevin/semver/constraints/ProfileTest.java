@@ -0,0 +1,67 @@
+package io.herrera.kevin.semver.constraints;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static io.herrera.kevin.semver.constraints.Constraints.or;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>Profile</code> class functions as intended.
+ */
+public class ProfileTest {
+
+    /**
+     * Verify that the constraints are ordered by the total time they took.
+     */
+    @Test
+    public void getConstraintsTest() throws Exception {
+        Constraint slow = version -> {
+            long start = System.nanoTime();
+
+            while (System.nanoTime() - start < 10_000_000) {
+                Thread.yield();
+            }
+
+            return true;
+        };
+
+        Or policy = or(lt("1.0.0"), slow);
+        Profile profile = new Profile();
+        Version version = new Version("1.0.0");
+
+        policy.explain(version);
+        policy.explain(version, profile);
+
+        assertSame(policy, profile.getConstraints().get(0));
+        assertSame(slow, profile.getConstraints().get(1));
+        assertTrue(profile.getNanos(slow) >= 10_000_000);
+        assertTrue(profile.getNanos(policy) >= profile.getNanos(slow));
+    }
+
+    /**
+     * Verify that the invocations of each constraint are accumulated across evaluations.
+     */
+    @Test
+    public void getInvocationsTest() throws Exception {
+        GreaterThanOrEqualTo lower = gte("1.0.0");
+        LessThan upper = lt("2.0.0");
+        And policy = and(lower, upper);
+        Profile profile = new Profile();
+
+        for (String version : new String[] { "1.0.0", "1.5.0", "1.9.0" }) {
+            policy.explain(new Version(version), profile);
+        }
+
+        assertEquals(3, profile.getInvocations(policy));
+        assertEquals(3, profile.getInvocations(lower));
+        assertEquals(3, profile.getInvocations(upper));
+        assertEquals(0, profile.getInvocations(lt("3.0.0")));
+        assertEquals(0, profile.reset().getInvocations(policy));
+    }
+}
@@ -0,0 +1,92 @@
+package io.herrera.kevin.semver.constraints;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static io.herrera.kevin.semver.constraints.Constraints.metered;
+import static io.herrera.kevin.semver.constraints.Constraints.or;
+import static io.herrera.kevin.semver.constraints.Constraints.stable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>Trace</code> class functions as intended.
+ */
+public class TraceTest {
+
+    /**
+     * Verify that the leaf that decided the result is found.
+     */
+    @Test
+    public void causeTest() throws Exception {
+        Stable stable = stable();
+        Constraint policy = or(and(gte("1.0.0"), lt("2.0.0"), stable), and(gte("1.2.0"), stable));
+
+        Trace trace = policy.explain(new Version("1.5.0-rc.1"));
+
+        assertFalse(trace.isPassed());
+        assertSame(stable, trace.getCause().getConstraint());
+        assertEquals(Trace.Status.FAILED, trace.getCause().getStatus());
+
+        assertTrue(policy.explain(new Version("1.5.0")).isPassed());
+    }
+
+    /**
+     * Verify that the inner constraints after the one that decided the result are skipped.
+     */
+    @Test
+    public void skippedTest() throws Exception {
+        And policy = and(gte("1.0.0"), lt("2.0.0"), stable());
+
+        for (String version : new String[] { "0.1.0", "2.0.0", "1.0.0-rc.1" }) {
+            Trace trace = policy.explain(new Version(version));
+            List<Trace> children = trace.getChildren();
+            int failed = -1;
+
+            assertEquals(Trace.Status.FAILED, trace.getStatus());
+            assertEquals(3, children.size());
+
+            for (int i = 0; i < children.size(); i++) {
+                Trace child = children.get(i);
+
+                if (failed >= 0) {
+                    assertEquals(Trace.Status.SKIPPED, child.getStatus());
+                } else if (child.getStatus() == Trace.Status.FAILED) {
+                    failed = i;
+                } else {
+                    assertEquals(Trace.Status.PASSED, child.getStatus());
+                }
+            }
+
+            assertSame(children.get(failed), trace.getCause());
+        }
+
+        Trace trace = policy.explain(new Version("1.5.0"));
+
+        assertTrue(trace.isPassed());
+        assertTrue(trace.getChildren().stream().allMatch(Trace::isPassed));
+    }
+
+    /**
+     * Verify that the tree is rendered with one line for each constraint.
+     */
+    @Test
+    public void toStringTest() throws Exception {
+        Constraint policy = metered("modern", and(gte("1.0.0")));
+
+        assertEquals(
+            "FAILED Metered \"modern\"\n  FAILED And\n    FAILED GreaterThanOrEqualTo [[1.0.0, )]",
+            policy.explain(new Version("0.1.0")).toString()
+        );
+
+        Trace channel = new PreReleaseChannel("rc.*").explain(new Version("1.0.0-rc.1"));
+
+        assertEquals("PASSED PreReleaseChannel rc.*", channel.toString());
+    }
+}
@@ -0,0 +1,154 @@
+package io.herrera.kevin.semver.encoding;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>VersionHistory</code> class functions as intended.
+ */
+public class VersionHistoryTest {
+
+    /**
+     * The history under test.
+     */
+    private static VersionHistory history;
+
+    /**
+     * The sorted version numbers in the history.
+     */
+    private static List<Version> versions;
+
+    /**
+     * Verify that the encoded form is smaller than the string representations.
+     */
+    @Test
+    public void encodeCompressesTest() throws Exception {
+        List<Version> patches = new ArrayList<>();
+
+        for (int patch = 0; patch < 1000; patch++) {
+            patches.add(new Version(1, 2, patch));
+        }
+
+        assertTrue(VersionHistory.encode(patches).remaining() < (length(patches) / 3));
+        assertTrue(VersionHistory.encode(versions).remaining() < length(versions));
+    }
+
+    /**
+     * Verify that unsorted version numbers are rejected.
+     */
+    @Test
+    public void encodeUnsortedTest() throws Exception {
+        List<Version> unsorted = Arrays.asList(new Version("2.0.0"), new Version("1.0.0"));
+
+        assertThrows(IllegalArgumentException.class, () -> VersionHistory.encode(unsorted));
+    }
+
+    /**
+     * Verify that version numbers are decoded by index.
+     */
+    @Test
+    public void getTest() {
+        assertEquals(versions.size(), history.size());
+
+        for (int i = 0; i < versions.size(); i++) {
+            Version expected = versions.get(i);
+            Version actual = history.get(i);
+
+            assertEquals(expected, actual);
+            assertArrayEquals(expected.getPreRelease(), actual.getPreRelease());
+            assertArrayEquals(expected.getBuild(), actual.getBuild());
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(versions.size()));
+    }
+
+    /**
+     * Verify that the version numbers are streamed in order.
+     */
+    @Test
+    public void iteratorTest() {
+        Iterator<Version> iterator = history.iterator(10);
+
+        for (int i = 10; i < versions.size(); i++) {
+            assertEquals(versions.get(i).toString(), iterator.next().toString());
+        }
+
+        assertFalse(iterator.hasNext());
+    }
+
+    /**
+     * Verify that version numbers are found without decoding the whole history.
+     */
+    @Test
+    public void searchTest() throws Exception {
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(versions.get(i), history.get(history.search(versions.get(i))));
+        }
+
+        assertEquals(-1, history.search(new Version("0.0.0")));
+        assertEquals(-versions.size() - 1, history.search(new Version("99.0.0")));
+        assertEquals(versions.indexOf(new Version("1.1.0-alpha.1")), -history.search(new Version("1.0.99")) - 1);
+
+        VersionHistory small = VersionHistory.wrap(VersionHistory.encode(versions, 3));
+        List<Version> probes = new ArrayList<>(versions);
+
+        probes.add(new Version("1.2.3-alpha"));
+        probes.add(new Version("1.2.3-beta"));
+        probes.add(new Version("1.2.3-rc.1.1"));
+        probes.add(new Version("2.3.9-zeta"));
+
+        for (Version probe : probes) {
+            assertEquals(Collections.binarySearch(versions, probe), small.search(probe), probe.toString());
+        }
+    }
+
+    /**
+     * Verify that a buffer that does not contain a history is rejected.
+     */
+    @Test
+    public void wrapInvalidTest() {
+        assertThrows(IllegalArgumentException.class, () -> VersionHistory.wrap(ByteBuffer.allocate(32)));
+    }
+
+    /**
+     * Returns the total length of the string representations.
+     *
+     * @param versions The version numbers.
+     *
+     * @return The length.
+     */
+    private static int length(List<Version> versions) {
+        return versions.stream().mapToInt(v -> v.toString().length()).sum();
+    }
+
+    @BeforeAll
+    private static void setUp() throws Exception {
+        versions = new ArrayList<>();
+
+        for (int major = 1; major < 3; major++) {
+            for (int minor = 0; minor < 4; minor++) {
+                for (int patch = 0; patch < 10; patch++) {
+                    versions.add(new Version(major, minor, patch, new String[] {"alpha", "1"}));
+                    versions.add(new Version(major, minor, patch, new String[] {"alpha", "2"}));
+                    versions.add(new Version(major, minor, patch, new String[] {"rc", "1"}, new String[] {"b1"}));
+                    versions.add(new Version(major, minor, patch));
+                }
+            }
+        }
+
+        history = VersionHistory.wrap(VersionHistory.encode(versions, 16));
+    }
+}
@@ -0,0 +1,45 @@
+package io.herrera.kevin.semver.encoding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.herrera.kevin.semver.Version;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>VersionRecord</code> class functions as intended.
+ */
+public class VersionRecordTest {
+
+    /**
+     * Verify that version numbers are written and read back.
+     */
+    @Test
+    public void readWriteTest() throws Exception {
+        Version[] versions = {
+            new Version("1.2.3"),
+            new Version("1.2.3-alpha.1+abc.123"),
+            new Version("20181020.0.0-rc.1"),
+        };
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            for (Version version : versions) {
+                VersionRecord.write(output, version);
+            }
+        }
+
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (Version version : versions) {
+                assertEquals(version.toString(), VersionRecord.read(input).toString());
+            }
+
+            assertNull(VersionRecord.read(input));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.herrera.kevin.semver.encoding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.herrera.kevin.semver.Version;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>VersionText</code> class functions as intended.
+ */
+public class VersionTextTest {
+
+    /**
+     * Verify that version numbers are written to a channel, one per line, across several buffers.
+     */
+    @Test
+    public void writeChannelTest() throws Exception {
+        Version[] versions = createVersions();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long written = VersionText.write(versions, Channels.newChannel(output));
+
+        assertEquals(expected(versions), new String(output.toByteArray(), StandardCharsets.US_ASCII));
+        assertEquals(output.size(), written);
+        assertEquals(0, VersionText.write(new Version[0], Channels.newChannel(output)));
+    }
+
+    /**
+     * Verify that version numbers are written to a writer, one per line, across several buffers.
+     */
+    @Test
+    public void writeWriterTest() throws Exception {
+        Version[] versions = createVersions();
+        StringWriter writer = new StringWriter();
+
+        long written = VersionText.write(versions, writer);
+
+        assertEquals(expected(versions), writer.toString());
+        assertEquals(writer.getBuffer().length(), written);
+        assertEquals(0, VersionText.write(new Version[0], writer));
+    }
+
+    /**
+     * Creates enough version numbers to fill several buffers, including one that is longer than a buffer.
+     *
+     * @return The version numbers.
+     */
+    private static Version[] createVersions() throws Exception {
+        char[] identifier = new char[10000];
+        Version[] versions = new Version[2000];
+
+        Arrays.fill(identifier, 'x');
+
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = new Version(i / 100, i % 100, i, new String[] {"rc", Integer.toString(i)});
+        }
+
+        versions[1000] = new Version(1, 0, 0, new String[0], new String[] {new String(identifier)});
+
+        return versions;
+    }
+
+    /**
+     * Creates the expected text for version numbers.
+     *
+     * @param versions The version numbers.
+     *
+     * @return The expected text.
+     */
+    private static String expected(Version[] versions) {
+        return Arrays.stream(versions).map(Version::toString).collect(Collectors.joining("\n", "", "\n"));
+    }
+}
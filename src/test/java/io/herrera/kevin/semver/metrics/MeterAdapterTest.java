@@ -0,0 +1,212 @@
+package io.herrera.kevin.semver.metrics;
+
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static io.herrera.kevin.semver.constraints.Constraints.metered;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>MeterAdapter</code> class functions as intended.
+ */
+public class MeterAdapterTest {
+
+    /**
+     * The number of times each meter was created, by name and tags.
+     */
+    private Map<String, AtomicLong> created;
+
+    /**
+     * The number of values recorded to each meter, by name and tags.
+     */
+    private Map<String, AtomicLong> recorded;
+
+    /**
+     * The sum of the values recorded to each meter, by name and tags.
+     */
+    private Map<String, AtomicLong> sums;
+
+    /**
+     * Verify that cache lookups and evictions are counted for each cache.
+     */
+    @Test
+    public void cacheTest() {
+        MeterAdapter adapter = adapter();
+
+        adapter.cacheHit("first");
+        adapter.cacheHit("first");
+        adapter.cacheMiss("first");
+        adapter.cacheMiss("second");
+        adapter.cacheEvicted("second", 5);
+        adapter.cacheEvicted("second", 2);
+
+        assertEquals(2, sum("semver.cache", "cache", "first", "result", "hit"));
+        assertEquals(1, sum("semver.cache", "cache", "first", "result", "miss"));
+        assertEquals(1, sum("semver.cache", "cache", "second", "result", "miss"));
+        assertEquals(7, sum("semver.cache.evictions", "cache", "second"));
+        assertEquals(1, created.get(name("semver.cache", "cache", "first", "result", "hit")).get());
+    }
+
+    /**
+     * Verify that the evaluations of named constraints are timed only while metrics are enabled.
+     */
+    @Test
+    public void constraintTest() throws Exception {
+        Constraint constraint = metered("old", lt("1.0.0"));
+
+        assertTrue(constraint.apply("0.1.0"));
+        assertTrue(recorded.isEmpty());
+
+        MetricsProvider.set(adapter());
+
+        assertTrue(constraint.apply("0.1.0"));
+        assertTrue(constraint.apply("0.2.0"));
+        assertFalse(constraint.apply("1.0.0"));
+
+        assertEquals(2, count("semver.constraint", "constraint", "old", "result", "pass"));
+        assertEquals(1, count("semver.constraint", "constraint", "old", "result", "fail"));
+    }
+
+    /**
+     * Verify that parse attempts are timed by result and reason.
+     */
+    @Test
+    public void parseTest() throws Exception {
+        MeterAdapter adapter = new MeterAdapter(
+            (name, tags) -> {
+                throw new AssertionError("A counter was created for " + name(name, tags) + ".");
+            },
+            factory()
+        );
+
+        MetricsProvider.set(adapter);
+
+        new Version("1.2.3");
+        new Version("1.2.3-rc.1+build");
+
+        assertThrows(InvalidVersionException.class, () -> new Version("01.2.3"));
+        assertThrows(InvalidVersionException.class, () -> new Version("1.2"));
+        assertThrows(InvalidVersionException.class, () -> new Version("1.2.3-rc..1"));
+        assertThrows(InvalidVersionException.class, () -> new Version("1.2.99999999999"));
+
+        assertEquals(2, count("semver.parse", "result", "success"));
+        assertEquals(1, count("semver.parse", "result", "failure", "reason", "LEADING_ZERO"));
+        assertEquals(1, count("semver.parse", "result", "failure", "reason", "INVALID_CORE"));
+        assertEquals(1, count("semver.parse", "result", "failure", "reason", "INVALID_PRE_RELEASE"));
+        assertEquals(1, count("semver.parse", "result", "failure", "reason", "NUMBER_TOO_LARGE"));
+        assertEquals(0, count("semver.parse", "result", "failure", "reason", "EMPTY"));
+        assertTrue(sum("semver.parse", "result", "success") > 0);
+        assertEquals(1, created.get(name("semver.parse", "result", "success")).get());
+    }
+
+    /**
+     * Verify that metrics are disabled by default, and can be disabled again.
+     */
+    @Test
+    public void providerTest() {
+        assertFalse(MetricsProvider.isEnabled());
+
+        MetricsProvider.set(adapter());
+
+        assertTrue(MetricsProvider.isEnabled());
+
+        MetricsProvider.set(null);
+
+        assertFalse(MetricsProvider.isEnabled());
+    }
+
+    /**
+     * Creates empty maps to record the meters to.
+     */
+    @BeforeEach
+    public void setUp() {
+        created = new ConcurrentHashMap<>();
+        recorded = new ConcurrentHashMap<>();
+        sums = new ConcurrentHashMap<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MetricsProvider.set(null);
+    }
+
+    /**
+     * Creates an adapter that records to the maps.
+     *
+     * @return The adapter.
+     */
+    private MeterAdapter adapter() {
+        MeterAdapter.MeterFactory factory = factory();
+
+        return new MeterAdapter(factory, factory);
+    }
+
+    /**
+     * Returns the number of values recorded to a meter.
+     *
+     * @param name The name of the meter.
+     * @param tags The tags of the meter.
+     *
+     * @return The number of values.
+     */
+    private long count(String name, String... tags) {
+        return recorded.getOrDefault(name(name, tags), new AtomicLong()).get();
+    }
+
+    /**
+     * Creates a factory for meters that record to the maps.
+     *
+     * @return The factory.
+     */
+    private MeterAdapter.MeterFactory factory() {
+        return (name, tags) -> {
+            String key = name(name, tags);
+
+            created.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+
+            AtomicLong count = recorded.computeIfAbsent(key, k -> new AtomicLong());
+            AtomicLong sum = sums.computeIfAbsent(key, k -> new AtomicLong());
+
+            return value -> {
+                count.incrementAndGet();
+                sum.addAndGet(value);
+            };
+        };
+    }
+
+    /**
+     * Creates the key for a meter.
+     *
+     * @param name The name of the meter.
+     * @param tags The tags of the meter.
+     *
+     * @return The key.
+     */
+    private static String name(String name, String... tags) {
+        return name + Arrays.toString(tags);
+    }
+
+    /**
+     * Returns the sum of the values recorded to a meter.
+     *
+     * @param name The name of the meter.
+     * @param tags The tags of the meter.
+     *
+     * @return The sum.
+     */
+    private long sum(String name, String... tags) {
+        return sums.getOrDefault(name(name, tags), new AtomicLong()).get();
+    }
+}
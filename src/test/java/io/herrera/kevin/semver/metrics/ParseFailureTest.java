@@ -0,0 +1,38 @@
+package io.herrera.kevin.semver.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>ParseFailure</code> class functions as intended.
+ */
+public class ParseFailureTest {
+
+    /**
+     * Verify that the reason is given for the first part of the string that is not valid.
+     */
+    @Test
+    public void classifyTest() {
+        assertEquals(ParseFailure.EMPTY, ParseFailure.classify(""));
+        assertEquals(ParseFailure.INVALID_BUILD, ParseFailure.classify("1.0.0+"));
+        assertEquals(ParseFailure.INVALID_BUILD, ParseFailure.classify("1.0.0+build..1"));
+        assertEquals(ParseFailure.INVALID_BUILD, ParseFailure.classify("1.0.0+build_1"));
+        assertEquals(ParseFailure.INVALID_CORE, ParseFailure.classify("1.0"));
+        assertEquals(ParseFailure.INVALID_CORE, ParseFailure.classify("1.0.0.0"));
+        assertEquals(ParseFailure.INVALID_CORE, ParseFailure.classify("v1.0.0"));
+        assertEquals(ParseFailure.INVALID_CORE, ParseFailure.classify("1..0"));
+        assertEquals(ParseFailure.INVALID_CORE, ParseFailure.classify("-1.0.0"));
+        assertEquals(ParseFailure.INVALID_PRE_RELEASE, ParseFailure.classify("1.0.0-"));
+        assertEquals(ParseFailure.INVALID_PRE_RELEASE, ParseFailure.classify("1.0.0-rc.01"));
+        assertEquals(ParseFailure.INVALID_PRE_RELEASE, ParseFailure.classify("1.0.0-rc!"));
+        assertEquals(ParseFailure.LEADING_ZERO, ParseFailure.classify("1.02.0"));
+        assertEquals(ParseFailure.LEADING_ZERO, ParseFailure.classify("1.0.00-rc.01+b_1"));
+        assertEquals(ParseFailure.NUMBER_TOO_LARGE, ParseFailure.classify("2147483648.0.0"));
+        assertEquals(ParseFailure.NUMBER_TOO_LARGE, ParseFailure.classify("1.99999999999.0"));
+
+        assertNull(ParseFailure.classify("2147483647.0.0-rc.0a+01"));
+        assertNull(ParseFailure.classify("1.0.0-x-y.1"));
+    }
+}
@@ -0,0 +1,229 @@
+package io.herrera.kevin.semver.resolver;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static io.herrera.kevin.semver.constraints.Constraints.metered;
+import static io.herrera.kevin.semver.constraints.Constraints.stable;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.resolver.ResolutionCache.Key;
+import io.herrera.kevin.semver.resolver.ResolutionCache.StoredTerm;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>ResolutionCache</code> class functions as intended.
+ */
+public class ResolutionCacheTest {
+
+    /**
+     * The temporary directory.
+     */
+    private Path directory;
+
+    /**
+     * Verify that old records are dropped once the file grows beyond its maximum size.
+     */
+    @Test
+    public void compactTest() throws Exception {
+        try (ResolutionCache cache = ResolutionCache.open(directory.resolve("cache")).setMaxSize(2048)) {
+            for (int i = 0; i < 200; i++) {
+                cache.putSolution(key(i), solution(i));
+                cache.putSolution(key(199), solution(199));
+            }
+
+            assertTrue(cache.size() <= 2048);
+            assertNull(cache.getSolution(key(0)));
+            assertEquals(solution(199), cache.getSolution(key(199)));
+            assertEquals(solution(198), cache.getSolution(key(198)));
+        }
+    }
+
+    /**
+     * Verify that compaction drops the records that were appended first, whether they are solutions or learned
+     * incompatibilities.
+     */
+    @Test
+    public void compactOrderTest() throws Exception {
+        List<StoredTerm> terms = Collections.singletonList(
+            new StoredTerm("foo", true, Collections.singletonList(new Version("1.0.0")))
+        );
+
+        try (ResolutionCache cache = ResolutionCache.open(directory.resolve("cache"))) {
+            cache.putLearned(ResolutionCache.key("old"), Collections.singletonList(terms));
+
+            for (int i = 0; i < 100; i++) {
+                cache.putSolution(key(i), solution(i));
+            }
+
+            cache.putLearned(ResolutionCache.key("new"), Collections.singletonList(terms));
+            cache.setMaxSize(2048).compact();
+
+            assertTrue(cache.size() <= 1024);
+            assertEquals(0, cache.getLearned(ResolutionCache.key("old")).size());
+            assertEquals(1, cache.getLearned(ResolutionCache.key("new")).size());
+            assertNull(cache.getSolution(key(0)));
+            assertEquals(solution(99), cache.getSolution(key(99)));
+        }
+    }
+
+    /**
+     * Verify that equivalent requirements have the same key, and others do not.
+     */
+    @Test
+    public void keyTest() throws Exception {
+        assertEquals(
+            ResolutionCache.key("snapshot", requirements(and(gte("1.0.0"), lt("2.0.0"), stable()))),
+            ResolutionCache.key("snapshot", requirements(and(stable(), lt("2.0.0"), gte("1.0.0"))))
+        );
+
+        assertEquals(
+            ResolutionCache.key("snapshot", requirements(gte("1.0.0"))),
+            ResolutionCache.key("snapshot", requirements(metered("new", gte("1.0.0"))))
+        );
+
+        assertNotEquals(
+            ResolutionCache.key("snapshot", requirements(gte("1.0.0"))),
+            ResolutionCache.key("other", requirements(gte("1.0.0")))
+        );
+
+        assertNull(ResolutionCache.key("snapshot", requirements(version -> true)));
+    }
+
+    /**
+     * Verify that learned incompatibilities are kept for each snapshot, without duplicates.
+     */
+    @Test
+    public void learnedTest() throws Exception {
+        Path path = directory.resolve("cache");
+        List<StoredTerm> terms = Arrays.asList(
+            new StoredTerm("foo", true, Collections.singletonList(new Version("1.0.0"))),
+            new StoredTerm("bar", false, Arrays.asList(new Version("1.0.0"), new Version("1.1.0-rc.1")))
+        );
+
+        try (ResolutionCache cache = ResolutionCache.open(path)) {
+            cache.putLearned(ResolutionCache.key("snapshot"), Arrays.asList(terms, terms));
+            cache.putLearned(ResolutionCache.key("snapshot"), Collections.singletonList(terms));
+        }
+
+        try (ResolutionCache cache = ResolutionCache.open(path)) {
+            List<List<StoredTerm>> learned = cache.getLearned(ResolutionCache.key("snapshot"));
+
+            assertEquals(1, learned.size());
+            assertEquals("bar", learned.get(0).get(1).getName());
+            assertEquals(terms.get(1).getVersions(), learned.get(0).get(1).getVersions());
+            assertEquals(0, cache.getLearned(ResolutionCache.key("other")).size());
+        }
+    }
+
+    /**
+     * Verify that a file that is not a resolution cache is rejected.
+     */
+    @Test
+    public void openTest() throws Exception {
+        Path path = directory.resolve("other");
+
+        Files.write(path, "not a cache".getBytes());
+
+        assertThrows(IOException.class, () -> ResolutionCache.open(path));
+    }
+
+    /**
+     * Verify that solutions are read back after the cache is reopened.
+     */
+    @Test
+    public void solutionTest() throws Exception {
+        Path path = directory.resolve("cache");
+
+        try (ResolutionCache cache = ResolutionCache.open(path)) {
+            cache.putSolution(key(1), solution(1));
+            cache.putSolution(key(2), solution(2));
+            cache.putSolution(key(1), solution(3));
+
+            assertEquals(solution(3), cache.getSolution(key(1)));
+        }
+
+        try (ResolutionCache cache = ResolutionCache.open(path)) {
+            assertEquals(solution(3), cache.getSolution(key(1)));
+            assertEquals(solution(2), cache.getSolution(key(2)));
+            assertNull(cache.getSolution(key(4)));
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("semver-");
+    }
+
+    /**
+     * Deletes the temporary directory and everything in it.
+     *
+     * @throws IOException If the directory could not be deleted.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Creates the key for a numbered resolution.
+     *
+     * @param number The number.
+     *
+     * @return The key.
+     */
+    private static Key key(int number) throws Exception {
+        return ResolutionCache.key("snapshot", requirements(gte(new Version(number, 0, 0))));
+    }
+
+    /**
+     * Creates requirements with a single package.
+     *
+     * @param constraint The constraint.
+     *
+     * @return The requirements.
+     */
+    private static Map<String, Constraint> requirements(Constraint constraint) {
+        return Collections.singletonMap("foo", constraint);
+    }
+
+    /**
+     * Creates the solution for a numbered resolution.
+     *
+     * @param number The number.
+     *
+     * @return The solution.
+     */
+    private static SortedMap<String, Version> solution(int number) throws Exception {
+        SortedMap<String, Version> solution = new TreeMap<>();
+
+        solution.put("foo", new Version(number, 0, 0));
+        solution.put("bar", new Version("1.0.0-rc." + number + "+build"));
+
+        return solution;
+    }
+}
@@ -0,0 +1,249 @@
+package io.herrera.kevin.semver.resolver;
+
+import static io.herrera.kevin.semver.constraints.Constraints.and;
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.constraints.Constraints;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>Resolver</code> class functions as intended.
+ */
+public class ResolverTest {
+
+    /**
+     * Verify that a conflict is learned from and the resolver backtracks to an older version.
+     */
+    @Test
+    public void backtrackTest() throws Exception {
+        Source source = new Source()
+            .add("foo", "1.0.0", "bar", and(gte("1.0.0"), lt("2.0.0")))
+            .add("foo", "1.1.0", "bar", and(gte("2.0.0"), lt("3.0.0")))
+            .add("bar", "1.0.0")
+            .add("bar", "2.0.0", "baz", gte("3.0.0"))
+            .add("baz", "1.0.0");
+
+        SortedMap<String, Version> selected = new Resolver(source).resolve(requires("foo", gte("1.0.0")));
+
+        assertEquals("{bar=1.0.0, foo=1.0.0}", selected.toString());
+    }
+
+    /**
+     * Verify that solutions and learned incompatibilities are cached.
+     */
+    @Test
+    public void cacheTest() throws Exception {
+        Path path = Files.createTempFile("semver-", ".cache");
+        Source source = new Source()
+            .add("foo", "1.0.0", "shared", lt("2.0.0"))
+            .add("bar", "1.0.0", "shared", gte("2.0.0"))
+            .add("baz", "1.0.0", "foo", gte("1.0.0"))
+            .add("baz", "2.0.0", "foo", gte("1.0.0"))
+            .add("baz", "2.0.0", "bar", gte("1.0.0"))
+            .add("shared", "1.0.0")
+            .add("shared", "2.0.0");
+
+        try (ResolutionCache cache = ResolutionCache.open(path)) {
+            Resolver resolver = new Resolver(source).setCache(cache, "snapshot");
+            Map<String, Constraint> conflict = requires("foo", gte("1.0.0"));
+
+            conflict.put("bar", gte("1.0.0"));
+
+            assertThrows(ResolutionException.class, () -> resolver.resolve(conflict));
+            assertEquals(1, cache.getLearned(ResolutionCache.key("snapshot")).size());
+
+            SortedMap<String, Version> selected = resolver.resolve(requires("baz", gte("1.0.0")));
+
+            assertEquals("{baz=1.0.0, foo=1.0.0, shared=1.0.0}", selected.toString());
+            assertEquals(selected, cache.getSolution(ResolutionCache.key("snapshot", requires("baz", gte("1.0.0")))));
+            assertEquals(
+                selected,
+                new Resolver(new Source()).setCache(cache, "snapshot").resolve(requires("baz", gte("1.0.0")))
+            );
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Verify that a failure is explained.
+     */
+    @Test
+    public void conflictTest() throws Exception {
+        Source source = new Source()
+            .add("foo", "1.0.0", "shared", lt("2.0.0"))
+            .add("bar", "1.0.0", "shared", gte("2.0.0"))
+            .add("shared", "1.0.0")
+            .add("shared", "2.0.0");
+
+        Map<String, Constraint> requirements = requires("foo", gte("1.0.0"));
+
+        requirements.put("bar", gte("1.0.0"));
+
+        ResolutionException exception = assertThrows(
+            ResolutionException.class,
+            () -> new Resolver(source).resolve(requirements)
+        );
+
+        assertTrue(exception.getMessage().contains("foo * depends on shared 1.0.0"), exception.getMessage());
+        assertTrue(exception.getMessage().contains("bar * depends on shared 2.0.0"), exception.getMessage());
+        assertTrue(exception.getMessage().contains("the requirements cannot be resolved"), exception.getMessage());
+    }
+
+    /**
+     * Verify that a large synthetic graph is resolved to a consistent selection.
+     */
+    @Test
+    public void largeGraphTest() throws Exception {
+        Random random = new Random(123);
+        Source source = new Source();
+        int count = 2000;
+
+        for (int p = 0; p < count; p++) {
+            for (int v = 0; v < 5; v++) {
+                Version version = new Version(1, v, 0);
+
+                source.add("p" + p, version.toString());
+
+                for (int d = 0; (d < 3) && (p + d + 1 < count); d++) {
+                    int dependency = p + 1 + random.nextInt(Math.min(20, count - p - 1));
+                    int minor = random.nextInt(5);
+
+                    source.add(
+                        "p" + p,
+                        version.toString(),
+                        "p" + dependency,
+                        and(gte(new Version(1, minor, 0)), lt(new Version(2, 0, 0)))
+                    );
+                }
+            }
+        }
+
+        SortedMap<String, Version> selected = new Resolver(source).resolve(requires("p0", gte("1.0.0")));
+
+        selected.forEach((name, version) ->
+            source.getDependencies(name, version).forEach((dependency, constraint) ->
+                assertTrue(constraint.apply(selected.get(dependency)), name + " " + version + " -> " + dependency)
+            )
+        );
+    }
+
+    /**
+     * Verify that the newest versions are selected when there are no conflicts.
+     */
+    @Test
+    public void newestTest() throws Exception {
+        Source source = new Source()
+            .add("foo", "1.0.0", "bar", gte("1.0.0"))
+            .add("foo", "2.0.0", "bar", gte("1.0.0"))
+            .add("foo", "3.0.0")
+            .add("bar", "1.0.0")
+            .add("bar", "1.1.0");
+
+        assertEquals(
+            "{bar=1.1.0, foo=2.0.0}",
+            new Resolver(source).resolve(requires("foo", lt("3.0.0"))).toString()
+        );
+    }
+
+    /**
+     * Verify that a missing package is explained.
+     */
+    @Test
+    public void noVersionsTest() {
+        ResolutionException exception = assertThrows(
+            ResolutionException.class,
+            () -> new Resolver(new Source()).resolve(requires("missing", Constraints.stable()))
+        );
+
+        assertTrue(exception.getMessage().contains("missing"), exception.getMessage());
+    }
+
+    /**
+     * Creates requirements with a single package.
+     *
+     * @param name       The name of the package.
+     * @param constraint The constraint.
+     *
+     * @return The requirements.
+     */
+    private static Map<String, Constraint> requires(String name, Constraint constraint) {
+        Map<String, Constraint> requirements = new LinkedHashMap<>();
+
+        requirements.put(name, constraint);
+
+        return requirements;
+    }
+
+    /**
+     * A source of packages held in memory.
+     */
+    private static final class Source implements PackageSource {
+
+        /**
+         * The dependencies of each version of each package.
+         */
+        private final Map<String, Map<Version, Map<String, Constraint>>> packages = new HashMap<>();
+
+        /**
+         * Adds a version of a package.
+         *
+         * @param name    The name of the package.
+         * @param version The version.
+         *
+         * @return A fluent interface.
+         */
+        Source add(String name, String version) throws Exception {
+            packages
+                .computeIfAbsent(name, key -> new TreeMap<>())
+                .computeIfAbsent(new Version(version), key -> new LinkedHashMap<>());
+
+            return this;
+        }
+
+        /**
+         * Adds a dependency of a version of a package.
+         *
+         * @param name       The name of the package.
+         * @param version    The version.
+         * @param dependency The name of the dependency.
+         * @param constraint The constraint on the versions of the dependency.
+         *
+         * @return A fluent interface.
+         */
+        Source add(String name, String version, String dependency, Constraint constraint) throws Exception {
+            add(name, version);
+
+            packages.get(name).get(new Version(version)).put(dependency, constraint);
+
+            return this;
+        }
+
+        @Override
+        public Map<String, Constraint> getDependencies(String name, Version version) {
+            return packages.get(name).get(version);
+        }
+
+        @Override
+        public Collection<Version> getVersions(String name) {
+            return new ArrayList<>(packages.getOrDefault(name, Collections.emptyMap()).keySet());
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.herrera.kevin.semver.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.sort.ExternalSort.Format;
+import io.herrera.kevin.semver.sort.ExternalSort.Report;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>ExternalSort</code> class functions as intended.
+ */
+public class ExternalSortTest {
+
+    /**
+     * The temporary directory for the test files.
+     */
+    private Path directory;
+
+    /**
+     * The unsorted input lines.
+     */
+    private List<String> lines;
+
+    /**
+     * Verify that binary records are sorted and converted back to text.
+     */
+    @Test
+    public void sortBinaryTest() throws Exception {
+        Path input = write();
+        Path binary = directory.resolve("sorted.bin");
+        Path output = directory.resolve("sorted.txt");
+
+        new ExternalSort().setTempDirectory(directory).sort(input, Format.TEXT, binary, Format.BINARY);
+
+        Report report = new ExternalSort()
+            .setMemoryLimit(1024)
+            .setTempDirectory(directory)
+            .sort(binary, Format.BINARY, output, Format.TEXT);
+
+        assertEquals(expected(false), Files.readAllLines(output, StandardCharsets.UTF_8));
+        assertEquals(0, report.getInvalid());
+    }
+
+    /**
+     * Verify that version numbers with equal precedence keep their order when the runs are merged in several passes.
+     */
+    @Test
+    public void sortStableTest() throws Exception {
+        lines.clear();
+
+        for (int i = 0; i < 300; i++) {
+            lines.add("1.0.0+" + i);
+            lines.add((i % 3) + ".0.0-rc." + (i % 7));
+        }
+
+        Path input = write();
+        Path output = directory.resolve("sorted.txt");
+
+        Report report = new ExternalSort()
+            .setMemoryLimit(1024)
+            .setTempDirectory(directory)
+            .sort(input, Format.TEXT, output, Format.TEXT);
+
+        List<String> builds = Files.readAllLines(output, StandardCharsets.UTF_8)
+            .stream()
+            .filter(line -> line.startsWith("1.0.0+"))
+            .collect(Collectors.toList());
+
+        assertEquals(300, builds.size());
+        assertTrue(report.getRuns() > 4);
+
+        for (int i = 0; i < builds.size(); i++) {
+            assertEquals("1.0.0+" + i, builds.get(i));
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    /**
+     * Verify that a file larger than the memory limit is sorted and deduplicated.
+     */
+    @Test
+    public void sortTextTest() throws Exception {
+        Path input = write();
+        Path output = directory.resolve("sorted.txt");
+
+        Report report = new ExternalSort()
+            .setDeduplicate(true)
+            .setMemoryLimit(4096)
+            .setTempDirectory(directory)
+            .sort(input, Format.TEXT, output, Format.TEXT);
+
+        List<String> expected = expected(true);
+
+        assertEquals(expected, Files.readAllLines(output, StandardCharsets.UTF_8));
+        assertEquals(2, report.getInvalid());
+        assertEquals(lines.size() - 3, report.getRead());
+        assertEquals(expected.size(), report.getWritten());
+        assertEquals(report.getRead() - expected.size(), report.getDuplicates());
+        assertTrue(report.getRuns() > 1);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    /**
+     * Creates a temporary directory and the lines to sort, including some that are not valid.
+     *
+     * @throws Exception If the directory could not be created.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("semver-");
+        lines = new ArrayList<>();
+
+        Random random = new Random(123);
+
+        for (int i = 0; i < 500; i++) {
+            String version = random.nextInt(5) + "." + random.nextInt(5) + "." + random.nextInt(5);
+
+            if (random.nextBoolean()) {
+                version += "-rc." + random.nextInt(3);
+            }
+
+            lines.add(version);
+        }
+
+        lines.add("not a version");
+        lines.add("");
+        lines.add("01.0.0");
+    }
+
+    /**
+     * Deletes the temporary directory and everything in it.
+     *
+     * @throws IOException If the directory could not be deleted.
+     */
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Returns the expected sorted lines.
+     *
+     * @param deduplicate Drop version numbers with equal precedence?
+     *
+     * @return The lines.
+     */
+    private List<String> expected(boolean deduplicate) throws Exception {
+        List<Version> versions = new ArrayList<>();
+
+        for (String line : lines.subList(0, lines.size() - 3)) {
+            versions.add(new Version(line));
+        }
+
+        Collections.sort(versions);
+
+        if (deduplicate) {
+            versions = new ArrayList<>(new TreeSet<>(versions));
+        }
+
+        return versions.stream().map(Version::toString).collect(Collectors.toList());
+    }
+
+    /**
+     * Writes the unsorted input lines to a file.
+     *
+     * @return The path to the file.
+     */
+    private Path write() throws IOException {
+        return Files.write(directory.resolve("input.txt"), lines, StandardCharsets.UTF_8);
+    }
+}
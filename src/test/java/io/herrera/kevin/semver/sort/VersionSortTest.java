@@ -0,0 +1,186 @@
+package io.herrera.kevin.semver.sort;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.encoding.VersionKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>VersionSort</code> class functions as intended.
+ */
+public class VersionSortTest {
+
+    /**
+     * Verify that an array of version numbers is sorted in parallel, including some that cannot be packed.
+     */
+    @Test
+    public void parallelSortTest() throws Exception {
+        Version[] versions = generate(200000, 20);
+
+        addUnpackable(versions);
+
+        assertSorted(versions, () -> VersionSort.parallelSort(versions, new ForkJoinPool(4)));
+    }
+
+    /**
+     * Verify that no version numbers, or a single one, are left as they are.
+     */
+    @Test
+    public void sortFewKeysTest() throws Exception {
+        long[] empty = new long[0];
+        long[] single = {VersionKey.pack(new Version("1.0.0"))};
+
+        VersionSort.sort(empty);
+        VersionSort.sort(single);
+        VersionSort.sort(new Version[0]);
+        VersionSort.parallelSort(new Version[0]);
+
+        assertEquals(0, empty.length);
+        assertEquals("1.0.0", toVersion(single[0]));
+    }
+
+    /**
+     * Verify that packed keys are sorted as unsigned integers.
+     */
+    @Test
+    public void sortKeysTest() throws Exception {
+        long[] keys = {
+            VersionKey.pack(new Version("2000000.0.0")),
+            VersionKey.pack(new Version("1.0.0")),
+            VersionKey.pack(new Version("1.0.0-alpha")),
+            VersionKey.pack(new Version("0.1.0")),
+        };
+
+        VersionSort.sort(keys);
+
+        assertEquals("0.1.0", toVersion(keys[0]));
+        assertEquals("1.0.0", toVersion(keys[1]));
+        assertEquals("1.0.0", toVersion(keys[2]));
+        assertEquals("2000000.0.0", toVersion(keys[3]));
+        assertEquals(-1, VersionKey.compare(keys[1], keys[2]));
+    }
+
+    /**
+     * Verify that a list of version numbers is sorted.
+     */
+    @Test
+    public void sortListTest() throws Exception {
+        List<Version> versions = new ArrayList<>(Arrays.asList(generate(1000, 100)));
+        List<Version> expected = new ArrayList<>(versions);
+
+        expected.sort(null);
+
+        VersionSort.sort(versions);
+
+        assertArrayEquals(toStrings(expected.toArray(new Version[0])), toStrings(versions.toArray(new Version[0])));
+    }
+
+    /**
+     * Verify that an array of version numbers is sorted and that the sort is stable.
+     */
+    @Test
+    public void sortTest() throws Exception {
+        Version[] versions = generate(5000, 100);
+
+        assertSorted(versions, () -> VersionSort.sort(versions));
+    }
+
+    /**
+     * Verify that version numbers that cannot be packed are still sorted.
+     */
+    @Test
+    public void sortUnpackableTest() throws Exception {
+        Version[] versions = generate(1000, 100);
+
+        addUnpackable(versions);
+
+        assertSorted(versions, () -> VersionSort.sort(versions));
+    }
+
+    /**
+     * Replaces some version numbers with ones that are too large to be packed, including some with equal precedence.
+     *
+     * @param versions The version numbers.
+     */
+    private static void addUnpackable(Version[] versions) throws Exception {
+        String[] strings = {
+            "20181020.0.0+a", "1.2147483647.0", "20181020.0.0+b", "0.0.2097152", "20181020.0.0-rc.1", "20181020.0.0+c",
+        };
+
+        for (int i = 0; i < strings.length; i++) {
+            versions[(i * 7919) % versions.length] = new Version(strings[i]);
+        }
+
+        versions[versions.length - 1] = new Version("3000000.0.0");
+    }
+
+    /**
+     * Asserts that a sort produces the same order as a stable comparison sort.
+     *
+     * @param versions The version numbers.
+     * @param sort     The sort to perform.
+     */
+    private static void assertSorted(Version[] versions, Runnable sort) {
+        Version[] expected = versions.clone();
+
+        Arrays.sort(expected);
+        sort.run();
+
+        assertArrayEquals(toStrings(expected), toStrings(versions));
+    }
+
+    /**
+     * Generates random version numbers, some of which have equal precedence but different build metadata.
+     *
+     * @param count The number of version numbers.
+     * @param range The range of each version number.
+     *
+     * @return The version numbers.
+     */
+    private static Version[] generate(int count, int range) throws Exception {
+        String[][] preReleases = {{}, {"alpha"}, {"alpha", "1"}, {"beta", "2"}, {"rc", "1"}};
+        Random random = new Random(count);
+        Version[] versions = new Version[count];
+
+        for (int i = 0; i < count; i++) {
+            versions[i] = new Version(
+                random.nextInt(range),
+                random.nextInt(range),
+                random.nextInt(range),
+                preReleases[random.nextInt(preReleases.length)],
+                new String[] {Integer.toString(i)}
+            );
+        }
+
+        return versions;
+    }
+
+    /**
+     * Returns the string representation of the version numbers in a key.
+     *
+     * @param key The key.
+     *
+     * @return The string representation.
+     */
+    private static String toVersion(long key) {
+        return VersionKey.major(key) + "." + VersionKey.minor(key) + "." + VersionKey.patch(key);
+    }
+
+    /**
+     * Returns the string representations of version numbers, including their build metadata.
+     *
+     * @param versions The version numbers.
+     *
+     * @return The string representations.
+     */
+    private static String[] toStrings(Version[] versions) {
+        return Arrays.stream(versions).map(Version::toString).toArray(String[]::new);
+    }
+}
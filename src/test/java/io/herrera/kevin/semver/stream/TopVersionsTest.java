@@ -0,0 +1,118 @@
+package io.herrera.kevin.semver.stream;
+
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.encoding.VersionKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>TopVersions</code> class functions as intended.
+ */
+public class TopVersionsTest {
+
+    /**
+     * Verify that a full heap rejects version numbers without applying the constraint.
+     */
+    @Test
+    public void acceptTest() throws Exception {
+        AtomicInteger applied = new AtomicInteger();
+        Constraint constraint = version -> {
+            applied.incrementAndGet();
+
+            return true;
+        };
+
+        TopVersions top = TopVersions.of(2, constraint);
+
+        top.accept(new Version("2.0.0"));
+        top.accept(new Version("3.0.0"));
+        top.accept(new Version("1.0.0"));
+        top.accept(new Version("2.0.0-rc.1"));
+        top.accept(new Version("2.0.0+build"));
+
+        assertTrue(top.isFull());
+        assertEquals(2, applied.get());
+
+        top.accept(new Version("2.1.0"));
+
+        assertEquals(3, applied.get());
+        assertEquals(toVersions("3.0.0", "2.1.0"), top.toList());
+    }
+
+    /**
+     * Verify that the result matches sorting the whole input.
+     */
+    @Test
+    public void bruteForceTest() throws Exception {
+        Random random = new Random(11);
+        List<Version> versions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            Version version = new Version(
+                random.nextInt(4),
+                random.nextInt(20),
+                (random.nextInt(50) == 0) ? (VersionKey.MAX_NUMBER + 1) : random.nextInt(20)
+            );
+
+            if (random.nextBoolean()) {
+                version = version.setPreRelease("rc", String.valueOf(random.nextInt(5)));
+            }
+
+            versions.add(version);
+        }
+
+        Constraint constraint = lt("3.0.0");
+        List<Version> expected = versions
+            .stream()
+            .filter(constraint::apply)
+            .sorted(Collections.reverseOrder())
+            .limit(25)
+            .collect(Collectors.toList());
+
+        assertEquals(expected, versions.stream().collect(VersionCollectors.latestSatisfying(constraint, 25)));
+        assertEquals(
+            expected,
+            versions.parallelStream().collect(VersionCollectors.latestSatisfying(constraint, 25))
+        );
+    }
+
+    /**
+     * Verify that the limit must not be negative.
+     */
+    @Test
+    public void ofTest() {
+        assertThrows(IllegalArgumentException.class, () -> TopVersions.of(-1));
+        assertThrows(IllegalArgumentException.class, () -> VersionCollectors.latest(-1));
+        assertFalse(TopVersions.of(1).isFull());
+        assertTrue(TopVersions.of(0).isFull());
+    }
+
+    /**
+     * Creates a list of version numbers.
+     *
+     * @param strings The version number strings.
+     *
+     * @return The version numbers.
+     */
+    private static List<Version> toVersions(String... strings) throws Exception {
+        List<Version> versions = new ArrayList<>();
+
+        for (String string : strings) {
+            versions.add(new Version(string));
+        }
+
+        return versions;
+    }
+}
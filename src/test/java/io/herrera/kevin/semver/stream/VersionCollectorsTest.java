@@ -0,0 +1,115 @@
+package io.herrera.kevin.semver.stream;
+
+import static io.herrera.kevin.semver.constraints.Constraints.lt;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.catalog.VersionIndex;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>VersionCollectors</code> class functions as intended.
+ */
+public class VersionCollectorsTest {
+
+    /**
+     * The version numbers under test.
+     */
+    private static List<Version> versions;
+
+    /**
+     * Verify that the latest version numbers are collected.
+     */
+    @Test
+    public void latestTest() throws Exception {
+        assertEquals(
+            Arrays.asList(new Version("2.0.1"), new Version("2.0.0"), new Version("1.10.0")),
+            versions.stream().collect(VersionCollectors.latest(3))
+        );
+        assertEquals(
+            Arrays.asList(new Version("1.10.0"), new Version("1.2.3")),
+            versions.stream().collect(VersionCollectors.latestSatisfying(lt("2.0.0"), 2))
+        );
+    }
+
+    /**
+     * Verify that the latest version number is collected for each major version number.
+     */
+    @Test
+    public void latestPerMajorTest() throws Exception {
+        NavigableMap<Integer, Version> latest = versions.stream().collect(VersionCollectors.latestPerMajor());
+
+        assertEquals(Arrays.asList(1, 2), Arrays.asList(latest.keySet().toArray()));
+        assertEquals(new Version("1.10.0"), latest.get(1));
+        assertEquals(new Version("2.0.1"), latest.get(2));
+    }
+
+    /**
+     * Verify that the latest version number is collected for each minor version number.
+     */
+    @Test
+    public void latestPerMinorTest() throws Exception {
+        NavigableMap<Version, Version> latest = versions.stream().collect(VersionCollectors.latestPerMinor());
+
+        assertEquals(4, latest.size());
+        assertEquals(new Version("1.2.3"), latest.get(new Version("1.2.0")));
+        assertEquals(new Version("1.0.0"), latest.firstEntry().getValue());
+        assertEquals(new Version("2.0.1"), latest.lastEntry().getValue());
+    }
+
+    /**
+     * Verify that the latest version number that passes a constraint is collected.
+     */
+    @Test
+    public void maxSatisfyingTest() throws Exception {
+        assertEquals(
+            new Version("1.10.0"),
+            versions.stream().collect(VersionCollectors.maxSatisfying(lt("2.0.0"))).get()
+        );
+        assertEquals(
+            new Version("1.10.0"),
+            versions.parallelStream().collect(VersionCollectors.maxSatisfying(lt("2.0.0"))).get()
+        );
+        assertFalse(versions.stream().collect(VersionCollectors.maxSatisfying(lt("0.1.0"))).isPresent());
+    }
+
+    /**
+     * Verify that the version numbers are collected into a sorted index.
+     */
+    @Test
+    public void toSortedVersionIndexTest() throws Exception {
+        VersionIndex index = versions.stream().collect(VersionCollectors.toSortedVersionIndex());
+
+        assertEquals(versions.size() - 1, index.size());
+        assertEquals(new Version("1.0.0-rc.1"), index.get(0));
+        assertEquals(new Version("2.0.1"), index.get(index.size() - 1));
+    }
+
+    /**
+     * Verify that the version numbers are collected into an array.
+     */
+    @Test
+    public void toVersionArrayTest() {
+        assertArrayEquals(versions.toArray(), versions.stream().collect(VersionCollectors.toVersionArray()));
+    }
+
+    @BeforeAll
+    private static void setUp() throws Exception {
+        versions = Arrays.asList(
+            new Version("1.2.3"),
+            new Version("2.0.1"),
+            new Version("1.10.0"),
+            new Version("1.0.0-rc.1"),
+            new Version("1.2.0"),
+            new Version("2.0.0"),
+            new Version("1.2.3+build"),
+            new Version("1.0.0")
+        );
+    }
+}
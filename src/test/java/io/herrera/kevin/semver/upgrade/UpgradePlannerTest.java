@@ -0,0 +1,154 @@
+package io.herrera.kevin.semver.upgrade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.catalog.VersionIndex;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>UpgradePlanner</code> class functions as intended.
+ */
+public class UpgradePlannerTest {
+
+    /**
+     * Verify that the plan matches a search of the entire catalog for every installed version.
+     */
+    @Test
+    public void bruteForceTest() throws Exception {
+        Random random = new Random(7);
+
+        for (int round = 0; round < 20; round++) {
+            VersionIndex catalog = VersionIndex.of(randomVersions(random, 200));
+            VersionIndex installed = VersionIndex.of(randomVersions(random, 50));
+            UpgradePlan plan = UpgradePlanner.plan(catalog, installed.toArray(), UpgradePolicy.values());
+
+            for (int i = 0; i < plan.size(); i++) {
+                for (UpgradePolicy policy : UpgradePolicy.values()) {
+                    assertEquals(
+                        search(catalog, plan.getInstalled(i), policy),
+                        plan.getTarget(i, policy),
+                        policy + " " + plan.getInstalled(i)
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Verify that an entire inventory is planned.
+     */
+    @Test
+    public void inventoryTest() throws Exception {
+        Map<String, VersionIndex> catalogs = new TreeMap<>();
+        Map<String, Version[]> inventory = new TreeMap<>();
+
+        catalogs.put("a", VersionIndex.of(
+            new Version("0.2.3"),
+            new Version("0.2.9"),
+            new Version("0.3.0"),
+            new Version("1.2.3"),
+            new Version("1.2.9"),
+            new Version("1.4.0"),
+            new Version("1.5.0-beta.2"),
+            new Version("2.0.0")
+        ));
+
+        inventory.put("a", new Version[]{new Version("0.2.3"), new Version("1.2.3"), new Version("1.5.0-beta.1")});
+        inventory.put("b", new Version[]{new Version("1.0.0")});
+
+        Map<String, UpgradePlan> plans = UpgradePlanner.plan(
+            catalogs,
+            inventory,
+            UpgradePolicy.CARET,
+            UpgradePolicy.TILDE
+        );
+
+        UpgradePlan a = plans.get("a");
+
+        assertEquals(new Version("0.2.9"), a.getTarget(0, UpgradePolicy.CARET));
+        assertEquals(new Version("0.2.9"), a.getTarget(0, UpgradePolicy.TILDE));
+        assertEquals(new Version("1.4.0"), a.getTarget(1, UpgradePolicy.CARET));
+        assertEquals(new Version("1.2.9"), a.getTarget(1, UpgradePolicy.TILDE));
+        assertEquals(new Version("1.5.0-beta.2"), a.getTarget(2, UpgradePolicy.CARET));
+        assertEquals(new Version("1.5.0-beta.2"), a.getTarget(2, UpgradePolicy.TILDE));
+        assertNull(plans.get("b").getTarget(0, UpgradePolicy.CARET));
+
+        assertThrows(IllegalArgumentException.class, () -> a.getTarget(0, UpgradePolicy.LATEST_STABLE));
+    }
+
+    /**
+     * Verify that the installed versions must be sorted.
+     */
+    @Test
+    public void unsortedTest() throws Exception {
+        Version[] installed = {new Version("2.0.0"), new Version("1.0.0")};
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> UpgradePlanner.plan(VersionIndex.empty(), installed, UpgradePolicy.CARET)
+        );
+    }
+
+    /**
+     * Creates random version numbers from a small range, so that many of them overlap.
+     *
+     * @param random The random number generator.
+     * @param count  The number of version numbers.
+     *
+     * @return The version numbers.
+     */
+    private static Version[] randomVersions(Random random, int count) throws Exception {
+        Version[] versions = new Version[count];
+
+        for (int i = 0; i < count; i++) {
+            Version version = new Version(random.nextInt(3), random.nextInt(4), random.nextInt(4));
+
+            if (random.nextInt(3) == 0) {
+                version = version.setPreRelease("rc", String.valueOf(random.nextInt(3)));
+            }
+
+            versions[i] = version;
+        }
+
+        return versions;
+    }
+
+    /**
+     * Searches the entire catalog for the version to upgrade to.
+     *
+     * @param catalog   The catalog.
+     * @param installed The installed version.
+     * @param policy    The policy.
+     *
+     * @return The version to upgrade to, if any.
+     */
+    private static Version search(VersionIndex catalog, Version installed, UpgradePolicy policy) {
+        Version bound = policy.upperBound(installed);
+        Version stable = null;
+        Version preRelease = null;
+
+        for (Version version : catalog) {
+            if ((version.compareTo(installed) < 0) || ((bound != null) && (version.compareTo(bound) >= 0))) {
+                continue;
+            }
+
+            if (version.getPreRelease().length == 0) {
+                stable = version;
+            } else if (policy.allowsSamePreRelease()
+                && (installed.getPreRelease().length > 0)
+                && (version.getMajor() == installed.getMajor())
+                && (version.getMinor() == installed.getMinor())
+                && (version.getPatch() == installed.getPatch())) {
+                preRelease = version;
+            }
+        }
+
+        return (stable == null) ? preRelease : stable;
+    }
+}
@@ -0,0 +1,203 @@
+package io.herrera.kevin.semver.metrics;
+
+import static io.herrera.kevin.semver.constraints.Constraints.gte;
+import static io.herrera.kevin.semver.constraints.Constraints.metered;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.herrera.kevin.semver.InvalidVersionException;
+import io.herrera.kevin.semver.Version;
+import io.herrera.kevin.semver.constraints.Constraint;
+import io.herrera.kevin.semver.resolver.PackageSource;
+import io.herrera.kevin.semver.resolver.Resolver;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies that the <code>FlightRecorderMetrics</code> class functions as intended.
+ */
+public class FlightRecorderMetricsTest {
+
+    /**
+     * Verify that disabled event types are not recorded.
+     */
+    @Test
+    public void disabledTest() throws Exception {
+        MetricsProvider.set(new FlightRecorderMetrics().setParseThreshold(Duration.ZERO));
+
+        List<RecordedEvent> events = record(recording -> recording.disable("io.herrera.kevin.semver.Parse"), () -> {
+            new Version("1.0.0");
+
+            MetricsProvider.get().cacheEvicted("test", 3);
+        });
+
+        assertEquals(0, named(events, "io.herrera.kevin.semver.Parse").size());
+        assertEquals(1, named(events, "io.herrera.kevin.semver.CacheEviction").size());
+    }
+
+    /**
+     * Verify that the events are recorded to a file that can be read back.
+     */
+    @Test
+    public void recordTest() throws Exception {
+        assertTrue(FlightRecorderMetrics.isSupported());
+
+        MetricsProvider.set(
+            new FlightRecorderMetrics()
+                .setConstraintThreshold(Duration.ZERO)
+                .setParseThreshold(Duration.ZERO)
+                .setResolverThreshold(Duration.ZERO)
+        );
+
+        Constraint constraint = gte("1.0.0");
+        Source source = new Source(new Version(1, 0, 0));
+        List<RecordedEvent> events = record(recording -> { }, () -> {
+            new Version("1.2.3-rc.1");
+
+            assertThrows(InvalidVersionException.class, () -> new Version("1.2"));
+            assertTrue(metered("modern", constraint).apply(new Version(2, 0, 0)));
+
+            MetricsProvider.get().cacheEvicted("test", 3);
+
+            new Resolver(source).resolve(Collections.singletonMap("foo", constraint));
+        });
+
+        List<RecordedEvent> parses = named(events, "io.herrera.kevin.semver.Parse");
+
+        assertEquals(2, parses.size());
+        assertEquals("1.2.3-rc.1", parses.get(0).getString("input"));
+        assertTrue(parses.get(0).getBoolean("valid"));
+        assertNull(parses.get(0).getString("reason"));
+        assertEquals("1.2", parses.get(1).getString("input"));
+        assertFalse(parses.get(1).getBoolean("valid"));
+        assertEquals("INVALID_CORE", parses.get(1).getString("reason"));
+
+        RecordedEvent evaluation = named(events, "io.herrera.kevin.semver.ConstraintEvaluation").get(0);
+
+        assertEquals("modern", evaluation.getString("constraint"));
+        assertTrue(evaluation.getBoolean("passed"));
+        assertTrue(evaluation.getLong("elapsed") >= 0);
+
+        RecordedEvent eviction = named(events, "io.herrera.kevin.semver.CacheEviction").get(0);
+
+        assertEquals("test", eviction.getString("cache"));
+        assertEquals(3, eviction.getInt("count"));
+
+        List<String> steps = named(events, "io.herrera.kevin.semver.ResolverStep")
+            .stream()
+            .map(event -> event.getString("step") + " " + event.getString("packageName"))
+            .collect(Collectors.toList());
+
+        assertEquals("[propagate null, choose null, propagate null, choose foo, propagate foo]", steps.toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MetricsProvider.set(null);
+    }
+
+    /**
+     * Returns the events of a type, in the order they were committed.
+     *
+     * @param events The events.
+     * @param name   The name of the type.
+     *
+     * @return The events.
+     */
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events
+            .stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .sorted((left, right) -> left.getStartTime().compareTo(right.getStartTime()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Records the events committed by an action to a file, and reads them back.
+     *
+     * @param configure Configures the recording.
+     * @param action    The action.
+     *
+     * @return The events.
+     */
+    private static List<RecordedEvent> record(Consumer<Recording> configure, Action action) throws Exception {
+        Path path = Files.createTempFile("semver-", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("io.herrera.kevin.semver.CacheEviction");
+            recording.enable("io.herrera.kevin.semver.ConstraintEvaluation");
+            recording.enable("io.herrera.kevin.semver.Parse");
+            recording.enable("io.herrera.kevin.semver.ResolverStep");
+
+            configure.accept(recording);
+
+            recording.start();
+
+            action.run();
+
+            recording.stop();
+            recording.dump(path);
+
+            return RecordingFile.readAllEvents(path);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * An action that may throw.
+     */
+    private interface Action {
+
+        /**
+         * Runs the action.
+         */
+        void run() throws Exception;
+    }
+
+    /**
+     * Provides packages without dependencies.
+     */
+    private static final class Source implements PackageSource {
+
+        /**
+         * The versions of every package.
+         */
+        private final List<Version> versions;
+
+        /**
+         * Sets the versions of every package.
+         *
+         * @param versions The versions.
+         */
+        Source(Version... versions) {
+            this.versions = Arrays.asList(versions);
+        }
+
+        @Override
+        public Map<String, Constraint> getDependencies(String name, Version version) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Collection<Version> getVersions(String name) {
+            return versions;
+        }
+    }
+}